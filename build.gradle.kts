@@ -3,6 +3,7 @@ plugins {
     alias(libs.plugins.spring.boot)
     alias(libs.plugins.spring.dependency.management)
     id("jacoco")
+    alias(libs.plugins.jmh)
 }
 
 configurations {
@@ -23,6 +24,10 @@ dependencyManagement {
 
 dependencies {
     implementation(libs.spring.boot.starter.web)
+    implementation(libs.spring.boot.starter.actuator)
+    runtimeOnly(libs.micrometer.registry.prometheus)
+    implementation(libs.caffeine)
+    implementation(libs.reactor.core)
     compileOnly(libs.lombok)
     annotationProcessor(libs.lombok)
     annotationProcessor(libs.spring.boot.configuration.processor)
@@ -31,11 +36,13 @@ dependencies {
 
 // about source and compilation
 java {
-    sourceCompatibility = JavaVersion.VERSION_17
+    toolchain {
+        languageVersion = JavaLanguageVersion.of(21)
+    }
 }
 
 with(extensions.getByType(JacocoPluginExtension::class.java)) {
-    toolVersion = "0.8.7"
+    toolVersion = "0.8.11"
 }
 
 // bundling tasks
@@ -45,8 +52,48 @@ tasks.getByName("bootJar") {
 tasks.getByName("jar") {
     enabled = false
 }
+
+// benchmark tasks
+// ./gradlew jmh : src/jmh 의 벤치마크 실행, -PjmhIncludes=PointServiceBenchmark 로 일부만 실행
+// 결과는 build/reports/jmh/results.json (릴리스 간 회귀 비교용)
+jmh {
+    jmhVersion.set(libs.versions.jmh.asProvider().get())
+    includeTests.set(true) // FakeUserPointStore/FakePointHistoryStore(고정 지연) 재사용
+    providers.gradleProperty("jmhIncludes").orNull?.let { includes.set(listOf(it)) }
+    // 저장소 지연(ms), -PjmhDelayMillis=0,1 처럼 주면 값마다 측정
+    providers.gradleProperty("jmhDelayMillis").orNull?.let {
+        benchmarkParameters.put("delayMillis", objects.listProperty(String::class.java).value(it.split(",")))
+    }
+    resultFormat.set("JSON")
+    resultsFile.set(layout.buildDirectory.file("reports/jmh/results.json"))
+    profilers.set(listOf("gc"))
+}
+
 // test tasks
 tasks.test {
     ignoreFailures = true
-    useJUnitPlatform()
+    useJUnitPlatform {
+        excludeTags("load")
+    }
+}
+
+// load 태그: 부하/성능 측정 테스트 (실행 시간이 길고 결과가 실행 환경에 따라 달라짐), 기본 test에서 제외하고 loadTest로 실행
+// ./gradlew loadTest -Ppoint.load.users=100000 -Ppoint.load.threads=256 -Ppoint.load.virtual-threads=true -Ppoint.load.duration=60s
+// point.* 프로퍼티는 모두 시스템 프로퍼티로 넘기므로 애플리케이션 설정(point.user.engine 등)도 바꿀 수 있음
+tasks.register<Test>("loadTest") {
+    description = "load 태그 테스트 실행 (in-process 서버 부하, 저장소/스레드 모델별 처리량 측정)"
+    group = "verification"
+    testClassesDirs = sourceSets.test.get().output.classesDirs
+    classpath = sourceSets.test.get().runtimeClasspath
+    useJUnitPlatform {
+        includeTags("load")
+    }
+    // 기본 설정(table)은 호출마다 최대 200~300ms 지연이 있어 서비스 자체의 비용이 가려지므로 지연 없는 엔진을 기본으로 사용
+    systemProperty("point.user.engine", "concurrent")
+    systemProperty("point.history.engine", "columnar")
+    project.properties.filterKeys { it.startsWith("point.") }.forEach { (key, value) -> systemProperty(key, value.toString()) }
+    testLogging {
+        showStandardStreams = true
+    }
+    outputs.upToDateWhen { false }
 }
@@ -0,0 +1,70 @@
+package io.hhplus.tdd;
+
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * LockRegistry의 락 획득/해제(acquire -> release) 비용
+ * - distinctUsers: 스레드마다 매번 다른 유저 -> UserLockRegistry는 호출마다 락을 만들고 지움(churn)
+ * - sameUser: 모든 스레드가 같은 유저 -> 락을 두고 경합
+ * - 임계 구역이 비어 있으므로 락 관리 자체의 비용만 보임
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@Threads(4)
+public class LockRegistryBenchmark {
+
+    @Param({"user", "striped"})
+    public String lockMode;
+
+    private LockRegistry lockRegistry;
+
+    @Setup
+    public void setUp() {
+        lockRegistry = switch (lockMode) {
+            case "user" -> new UserLockRegistry();
+            case "striped" -> new StripedLockRegistry(1024);
+            default -> throw new IllegalArgumentException("지원하지 않는 락 방식입니다. lockMode=" + lockMode);
+        };
+    }
+
+    @State(Scope.Thread)
+    public static class RandomUser {
+
+        private final SplittableRandom random = new SplittableRandom();
+
+        long next() {
+            return random.nextLong(1_000_000L);
+        }
+    }
+
+    @Benchmark
+    public void distinctUsers(RandomUser user) {
+        long userId = user.next();
+        lockRegistry.acquire(userId);
+        lockRegistry.release(userId);
+    }
+
+    @Benchmark
+    public void sameUser() {
+        lockRegistry.acquire(0L);
+        lockRegistry.release(0L);
+    }
+}
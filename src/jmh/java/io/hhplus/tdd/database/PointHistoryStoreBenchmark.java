@@ -0,0 +1,78 @@
+package io.hhplus.tdd.database;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import io.hhplus.tdd.point.PointHistory;
+import io.hhplus.tdd.point.TransactionType;
+
+/**
+ * 내역 수(rows)에 따른 selectAllByUserId 비용, 유저 USERS명에게 내역을 고르게 나눠 넣음
+ * - table-scan: PointHistoryTable과 같은 ArrayList 전체 순회(stream filter), O(전체 내역 수)
+ *   PointHistoryTable은 insert마다 무작위 지연이 있어 수십만 건을 넣을 수 없으므로 같은 조회 방식을 옮겨 씀
+ * - columnar: ColumnarPointHistoryStore, 유저별 행 번호 인덱스로 O(유저의 내역 수)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class PointHistoryStoreBenchmark {
+
+    private static final int USERS = 1_000;
+
+    @Param({"1000", "100000", "1000000"})
+    public int rows;
+
+    @Param({"table-scan", "columnar"})
+    public String engine;
+
+    private final List<PointHistory> table = new ArrayList<>();
+    private final ColumnarPointHistoryStore columnarPointHistoryStore = new ColumnarPointHistoryStore();
+
+    @Setup
+    public void setUp() {
+        for (int i = 0; i < rows; i++) {
+            long userId = i % USERS;
+            if (engine.equals("table-scan")) {
+                table.add(new PointHistory(i + 1, userId, 1_000L, TransactionType.CHARGE, i));
+            } else {
+                columnarPointHistoryStore.insert(userId, 1_000L, TransactionType.CHARGE, i);
+            }
+        }
+    }
+
+    @State(Scope.Thread)
+    public static class RandomUser {
+
+        private final SplittableRandom random = new SplittableRandom();
+
+        long next() {
+            return random.nextInt(USERS);
+        }
+    }
+
+    @Benchmark
+    public List<PointHistory> selectAllByUserId(RandomUser user) {
+        long userId = user.next();
+        if (engine.equals("table-scan")) {
+            return table.stream().filter(pointHistory -> pointHistory.userId() == userId).toList();
+        }
+        return columnarPointHistoryStore.selectAllByUserId(userId);
+    }
+}
@@ -0,0 +1,109 @@
+package io.hhplus.tdd.point;
+
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import io.hhplus.tdd.LockRegistry;
+import io.hhplus.tdd.StripedLockRegistry;
+import io.hhplus.tdd.UserLockRegistry;
+import io.hhplus.tdd.database.FakePointHistoryStore;
+import io.hhplus.tdd.database.FakeUserPointStore;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+/**
+ * PointServiceImpl의 충전/사용 처리량
+ * - contended: 모든 스레드가 같은 유저(0번)에 충전/사용 -> 유저 락에서 줄을 섬
+ * - uncontended: 스레드마다 USERS명 중 무작위 유저에 충전/사용 -> 락 경합이 거의 없음
+ * - 저장소는 지연 시간을 고정할 수 있는 FakeUserPointStore/FakePointHistoryStore 사용
+ *   (UserPointTable/PointHistoryTable은 호출마다 무작위 지연이 있어 CPU 비용이 가려짐)
+ *   delayMillis=0 이면 순수 CPU 비용, -PjmhDelayMillis=0,1 처럼 주면 고정 지연을 더해 비교
+ * - 내역이 계속 쌓이므로 측정 단위(iteration)마다 내역 저장소와 서비스를 새로 만듦
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@Threads(4)
+public class PointServiceBenchmark {
+
+    private static final int USERS = 10_000;
+    private static final long INITIAL_POINT = 1_000_000_000_000L; // 측정 중에 사용으로 잔액이 바닥나지 않을 만큼
+    private static final long AMOUNT = 1_000L;
+
+    @Param({"0"})
+    public long delayMillis;
+
+    @Param({"user", "striped"})
+    public String lockMode;
+
+    private FakeUserPointStore userPointStore;
+    private PointService pointService;
+
+    // 잔액은 측정 내내 바닥나지 않으므로 유저는 한 번만 넣음 (지연이 있으면 USERS x delayMillis 가 걸림)
+    @Setup(Level.Trial)
+    public void seedUsers() {
+        userPointStore = new FakeUserPointStore(delayMillis);
+        for (long id = 0; id < USERS; id++) {
+            userPointStore.insertOrUpdate(id, INITIAL_POINT);
+        }
+    }
+
+    @Setup(Level.Iteration)
+    public void setUp() {
+        pointService = new PointServiceImpl(new FakePointHistoryStore(delayMillis), userPointStore, lockRegistry(lockMode), new PointLedger(), new SimpleMeterRegistry()); // 운영과 같이 락 대기/점유 시간을 기록
+    }
+
+    private static LockRegistry lockRegistry(String lockMode) {
+        return switch (lockMode) {
+            case "user" -> new UserLockRegistry();
+            case "striped" -> new StripedLockRegistry(1024);
+            default -> throw new IllegalArgumentException("지원하지 않는 락 방식입니다. lockMode=" + lockMode);
+        };
+    }
+
+    @State(Scope.Thread)
+    public static class RandomUser {
+
+        private final SplittableRandom random = new SplittableRandom();
+
+        long next() {
+            return random.nextInt(USERS);
+        }
+    }
+
+    @Benchmark
+    public UserPoint chargeContended() {
+        return pointService.chargeUserPoint(0L, AMOUNT);
+    }
+
+    @Benchmark
+    public UserPoint useContended() {
+        return pointService.useUserPoint(0L, AMOUNT);
+    }
+
+    @Benchmark
+    public UserPoint chargeUncontended(RandomUser user) {
+        return pointService.chargeUserPoint(user.next(), AMOUNT);
+    }
+
+    @Benchmark
+    public UserPoint useUncontended(RandomUser user) {
+        return pointService.useUserPoint(user.next(), AMOUNT);
+    }
+}
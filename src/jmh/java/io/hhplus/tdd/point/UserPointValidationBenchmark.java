@@ -0,0 +1,61 @@
+package io.hhplus.tdd.point;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * UserPoint의 충전/사용 검증 비용
+ * - 성공: 검증을 통과하고 새 UserPoint를 만듦
+ * - 실패: IllegalArgumentException 생성(스택 트레이스 채우기)까지 포함한 비용
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class UserPointValidationBenchmark {
+
+    // 필드로 두어 상수 접기(constant folding)로 검증이 지워지지 않도록 함
+    private UserPoint userPoint = new UserPoint(1L, 10_000L, 0L);
+    private long validAmount = 5_000L;
+    private long outOfRangeAmount = 999L;
+    private long overBalanceAmount = 20_000L;
+
+    @Benchmark
+    public UserPoint increaseValid() {
+        return userPoint.increaseUserPoints(validAmount);
+    }
+
+    @Benchmark
+    public UserPoint decreaseValid() {
+        return userPoint.decreaseUserPoints(validAmount);
+    }
+
+    @Benchmark
+    public Object increaseOutOfRange() {
+        try {
+            return userPoint.increaseUserPoints(outOfRangeAmount);
+        } catch (IllegalArgumentException e) {
+            return e;
+        }
+    }
+
+    @Benchmark
+    public Object decreaseOverBalance() {
+        try {
+            return userPoint.decreaseUserPoints(overBalanceAmount);
+        } catch (IllegalArgumentException e) {
+            return e;
+        }
+    }
+}
@@ -0,0 +1,16 @@
+package io.hhplus.tdd;
+
+/**
+ * 락 대기가 몰리는 유저
+ * - queueLength: 지금 이 유저의 락을 기다리고 있는 스레드 수
+ * - recentWaitMillis: 최근 락 대기 시간 합계 추정값 (샘플링, 감쇠 반영), 최대 waitErrorMillis만큼 크게 잡혔을 수 있음
+ * - contentions: 최근 락을 바로 얻지 못한 횟수 추정값
+ */
+public record HotUser(
+        long userId,
+        int queueLength,
+        double recentWaitMillis,
+        double waitErrorMillis,
+        long contentions
+) {
+}
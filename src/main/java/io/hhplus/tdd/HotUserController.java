@@ -0,0 +1,49 @@
+package io.hhplus.tdd;
+
+import java.util.Comparator;
+import java.util.List;
+
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 락 경합 진단용 관리자 API
+ * - 후보는 LockContentionSketch가 집계한 유저, 각 유저의 현재 대기열 길이는 LockRegistry의 락에서 바로 읽음
+ * - 대기열이 긴 순서, 같으면 최근 대기 시간이 긴 순서
+ */
+@RestController
+@RequestMapping("/admin")
+@RequiredArgsConstructor
+public class HotUserController {
+
+    private static final Comparator<HotUser> HOTTEST_FIRST = Comparator.comparingInt(HotUser::queueLength)
+            .thenComparingDouble(HotUser::recentWaitMillis)
+            .reversed();
+
+    private final LockRegistry lockRegistry;
+    private final LockContentionSketch contentionSketch;
+
+    /**
+     * 락 대기가 몰리는 유저 상위 limit명 (1 ~ point.lock.contention.capacity)
+     */
+    @GetMapping("hot-users")
+    public List<HotUser> hotUsers(
+            @RequestParam(defaultValue = "10") int limit
+    ) {
+        int size = Math.max(1, Math.min(limit, contentionSketch.capacity()));
+        return contentionSketch.top(contentionSketch.capacity()).stream()
+                .map(contention -> new HotUser(
+                        contention.userId(),
+                        lockRegistry.queueLength(contention.userId()),
+                        contention.waitNanos() / 1_000_000.0,
+                        contention.errorNanos() / 1_000_000.0,
+                        contention.contentions()))
+                .sorted(HOTTEST_FIRST)
+                .limit(size)
+                .toList();
+    }
+}
@@ -0,0 +1,159 @@
+package io.hhplus.tdd;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.locks.ReentrantLock;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+/**
+ * 락 대기가 몰리는 유저(hot user)를 찾는 heavy-hitter 스케치 (weighted space-saving)
+ * - LockRegistry가 락을 바로 얻지 못하고 기다린 경우에만 record()를 호출 -> 경합이 없는 유저는 기록되지 않음
+ * - capacity개의 칸만 유지, 칸이 가득 찼는데 새 유저가 들어오면 대기 시간이 가장 작은 칸을 넘겨받음
+ *   넘겨받은 유저의 대기 시간은 이전 값에서 이어서 더하므로 최대 error만큼 크게 잡힐 수 있음(과소 추정은 없음)
+ *   -> 대기 시간이 전체의 1/capacity 를 넘는 유저는 반드시 남아 있음
+ * - sampleRate번 중 한 번만 기록하고 sampleRate배로 더함, 다른 스레드가 기록 중이면 기다리지 않고 버림
+ *   -> 요청 스레드가 스케치 때문에 막히지 않음, 칸은 원시 타입 배열이라 기록에 할당이 없음
+ * - decayInterval마다 모든 값을 절반으로 줄여서 최근 대기 위주로 보이게 함 (기록/조회할 때 밀린 만큼 한꺼번에 줄임)
+ */
+@Component
+public class LockContentionSketch {
+
+    private final int capacity;
+    private final int sampleRate;
+    private final long decayNanos;
+    private final ReentrantLock lock = new ReentrantLock();
+
+    private final long[] userIds;
+    private final long[] waitNanos;
+    private final long[] contentions;
+    private final long[] errorNanos;
+    private int size;
+    private long lastDecay;
+
+    @Autowired
+    public LockContentionSketch(LockProperties lockProperties) {
+        this(lockProperties.contention().enabled() ? lockProperties.contention().capacity() : 0,
+                lockProperties.contention().sampleRate(),
+                lockProperties.contention().decayInterval());
+    }
+
+    /**
+     * capacity가 0이면 아무것도 기록하지 않음
+     */
+    public LockContentionSketch(int capacity, int sampleRate, Duration decayInterval) {
+        if (capacity < 0) throw new IllegalArgumentException("스케치 크기는 0 이상이어야 합니다.");
+        if (sampleRate < 1) throw new IllegalArgumentException("샘플링 비율은 1 이상이어야 합니다.");
+        if (decayInterval.isNegative() || decayInterval.isZero()) throw new IllegalArgumentException("감쇠 주기는 0보다 커야 합니다.");
+        this.capacity = capacity;
+        this.sampleRate = sampleRate;
+        this.decayNanos = decayInterval.toNanos();
+        this.userIds = new long[capacity];
+        this.waitNanos = new long[capacity];
+        this.contentions = new long[capacity];
+        this.errorNanos = new long[capacity];
+        this.lastDecay = System.nanoTime();
+    }
+
+    /**
+     * 기록하지 않는 스케치 (LockRegistry를 스케치 없이 만들 때)
+     */
+    public static LockContentionSketch disabled() {
+        return new LockContentionSketch(0, 1, Duration.ofSeconds(1));
+    }
+
+    /**
+     * userId의 락을 얻기까지 waitNanos 동안 기다렸음
+     */
+    public void record(long userId, long waitNanos) {
+        if (capacity == 0) return;
+        if (sampleRate > 1 && ThreadLocalRandom.current().nextInt(sampleRate) != 0) return;
+        if (!lock.tryLock()) return;
+        try {
+            decayIfDue(System.nanoTime());
+            int slot = indexOf(userId);
+            if (slot < 0) {
+                if (size < capacity) {
+                    slot = size++;
+                    this.waitNanos[slot] = 0;
+                    this.errorNanos[slot] = 0;
+                } else {
+                    slot = minSlot();
+                    this.errorNanos[slot] = this.waitNanos[slot]; // 이전 유저의 값을 이어받은 만큼이 최대 오차
+                }
+                userIds[slot] = userId;
+                contentions[slot] = 0;
+            }
+            this.waitNanos[slot] += waitNanos * sampleRate;
+            contentions[slot] += sampleRate;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * 최근 대기 시간이 긴 순서로 최대 limit명
+     */
+    public List<Contention> top(int limit) {
+        List<Contention> result = new ArrayList<>();
+        lock.lock();
+        try {
+            decayIfDue(System.nanoTime());
+            for (int slot = 0; slot < size; slot++) {
+                result.add(new Contention(userIds[slot], waitNanos[slot], contentions[slot], errorNanos[slot]));
+            }
+        } finally {
+            lock.unlock();
+        }
+        result.sort(Comparator.comparingLong(Contention::waitNanos).reversed());
+        return result.size() > limit ? result.subList(0, limit) : result;
+    }
+
+    public int capacity() {
+        return capacity;
+    }
+
+    /**
+     * 추정값, 샘플링과 감쇠를 반영한 최근 대기 시간 합계와 대기 횟수, waitNanos - errorNanos 이상은 확실히 기다렸음
+     */
+    public record Contention(long userId, long waitNanos, long contentions, long errorNanos) {
+    }
+
+    private int indexOf(long userId) {
+        for (int slot = 0; slot < size; slot++) {
+            if (userIds[slot] == userId) return slot;
+        }
+        return -1;
+    }
+
+    private int minSlot() {
+        int min = 0;
+        for (int slot = 1; slot < size; slot++) {
+            if (waitNanos[slot] < waitNanos[min]) min = slot;
+        }
+        return min;
+    }
+
+    // 락 안에서 호출, 지난 주기 수만큼 절반으로 줄이고 0이 된 칸은 비움
+    private void decayIfDue(long now) {
+        long intervals = (now - lastDecay) / decayNanos;
+        if (intervals == 0) return;
+        lastDecay += intervals * decayNanos;
+        int shift = (int) Math.min(intervals, 63);
+        int kept = 0;
+        for (int slot = 0; slot < size; slot++) {
+            long wait = waitNanos[slot] >>> shift;
+            if (wait == 0) continue;
+            userIds[kept] = userIds[slot];
+            waitNanos[kept] = wait;
+            contentions[kept] = contentions[slot] >>> shift;
+            errorNanos[kept] = errorNanos[slot] >>> shift;
+            kept++;
+        }
+        size = kept;
+    }
+}
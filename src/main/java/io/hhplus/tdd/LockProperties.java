@@ -0,0 +1,34 @@
+package io.hhplus.tdd;
+
+import java.time.Duration;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * point.lock 설정
+ * - mode: user(사용자별 락) | striped(고정 개수의 락을 나눠 사용)
+ * - stripes: striped 모드에서 사용할 락 개수, 2의 거듭제곱으로 올림
+ * - contention: 락 대기가 몰리는 유저 집계 (GET /admin/hot-users)
+ */
+@ConfigurationProperties(prefix = "point.lock")
+public record LockProperties(
+        @DefaultValue("user") String mode,
+        @DefaultValue("1024") int stripes,
+        @DefaultValue Contention contention
+) {
+
+    /**
+     * - enabled: 락 대기 집계 사용 여부, 끄면 대기 시간을 기록하지 않고 현재 대기열 길이만 조회
+     * - capacity: 집계하는 최대 유저 수 (LockContentionSketch)
+     * - sample-rate: 락을 기다린 n번 중 한 번만 기록
+     * - decay-interval: 집계값을 절반으로 줄이는 주기, 짧을수록 최근 대기 위주로 보임
+     */
+    public record Contention(
+            @DefaultValue("true") boolean enabled,
+            @DefaultValue("128") int capacity,
+            @DefaultValue("4") int sampleRate,
+            @DefaultValue("10s") Duration decayInterval
+    ) {
+    }
+}
@@ -1,36 +1,53 @@
 package io.hhplus.tdd;
 
-import java.util.concurrent.ConcurrentHashMap;
-import java.util.concurrent.locks.ReentrantLock;
+/**
+ * userId별 동시성 제어에 사용할 락을 제공
+ * - user: 사용자마다 고유한 락, 사용이 끝나면 제거 (UserLockRegistry)
+ * - striped: 고정된 개수의 락을 userId 해시로 나눠 사용 (StripedLockRegistry)
+ * - application.yml의 point.lock.mode로 선택
+ *
+ * 사용법
+ * - acquire()로 락을 획득한 스레드가 반드시 finally에서 release() 호출
+ * - 두 유저의 락이 함께 필요하면 acquire()를 두 번 호출하지 말고 acquireBoth()/releaseBoth() 사용
+ */
+public interface LockRegistry {
 
-import org.springframework.stereotype.Component;
+    /**
+     * userId의 락을 획득할 때까지 대기
+     */
+    void acquire(long userId);
 
-@Component // 스프링 빈으로 등록해서 싱글톤으로 관리, 따라서 모든 요청은 동일한 인스턴스 사용, 락 관리 중앙 집중화
-public class LockRegistry {
-    
-    // ConcurrentHashMap<Long, ReentrantLock>: userId로 ReentrantLock 객체를 값으로 저장하는 맵
-    // 동기화된 방식으로 데이터를 관리
-    private final ConcurrentHashMap<Long, ReentrantLock> lockMap = new ConcurrentHashMap<>();
+    /**
+     * acquire()로 획득한 userId의 락을 해제
+     */
+    void release(long userId);
 
-    public ReentrantLock getLock(long userId) {
-        // computeIfAbsent()를 사용해 userId에 대한 락이 없는 경우 새로 생성, 이미 존재하면 기존 락 반환
-        // 사용자별 고유한 락이 생성되고 재사용
-        return lockMap.computeIfAbsent(userId, id -> new ReentrantLock());
+    /**
+     * 두 userId의 락을 항상 같은 순서(userId 오름차순)로 획득
+     * - A->B, B->A 요청이 동시에 들어와도 둘 다 작은 userId의 락부터 기다리므로 교착되지 않음
+     */
+    default void acquireBoth(long userId, long otherUserId) {
+        acquire(Math.min(userId, otherUserId));
+        if (userId != otherUserId) acquire(Math.max(userId, otherUserId));
     }
-}
 
-/**
- * ReetrantLock
- * - 동기화와 스레드 안전성을 보장하기 위해 사용하는 객체
- * - 고급 잠금 매커니즘
- * - 동시성 문제가 발생할 가능성이 있는 코드 영역을 보호하기 위해서 사용
- * 
- * ConcurrentHashMap<Long, ReentrantLock>
- * - 이렇게 관리하는 이유는 사용자별로 고유한 락을 부여하기 위해
- * - 또한 동시에 여러 사용자에 대한 요청이 들어와도 서로 간섭하지 않도록 만들려고
- * - Long(사용자 ID), 사용자별로 생성된 ReetrantLock 객체 -> 사용자 ID에만 영향을 미치는 세분화된 락 관리가 가능
- * - computeIfAbsent(): 필요한 경우에만 새로운 ReetrantLock 객체를 생성
- *   - 락이 이미 존재하면 재사용
- *   - 락이 없으면 새로운 락 생
- *   - 메모리 낭비 방지, 필요한 만큼의 ReetrantLock 객체 생성
- */
\ No newline at end of file
+    /**
+     * acquireBoth()로 획득한 두 락을 획득 역순으로 해제
+     */
+    default void releaseBoth(long userId, long otherUserId) {
+        if (userId != otherUserId) release(Math.max(userId, otherUserId));
+        release(Math.min(userId, otherUserId));
+    }
+
+    /**
+     * 현재 보관 중인 락 개수
+     */
+    int size();
+
+    /**
+     * userId의 락을 기다리고 있는 스레드 수 (추정값, ReentrantLock.getQueueLength())
+     */
+    default int queueLength(long userId) {
+        return 0;
+    }
+}
@@ -0,0 +1,118 @@
+package io.hhplus.tdd;
+
+import java.util.concurrent.locks.ReentrantLock;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+/**
+ * 고정된 개수의 ReentrantLock을 userId 해시로 나눠 쓰는 락 저장소
+ * - 락 개수가 설정값으로 고정되어 있어 사용자가 늘어나도 메모리가 증가하지 않음
+ * - 같은 userId는 항상 같은 락을 사용하므로 사용자별 정합성은 그대로 유지
+ * - 서로 다른 사용자가 같은 락을 공유할 수 있어, 락 개수가 적으면 불필요한 대기가 생길 수 있음
+ *   -> 대기 시간과 queueLength()도 같은 락을 쓰는 유저끼리 합쳐진 값
+ */
+@Component
+@ConditionalOnProperty(prefix = "point.lock", name = "mode", havingValue = "striped")
+public class StripedLockRegistry implements LockRegistry {
+
+    private final ReentrantLock[] locks;
+    private final int mask;
+    private final LockContentionSketch contentionSketch;
+
+    @Autowired
+    public StripedLockRegistry(LockProperties lockProperties, LockContentionSketch contentionSketch) {
+        this(lockProperties.stripes(), contentionSketch);
+    }
+
+    public StripedLockRegistry(int stripes) {
+        this(stripes, LockContentionSketch.disabled());
+    }
+
+    public StripedLockRegistry(int stripes, LockContentionSketch contentionSketch) {
+        if (stripes < 1) throw new IllegalArgumentException("락 개수는 1 이상이어야 합니다.");
+        int size = Integer.highestOneBit(stripes) == stripes ? stripes : Integer.highestOneBit(stripes) << 1;
+        this.locks = new ReentrantLock[size];
+        for (int i = 0; i < size; i++) {
+            locks[i] = new ReentrantLock();
+        }
+        this.mask = size - 1;
+        this.contentionSketch = contentionSketch;
+    }
+
+    @Override
+    public void acquire(long userId) {
+        lock(index(userId), userId);
+    }
+
+    @Override
+    public void release(long userId) {
+        locks[index(userId)].unlock();
+    }
+
+    /**
+     * userId가 아니라 락 번호 오름차순으로 획득
+     * - 서로 다른 유저가 같은 락을 공유하므로 userId 순서로는 락 획득 순서가 일정하지 않음
+     *   (userId 1 < 2 이지만 락 번호는 1 > 2 일 수 있음)
+     * - 두 유저가 같은 락을 쓰면 한 번만 획득
+     */
+    @Override
+    public void acquireBoth(long userId, long otherUserId) {
+        int first = index(userId);
+        int second = index(otherUserId);
+        if (first <= second) {
+            lock(first, userId);
+            if (first != second) lock(second, otherUserId);
+        } else {
+            lock(second, otherUserId);
+            lock(first, userId);
+        }
+    }
+
+    @Override
+    public void releaseBoth(long userId, long otherUserId) {
+        int first = index(userId);
+        int second = index(otherUserId);
+        if (first != second) locks[Math.max(first, second)].unlock();
+        locks[Math.min(first, second)].unlock();
+    }
+
+    /**
+     * 락 개수는 고정이므로 항상 stripe 수를 반환
+     */
+    @Override
+    public int size() {
+        return locks.length;
+    }
+
+    @Override
+    public int queueLength(long userId) {
+        return locks[index(userId)].getQueueLength();
+    }
+
+    ReentrantLock getLock(long userId) {
+        return locks[index(userId)];
+    }
+
+    // 바로 얻지 못했을 때만 대기 시간을 userId 앞으로 기록
+    private void lock(int index, long userId) {
+        ReentrantLock lock = locks[index];
+        if (!lock.tryLock()) {
+            long waitStart = System.nanoTime();
+            lock.lock();
+            contentionSketch.record(userId, System.nanoTime() - waitStart);
+        }
+    }
+
+    // 연속된 userId가 인접한 락에 몰리지 않도록 비트를 섞은 뒤 하위 비트로 선택 (MurmurHash3 fmix64)
+    private int index(long userId) {
+        long h = userId;
+        h ^= h >>> 33;
+        h *= 0xff51afd7ed558ccdL;
+        h ^= h >>> 33;
+        h *= 0xc4ceb9fe1a85ec53L;
+        h ^= h >>> 33;
+        return (int) h & mask;
+    }
+}
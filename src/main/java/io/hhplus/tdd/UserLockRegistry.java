@@ -0,0 +1,89 @@
+package io.hhplus.tdd;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReentrantLock;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+@Component // 스프링 빈으로 등록해서 싱글톤으로 관리, 따라서 모든 요청은 동일한 인스턴스 사용, 락 관리 중앙 집중화
+@ConditionalOnProperty(prefix = "point.lock", name = "mode", havingValue = "user", matchIfMissing = true)
+public class UserLockRegistry implements LockRegistry {
+    
+    // ConcurrentHashMap<Long, UserLock>: userId로 락과 참조 수를 값으로 저장하는 맵
+    // 참조 수는 compute() 안에서만 변경하므로 맵의 버킷 단위 잠금으로 보호됨
+    private final ConcurrentHashMap<Long, UserLock> lockMap = new ConcurrentHashMap<>();
+    private final LockContentionSketch contentionSketch;
+
+    public UserLockRegistry() {
+        this(LockContentionSketch.disabled());
+    }
+
+    @Autowired
+    public UserLockRegistry(LockContentionSketch contentionSketch) {
+        this.contentionSketch = contentionSketch;
+    }
+
+    @Override
+    public void acquire(long userId) {
+        // compute()로 락이 없으면 새로 만들고, 있으면 기존 락의 참조 수를 증가
+        // 참조 수를 올린 스레드가 release() 하기 전까지는 맵에서 제거되지 않으므로 같은 userId에 다른 락이 생기지 않음
+        UserLock userLock = lockMap.compute(userId, (id, current) -> {
+            UserLock target = current == null ? new UserLock() : current;
+            target.references++;
+            return target;
+        });
+        // 바로 얻지 못했을 때만 대기 시간을 기록, 공정하지 않은(non-fair) 락이라 tryLock()을 먼저 해도 순서는 그대로
+        if (!userLock.lock.tryLock()) {
+            long waitStart = System.nanoTime();
+            userLock.lock.lock();
+            contentionSketch.record(userId, System.nanoTime() - waitStart);
+        }
+    }
+
+    @Override
+    public void release(long userId) {
+        UserLock userLock = lockMap.get(userId);
+        if (userLock == null || !userLock.lock.isHeldByCurrentThread()) {
+            throw new IllegalMonitorStateException("획득하지 않은 락은 해제할 수 없습니다.");
+        }
+        userLock.lock.unlock();
+        // 참조 수가 0이 되면(보유 중이거나 대기 중인 스레드가 없으면) 맵에서 제거
+        lockMap.computeIfPresent(userId, (id, current) -> --current.references == 0 ? null : current);
+    }
+
+    @Override
+    public int size() {
+        return lockMap.size();
+    }
+
+    @Override
+    public int queueLength(long userId) {
+        UserLock userLock = lockMap.get(userId);
+        return userLock == null ? 0 : userLock.lock.getQueueLength();
+    }
+
+    private static final class UserLock {
+        private final ReentrantLock lock = new ReentrantLock();
+        private int references; // 락을 보유 중이거나 대기 중인 acquire() 호출 수
+    }
+}
+
+/**
+ * ReetrantLock
+ * - 동기화와 스레드 안전성을 보장하기 위해 사용하는 객체
+ * - 고급 잠금 매커니즘
+ * - 동시성 문제가 발생할 가능성이 있는 코드 영역을 보호하기 위해서 사용
+ * 
+ * ConcurrentHashMap<Long, UserLock>
+ * - 이렇게 관리하는 이유는 사용자별로 고유한 락을 부여하기 위해
+ * - 또한 동시에 여러 사용자에 대한 요청이 들어와도 서로 간섭하지 않도록 만들려고
+ * - Long(사용자 ID), 사용자별로 생성된 ReetrantLock 객체 -> 사용자 ID에만 영향을 미치는 세분화된 락 관리가 가능
+ * - compute(): 필요한 경우에만 새로운 ReetrantLock 객체를 생성하고 참조 수를 증가
+ *   - 락이 이미 존재하면 재사용
+ *   - 락이 없으면 새로운 락 생성
+ * - 참조 수가 0이 되면 맵에서 제거
+ *   - 한 번이라도 요청한 사용자의 락이 계속 남아 메모리가 늘어나는 문제 방지
+ *   - 맵에는 현재 사용 중인 사용자의 락만 남음
+ */
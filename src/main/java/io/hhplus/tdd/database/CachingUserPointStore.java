@@ -0,0 +1,76 @@
+package io.hhplus.tdd.database;
+
+import com.github.benmanes.caffeine.cache.AsyncCache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+
+import io.hhplus.tdd.point.UserPoint;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+
+/**
+ * 유저 포인트 저장소 앞에 두는 read-through / write-through 캐시
+ * - selectById(): 캐시에 없으면 delegate에서 읽어 캐시에 저장(read-through)
+ * - insertOrUpdate(): delegate에 저장한 뒤 저장된 값으로 캐시를 갱신(write-through)
+ *   - 같은 키를 읽어오는 중이어도 put()이 읽기 중인 값을 바로 대체하고, 나중에 끝난 읽기 결과는 캐시에 들어가지 않음
+ * - 존재하지 않는 유저(null)는 캐시하지 않음
+ * - 크기는 maximumSize로 제한하고, 넘치면 W-TinyLFU 정책(Caffeine 기본)으로 제거
+ *   - 최근 접근뿐 아니라 접근 빈도도 보므로 한 번 읽고 마는 유저가 자주 읽는 유저를 밀어내지 않음
+ * - 적중률, 제거 수, 로딩 시간은 stats()와 Micrometer(cache.* 지표, cache=user-point)로 확인
+ *
+ * 캐시는 값 대신 CompletableFuture를 보관(AsyncCache)
+ * - 동기 Cache.get(key, loader)는 ConcurrentHashMap.compute() 안(synchronized)에서 loader를 실행하므로,
+ *   UserPointTable의 지연(sleep)이 모니터를 잡은 채로 일어나 가상 스레드가 캐리어 스레드에 고정(pinning)됨
+ * - 맵에는 완료되지 않은 future만 넣고 실제 조회는 락 밖에서 호출한 스레드가 직접 수행, 같은 키를 읽는 다른 스레드는 future를 기다림
+ *
+ * delegate에는 이 캐시를 통해서만 잔액이 저장된다고 가정
+ */
+public class CachingUserPointStore implements UserPointStore {
+
+    private final UserPointStore delegate;
+    private final AsyncCache<Long, UserPoint> cache;
+
+    public CachingUserPointStore(UserPointStore delegate, long maximumSize, MeterRegistry meterRegistry) {
+        if (maximumSize < 1) throw new IllegalArgumentException("캐시 크기는 1 이상이어야 합니다.");
+        this.delegate = delegate;
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .recordStats()
+                .buildAsync();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, "user-point");
+    }
+
+    @Override
+    public UserPoint selectById(long id) {
+        CompletableFuture<UserPoint> loading = new CompletableFuture<>();
+        CompletableFuture<UserPoint> cached = cache.get(id, (key, executor) -> loading);
+        if (cached == loading) { // 캐시에 없어서 이 스레드가 넣은 future가 등록됨 -> 직접 조회
+            try {
+                loading.complete(delegate.selectById(id)); // null이면 Caffeine이 캐시에서 제거
+            } catch (RuntimeException e) {
+                loading.completeExceptionally(e);
+                throw e;
+            }
+        }
+        try {
+            return cached.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) throw cause;
+            throw e;
+        }
+    }
+
+    @Override
+    public UserPoint insertOrUpdate(long id, long amount) {
+        UserPoint userPoint = delegate.insertOrUpdate(id, amount);
+        cache.put(id, CompletableFuture.completedFuture(userPoint));
+        return userPoint;
+    }
+
+    public CacheStats stats() {
+        return cache.synchronous().stats();
+    }
+}
@@ -0,0 +1,292 @@
+package io.hhplus.tdd.database;
+
+import io.hhplus.tdd.point.PointHistory;
+import io.hhplus.tdd.point.TransactionType;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * 컬럼 단위로 원시 타입 배열에 내역을 저장하는 저장 엔진
+ * - userId/amount/updateMillis는 long[], type은 byte[]로 청크(CHUNK_SIZE 행) 단위로 저장
+ * - id는 저장 순서(행 번호 + 1)로 발급하므로 따로 저장하지 않음
+ * - PointHistory 객체는 조회 결과를 반환할 때만 생성 -> 행마다 힙 객체가 남지 않아 GC 부담과 캐시 미스가 줄어듦
+ * - userId별 행 번호 목록(int[])을 인덱스로 유지해서 조회는 O(유저의 내역 수)
+ * - 행 번호 목록은 항상 오름차순(= id 순서)이므로 페이지 조회는 커서 위치를 이분 탐색 -> O(log 유저의 내역 수 + 페이지 크기)
+ * - 유저별 + 거래 유형별로 (updateMillis, 행 번호) 순서의 행 번호 목록을 시간 인덱스로 유지
+ *   기간 조회는 updateMillis 컬럼을 참조해 시작 시각을 이분 탐색 -> O(log 유저의 내역 수 + 결과 수)
+ *
+ * 행당 메모리: 컬럼 25 byte + 인덱스 4 byte + 시간 인덱스 4 byte
+ * (ArrayList<PointHistory>는 PointHistory 객체 48 byte + 배열 참조 4 byte)
+ */
+public class ColumnarPointHistoryStore implements PointHistoryStore {
+
+    private static final int CHUNK_SHIFT = 16;
+    private static final int CHUNK_SIZE = 1 << CHUNK_SHIFT;
+    private static final int CHUNK_MASK = CHUNK_SIZE - 1;
+    private static final TransactionType[] TYPES = TransactionType.values();
+
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+
+    private long[][] userIds = new long[1][];
+    private long[][] amounts = new long[1][];
+    private byte[][] types = new byte[1][];
+    private long[][] updateMillis = new long[1][];
+    private int size = 0;
+
+    // userId -> 행 번호 목록, 락 안에서만 접근하므로 HashMap 사용
+    private final Map<Long, UserRows> index = new HashMap<>();
+
+    @Override
+    public PointHistory insert(long userId, long amount, TransactionType type, long updateMillis) {
+        lock.writeLock().lock();
+        try {
+            int row = append(userId, amount, type, updateMillis);
+            return read(row);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * 쓰기 락을 한 번만 잡고 모든 행을 추가
+     */
+    @Override
+    public List<PointHistory> insertAll(List<PendingPointHistory> rows) {
+        List<PointHistory> inserted = new ArrayList<>(rows.size());
+        lock.writeLock().lock();
+        try {
+            for (PendingPointHistory row : rows) {
+                inserted.add(read(append(row.userId(), row.amount(), row.type(), row.updateMillis())));
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+        return inserted;
+    }
+
+    @Override
+    public List<PointHistory> selectAllByUserId(long userId) {
+        lock.readLock().lock();
+        try {
+            UserRows userRows = index.get(userId);
+            if (userRows == null) return List.of();
+            RowList rows = userRows.byId;
+            List<PointHistory> result = new ArrayList<>(rows.size);
+            for (int i = 0; i < rows.size; i++) {
+                result.add(read(rows.rows[i]));
+            }
+            return result;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    @Override
+    public List<PointHistory> selectPageByUserId(long userId, long cursor, int size, SortDirection direction) {
+        lock.readLock().lock();
+        try {
+            UserRows userRows = index.get(userId);
+            if (userRows == null) return List.of();
+            RowList rows = userRows.byId;
+            List<PointHistory> page = new ArrayList<>(Math.min(size, rows.size));
+            // id = 행 번호 + 1 이므로 id > cursor 는 행 번호 >= cursor, id < cursor 는 행 번호 < cursor - 1
+            if (direction == SortDirection.ASC) {
+                for (int i = rows.lowerBound(cursor); i < rows.size && page.size() < size; i++) {
+                    page.add(read(rows.rows[i]));
+                }
+            } else {
+                for (int i = (cursor == 0 ? rows.size : rows.lowerBound(cursor - 1)) - 1; i >= 0 && page.size() < size; i--) {
+                    page.add(read(rows.rows[i]));
+                }
+            }
+            return page;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    @Override
+    public List<PointHistory> selectByUserIdAndTimeRange(long userId, long fromMillis, long toMillis, TransactionType type) {
+        if (fromMillis >= toMillis) return List.of();
+        lock.readLock().lock();
+        try {
+            UserRows userRows = index.get(userId);
+            if (userRows == null) return List.of();
+            if (type != null) {
+                RowList rows = userRows.byTime[type.ordinal()];
+                int end = lowerBoundByTime(rows, toMillis);
+                List<PointHistory> result = new ArrayList<>();
+                for (int i = lowerBoundByTime(rows, fromMillis); i < end; i++) {
+                    result.add(read(rows.rows[i]));
+                }
+                return result;
+            }
+
+            // 유형별 구간은 각각 (updateMillis, 행 번호) 순서이므로 병합만 하면 전체도 같은 순서
+            int[] positions = new int[TYPES.length];
+            int[] ends = new int[TYPES.length];
+            int total = 0;
+            for (int t = 0; t < TYPES.length; t++) {
+                positions[t] = lowerBoundByTime(userRows.byTime[t], fromMillis);
+                ends[t] = lowerBoundByTime(userRows.byTime[t], toMillis);
+                total += ends[t] - positions[t];
+            }
+            List<PointHistory> result = new ArrayList<>(total);
+            while (result.size() < total) {
+                int next = -1;
+                for (int t = 0; t < TYPES.length; t++) {
+                    if (positions[t] == ends[t]) continue;
+                    if (next < 0 || timeOrder(userRows.byTime[t].rows[positions[t]], userRows.byTime[next].rows[positions[next]]) < 0) next = t;
+                }
+                result.add(read(userRows.byTime[next].rows[positions[next]++]));
+            }
+            return result;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    @Override
+    public int countByUserId(long userId) {
+        lock.readLock().lock();
+        try {
+            UserRows userRows = index.get(userId);
+            return userRows == null ? 0 : userRows.byId.size;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * 저장된 전체 행 수
+     */
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return size;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    // 쓰기 락을 잡은 상태에서 호출
+    private int append(long userId, long amount, TransactionType type, long millis) {
+        int row = size;
+        int chunk = row >>> CHUNK_SHIFT;
+        if (chunk == userIds.length) {
+            int capacity = userIds.length * 2;
+            userIds = Arrays.copyOf(userIds, capacity);
+            amounts = Arrays.copyOf(amounts, capacity);
+            types = Arrays.copyOf(types, capacity);
+            updateMillis = Arrays.copyOf(updateMillis, capacity);
+        }
+        if (userIds[chunk] == null) {
+            userIds[chunk] = new long[CHUNK_SIZE];
+            amounts[chunk] = new long[CHUNK_SIZE];
+            types[chunk] = new byte[CHUNK_SIZE];
+            updateMillis[chunk] = new long[CHUNK_SIZE];
+        }
+        int offset = row & CHUNK_MASK;
+        userIds[chunk][offset] = userId;
+        amounts[chunk][offset] = amount;
+        types[chunk][offset] = (byte) type.ordinal();
+        updateMillis[chunk][offset] = millis;
+        size = row + 1;
+        UserRows userRows = index.computeIfAbsent(userId, id -> new UserRows());
+        userRows.byId.add(row);
+        addByTime(userRows.byTime[type.ordinal()], row);
+        return row;
+    }
+
+    // 쓰기 락을 잡은 상태에서 호출, 대부분 맨 뒤에 추가되므로 뒤에서부터 자리를 찾음
+    private void addByTime(RowList rows, int row) {
+        rows.add(row);
+        int position = rows.size - 1;
+        while (position > 0 && timeOrder(rows.rows[position - 1], row) > 0) {
+            rows.rows[position] = rows.rows[position - 1];
+            position--;
+        }
+        rows.rows[position] = row;
+    }
+
+    // 시간 인덱스에서 updateMillis가 처음으로 millis 이상이 되는 위치, 모두 작으면 rows.size
+    private int lowerBoundByTime(RowList rows, long millis) {
+        int low = 0;
+        int high = rows.size;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (millisOf(rows.rows[mid]) < millis) low = mid + 1;
+            else high = mid;
+        }
+        return low;
+    }
+
+    // (updateMillis, 행 번호) 순서 비교
+    private int timeOrder(int row, int otherRow) {
+        int compared = Long.compare(millisOf(row), millisOf(otherRow));
+        return compared != 0 ? compared : Integer.compare(row, otherRow);
+    }
+
+    private long millisOf(int row) {
+        return updateMillis[row >>> CHUNK_SHIFT][row & CHUNK_MASK];
+    }
+
+    // 읽기 또는 쓰기 락을 잡은 상태에서 호출
+    private PointHistory read(int row) {
+        int chunk = row >>> CHUNK_SHIFT;
+        int offset = row & CHUNK_MASK;
+        return new PointHistory(
+                row + 1L,
+                userIds[chunk][offset],
+                amounts[chunk][offset],
+                TYPES[types[chunk][offset]],
+                updateMillis[chunk][offset]
+        );
+    }
+
+    /**
+     * 한 유저의 인덱스
+     * - byId: 저장 순서(= id 순서)
+     * - byTime: 거래 유형(ordinal)별, (updateMillis, 행 번호) 순서
+     */
+    private static final class UserRows {
+        final RowList byId = new RowList();
+        final RowList[] byTime = new RowList[TYPES.length];
+
+        UserRows() {
+            for (int i = 0; i < TYPES.length; i++) {
+                byTime[i] = new RowList();
+            }
+        }
+    }
+
+    /**
+     * 행 번호 목록
+     */
+    private static final class RowList {
+        int[] rows = new int[4];
+        int size = 0;
+
+        void add(int row) {
+            if (size == rows.length) rows = Arrays.copyOf(rows, size * 2);
+            rows[size++] = row;
+        }
+
+        // 행 번호가 처음으로 row 이상이 되는 위치, 모두 작으면 size
+        int lowerBound(long row) {
+            int low = 0;
+            int high = size;
+            while (low < high) {
+                int mid = (low + high) >>> 1;
+                if (rows[mid] < row) low = mid + 1;
+                else high = mid;
+            }
+            return low;
+        }
+    }
+}
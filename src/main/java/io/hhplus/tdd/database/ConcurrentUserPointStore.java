@@ -0,0 +1,207 @@
+package io.hhplus.tdd.database;
+
+import io.hhplus.tdd.point.UserPoint;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * long 키를 그대로 쓰는 open addressing 해시 테이블에 잔액을 저장하는 유저 포인트 저장소
+ * - slot 하나는 long 4칸 (id | version | point | updateMillis), 한 배열에 이어서 저장해서 slot 하나가 캐시 라인 절반에 들어감
+ *   -> Long 키 박싱, 맵 엔트리, UserPoint 객체가 남지 않음
+ * - put()은 객체를 만들지 않음, insertOrUpdate()는 인터페이스대로 UserPoint를 반환하므로 결과 객체 하나만 생성
+ * - id 칸에는 id ^ Long.MIN_VALUE 를 저장, 0이면 빈 slot (OffHeapUserPointStore와 같은 방식, Long.MIN_VALUE는 저장할 수 없음)
+ *
+ * 동시성
+ * - 조회는 락 없이 slot별 seqlock으로 읽음: version을 읽고 -> 값을 읽고 -> version을 다시 읽어 같고 짝수면 성공, 아니면 다시 읽음
+ * - 기록은 slot의 version을 CAS로 홀수로 만들어 잠그고 값을 쓴 뒤 짝수로 되돌림 -> 다른 유저의 기록끼리는 경합하지 않음
+ * - 새 유저는 빈 slot의 id 칸을 CAS로 차지, version이 0이면 아직 값이 쓰이지 않은 slot이라 조회에서 없는 유저로 봄
+ * - 새 유저는 slot을 차지하기 전에 size를 먼저 늘려 자리를 예약, 사용률이 LOAD_FACTOR를 넘게 되면 예약을 취소하고 두 배 크기의 테이블로 옮긴 뒤 다시 시도
+ *   기록은 resizeLock의 읽기 락을 잡고(기록끼리는 막지 않음), 옮기는 동안만 쓰기 락으로 기록을 멈춤
+ *   조회는 옮기는 동안에도 이전 테이블을 그대로 읽음 (옮기는 동안 이전 테이블은 바뀌지 않음)
+ *   -> 테이블이 가득 차지 않으므로 탐색은 항상 빈 slot에서 끝남, 더 늘릴 수 없으면 slot을 차지하지 않고 IllegalStateException
+ */
+public class ConcurrentUserPointStore implements UserPointStore {
+
+    private static final int SLOT_LONGS = 4;
+    private static final int ID = 0;
+    private static final int VERSION = 1;
+    private static final int POINT = 2;
+    private static final int UPDATE_MILLIS = 3;
+    private static final int MAX_SLOTS = 1 << 28;
+    private static final double LOAD_FACTOR = 0.7;
+    private static final long EMPTY_MARK = Long.MIN_VALUE;
+    private static final VarHandle SLOTS = MethodHandles.arrayElementVarHandle(long[].class);
+
+    private final int maxSlots;
+    private final ReentrantReadWriteLock resizeLock = new ReentrantReadWriteLock();
+    private final AtomicLong size = new AtomicLong();
+    private volatile long[] slots;
+
+    public ConcurrentUserPointStore(int expectedUsers) {
+        this(expectedUsers, MAX_SLOTS);
+    }
+
+    // 테스트에서 최대 slot 수를 줄여 더 늘릴 수 없는 경우를 확인
+    ConcurrentUserPointStore(int expectedUsers, int maxSlots) {
+        if (expectedUsers < 1) throw new IllegalArgumentException("예상 유저 수는 1 이상이어야 합니다.");
+        int capacity = 16;
+        while (capacity * LOAD_FACTOR < expectedUsers) capacity <<= 1;
+        this.maxSlots = maxSlots;
+        this.slots = new long[capacity * SLOT_LONGS];
+    }
+
+    @Override
+    public UserPoint selectById(long id) {
+        long[] table = slots;
+        int base = find(table, id);
+        if (base < 0) return null;
+        while (true) {
+            long version = (long) SLOTS.getAcquire(table, base + VERSION);
+            if (version == 0) return null; // id만 차지하고 값은 아직 쓰기 전
+            if ((version & 1) == 1) {
+                Thread.onSpinWait();
+                continue;
+            }
+            long point = (long) SLOTS.getOpaque(table, base + POINT);
+            long updateMillis = (long) SLOTS.getOpaque(table, base + UPDATE_MILLIS);
+            VarHandle.acquireFence(); // 값을 읽은 뒤에 version을 다시 읽도록 (StampedLock.validate()와 같은 방식)
+            if ((long) SLOTS.getOpaque(table, base + VERSION) == version) return new UserPoint(id, point, updateMillis);
+        }
+    }
+
+    @Override
+    public UserPoint insertOrUpdate(long id, long amount) {
+        long updateMillis = System.currentTimeMillis();
+        put(id, amount, updateMillis);
+        return new UserPoint(id, amount, updateMillis);
+    }
+
+    /**
+     * 잔액을 저장, 객체를 만들지 않음
+     */
+    public void put(long id, long point, long updateMillis) {
+        if (id == Long.MIN_VALUE) throw new IllegalArgumentException("저장할 수 없는 유저 id입니다. id=" + id);
+        while (true) {
+            boolean written;
+            resizeLock.readLock().lock();
+            try {
+                written = write(slots, id, point, updateMillis);
+            } finally {
+                resizeLock.readLock().unlock();
+            }
+            if (written) return;
+            resize(); // 읽기 락을 놓은 뒤에 늘리고 다시 시도
+        }
+    }
+
+    public long size() {
+        return size.get();
+    }
+
+    // 기록했으면 true, 새 유저를 넣으면 사용률이 LOAD_FACTOR를 넘는 경우 아무것도 바꾸지 않고 false
+    private boolean write(long[] table, long id, long point, long updateMillis) {
+        long key = id ^ EMPTY_MARK;
+        int mask = table.length / SLOT_LONGS - 1;
+        boolean reserved = false;
+        int base = -1;
+        for (int probe = 0, slot = hash(id) & mask; base < 0; probe++, slot = (slot + 1) & mask) {
+            if (probe > mask) {
+                // 예약한 수만큼만 slot을 차지하므로 빈 slot이 항상 남아 있어 도달하지 않음
+                if (reserved) size.decrementAndGet();
+                throw new IllegalStateException("빈 slot을 찾지 못했습니다. size=" + size.get());
+            }
+            int candidate = slot * SLOT_LONGS;
+            long stored = (long) SLOTS.getAcquire(table, candidate + ID);
+            if (stored == 0) {
+                if (!reserved) {
+                    if (size.incrementAndGet() > threshold(table)) {
+                        size.decrementAndGet();
+                        return false;
+                    }
+                    reserved = true;
+                }
+                stored = (long) SLOTS.compareAndExchange(table, candidate + ID, 0L, key);
+                if (stored == 0) reserved = false; // 예약한 자리로 차지함
+            }
+            if (stored == 0 || stored == key) base = candidate;
+        }
+        if (reserved) size.decrementAndGet(); // 빈 slot을 두고 경쟁한 다른 스레드가 같은 유저를 먼저 넣음
+
+        long version;
+        do {
+            version = (long) SLOTS.getAcquire(table, base + VERSION);
+            if ((version & 1) == 1) {
+                Thread.onSpinWait();
+                continue;
+            }
+            if (SLOTS.compareAndSet(table, base + VERSION, version, version + 1)) break;
+        } while (true);
+        SLOTS.setOpaque(table, base + POINT, point);
+        SLOTS.setOpaque(table, base + UPDATE_MILLIS, updateMillis);
+        SLOTS.setRelease(table, base + VERSION, version + 2);
+        return true;
+    }
+
+    // id가 있는 slot의 시작 위치, 없으면 -1
+    private static int find(long[] table, long id) {
+        long key = id ^ EMPTY_MARK;
+        int mask = table.length / SLOT_LONGS - 1;
+        for (int probe = 0, slot = hash(id) & mask; probe <= mask; probe++, slot = (slot + 1) & mask) {
+            long stored = (long) SLOTS.getAcquire(table, slot * SLOT_LONGS + ID);
+            if (stored == key) return slot * SLOT_LONGS;
+            if (stored == 0) return -1;
+        }
+        return -1;
+    }
+
+    // 쓰기 락으로 기록을 멈추고 두 배 크기의 테이블로 옮긴 뒤 교체
+    private void resize() {
+        resizeLock.writeLock().lock();
+        try {
+            long[] table = slots;
+            int capacity = table.length / SLOT_LONGS;
+            if (size.get() < threshold(table)) return; // 다른 스레드가 이미 늘림
+            if (capacity >= maxSlots) throw new IllegalStateException("저장할 수 있는 유저 수를 넘었습니다. size=" + size.get());
+            long[] resized = new long[table.length * 2];
+            for (int base = 0; base < table.length; base += SLOT_LONGS) {
+                long stored = table[base + ID];
+                if (stored == 0 || table[base + VERSION] == 0) continue;
+                copy(resized, stored, table[base + POINT], table[base + UPDATE_MILLIS]);
+            }
+            slots = resized; // volatile 쓰기, 이후 조회는 새 테이블을 읽음
+        } finally {
+            resizeLock.writeLock().unlock();
+        }
+    }
+
+    // 차지할 수 있는 최대 slot 수, 넘지 않으므로 빈 slot이 항상 남음
+    private static long threshold(long[] table) {
+        return (long) (table.length / SLOT_LONGS * LOAD_FACTOR);
+    }
+
+    // 새 테이블은 공개 전이라 경합이 없으므로 일반 쓰기로 채움
+    private static void copy(long[] table, long key, long point, long updateMillis) {
+        int mask = table.length / SLOT_LONGS - 1;
+        int slot = hash(key ^ EMPTY_MARK) & mask;
+        while (table[slot * SLOT_LONGS + ID] != 0) slot = (slot + 1) & mask;
+        int base = slot * SLOT_LONGS;
+        table[base + ID] = key;
+        table[base + VERSION] = 2;
+        table[base + POINT] = point;
+        table[base + UPDATE_MILLIS] = updateMillis;
+    }
+
+    // 연속된 id가 이웃 slot에 몰리지 않도록 비트를 섞음 (MurmurHash3 fmix64)
+    private static int hash(long id) {
+        long h = id;
+        h ^= h >>> 33;
+        h *= 0xff51afd7ed558ccdL;
+        h ^= h >>> 33;
+        h *= 0xc4ceb9fe1a85ec53L;
+        h ^= h >>> 33;
+        return (int) h;
+    }
+}
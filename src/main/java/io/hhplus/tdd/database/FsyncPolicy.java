@@ -0,0 +1,13 @@
+package io.hhplus.tdd.database;
+
+/**
+ * 저널을 디스크에 강제 기록(fsync)하는 시점
+ * - EVERY_WRITE: 기록할 때마다 fsync 후 반환, 가장 안전하지만 기록이 fsync 횟수만큼 직렬화됨
+ * - GROUP: 기록한 스레드는 fsync를 기다리고, 동기화 스레드가 그동안 쌓인 기록을 fsync 한 번으로 함께 반영
+ * - INTERVAL: 기록 후 바로 반환, 동기화 스레드가 주기적으로 fsync -> 장애 시 마지막 주기 동안의 기록은 유실될 수 있음
+ */
+public enum FsyncPolicy {
+    EVERY_WRITE,
+    GROUP,
+    INTERVAL
+}
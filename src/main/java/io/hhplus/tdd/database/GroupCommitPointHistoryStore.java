@@ -0,0 +1,201 @@
+package io.hhplus.tdd.database;
+
+import io.hhplus.tdd.point.PointHistory;
+import io.hhplus.tdd.point.TransactionType;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 여러 요청의 내역 저장을 모아서 한 번에 저장하는 그룹 커밋 저장소
+ * - insert()를 호출한 스레드는 요청을 대기열에 넣고, 자신이 포함된 묶음이 저장될 때까지 대기
+ * - 커밋 스레드는 첫 요청이 들어오면 window 동안 또는 maxBatchSize가 찰 때까지 요청을 모아 delegate.insertAll()로 저장
+ * - insertAll()은 여러 건을 요청 하나로 넣고 한 번만 기다림, 한 요청의 내역은 나뉘지 않고 같은 묶음에 저장
+ * - 묶음 크기와 커밋 지연 시간은 histogram으로 기록
+ *   - point.history.group-commit.batch-size
+ *   - point.history.group-commit.latency (묶음 하나를 저장하는 데 걸린 시간)
+ *
+ * 조회는 delegate에 그대로 위임, insert()가 반환된 내역은 이미 저장되어 있으므로 바로 조회됨
+ */
+public class GroupCommitPointHistoryStore implements PointHistoryStore, AutoCloseable {
+
+    private final PointHistoryStore delegate;
+    private final long windowNanos;
+    private final int maxBatchSize;
+    private final DistributionSummary batchSize;
+    private final Timer commitLatency;
+
+    private final BlockingQueue<Request> queue = new LinkedBlockingQueue<>();
+    private final Thread committer;
+    private volatile boolean running = true;
+
+    public GroupCommitPointHistoryStore(PointHistoryStore delegate, Duration window, int maxBatchSize, MeterRegistry meterRegistry) {
+        if (maxBatchSize < 1) throw new IllegalArgumentException("최대 묶음 크기는 1 이상이어야 합니다.");
+        this.delegate = delegate;
+        this.windowNanos = window.toNanos();
+        this.maxBatchSize = maxBatchSize;
+        this.batchSize = DistributionSummary.builder("point.history.group-commit.batch-size")
+                .description("그룹 커밋 한 번에 저장한 내역 수")
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+        this.commitLatency = Timer.builder("point.history.group-commit.latency")
+                .description("그룹 커밋 한 번에 걸린 시간")
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+        this.committer = new Thread(this::run, "point-history-group-commit");
+        this.committer.setDaemon(true);
+        this.committer.start();
+    }
+
+    @Override
+    public PointHistory insert(long userId, long amount, TransactionType type, long updateMillis) {
+        return submit(List.of(new PendingPointHistory(userId, amount, type, updateMillis))).get(0);
+    }
+
+    /**
+     * 여러 건을 요청 하나로 넣음, 건마다 window를 기다리지 않음 (write-behind의 묶음 저장, 이체의 두 내역)
+     */
+    @Override
+    public List<PointHistory> insertAll(List<PendingPointHistory> rows) {
+        if (rows.isEmpty()) return List.of();
+        return submit(rows);
+    }
+
+    @Override
+    public List<PointHistory> selectAllByUserId(long userId) {
+        return delegate.selectAllByUserId(userId);
+    }
+
+    @Override
+    public List<PointHistory> selectPageByUserId(long userId, long cursor, int size, SortDirection direction) {
+        return delegate.selectPageByUserId(userId, cursor, size, direction);
+    }
+
+    @Override
+    public List<PointHistory> selectByUserIdAndTimeRange(long userId, long fromMillis, long toMillis, TransactionType type) {
+        return delegate.selectByUserIdAndTimeRange(userId, fromMillis, toMillis, type);
+    }
+
+    @Override
+    public int countByUserId(long userId) {
+        return delegate.countByUserId(userId);
+    }
+
+    /**
+     * 대기 중인 요청을 모두 저장한 뒤 커밋 스레드를 종료
+     */
+    @Override
+    public void close() {
+        running = false;
+        try {
+            committer.join(TimeUnit.SECONDS.toMillis(30));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        // 종료 직전에 들어와 커밋 스레드가 처리하지 못한 요청은 실패로 완료
+        Request request;
+        while ((request = queue.poll()) != null) {
+            request.future.completeExceptionally(new IllegalStateException("종료 중에는 내역을 저장할 수 없습니다."));
+        }
+    }
+
+    private List<PointHistory> submit(List<PendingPointHistory> rows) {
+        if (!running) throw new IllegalStateException("종료 중에는 내역을 저장할 수 없습니다.");
+        Request request = new Request(rows);
+        queue.add(request);
+        // 확인과 add() 사이에 close()가 대기열을 비우고 끝났을 수 있음
+        // 아직 대기열에 남아 있으면 꺼내서 실패 처리, 꺼내지 못했으면 커밋 스레드나 close()가 완료시킴
+        if (!running && queue.remove(request)) {
+            throw new IllegalStateException("종료 중에는 내역을 저장할 수 없습니다.");
+        }
+        try {
+            return request.future.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) throw cause;
+            throw e;
+        }
+    }
+
+    private void run() {
+        List<Request> batch = new ArrayList<>(maxBatchSize);
+        while (running || !queue.isEmpty()) {
+            try {
+                Request first = queue.poll(100, TimeUnit.MILLISECONDS);
+                if (first == null) continue;
+                batch.add(first);
+                collect(batch);
+                commit(batch);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            } finally {
+                batch.clear();
+            }
+        }
+    }
+
+    // 첫 요청 이후 window가 지나거나 내역이 maxBatchSize건 찰 때까지 요청을 모음
+    // 요청 하나는 나누지 않으므로 insertAll()로 들어온 요청 때문에 maxBatchSize를 넘을 수 있음
+    private void collect(List<Request> batch) throws InterruptedException {
+        long deadline = System.nanoTime() + windowNanos;
+        int rows = batch.get(0).rows.size();
+        while (rows < maxBatchSize) {
+            long remaining = deadline - System.nanoTime();
+            Request next = remaining > 0
+                    ? queue.poll(remaining, TimeUnit.NANOSECONDS)
+                    : queue.poll(); // 이미 도착한 요청은 기다리지 않고 함께 저장
+            if (next == null) return;
+            batch.add(next);
+            rows += next.rows.size();
+        }
+    }
+
+    private void commit(List<Request> batch) {
+        List<PendingPointHistory> rows = new ArrayList<>();
+        for (Request request : batch) {
+            rows.addAll(request.rows);
+        }
+
+        // 지표는 호출자를 깨우기 전에 기록 -> 반환된 호출자가 보는 지표에 자기 묶음이 항상 포함됨
+        long start = System.nanoTime();
+        List<PointHistory> inserted;
+        try {
+            inserted = delegate.insertAll(rows);
+        } catch (Throwable e) {
+            record(start, rows.size());
+            for (Request request : batch) {
+                request.future.completeExceptionally(e);
+            }
+            return;
+        }
+        record(start, rows.size());
+        int from = 0;
+        for (Request request : batch) {
+            request.future.complete(inserted.subList(from, from + request.rows.size()));
+            from += request.rows.size();
+        }
+    }
+
+    private void record(long start, int rows) {
+        commitLatency.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        batchSize.record(rows);
+    }
+
+    private static final class Request {
+        private final List<PendingPointHistory> rows;
+        private final CompletableFuture<List<PointHistory>> future = new CompletableFuture<>();
+
+        private Request(List<PendingPointHistory> rows) {
+            this.rows = rows;
+        }
+    }
+}
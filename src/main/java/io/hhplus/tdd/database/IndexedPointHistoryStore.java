@@ -0,0 +1,153 @@
+package io.hhplus.tdd.database;
+
+import io.hhplus.tdd.point.PointHistory;
+import io.hhplus.tdd.point.TransactionType;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * PointHistoryTable을 감싸고 userId별 보조 인덱스를 유지하는 내역 저장소
+ * - 저장은 PointHistoryTable.insert()에 그대로 위임하고, 반환된 내역을 userId별 리스트에 추가
+ * - 조회는 전체 테이블을 필터링하지 않고 해당 유저의 리스트만 복사 -> O(유저의 내역 수)
+ * - 유저별 리스트는 id 오름차순으로 유지, 페이지 조회는 커서 위치를 이분 탐색 -> O(log 유저의 내역 수 + 페이지 크기)
+ * - 유저별 + 거래 유형별로 (updateMillis, id) 순서의 시간 인덱스를 따로 유지, 기간 조회는 시작 시각을 이분 탐색
+ *   -> O(log 유저의 내역 수 + 결과 수), 유형을 지정하지 않으면 두 유형의 결과를 시간 순서로 병합
+ * - PointHistoryTable은 변경하지 않고 공개된 API만 사용
+ */
+public class IndexedPointHistoryStore implements PointHistoryStore {
+
+    private static final TransactionType[] TYPES = TransactionType.values();
+    private static final Comparator<PointHistory> ID_ORDER = Comparator.comparingLong(PointHistory::id);
+    private static final Comparator<PointHistory> TIME_ORDER = Comparator.comparingLong(PointHistory::updateMillis).thenComparingLong(PointHistory::id);
+
+    private final PointHistoryTable pointHistoryTable;
+    private final ConcurrentHashMap<Long, UserRows> index = new ConcurrentHashMap<>();
+
+    public IndexedPointHistoryStore(PointHistoryTable pointHistoryTable) {
+        this.pointHistoryTable = pointHistoryTable;
+    }
+
+    @Override
+    public PointHistory insert(long userId, long amount, TransactionType type, long updateMillis) {
+        PointHistory pointHistory = pointHistoryTable.insert(userId, amount, type, updateMillis);
+        UserRows userRows = index.computeIfAbsent(userId, id -> new UserRows());
+        synchronized (userRows) { // 같은 유저의 리스트에 대한 추가/복사만 보호, 짧은 구간이라 경합이 거의 없음
+            // 같은 유저의 insert()가 락 없이 동시에 호출되면 id 순서와 추가 순서가 다를 수 있으므로 정렬 위치에 추가
+            addSorted(userRows.byId, pointHistory, ID_ORDER);
+            addSorted(userRows.byTime.get(type.ordinal()), pointHistory, TIME_ORDER);
+        }
+        return pointHistory;
+    }
+
+    @Override
+    public List<PointHistory> selectAllByUserId(long userId) {
+        UserRows userRows = index.get(userId);
+        if (userRows == null) return List.of();
+        synchronized (userRows) {
+            return List.copyOf(userRows.byId);
+        }
+    }
+
+    @Override
+    public List<PointHistory> selectPageByUserId(long userId, long cursor, int size, SortDirection direction) {
+        UserRows userRows = index.get(userId);
+        if (userRows == null) return List.of();
+        synchronized (userRows) {
+            List<PointHistory> rows = userRows.byId;
+            List<PointHistory> page = new ArrayList<>(Math.min(size, rows.size()));
+            if (direction == SortDirection.ASC) {
+                for (int i = lowerBound(rows, cursor + 1, PointHistory::id); i < rows.size() && page.size() < size; i++) {
+                    page.add(rows.get(i));
+                }
+            } else {
+                for (int i = (cursor == 0 ? rows.size() : lowerBound(rows, cursor, PointHistory::id)) - 1; i >= 0 && page.size() < size; i--) {
+                    page.add(rows.get(i));
+                }
+            }
+            return page;
+        }
+    }
+
+    @Override
+    public List<PointHistory> selectByUserIdAndTimeRange(long userId, long fromMillis, long toMillis, TransactionType type) {
+        UserRows userRows = index.get(userId);
+        if (userRows == null || fromMillis >= toMillis) return List.of();
+        synchronized (userRows) {
+            if (type != null) return List.copyOf(range(userRows.byTime.get(type.ordinal()), fromMillis, toMillis));
+
+            // 유형별 결과는 각각 시간 순서이므로 병합만 하면 전체도 시간 순서
+            List<List<PointHistory>> ranges = new ArrayList<>(TYPES.length);
+            int total = 0;
+            for (List<PointHistory> byTime : userRows.byTime) {
+                List<PointHistory> range = range(byTime, fromMillis, toMillis);
+                ranges.add(range);
+                total += range.size();
+            }
+            List<PointHistory> result = new ArrayList<>(total);
+            int[] positions = new int[ranges.size()];
+            while (result.size() < total) {
+                int next = -1;
+                for (int t = 0; t < ranges.size(); t++) {
+                    if (positions[t] == ranges.get(t).size()) continue;
+                    if (next < 0 || TIME_ORDER.compare(ranges.get(t).get(positions[t]), ranges.get(next).get(positions[next])) < 0) next = t;
+                }
+                result.add(ranges.get(next).get(positions[next]++));
+            }
+            return result;
+        }
+    }
+
+    @Override
+    public int countByUserId(long userId) {
+        UserRows userRows = index.get(userId);
+        if (userRows == null) return 0;
+        synchronized (userRows) {
+            return userRows.byId.size();
+        }
+    }
+
+    // [fromMillis, toMillis) 구간, 반환하는 리스트는 원본의 일부이므로 락 안에서만 사용
+    private static List<PointHistory> range(List<PointHistory> byTime, long fromMillis, long toMillis) {
+        return byTime.subList(lowerBound(byTime, fromMillis, PointHistory::updateMillis), lowerBound(byTime, toMillis, PointHistory::updateMillis));
+    }
+
+    // 대부분 맨 뒤에 추가되므로 뒤에서부터 자리를 찾음
+    private static void addSorted(List<PointHistory> rows, PointHistory pointHistory, Comparator<PointHistory> order) {
+        int position = rows.size();
+        while (position > 0 && order.compare(rows.get(position - 1), pointHistory) > 0) position--;
+        rows.add(position, pointHistory);
+    }
+
+    // key(row)가 처음으로 target 이상이 되는 위치, 모두 작으면 rows.size()
+    private static int lowerBound(List<PointHistory> rows, long target, LongKey key) {
+        int low = 0;
+        int high = rows.size();
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (key.of(rows.get(mid)) < target) low = mid + 1;
+            else high = mid;
+        }
+        return low;
+    }
+
+    private interface LongKey {
+        long of(PointHistory pointHistory);
+    }
+
+    /**
+     * 한 유저의 인덱스, 이 객체를 잠그고 접근
+     */
+    private static final class UserRows {
+        private final List<PointHistory> byId = new ArrayList<>();
+        private final List<List<PointHistory>> byTime = new ArrayList<>(TYPES.length); // 거래 유형(ordinal)별 시간 인덱스
+
+        private UserRows() {
+            for (int i = 0; i < TYPES.length; i++) {
+                byTime.add(new ArrayList<>());
+            }
+        }
+    }
+}
@@ -0,0 +1,127 @@
+package io.hhplus.tdd.database;
+
+import io.hhplus.tdd.point.PointHistory;
+import io.hhplus.tdd.point.TransactionType;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * 내역을 delegate에 저장하고 PointJournal에 기록하는 저장소
+ * - insert()/insertAll()은 delegate가 받아들인 뒤 저널에 기록(FsyncPolicy에 따른 fsync 포함)하고 반환
+ *   -> 서비스는 반환된 뒤에 잔액을 바꾸므로 잔액에 반영된 내역은 항상 저널에 남아 있음
+ * - delegate가 거절하면(예: 닫힌 WriteBehindPointHistoryStore) 저널에 기록하지 않고 예외를 그대로 던짐
+ *   -> 저장되지 않은 내역이 저널에만 남아 재시작할 때 되살아나는 일이 없음
+ * - delegate는 메모리 저장소라 저널 기록 전에 프로세스가 죽으면 함께 사라지므로 둘이 어긋나지 않음
+ * - close()는 delegate(AutoCloseable이면)만 닫음, 저널은 따로 등록된 빈이라 스프링이 이 저장소 다음에 닫음
+ *
+ * PointHistoryArchive가 있으면(스냅샷 사용) 조회는 보관된 내역과 delegate의 내역을 합쳐서 반환
+ * - 시작할 때 delegate에는 보관소의 baseSequence() 이후 내역만 복구하므로 두 구간이 겹치지 않음
+ * - 보관된 내역의 id는 저널 sequence, delegate 내역의 id에는 baseSequence()를 더함 -> 두 구간의 id가 이어지고 커서 조회가 동작
+ *   (write-behind에서 아직 저장되지 않은 내역의 id 0은 그대로)
+ */
+public class JournaledPointHistoryStore implements PointHistoryStore, AutoCloseable {
+
+    private final PointHistoryStore delegate;
+    private final PointJournal pointJournal;
+    private final PointHistoryArchive pointHistoryArchive; // null이면 delegate에 모든 내역이 있음
+    private final long base;
+
+    public JournaledPointHistoryStore(PointHistoryStore delegate, PointJournal pointJournal) {
+        this(delegate, pointJournal, null);
+    }
+
+    public JournaledPointHistoryStore(PointHistoryStore delegate, PointJournal pointJournal, PointHistoryArchive pointHistoryArchive) {
+        this.delegate = delegate;
+        this.pointJournal = pointJournal;
+        this.pointHistoryArchive = pointHistoryArchive;
+        this.base = pointHistoryArchive == null ? 0 : pointHistoryArchive.baseSequence();
+    }
+
+    @Override
+    public PointHistory insert(long userId, long amount, TransactionType type, long updateMillis) {
+        PointHistory pointHistory = delegate.insert(userId, amount, type, updateMillis);
+        pointJournal.append(userId, amount, type, updateMillis);
+        return shift(pointHistory);
+    }
+
+    @Override
+    public List<PointHistory> insertAll(List<PendingPointHistory> rows) {
+        List<PointHistory> pointHistories = delegate.insertAll(rows);
+        pointJournal.appendAll(rows); // 여러 건을 기록해도 fsync는 한 번만 기다림
+        return shiftAll(pointHistories);
+    }
+
+    /**
+     * 저널에서 읽은 내역을 저널에 다시 기록하지 않고 delegate에만 저장 (시작할 때 복구용, PointJournalReplayer)
+     */
+    public List<PointHistory> restore(List<PendingPointHistory> rows) {
+        return shiftAll(delegate.insertAll(rows));
+    }
+
+    @Override
+    public List<PointHistory> selectAllByUserId(long userId) {
+        if (base == 0) return delegate.selectAllByUserId(userId);
+        List<PointHistory> archived = pointHistoryArchive.selectAllByUserId(userId);
+        List<PointHistory> recent = delegate.selectAllByUserId(userId);
+        List<PointHistory> pointHistories = new ArrayList<>(archived.size() + recent.size());
+        pointHistories.addAll(archived);
+        addShifted(pointHistories, recent);
+        return pointHistories;
+    }
+
+    // 보관된 내역(id <= base)과 delegate 내역(id > base)을 커서 위치에 따라 이어서 채움
+    @Override
+    public List<PointHistory> selectPageByUserId(long userId, long cursor, int size, SortDirection direction) {
+        if (base == 0) return delegate.selectPageByUserId(userId, cursor, size, direction);
+        List<PointHistory> page = new ArrayList<>(size);
+        if (direction == SortDirection.ASC) {
+            if (cursor < base) page.addAll(pointHistoryArchive.selectPageByUserId(userId, cursor, size, direction));
+            if (page.size() < size) addShifted(page, delegate.selectPageByUserId(userId, Math.max(0, cursor - base), size - page.size(), direction));
+        } else {
+            boolean fromRecent = cursor == 0 || cursor > base;
+            if (fromRecent) addShifted(page, delegate.selectPageByUserId(userId, cursor == 0 ? 0 : cursor - base, size, direction));
+            if (page.size() < size) page.addAll(pointHistoryArchive.selectPageByUserId(userId, fromRecent ? 0 : cursor, size - page.size(), direction));
+        }
+        return page;
+    }
+
+    @Override
+    public List<PointHistory> selectByUserIdAndTimeRange(long userId, long fromMillis, long toMillis, TransactionType type) {
+        if (base == 0) return delegate.selectByUserIdAndTimeRange(userId, fromMillis, toMillis, type);
+        List<PointHistory> pointHistories = new ArrayList<>(pointHistoryArchive.selectByUserIdAndTimeRange(userId, fromMillis, toMillis, type));
+        addShifted(pointHistories, delegate.selectByUserIdAndTimeRange(userId, fromMillis, toMillis, type));
+        pointHistories.sort(Comparator.comparingLong(PointHistory::updateMillis).thenComparingLong(PointHistory::id));
+        return pointHistories;
+    }
+
+    @Override
+    public int countByUserId(long userId) {
+        if (base == 0) return delegate.countByUserId(userId);
+        return pointHistoryArchive.countByUserId(userId) + delegate.countByUserId(userId);
+    }
+
+    @Override
+    public void close() throws Exception {
+        if (delegate instanceof AutoCloseable closeable) closeable.close();
+    }
+
+    private PointHistory shift(PointHistory pointHistory) {
+        if (base == 0 || pointHistory.id() == 0) return pointHistory;
+        return new PointHistory(pointHistory.id() + base, pointHistory.userId(), pointHistory.amount(), pointHistory.type(), pointHistory.updateMillis());
+    }
+
+    private List<PointHistory> shiftAll(List<PointHistory> pointHistories) {
+        if (base == 0) return pointHistories;
+        List<PointHistory> shifted = new ArrayList<>(pointHistories.size());
+        addShifted(shifted, pointHistories);
+        return shifted;
+    }
+
+    private void addShifted(List<PointHistory> target, List<PointHistory> pointHistories) {
+        for (PointHistory pointHistory : pointHistories) {
+            target.add(shift(pointHistory));
+        }
+    }
+}
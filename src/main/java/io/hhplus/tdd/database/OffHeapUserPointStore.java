@@ -0,0 +1,184 @@
+package io.hhplus.tdd.database;
+
+import io.hhplus.tdd.point.UserPoint;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+
+import java.nio.ByteBuffer;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * 잔액을 힙 밖(direct memory)의 고정 길이 slot에 저장하는 유저 포인트 저장소
+ * - slot 하나는 24 byte (id 8 | point 8 | updateMillis 8), 유저마다 힙 객체(UserPoint, Long 키, 맵 엔트리)가 남지 않음
+ *   -> 유저 수가 늘어도 GC가 훑어야 하는 객체 수가 늘지 않음
+ * - open addressing(linear probing) 해시 테이블, slot 수는 2의 거듭제곱이고 사용률이 LOAD_FACTOR를 넘으면 두 배로 늘림
+ * - 하나의 ByteBuffer는 2GB를 넘을 수 없으므로 slot을 CHUNK_SLOTS개씩 나눠 여러 버퍼에 저장
+ * - 빈 slot을 따로 표시하지 않도록 id 칸에는 id ^ Long.MIN_VALUE 를 저장, 0이면 빈 slot
+ *   -> allocateDirect()가 0으로 채운 메모리를 그대로 쓸 수 있음, 대신 id = Long.MIN_VALUE 는 저장할 수 없음
+ * - 삭제 API가 없으므로 tombstone 없이 linear probing을 유지
+ * - 조회는 읽기 락, 저장은 쓰기 락 (ColumnarPointHistoryStore와 같은 방식)
+ * - selectById()는 결과를 반환할 때만 UserPoint를 생성
+ *
+ * 메모리: slot 수 x 24 byte, 예상 유저 수(expectedUsers)를 주면 처음부터 그만큼 잡아서 늘리는 동안의 재배치를 피함
+ * direct memory 상한(-XX:MaxDirectMemorySize)을 slot 메모리보다 크게 잡아야 함
+ */
+public class OffHeapUserPointStore implements UserPointStore, AutoCloseable {
+
+    static final int SLOT_SIZE = 24;
+    private static final int CHUNK_SHIFT = 20;
+    private static final int CHUNK_SLOTS = 1 << CHUNK_SHIFT; // 버퍼 하나에 24MB
+    private static final int CHUNK_MASK = CHUNK_SLOTS - 1;
+    private static final double LOAD_FACTOR = 0.75;
+    private static final long EMPTY_MARK = Long.MIN_VALUE;
+
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    private ByteBuffer[] chunks;
+    private long mask; // slot 수 - 1
+    private long size;
+    private long resizeThreshold;
+
+    public OffHeapUserPointStore(long expectedUsers, MeterRegistry meterRegistry) {
+        if (expectedUsers < 1) throw new IllegalArgumentException("예상 유저 수는 1 이상이어야 합니다.");
+        allocate(slotsFor(expectedUsers));
+        Gauge.builder("point.user.off-heap.users", this, OffHeapUserPointStore::size)
+                .description("off-heap 저장소에 저장된 유저 수")
+                .register(meterRegistry);
+        Gauge.builder("point.user.off-heap.bytes", this, OffHeapUserPointStore::allocatedBytes)
+                .description("off-heap 저장소가 잡은 direct memory")
+                .baseUnit("bytes")
+                .register(meterRegistry);
+    }
+
+    @Override
+    public UserPoint selectById(long id) {
+        lock.readLock().lock();
+        try {
+            long slot = find(id);
+            if (slot < 0) return null;
+            ByteBuffer chunk = chunks[(int) (slot >>> CHUNK_SHIFT)];
+            int offset = (int) (slot & CHUNK_MASK) * SLOT_SIZE;
+            return new UserPoint(id, chunk.getLong(offset + 8), chunk.getLong(offset + 16));
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    @Override
+    public UserPoint insertOrUpdate(long id, long amount) {
+        if (id == Long.MIN_VALUE) throw new IllegalArgumentException("저장할 수 없는 유저 id입니다. id=" + id);
+        long updateMillis = System.currentTimeMillis();
+        lock.writeLock().lock();
+        try {
+            long slot = find(id);
+            if (slot < 0) {
+                if (size >= resizeThreshold) {
+                    resize();
+                    slot = find(id); // slot 수가 바뀌어 들어갈 자리도 바뀜
+                }
+                slot = -slot - 1;
+                size++;
+            }
+            write(slot, id, amount, updateMillis);
+            return new UserPoint(id, amount, updateMillis);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public long size() {
+        lock.readLock().lock();
+        try {
+            return size;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public long allocatedBytes() {
+        lock.readLock().lock();
+        try {
+            return (mask + 1) * SLOT_SIZE;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * 버퍼 참조를 끊어서 다음 GC 때 direct memory가 반환되도록 함
+     */
+    @Override
+    public void close() {
+        lock.writeLock().lock();
+        try {
+            chunks = new ByteBuffer[0];
+            mask = -1;
+            size = 0;
+            resizeThreshold = 0;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    // 락 안에서 호출, id가 있는 slot 번호, 없으면 -(들어갈 빈 slot 번호) - 1
+    private long find(long id) {
+        if (chunks.length == 0) throw new IllegalStateException("닫힌 저장소입니다.");
+        long key = id ^ EMPTY_MARK;
+        for (long slot = hash(id) & mask; ; slot = (slot + 1) & mask) {
+            long stored = chunks[(int) (slot >>> CHUNK_SHIFT)].getLong((int) (slot & CHUNK_MASK) * SLOT_SIZE);
+            if (stored == key) return slot;
+            if (stored == 0) return -slot - 1;
+        }
+    }
+
+    private void write(long slot, long id, long point, long updateMillis) {
+        ByteBuffer chunk = chunks[(int) (slot >>> CHUNK_SHIFT)];
+        int offset = (int) (slot & CHUNK_MASK) * SLOT_SIZE;
+        chunk.putLong(offset, id ^ EMPTY_MARK);
+        chunk.putLong(offset + 8, point);
+        chunk.putLong(offset + 16, updateMillis);
+    }
+
+    // 쓰기 락 안에서 호출, 두 배 크기의 새 버퍼에 모든 slot을 다시 넣음
+    private void resize() {
+        ByteBuffer[] previous = chunks;
+        long previousSlots = mask + 1;
+        allocate(previousSlots * 2);
+        for (long slot = 0; slot < previousSlots; slot++) {
+            ByteBuffer chunk = previous[(int) (slot >>> CHUNK_SHIFT)];
+            int offset = (int) (slot & CHUNK_MASK) * SLOT_SIZE;
+            long stored = chunk.getLong(offset);
+            if (stored == 0) continue;
+            long id = stored ^ EMPTY_MARK;
+            write(-find(id) - 1, id, chunk.getLong(offset + 8), chunk.getLong(offset + 16));
+        }
+    }
+
+    private void allocate(long slots) {
+        int chunkSlots = (int) Math.min(slots, CHUNK_SLOTS);
+        ByteBuffer[] allocated = new ByteBuffer[(int) (slots / chunkSlots)];
+        for (int i = 0; i < allocated.length; i++) {
+            allocated[i] = ByteBuffer.allocateDirect(chunkSlots * SLOT_SIZE);
+        }
+        chunks = allocated;
+        mask = slots - 1;
+        resizeThreshold = (long) (slots * LOAD_FACTOR);
+    }
+
+    // expectedUsers가 사용률 LOAD_FACTOR 안에 들어가는 가장 작은 2의 거듭제곱
+    private static long slotsFor(long expectedUsers) {
+        long slots = 16;
+        while (slots * LOAD_FACTOR < expectedUsers) slots <<= 1;
+        return slots;
+    }
+
+    // 연속된 id가 이웃 slot에 몰리지 않도록 비트를 섞음 (MurmurHash3 fmix64)
+    private static long hash(long id) {
+        long h = id;
+        h ^= h >>> 33;
+        h *= 0xff51afd7ed558ccdL;
+        h ^= h >>> 33;
+        h *= 0xc4ceb9fe1a85ec53L;
+        h ^= h >>> 33;
+        return h;
+    }
+}
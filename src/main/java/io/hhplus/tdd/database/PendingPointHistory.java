@@ -0,0 +1,15 @@
+package io.hhplus.tdd.database;
+
+import io.hhplus.tdd.point.TransactionType;
+
+/**
+ * 아직 저장되지 않아 id가 없는 내역
+ * - 여러 건을 한 번에 저장(insertAll)할 때 사용
+ */
+public record PendingPointHistory(
+        long userId,
+        long amount,
+        TransactionType type,
+        long updateMillis
+) {
+}
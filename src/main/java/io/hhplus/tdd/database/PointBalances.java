@@ -0,0 +1,73 @@
+package io.hhplus.tdd.database;
+
+import io.hhplus.tdd.point.PointSummary;
+import io.hhplus.tdd.point.TransactionType;
+import io.hhplus.tdd.point.UserPoint;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 저널 레코드를 순서대로 합산한 유저별 잔액과 집계 (PointSnapshotter, PointJournalReplayer에서 사용)
+ * - 유저마다 long[FIELDS] 하나: {point, updateMillis, totalCharged, totalUsed, transactionCount, lastActivityMillis}
+ *   잔액(UserPoint)과 원장 집계(PointSummary)를 같은 배열에 두어 레코드마다 맵 조회를 한 번만 함
+ * - 스레드 안전하지 않음, 사용하는 쪽에서 직렬화
+ */
+final class PointBalances {
+
+    static final int FIELDS = 6;
+    private static final int POINT = 0;
+    private static final int UPDATE_MILLIS = 1;
+    private static final int TOTAL_CHARGED = 2;
+    private static final int TOTAL_USED = 3;
+    private static final int TRANSACTION_COUNT = 4;
+    private static final int LAST_ACTIVITY_MILLIS = 5;
+
+    private final Map<Long, long[]> balances = new HashMap<>();
+
+    void apply(long userId, long amount, TransactionType type, long updateMillis) {
+        long[] balance = balances.computeIfAbsent(userId, id -> new long[FIELDS]);
+        if (type == TransactionType.CHARGE) {
+            balance[POINT] += amount;
+            balance[TOTAL_CHARGED] += amount;
+        } else {
+            balance[POINT] -= amount;
+            balance[TOTAL_USED] += amount;
+        }
+        balance[UPDATE_MILLIS] = updateMillis;
+        balance[TRANSACTION_COUNT]++;
+        balance[LAST_ACTIVITY_MILLIS] = Math.max(balance[LAST_ACTIVITY_MILLIS], updateMillis);
+    }
+
+    // 스냅샷에서 읽은 값을 그대로 넣음, values는 FIELDS 길이
+    void put(long userId, long[] values) {
+        balances.put(userId, values);
+    }
+
+    Map<Long, long[]> entries() {
+        return balances;
+    }
+
+    int size() {
+        return balances.size();
+    }
+
+    void clear() {
+        balances.clear();
+    }
+
+    List<UserPoint> userPoints() {
+        List<UserPoint> userPoints = new ArrayList<>(balances.size());
+        balances.forEach((userId, balance) -> userPoints.add(new UserPoint(userId, balance[POINT], balance[UPDATE_MILLIS])));
+        return userPoints;
+    }
+
+    List<PointSummary> summaries() {
+        List<PointSummary> summaries = new ArrayList<>(balances.size());
+        balances.forEach((userId, balance) -> summaries.add(
+                new PointSummary(userId, balance[TOTAL_CHARGED], balance[TOTAL_USED], balance[TRANSACTION_COUNT], balance[LAST_ACTIVITY_MILLIS])));
+        return summaries;
+    }
+}
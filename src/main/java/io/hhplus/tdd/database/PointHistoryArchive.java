@@ -0,0 +1,604 @@
+package io.hhplus.tdd.database;
+
+import io.hhplus.tdd.point.PointHistory;
+import io.hhplus.tdd.point.TransactionType;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+import java.util.zip.CRC32C;
+
+/**
+ * 스냅샷에 반영한 저널 구간의 내역을 보관하는 파일 저장소 (history-{from}-{to}.bin)
+ * - PointSnapshotter가 스냅샷을 만들 때 아직 보관하지 않은 저널 레코드를 파일 하나(chunk)로 옮김
+ *   -> 스냅샷에는 잔액/집계만 남고, 보관이 끝난 구간의 저널 세그먼트는 지울 수 있음
+ * - chunk 안의 내역은 userId 순서로 모여 있고 유저 안에서는 sequence 순서, 앞쪽의 userId 색인으로 유저 구간을 바로 찾음
+ * - chunk는 읽기 전용으로 메모리 매핑, 열 때는 헤더와 색인의 CRC만 확인하므로 보관한 내역 전체 크기와 관계없이 열림
+ *   유저 구간의 CRC는 그 유저를 처음 읽을 때 확인, 손상되었으면 IllegalStateException
+ * - 마지막 chunk가 바로 앞 chunk보다 크거나 같으면 둘을 합침 (최대 MAX_CHUNK_BYTES)
+ *   -> chunk 수는 보관 구간 수의 로그 수준, 내역 하나가 다시 쓰이는 횟수도 로그 수준
+ * - 조회는 열 때 보관되어 있던 구간(baseSequence)까지만 반환, 이후에 보관한 내역은 메모리 내역 저장소에도 있으므로 다음 시작부터 읽음
+ *   조회한 내역의 id는 저널 sequence
+ *
+ * 다시 열면 sequence 1부터 끊기지 않고 이어지는 chunk만 사용
+ * - 합친 뒤 지우지 못한 chunk(합친 chunk에 포함된 구간)와 쓰는 도중 중단된 임시 파일은 지움
+ *
+ * chunk 파일 형식 (big endian)
+ * | magic 4 | from 8 | to 8 | userCount 4 |
+ * | (userId 8 | firstRow 4 | rowCount 4 | rowsCrc32c 4) x userCount | headerCrc32c 4 |
+ * | (sequence 8 | amount 8 | updateMillis 8 | type 1) x (to - from + 1) |
+ */
+public class PointHistoryArchive {
+
+    private static final Logger log = LoggerFactory.getLogger(PointHistoryArchive.class);
+
+    private static final int MAGIC = 0x50484131; // "PHA1"
+    private static final int HEADER_SIZE = 24;
+    private static final int INDEX_SIZE = 20;
+    private static final int ROW_SIZE = 25;
+    private static final int APPEND_BATCH = 1 << 22; // 저널에서 한 번에 옮기는 최대 레코드 수, 옮기는 동안의 힙 사용량 상한
+    private static final long MAX_CHUNK_BYTES = 1L << 30; // 매핑할 수 있는 크기(2GB) 안쪽
+    private static final int BUFFER_SIZE = 64 * 1024;
+    private static final TransactionType[] TYPES = TransactionType.values();
+
+    private final Path directory;
+    private final long baseSequence;
+    private volatile List<Chunk> chunks; // sequence 순서, 바꿀 때는 새 목록으로 교체 (조회는 잠금 없이 읽음)
+    private volatile long archivedSequence;
+
+    public PointHistoryArchive(Path directory) {
+        this.directory = directory;
+        try {
+            Files.createDirectories(directory);
+            this.chunks = open();
+        } catch (IOException e) {
+            throw new UncheckedIOException("내역 보관소를 열 수 없습니다. directory=" + directory, e);
+        }
+        this.archivedSequence = chunks.isEmpty() ? 0 : chunks.get(chunks.size() - 1).to;
+        this.baseSequence = archivedSequence;
+    }
+
+    /**
+     * 열 때 보관되어 있던 마지막 sequence, 조회는 이 sequence까지만 반환
+     */
+    public long baseSequence() {
+        return baseSequence;
+    }
+
+    /**
+     * 지금까지 보관한 마지막 sequence, 보관한 내역이 없으면 0
+     */
+    public long archivedSequence() {
+        return archivedSequence;
+    }
+
+    /**
+     * (archivedSequence(), toSequence] 저널 레코드를 chunk로 옮기고 fsync, 반환된 뒤에는 이 구간의 저널 세그먼트를 지워도 됨
+     * - toSequence는 fsync가 끝난 레코드까지만 (PointSnapshotter가 스냅샷과 같은 sequence로 호출)
+     */
+    public synchronized void append(PointJournal pointJournal, long toSequence) {
+        try {
+            while (archivedSequence < toSequence) {
+                long from = archivedSequence + 1;
+                long to = Math.min(toSequence, archivedSequence + APPEND_BATCH);
+                Chunk chunk = writeJournal(pointJournal, from, to);
+                List<Chunk> next = new ArrayList<>(chunks);
+                next.add(chunk);
+                chunks = List.copyOf(next);
+                archivedSequence = to;
+                compact();
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("내역을 보관할 수 없습니다. directory=" + directory, e);
+        }
+    }
+
+    /**
+     * 유저의 보관된 내역을 id(sequence) 순서로 조회
+     */
+    public List<PointHistory> selectAllByUserId(long userId) {
+        List<PointHistory> histories = new ArrayList<>();
+        for (Chunk chunk : chunks) {
+            if (chunk.from > baseSequence) break;
+            int entry = chunk.find(userId);
+            if (entry < 0) continue;
+            int end = chunk.endRow(entry);
+            for (int row = chunk.firstRow(entry); row < end && chunk.sequence(row) <= baseSequence; row++) {
+                histories.add(chunk.history(userId, row));
+            }
+        }
+        return histories;
+    }
+
+    public int countByUserId(long userId) {
+        int count = 0;
+        for (Chunk chunk : chunks) {
+            if (chunk.from > baseSequence) break;
+            int entry = chunk.find(userId);
+            if (entry < 0) continue;
+            count += chunk.lowerBound(entry, baseSequence + 1) - chunk.firstRow(entry); // 색인만 읽음
+        }
+        return count;
+    }
+
+    /**
+     * PointHistoryStore.selectPageByUserId()와 같은 규칙, chunk 안에서 커서 위치는 이분 탐색으로 찾음
+     */
+    public List<PointHistory> selectPageByUserId(long userId, long cursor, int size, SortDirection direction) {
+        List<Chunk> current = chunks;
+        List<PointHistory> page = new ArrayList<>(Math.min(size, 64));
+        if (direction == SortDirection.ASC) {
+            for (int i = 0; i < current.size() && page.size() < size; i++) {
+                Chunk chunk = current.get(i);
+                if (chunk.from > baseSequence) break;
+                int entry = chunk.to > cursor ? chunk.find(userId) : -1;
+                if (entry < 0) continue;
+                int end = chunk.endRow(entry);
+                for (int row = chunk.lowerBound(entry, cursor + 1); row < end && page.size() < size && chunk.sequence(row) <= baseSequence; row++) {
+                    page.add(chunk.history(userId, row));
+                }
+            }
+        } else {
+            long last = cursor == 0 ? baseSequence : Math.min(baseSequence, cursor - 1);
+            for (int i = current.size() - 1; i >= 0 && page.size() < size; i--) {
+                Chunk chunk = current.get(i);
+                int entry = chunk.from <= last ? chunk.find(userId) : -1;
+                if (entry < 0) continue;
+                int first = chunk.firstRow(entry);
+                for (int row = chunk.lowerBound(entry, last + 1) - 1; row >= first && page.size() < size; row--) {
+                    page.add(chunk.history(userId, row));
+                }
+            }
+        }
+        return page;
+    }
+
+    /**
+     * PointHistoryStore.selectByUserIdAndTimeRange()와 같은 규칙, 보관된 내역은 시간 색인이 없어 유저 구간을 모두 훑음
+     */
+    public List<PointHistory> selectByUserIdAndTimeRange(long userId, long fromMillis, long toMillis, TransactionType type) {
+        List<PointHistory> histories = new ArrayList<>();
+        for (Chunk chunk : chunks) {
+            if (chunk.from > baseSequence) break;
+            int entry = chunk.find(userId);
+            if (entry < 0) continue;
+            int end = chunk.endRow(entry);
+            for (int row = chunk.firstRow(entry); row < end && chunk.sequence(row) <= baseSequence; row++) {
+                long updateMillis = chunk.updateMillis(row);
+                if (updateMillis < fromMillis || updateMillis >= toMillis || (type != null && chunk.type(row) != type)) continue;
+                histories.add(chunk.history(userId, row));
+            }
+        }
+        histories.sort(Comparator.comparingLong(PointHistory::updateMillis).thenComparingLong(PointHistory::id));
+        return histories;
+    }
+
+    /**
+     * 보관한 모든 내역을 visitor에 전달, 유저마다 sequence 순서 (유저 사이의 순서는 보장하지 않음)
+     * - 스냅샷 없이 잔액/집계를 다시 계산할 때 사용 (PointSnapshotter)
+     */
+    void forEach(PointJournal.JournalVisitor visitor) {
+        for (Chunk chunk : chunks) {
+            for (int entry = 0; entry < chunk.userCount; entry++) {
+                chunk.verify(entry);
+                long userId = chunk.userId(entry);
+                int end = chunk.endRow(entry);
+                for (int row = chunk.firstRow(entry); row < end; row++) {
+                    visitor.visit(chunk.sequence(row), userId, chunk.amount(row), chunk.type(row), chunk.updateMillis(row));
+                }
+            }
+        }
+    }
+
+    // 저널 [from, to] 레코드를 userId 순서(같은 유저 안에서는 sequence 순서)로 정렬해서 chunk 하나로 씀
+    private Chunk writeJournal(PointJournal pointJournal, long from, long to) throws IOException {
+        int count = (int) (to - from + 1);
+        long[] userIds = new long[count];
+        long[] amounts = new long[count];
+        long[] updateMillis = new long[count];
+        byte[] types = new byte[count];
+        pointJournal.replay(from, to, (sequence, userId, amount, type, millis) -> {
+            int row = (int) (sequence - from);
+            userIds[row] = userId;
+            amounts[row] = amount;
+            updateMillis[row] = millis;
+            types[row] = (byte) type.ordinal();
+        });
+
+        // 유저별 건수로 자리를 나눈 뒤 sequence 순서로 채움 -> 객체를 만들지 않고 안정 정렬
+        long[] users = distinctSorted(userIds);
+        int[] offsets = new int[users.length + 1];
+        int[] userIndexes = new int[count];
+        for (int row = 0; row < count; row++) {
+            userIndexes[row] = Arrays.binarySearch(users, userIds[row]);
+            offsets[userIndexes[row] + 1]++;
+        }
+        for (int i = 0; i < users.length; i++) offsets[i + 1] += offsets[i];
+        int[] order = new int[count];
+        int[] next = Arrays.copyOf(offsets, users.length);
+        for (int row = 0; row < count; row++) order[next[userIndexes[row]]++] = row;
+
+        try (ChunkWriter writer = new ChunkWriter(from, to, users.length)) {
+            for (int i = 0; i < users.length; i++) {
+                writer.beginUser(users[i]);
+                for (int position = offsets[i]; position < offsets[i + 1]; position++) {
+                    int row = order[position];
+                    writer.row(from + row, amounts[row], updateMillis[row], types[row]);
+                }
+                writer.endUser();
+            }
+            return writer.finish();
+        }
+    }
+
+    private static long[] distinctSorted(long[] values) {
+        long[] sorted = values.clone();
+        Arrays.sort(sorted);
+        int size = 0;
+        for (int i = 0; i < sorted.length; i++) {
+            if (i == 0 || sorted[i] != sorted[i - 1]) sorted[size++] = sorted[i];
+        }
+        return Arrays.copyOf(sorted, size);
+    }
+
+    // 마지막 chunk가 바로 앞 chunk보다 크거나 같은 동안 둘을 합침, 합친 파일을 옮긴 뒤에 이전 파일을 지움
+    private void compact() throws IOException {
+        while (chunks.size() >= 2) {
+            Chunk older = chunks.get(chunks.size() - 2);
+            Chunk newer = chunks.get(chunks.size() - 1);
+            if (older.rowCount() > newer.rowCount()) return;
+            if ((long) older.buffer.capacity() + newer.buffer.capacity() > MAX_CHUNK_BYTES) return;
+            long start = System.nanoTime();
+            Chunk merged = merge(older, newer);
+            List<Chunk> next = new ArrayList<>(chunks.subList(0, chunks.size() - 2));
+            next.add(merged);
+            chunks = List.copyOf(next);
+            delete(older.path); // 이미 매핑해서 읽고 있는 조회는 파일을 지운 뒤에도 끝까지 읽을 수 있음
+            delete(newer.path);
+            log.info("보관한 내역 chunk를 합쳤습니다. from={}, to={}, {}ms", merged.from, merged.to, TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start));
+        }
+    }
+
+    // 두 chunk의 색인을 userId 순서로 함께 훑으며 유저 구간을 older, newer 순서로 이어 붙임 (older의 sequence가 모두 작음)
+    private Chunk merge(Chunk older, Chunk newer) throws IOException {
+        int userCount = 0;
+        for (int i = 0, j = 0; i < older.userCount || j < newer.userCount; userCount++) {
+            int compare = compareUsers(older, i, newer, j);
+            if (compare <= 0) i++;
+            if (compare >= 0) j++;
+        }
+        try (ChunkWriter writer = new ChunkWriter(older.from, newer.to, userCount)) {
+            for (int i = 0, j = 0; i < older.userCount || j < newer.userCount; ) {
+                int compare = compareUsers(older, i, newer, j);
+                writer.beginUser(compare <= 0 ? older.userId(i) : newer.userId(j));
+                if (compare <= 0) writer.copy(older, i++);
+                if (compare >= 0) writer.copy(newer, j++);
+                writer.endUser();
+            }
+            return writer.finish();
+        }
+    }
+
+    // 색인을 끝까지 읽은 쪽은 더 큰 값으로 취급
+    private static int compareUsers(Chunk left, int i, Chunk right, int j) {
+        if (i == left.userCount) return 1;
+        if (j == right.userCount) return -1;
+        return Long.compare(left.userId(i), right.userId(j));
+    }
+
+    // sequence 1부터 이어지는 chunk를 고름, 같은 from이면 구간이 긴(합친) chunk를 먼저 봄
+    private List<Chunk> open() throws IOException {
+        List<Path> files;
+        try (Stream<Path> list = Files.list(directory)) {
+            files = list.filter(path -> path.getFileName().toString().matches("history-\\d{20}-\\d{20}\\.bin"))
+                    .sorted(Comparator.comparingLong(PointHistoryArchive::fromOf).thenComparing(Comparator.comparingLong(PointHistoryArchive::toOf).reversed()))
+                    .toList();
+        }
+        List<Chunk> opened = new ArrayList<>();
+        long expected = 1;
+        for (Path path : files) {
+            long from = fromOf(path);
+            long to = toOf(path);
+            if (to < expected) {
+                Files.delete(path); // 합친 chunk에 이미 포함된 구간
+                continue;
+            }
+            if (from != expected) {
+                log.warn("이어지지 않는 내역 chunk를 건너뜁니다. path={}, expectedFrom={}", path, expected);
+                continue;
+            }
+            Chunk chunk = Chunk.open(path, from, to);
+            if (chunk == null) continue;
+            opened.add(chunk);
+            expected = to + 1;
+        }
+        try (Stream<Path> list = Files.list(directory)) {
+            for (Path path : list.filter(path -> path.getFileName().toString().matches("history-.*\\.bin\\.tmp")).toList()) {
+                Files.deleteIfExists(path);
+            }
+        }
+        return List.copyOf(opened);
+    }
+
+    private static long fromOf(Path path) {
+        return Long.parseLong(path.getFileName().toString().substring(8, 28));
+    }
+
+    private static long toOf(Path path) {
+        return Long.parseLong(path.getFileName().toString().substring(29, 49));
+    }
+
+    private Path chunkPath(long from, long to) {
+        return directory.resolve(String.format("history-%020d-%020d.bin", from, to));
+    }
+
+    // 지우지 못하면(예: 매핑된 파일을 지울 수 없는 OS) 다음에 열 때 합친 chunk에 포함된 구간으로 보고 지움
+    private static void delete(Path path) {
+        try {
+            Files.deleteIfExists(path);
+        } catch (IOException e) {
+            log.warn("합친 내역 chunk를 지우지 못했습니다. path={}", path, e);
+        }
+    }
+
+    // 이름 변경이 디스크에 남도록 디렉터리도 fsync, 디렉터리를 열 수 없는 OS(Windows)에서는 건너뜀
+    private void syncDirectory() {
+        try (FileChannel channel = FileChannel.open(directory, StandardOpenOption.READ)) {
+            channel.force(true);
+        } catch (IOException e) {
+            log.debug("디렉터리를 fsync 할 수 없습니다. directory={}", directory, e);
+        }
+    }
+
+    /**
+     * 임시 파일에 색인 자리를 비워 두고 내역을 유저 순서로 쓴 뒤, 색인과 헤더를 채우고 fsync 후 이름을 바꿈
+     */
+    private final class ChunkWriter implements AutoCloseable {
+        private final long from;
+        private final long to;
+        private final Path target;
+        private final Path temporary;
+        private final FileChannel channel;
+        private final ByteBuffer buffer = ByteBuffer.allocateDirect(BUFFER_SIZE);
+        private final ByteBuffer view = buffer.duplicate(); // 유저 구간 CRC 계산용
+        private final CRC32C crc = new CRC32C();
+        private final long[] userIds;
+        private final int[] firstRows;
+        private final int[] rowCounts;
+        private final int[] crcs;
+        private int users;
+        private int rows;
+        private int crcStart; // buffer 안에서 아직 crc에 반영하지 않은 위치
+        private boolean finished;
+
+        private ChunkWriter(long from, long to, int userCount) throws IOException {
+            this.from = from;
+            this.to = to;
+            this.target = chunkPath(from, to);
+            this.temporary = directory.resolve(target.getFileName() + ".tmp");
+            this.channel = FileChannel.open(temporary, StandardOpenOption.CREATE, StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE);
+            this.channel.position(HEADER_SIZE + (long) userCount * INDEX_SIZE + Integer.BYTES);
+            this.userIds = new long[userCount];
+            this.firstRows = new int[userCount];
+            this.rowCounts = new int[userCount];
+            this.crcs = new int[userCount];
+        }
+
+        private void beginUser(long userId) {
+            userIds[users] = userId;
+            firstRows[users] = rows;
+            crc.reset();
+            crcStart = buffer.position();
+        }
+
+        private void row(long sequence, long amount, long updateMillis, byte type) throws IOException {
+            if (buffer.remaining() < ROW_SIZE) flush();
+            buffer.putLong(sequence).putLong(amount).putLong(updateMillis).put(type);
+            rows++;
+        }
+
+        // 유저 구간을 그대로 옮김, 손상된 구간에 새 CRC를 붙이지 않도록 먼저 확인
+        private void copy(Chunk source, int entry) throws IOException {
+            source.verify(entry);
+            int end = source.endRow(entry);
+            for (int row = source.firstRow(entry); row < end; row++) {
+                row(source.sequence(row), source.amount(row), source.updateMillis(row), (byte) source.type(row).ordinal());
+            }
+        }
+
+        private void endUser() {
+            updateCrc();
+            rowCounts[users] = rows - firstRows[users];
+            crcs[users] = (int) crc.getValue();
+            users++;
+        }
+
+        private void updateCrc() {
+            view.limit(buffer.position()).position(crcStart);
+            crc.update(view);
+            crcStart = buffer.position();
+        }
+
+        private void flush() throws IOException {
+            updateCrc();
+            buffer.flip();
+            while (buffer.hasRemaining()) channel.write(buffer);
+            buffer.clear();
+            crcStart = 0;
+        }
+
+        private Chunk finish() throws IOException {
+            flush();
+            ByteBuffer header = ByteBuffer.allocate(HEADER_SIZE + users * INDEX_SIZE + Integer.BYTES);
+            header.putInt(MAGIC).putLong(from).putLong(to).putInt(users);
+            for (int i = 0; i < users; i++) {
+                header.putLong(userIds[i]).putInt(firstRows[i]).putInt(rowCounts[i]).putInt(crcs[i]);
+            }
+            CRC32C headerCrc = new CRC32C();
+            headerCrc.update(header.array(), 0, header.position());
+            header.putInt((int) headerCrc.getValue()).flip();
+            long position = 0;
+            while (header.hasRemaining()) position += channel.write(header, position);
+            channel.force(true);
+            channel.close();
+            Files.move(temporary, target, StandardCopyOption.ATOMIC_MOVE);
+            syncDirectory();
+            finished = true;
+            Chunk chunk = Chunk.open(target, from, to);
+            if (chunk == null) throw new IOException("방금 쓴 내역 chunk를 열 수 없습니다. path=" + target);
+            return chunk;
+        }
+
+        @Override
+        public void close() throws IOException {
+            if (finished) return;
+            channel.close();
+            Files.deleteIfExists(temporary);
+        }
+    }
+
+    /**
+     * 읽기 전용으로 매핑한 chunk 하나, 절대 위치로만 읽으므로 여러 스레드가 함께 읽어도 됨
+     */
+    private static final class Chunk {
+        private final Path path;
+        private final long from;
+        private final long to;
+        private final int userCount;
+        private final long dataOffset;
+        private final MappedByteBuffer buffer;
+        private final BitSet verified; // CRC를 확인한 유저 구간, synchronized(verified)
+
+        private Chunk(Path path, long from, long to, int userCount, MappedByteBuffer buffer) {
+            this.path = path;
+            this.from = from;
+            this.to = to;
+            this.userCount = userCount;
+            this.dataOffset = HEADER_SIZE + (long) userCount * INDEX_SIZE + Integer.BYTES;
+            this.buffer = buffer;
+            this.verified = new BitSet(userCount);
+        }
+
+        // 헤더와 색인을 확인하고 매핑, 온전하지 않으면 null
+        private static Chunk open(Path path, long from, long to) throws IOException {
+            try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+                long size = channel.size();
+                if (size < HEADER_SIZE + Integer.BYTES || size > Integer.MAX_VALUE) return skip(path, "크기가 올바르지 않습니다.");
+                MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, size);
+                int userCount = buffer.getInt(20);
+                if (buffer.getInt(0) != MAGIC || buffer.getLong(4) != from || buffer.getLong(12) != to) return skip(path, "chunk 형식이 아닙니다.");
+                if (userCount < 0 || size != HEADER_SIZE + (long) userCount * INDEX_SIZE + Integer.BYTES + (to - from + 1) * ROW_SIZE) return skip(path, "잘린 파일입니다.");
+                int indexEnd = HEADER_SIZE + userCount * INDEX_SIZE;
+                CRC32C crc = new CRC32C();
+                crc.update(buffer.slice(0, indexEnd));
+                if (buffer.getInt(indexEnd) != (int) crc.getValue()) return skip(path, "CRC가 일치하지 않습니다.");
+                return new Chunk(path, from, to, userCount, buffer);
+            }
+        }
+
+        private static Chunk skip(Path path, String reason) {
+            log.warn("내역 chunk를 건너뜁니다. path={}, reason={}", path, reason);
+            return null;
+        }
+
+        private long rowCount() {
+            return to - from + 1;
+        }
+
+        // 색인에서 userId를 이분 탐색, 없으면 -1 (찾은 유저 구간의 CRC도 확인)
+        private int find(long userId) {
+            int low = 0;
+            int high = userCount - 1;
+            while (low <= high) {
+                int middle = (low + high) >>> 1;
+                long value = userId(middle);
+                if (value < userId) low = middle + 1;
+                else if (value > userId) high = middle - 1;
+                else {
+                    verify(middle);
+                    return middle;
+                }
+            }
+            return -1;
+        }
+
+        private void verify(int entry) {
+            synchronized (verified) {
+                if (verified.get(entry)) return;
+            }
+            CRC32C crc = new CRC32C();
+            crc.update(buffer.slice((int) (dataOffset + (long) firstRow(entry) * ROW_SIZE), (endRow(entry) - firstRow(entry)) * ROW_SIZE));
+            int expected = buffer.getInt(HEADER_SIZE + entry * INDEX_SIZE + 16);
+            if (expected != (int) crc.getValue()) {
+                throw new IllegalStateException("보관한 내역이 손상되었습니다. path=" + path + ", userId=" + userId(entry));
+            }
+            synchronized (verified) {
+                verified.set(entry);
+            }
+        }
+
+        // 유저 구간에서 sequence 이상인 첫 행, 없으면 구간의 끝
+        private int lowerBound(int entry, long sequence) {
+            int low = firstRow(entry);
+            int high = endRow(entry);
+            while (low < high) {
+                int middle = (low + high) >>> 1;
+                if (sequence(middle) < sequence) low = middle + 1;
+                else high = middle;
+            }
+            return low;
+        }
+
+        private long userId(int entry) {
+            return buffer.getLong(HEADER_SIZE + entry * INDEX_SIZE);
+        }
+
+        private int firstRow(int entry) {
+            return buffer.getInt(HEADER_SIZE + entry * INDEX_SIZE + 8);
+        }
+
+        private int endRow(int entry) {
+            return firstRow(entry) + buffer.getInt(HEADER_SIZE + entry * INDEX_SIZE + 12);
+        }
+
+        private long sequence(int row) {
+            return buffer.getLong(offset(row));
+        }
+
+        private long amount(int row) {
+            return buffer.getLong(offset(row) + 8);
+        }
+
+        private long updateMillis(int row) {
+            return buffer.getLong(offset(row) + 16);
+        }
+
+        private TransactionType type(int row) {
+            return TYPES[buffer.get(offset(row) + 24)];
+        }
+
+        private PointHistory history(long userId, int row) {
+            return new PointHistory(sequence(row), userId, amount(row), type(row), updateMillis(row));
+        }
+
+        private int offset(int row) {
+            return (int) (dataOffset + (long) row * ROW_SIZE);
+        }
+    }
+}
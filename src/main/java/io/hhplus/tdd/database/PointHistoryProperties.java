@@ -0,0 +1,78 @@
+package io.hhplus.tdd.database;
+
+import java.time.Duration;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+import org.springframework.util.unit.DataSize;
+
+/**
+ * point.history 설정
+ * - engine: table(PointHistoryTable + userId 인덱스) | columnar(원시 타입 배열 저장 엔진)
+ * - group-commit: 여러 요청의 내역을 모아서 한 번에 저장
+ * - write-behind: 내역 저장을 기다리지 않고 바로 반환, 백그라운드에서 저장
+ * - journal: 내역 저장소가 받아들인 내역을 잔액에 반영하기 전에 파일 저널에 기록
+ */
+@ConfigurationProperties(prefix = "point.history")
+public record PointHistoryProperties(
+        @DefaultValue("table") String engine,
+        @DefaultValue GroupCommit groupCommit,
+        @DefaultValue WriteBehind writeBehind,
+        @DefaultValue Journal journal
+) {
+
+    /**
+     * - enabled: 그룹 커밋 사용 여부
+     * - window: 첫 요청이 들어온 뒤 다른 요청을 모으는 최대 시간
+     * - max-batch-size: 한 번에 저장하는 최대 건수, 가득 차면 window를 기다리지 않고 바로 저장
+     */
+    public record GroupCommit(
+            @DefaultValue("false") boolean enabled,
+            @DefaultValue("2ms") Duration window,
+            @DefaultValue("256") int maxBatchSize
+    ) {
+    }
+
+    /**
+     * - enabled: write-behind 사용 여부
+     * - capacity: 저장 대기열 크기, 가득 차면 insert()가 대기
+     * - read-your-writes: 내역 조회에 아직 저장되지 않은 내역도 포함
+     */
+    public record WriteBehind(
+            @DefaultValue("false") boolean enabled,
+            @DefaultValue("10000") int capacity,
+            @DefaultValue("true") boolean readYourWrites
+    ) {
+    }
+
+    /**
+     * - enabled: 저널 사용 여부
+     * - directory: 세그먼트 파일을 두는 디렉터리
+     * - segment-size: 세그먼트 파일 하나의 크기, 가득 차면 다음 파일에 기록
+     * - fsync: every-write | group | interval (FsyncPolicy)
+     * - fsync-interval: fsync=interval 일 때 fsync 주기
+     * - snapshot: 잔액/집계 스냅샷과 내역 보관, 시작할 때 가장 최근 스냅샷과 그 이후의 저널로 복구
+     */
+    public record Journal(
+            @DefaultValue("false") boolean enabled,
+            @DefaultValue("data/journal") String directory,
+            @DefaultValue("64MB") DataSize segmentSize,
+            @DefaultValue("group") FsyncPolicy fsync,
+            @DefaultValue("10ms") Duration fsyncInterval,
+            @DefaultValue Snapshot snapshot
+    ) {
+    }
+
+    /**
+     * - enabled: 스냅샷 사용 여부 (journal.enabled=true 일 때만 동작)
+     * - interval: 스냅샷 주기
+     * - retain: 보관하는 스냅샷 수, 가장 최근 스냅샷이 손상되었을 때 이전 스냅샷으로 복구
+     *   가장 오래된 스냅샷 이전의 저널 세그먼트는 내역을 보관한 뒤 지움
+     */
+    public record Snapshot(
+            @DefaultValue("false") boolean enabled,
+            @DefaultValue("1m") Duration interval,
+            @DefaultValue("2") int retain
+    ) {
+    }
+}
@@ -0,0 +1,67 @@
+package io.hhplus.tdd.database;
+
+import io.hhplus.tdd.point.PointHistory;
+import io.hhplus.tdd.point.TransactionType;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * 포인트 내역 저장소
+ * - 서비스는 PointHistoryTable 대신 이 인터페이스를 통해 내역을 저장/조회
+ * - 구현체마다 저장 방식(인덱스, 저장 엔진 등)이 다를 수 있지만 PointHistoryTable과 같은 API를 제공
+ */
+public interface PointHistoryStore {
+
+    PointHistory insert(long userId, long amount, TransactionType type, long updateMillis);
+
+    List<PointHistory> selectAllByUserId(long userId);
+
+    /**
+     * 유저의 내역 수
+     * - 기본 구현은 전체 내역을 조회, 건수를 따로 알 수 있는 구현체는 재정의
+     */
+    default int countByUserId(long userId) {
+        return selectAllByUserId(userId).size();
+    }
+
+    /**
+     * 유저의 내역 중 커서(id) 다음부터 최대 size건을 direction 순서로 조회
+     * - cursor는 직전 페이지의 마지막 id이고 결과에 포함하지 않음, 0이면 첫 페이지
+     * - 기본 구현은 전체 내역을 조회해서 거름, id 순서 인덱스가 있는 구현체는 재정의해서 앞 페이지를 훑지 않음
+     */
+    default List<PointHistory> selectPageByUserId(long userId, long cursor, int size, SortDirection direction) {
+        Comparator<PointHistory> order = Comparator.comparingLong(PointHistory::id);
+        return selectAllByUserId(userId).stream()
+                .filter(pointHistory -> cursor == 0 || (direction == SortDirection.ASC ? pointHistory.id() > cursor : pointHistory.id() < cursor))
+                .sorted(direction == SortDirection.ASC ? order : order.reversed())
+                .limit(size)
+                .toList();
+    }
+
+    /**
+     * 유저의 내역 중 updateMillis가 [fromMillis, toMillis) 인 내역을 (updateMillis, id) 순서로 조회
+     * - type이 null이면 모든 거래 유형
+     * - 기본 구현은 전체 내역을 조회해서 거름, 시간 인덱스가 있는 구현체는 재정의
+     */
+    default List<PointHistory> selectByUserIdAndTimeRange(long userId, long fromMillis, long toMillis, TransactionType type) {
+        return selectAllByUserId(userId).stream()
+                .filter(pointHistory -> pointHistory.updateMillis() >= fromMillis && pointHistory.updateMillis() < toMillis)
+                .filter(pointHistory -> type == null || pointHistory.type() == type)
+                .sorted(Comparator.comparingLong(PointHistory::updateMillis).thenComparingLong(PointHistory::id))
+                .toList();
+    }
+
+    /**
+     * 여러 건을 순서대로 저장하고, 저장된 내역을 같은 순서로 반환
+     * - 기본 구현은 insert()를 한 건씩 호출, 한 번에 쓸 수 있는 구현체는 재정의
+     */
+    default List<PointHistory> insertAll(List<PendingPointHistory> rows) {
+        List<PointHistory> inserted = new ArrayList<>(rows.size());
+        for (PendingPointHistory row : rows) {
+            inserted.add(insert(row.userId(), row.amount(), row.type(), row.updateMillis()));
+        }
+        return inserted;
+    }
+}
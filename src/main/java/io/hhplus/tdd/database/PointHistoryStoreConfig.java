@@ -0,0 +1,55 @@
+package io.hhplus.tdd.database;
+
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * 설정에 따라 저장 엔진을 고르고, 필요한 기능을 감싸서 PointHistoryStore 빈 하나로 등록
+ * - engine: table | columnar
+ * - 엔진은 TimedPointHistoryStore로 감싸서 저장 시간을 기록
+ * - group-commit.enabled=true 이면 GroupCommitPointHistoryStore로 감쌈 (engine=table 과 함께 쓸 수 없음)
+ * - write-behind.enabled=true 이면 WriteBehindPointHistoryStore로 감쌈
+ * - journal.enabled=true 이면 가장 바깥을 JournaledPointHistoryStore로 감쌈 -> 안쪽 저장소가 받아들인 뒤 저널에 기록
+ *   snapshot.enabled=true 이면 PointHistoryArchive에 보관된 내역도 함께 조회
+ */
+@Configuration
+public class PointHistoryStoreConfig {
+
+    @Bean
+    public PointHistoryStore pointHistoryStore(PointHistoryTable pointHistoryTable,
+                                               PointHistoryProperties pointHistoryProperties,
+                                               ObjectProvider<PointJournal> pointJournalProvider,
+                                               ObjectProvider<PointHistoryArchive> pointHistoryArchiveProvider,
+                                               MeterRegistry meterRegistry) {
+        PointHistoryStore pointHistoryStore = switch (pointHistoryProperties.engine()) {
+            case "table" -> new IndexedPointHistoryStore(pointHistoryTable);
+            case "columnar" -> new ColumnarPointHistoryStore();
+            default -> throw new IllegalArgumentException("지원하지 않는 내역 저장 엔진입니다. engine=" + pointHistoryProperties.engine());
+        };
+        pointHistoryStore = new TimedPointHistoryStore(pointHistoryStore, pointHistoryProperties.engine(), meterRegistry); // 엔진 저장 시간만 기록
+
+        PointHistoryProperties.GroupCommit groupCommit = pointHistoryProperties.groupCommit();
+        if (groupCommit.enabled()) {
+            // PointHistoryTable은 한 건씩만 저장할 수 있어 묶어도 한 번에 저장되지 않음
+            // -> 모든 유저의 저장(건당 최대 300ms)이 커밋 스레드 하나에서 차례로 실행되어 전체 병목이 됨
+            if (pointHistoryProperties.engine().equals("table")) {
+                throw new IllegalArgumentException("group-commit은 묶음 저장을 지원하는 내역 저장 엔진에서만 사용할 수 있습니다. engine=table");
+            }
+            pointHistoryStore = new GroupCommitPointHistoryStore(pointHistoryStore, groupCommit.window(), groupCommit.maxBatchSize(), meterRegistry);
+        }
+
+        PointHistoryProperties.WriteBehind writeBehind = pointHistoryProperties.writeBehind();
+        if (writeBehind.enabled()) {
+            pointHistoryStore = new WriteBehindPointHistoryStore(pointHistoryStore, writeBehind.capacity(), writeBehind.readYourWrites(), meterRegistry);
+        }
+
+        PointJournal pointJournal = pointJournalProvider.getIfAvailable(); // journal.enabled=true 일 때만 등록됨 (PointJournalConfig)
+        if (pointJournal != null) {
+            pointHistoryStore = new JournaledPointHistoryStore(pointHistoryStore, pointJournal, pointHistoryArchiveProvider.getIfAvailable());
+        }
+        return pointHistoryStore;
+    }
+}
@@ -0,0 +1,496 @@
+package io.hhplus.tdd.database;
+
+import io.hhplus.tdd.point.TransactionType;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.stream.Stream;
+import java.util.zip.CRC32C;
+
+/**
+ * 충전/사용 내역을 파일에 순서대로 덧붙이는 append-only 저널 (write-ahead log)
+ * - 세그먼트 파일(journal-00000000.log, ...)을 메모리 매핑(MappedByteBuffer)하고 레코드를 매핑된 영역에 바로 씀
+ *   -> 힙 버퍼를 거쳐 복사하지 않고, 기록마다 객체를 만들지 않음
+ * - 세그먼트가 가득 차면 fsync 후 다음 세그먼트를 만들어 이어서 기록
+ * - 레코드는 고정 길이(RECORD_SIZE), 끝에 CRC32C가 있어 기록 도중 중단된 레코드를 구분할 수 있음
+ * - fsync 시점은 FsyncPolicy로 선택
+ * - 기록은 ReentrantLock 하나로 직렬화, 락 안에서는 매핑된 메모리에 쓰기만 하고 fsync는 EVERY_WRITE일 때만 수행
+ *
+ * 다시 열면 마지막 세그먼트를 읽어 마지막으로 온전히 기록된 레코드 다음부터 이어서 기록
+ * - 스냅샷과 내역 보관이 끝난 앞쪽 세그먼트는 deleteThrough()로 지움, 세그먼트 번호는 파일 이름을 따라 이어짐
+ * - 마지막 세그먼트 끝의 손상된 레코드는 fsync 전에 중단된 기록으로 보고 버림
+ * - replay() 중에 이미 기록된 범위의 레코드가 손상되었으면 IllegalStateException
+ *
+ * 레코드 형식 (48 byte, big endian)
+ * | sequence 8 | userId 8 | amount 8 | updateMillis 8 | type 1 | padding 7 | crc32c 4 | padding 4 |
+ * - sequence는 1부터 1씩 증가, 0이면 아직 기록되지 않은 영역
+ */
+public class PointJournal implements AutoCloseable {
+
+    static final int RECORD_SIZE = 48;
+    private static final int CRC_OFFSET = 40;
+    private static final TransactionType[] TYPES = TransactionType.values();
+
+    private final Path directory;
+    private final long segmentSize;
+    private final FsyncPolicy fsyncPolicy;
+    private final long intervalNanos;
+    private final Timer fsyncTimer;
+
+    private final ReentrantLock appendLock = new ReentrantLock();
+    private final CRC32C crc = new CRC32C(); // appendLock 안에서만 사용
+    private Segment segment; // appendLock 안에서만 변경
+    private int segmentIndex;
+    private long lastSequence;
+
+    // GROUP / INTERVAL: 기록된 sequence와 fsync가 끝난 sequence
+    private final ReentrantLock syncLock = new ReentrantLock();
+    private final Condition written = syncLock.newCondition();
+    private final Condition synced = syncLock.newCondition();
+    private volatile long writtenSequence;
+    private volatile long syncedSequence;
+    private final Thread syncer;
+    private volatile boolean running = true;
+
+    public PointJournal(Path directory, long segmentSize, FsyncPolicy fsyncPolicy, Duration interval, MeterRegistry meterRegistry) {
+        if (segmentSize < RECORD_SIZE) throw new IllegalArgumentException("세그먼트 크기는 레코드 크기(" + RECORD_SIZE + " byte) 이상이어야 합니다.");
+        if (segmentSize > Integer.MAX_VALUE) throw new IllegalArgumentException("세그먼트 크기는 2GB 미만이어야 합니다.");
+        this.directory = directory;
+        this.segmentSize = segmentSize - segmentSize % RECORD_SIZE;
+        this.fsyncPolicy = fsyncPolicy;
+        this.intervalNanos = interval.toNanos();
+        this.fsyncTimer = Timer.builder("point.journal.fsync")
+                .description("저널 fsync 한 번에 걸린 시간")
+                .tag("policy", fsyncPolicy.name().toLowerCase())
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+        try {
+            Files.createDirectories(directory);
+            open();
+        } catch (IOException e) {
+            throw new UncheckedIOException("저널을 열 수 없습니다. directory=" + directory, e);
+        }
+        this.writtenSequence = lastSequence;
+        this.syncedSequence = lastSequence;
+        if (fsyncPolicy == FsyncPolicy.EVERY_WRITE) {
+            this.syncer = null;
+        } else {
+            this.syncer = new Thread(this::runSyncer, "point-journal-sync");
+            this.syncer.setDaemon(true);
+            this.syncer.start();
+        }
+    }
+
+    /**
+     * 레코드 하나를 기록하고 sequence를 반환, FsyncPolicy에 따라 fsync를 기다린 뒤 반환
+     */
+    public long append(long userId, long amount, TransactionType type, long updateMillis) {
+        long sequence;
+        appendLock.lock();
+        try {
+            sequence = write(userId, amount, type, updateMillis);
+            if (fsyncPolicy == FsyncPolicy.EVERY_WRITE) force(segment);
+        } finally {
+            appendLock.unlock();
+        }
+        afterWrite(sequence);
+        return sequence;
+    }
+
+    /**
+     * 여러 레코드를 연속으로 기록하고 fsync는 한 번만 기다림, 마지막 sequence를 반환
+     */
+    public long appendAll(List<PendingPointHistory> rows) {
+        if (rows.isEmpty()) return lastSequence();
+        long sequence = 0;
+        appendLock.lock();
+        try {
+            for (PendingPointHistory row : rows) {
+                sequence = write(row.userId(), row.amount(), row.type(), row.updateMillis());
+            }
+            if (fsyncPolicy == FsyncPolicy.EVERY_WRITE) force(segment);
+        } finally {
+            appendLock.unlock();
+        }
+        afterWrite(sequence);
+        return sequence;
+    }
+
+    /**
+     * 기록된 모든 레코드를 sequence 순서로 읽음
+     */
+    public void replay(JournalVisitor visitor) {
+        replay(1L, visitor);
+    }
+
+    /**
+     * fromSequence부터 호출 시점의 마지막 레코드까지 sequence 순서로 읽음
+     */
+    public void replay(long fromSequence, JournalVisitor visitor) {
+        replay(fromSequence, Long.MAX_VALUE, visitor);
+    }
+
+    /**
+     * [fromSequence, toSequence] 레코드를 sequence 순서로 읽음, toSequence는 호출 시점의 마지막 레코드를 넘지 않음
+     * - 레코드는 고정 길이이므로 fromSequence가 있는 세그먼트/위치로 바로 이동, 앞의 레코드는 읽지 않음
+     * - appendLock을 잡지 않으므로 읽는 동안에도 기록은 계속됨
+     *   (같은 파일의 매핑은 페이지 캐시를 공유하므로 fsync 전의 기록도 보임)
+     */
+    public void replay(long fromSequence, long toSequence, JournalVisitor visitor) {
+        long last = lastSequence(); // 세그먼트 목록보다 먼저 읽어야 last가 있는 세그먼트가 목록에 포함됨
+        try {
+            read(Math.max(1L, fromSequence), Math.min(toSequence, last), visitor);
+        } catch (IOException e) {
+            throw new UncheckedIOException("저널을 읽을 수 없습니다. directory=" + directory, e);
+        }
+    }
+
+    /**
+     * 남아 있는 첫 레코드의 sequence, 레코드가 없으면 lastSequence() + 1
+     * - deleteThrough()로 앞쪽 세그먼트를 지웠으면 1보다 큼
+     */
+    public long firstSequence() {
+        long last = lastSequence();
+        try {
+            for (Path path : segments()) {
+                long first = firstSequenceOf(path);
+                if (first != 0) return first;
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("저널을 읽을 수 없습니다. directory=" + directory, e);
+        }
+        return last + 1;
+    }
+
+    /**
+     * sequence 이하의 레코드만 남아 있는 세그먼트를 앞에서부터 지움, 기록 중인 마지막 세그먼트는 지우지 않음
+     * - 스냅샷과 내역 보관(PointHistoryArchive)에 반영된 구간을 정리할 때 사용 (PointSnapshotter)
+     * - 지우는 구간을 읽는 replay()와 동시에 호출하지 않아야 함
+     */
+    public void deleteThrough(long sequence) {
+        try {
+            List<Path> segments = segments();
+            for (int i = 0; i + 1 < segments.size(); i++) {
+                long nextFirst = firstSequenceOf(segments.get(i + 1)); // 세그먼트의 마지막 레코드 = 다음 세그먼트의 첫 레코드 - 1
+                if (nextFirst == 0 || nextFirst - 1 > sequence) return;
+                Files.delete(segments.get(i));
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("저널 세그먼트를 지울 수 없습니다. directory=" + directory, e);
+        }
+    }
+
+    public long lastSequence() {
+        appendLock.lock();
+        try {
+            return lastSequence;
+        } finally {
+            appendLock.unlock();
+        }
+    }
+
+    /**
+     * fsync가 끝나서 장애가 나도 남아 있는 마지막 sequence
+     * - INTERVAL은 lastSequence()보다 작을 수 있음
+     */
+    public long durableSequence() {
+        return fsyncPolicy == FsyncPolicy.EVERY_WRITE ? lastSequence() : syncedSequence;
+    }
+
+    /**
+     * 지금까지 수행한 fsync 횟수
+     */
+    public long syncCount() {
+        return fsyncTimer.count();
+    }
+
+    /**
+     * 동기화 스레드를 멈추고 남은 기록을 fsync 한 뒤 파일을 닫음
+     */
+    @Override
+    public void close() {
+        running = false;
+        if (syncer != null) {
+            syncLock.lock();
+            try {
+                written.signalAll();
+            } finally {
+                syncLock.unlock();
+            }
+            try {
+                syncer.join(TimeUnit.SECONDS.toMillis(10));
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+        long closedSequence;
+        appendLock.lock();
+        try {
+            force(segment);
+            segment.channel.close();
+            closedSequence = lastSequence;
+        } catch (IOException e) {
+            throw new UncheckedIOException("저널을 닫을 수 없습니다. directory=" + directory, e);
+        } finally {
+            appendLock.unlock();
+        }
+        // 동기화 스레드가 끝난 뒤 기록을 마친 스레드가 있으면 위의 fsync로 반영되었으므로 깨움
+        syncLock.lock();
+        try {
+            syncedSequence = closedSequence;
+            synced.signalAll();
+        } finally {
+            syncLock.unlock();
+        }
+    }
+
+    // appendLock 안에서 호출, 매핑된 영역에 절대 위치로 바로 기록
+    private long write(long userId, long amount, TransactionType type, long updateMillis) {
+        if (!running) throw new IllegalStateException("종료 중에는 저널에 기록할 수 없습니다.");
+        if (segment.position == segmentSize) roll();
+        MappedByteBuffer buffer = segment.buffer;
+        int offset = segment.position;
+        long sequence = lastSequence + 1;
+        buffer.putLong(offset, sequence);
+        buffer.putLong(offset + 8, userId);
+        buffer.putLong(offset + 16, amount);
+        buffer.putLong(offset + 24, updateMillis);
+        buffer.put(offset + 32, (byte) type.ordinal());
+        buffer.putInt(offset + CRC_OFFSET, checksum(crc, segment.view, offset));
+        segment.position = offset + RECORD_SIZE;
+        lastSequence = sequence;
+        return sequence;
+    }
+
+    // 레코드의 앞 CRC_OFFSET byte에 대한 CRC32C, view의 position/limit만 바꾸므로 객체를 만들지 않음
+    private static int checksum(CRC32C crc, ByteBuffer view, int offset) {
+        crc.reset();
+        view.limit(offset + CRC_OFFSET).position(offset);
+        crc.update(view);
+        return (int) crc.getValue();
+    }
+
+    private void afterWrite(long sequence) {
+        if (fsyncPolicy == FsyncPolicy.EVERY_WRITE) return;
+        syncLock.lock();
+        try {
+            if (sequence > writtenSequence) writtenSequence = sequence;
+            if (fsyncPolicy != FsyncPolicy.GROUP) return; // INTERVAL은 주기가 될 때까지 동기화 스레드를 깨우지 않음
+            written.signal();
+            // GROUP: 내 기록을 포함한 fsync가 끝날 때까지 대기
+            while (syncedSequence < sequence) synced.awaitUninterruptibly();
+        } finally {
+            syncLock.unlock();
+        }
+    }
+
+    // GROUP: 기록이 생기면 바로 fsync, 그동안 쌓인 기록은 다음 fsync에 함께 반영
+    // INTERVAL: intervalNanos마다 fsync
+    private void runSyncer() {
+        while (running || writtenSequence > syncedSequence) {
+            syncLock.lock();
+            try {
+                if (fsyncPolicy == FsyncPolicy.GROUP) {
+                    while (running && writtenSequence == syncedSequence) written.awaitUninterruptibly();
+                } else if (running) {
+                    written.awaitNanos(intervalNanos);
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            } finally {
+                syncLock.unlock();
+            }
+
+            long target = writtenSequence;
+            if (target == syncedSequence) continue;
+            Segment current;
+            appendLock.lock();
+            try {
+                current = segment; // target 이전 세그먼트는 roll()에서 이미 fsync 됨
+            } finally {
+                appendLock.unlock();
+            }
+            force(current);
+
+            syncLock.lock();
+            try {
+                syncedSequence = target;
+                synced.signalAll();
+            } finally {
+                syncLock.unlock();
+            }
+        }
+    }
+
+    private void force(Segment target) {
+        long start = System.nanoTime();
+        target.buffer.force();
+        fsyncTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+    }
+
+    // appendLock 안에서 호출, 가득 찬 세그먼트를 fsync 하고 다음 세그먼트를 만듦
+    private void roll() {
+        force(segment);
+        try {
+            segment.channel.close();
+            segmentIndex++;
+            segment = Segment.map(segmentPath(segmentIndex), segmentSize);
+        } catch (IOException e) {
+            throw new UncheckedIOException("저널 세그먼트를 만들 수 없습니다. index=" + segmentIndex, e);
+        }
+    }
+
+    // 마지막 세그먼트만 읽어 마지막 sequence와 이어서 기록할 위치를 찾음 -> 저널 전체 크기와 관계없이 세그먼트 하나만 읽음
+    // 앞 세그먼트의 손상은 replay()에서 확인
+    private void open() throws IOException {
+        List<Path> segments = segments();
+        if (segments.isEmpty()) {
+            segmentIndex = 0;
+            segment = Segment.map(segmentPath(0), segmentSize);
+            return;
+        }
+        int index = segments.size() - 1;
+        Tail tail = scanTail(segments.get(index));
+        if (tail.lastSequence == 0 && index > 0) {
+            // 다음 세그먼트를 만든 직후 중단됨, 가득 찬 이전 세그먼트에서 이어서 기록
+            Files.delete(segments.get(index));
+            index--;
+            tail = scanTail(segments.get(index));
+            if (tail.lastSequence == 0) throw new IllegalStateException("저널이 손상되었습니다. segment=" + segments.get(index));
+        }
+        segmentIndex = indexOf(segments.get(index)); // 앞쪽 세그먼트를 지웠으면 목록의 위치와 번호가 다름
+        lastSequence = tail.lastSequence;
+        segment = Segment.map(segments.get(index), segmentSize);
+        segment.position = tail.endPosition;
+        // 버린 레코드(기록 도중 중단)가 남아 있으면 다음 기록이 덮어씀, 다시 읽을 때 헷갈리지 않도록 지움
+        for (int offset = tail.endPosition; offset < segmentSize && segment.buffer.getLong(offset) != 0; offset += RECORD_SIZE) {
+            segment.buffer.putLong(offset, 0L);
+        }
+    }
+
+    // 세그먼트 하나를 처음부터 읽어 온전한 레코드가 끝나는 위치를 찾음, 첫 레코드가 온전하지 않으면 lastSequence=0
+    private Tail scanTail(Path path) throws IOException {
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            int capacity = capacityOf(channel);
+            MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, capacity);
+            ByteBuffer view = buffer.duplicate();
+            CRC32C scanCrc = new CRC32C();
+            long first = capacity == 0 ? 0 : buffer.getLong(0);
+            int position = 0;
+            while (position < capacity && isValid(buffer, view, scanCrc, position, first + position / RECORD_SIZE)) {
+                position += RECORD_SIZE;
+            }
+            return new Tail(position == 0 ? 0 : first + position / RECORD_SIZE - 1, position);
+        }
+    }
+
+    // [fromSequence, toSequence] 레코드를 읽음, 이미 기록이 끝난 범위이므로 온전하지 않은 레코드가 있으면 손상
+    private void read(long fromSequence, long toSequence, JournalVisitor visitor) throws IOException {
+        if (fromSequence > toSequence) return;
+        CRC32C readCrc = new CRC32C(); // 기록 중인 스레드의 crc와 따로 사용
+        long expected = fromSequence;
+        for (Path path : segments()) {
+            try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+                int capacity = capacityOf(channel);
+                long firstSequence = firstSequenceOf(channel);
+                if (firstSequence == 0 || firstSequence + capacity / RECORD_SIZE <= expected) continue; // expected 이전 레코드만 있는 세그먼트
+                if (firstSequence > expected) throw new IllegalStateException("저널 레코드가 없습니다. sequence=" + expected + ", segment=" + path);
+
+                MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, capacity);
+                ByteBuffer view = buffer.duplicate();
+                for (int position = (int) (expected - firstSequence) * RECORD_SIZE; position < capacity && expected <= toSequence; position += RECORD_SIZE) {
+                    if (!isValid(buffer, view, readCrc, position, expected)) {
+                        throw new IllegalStateException("저널이 손상되었습니다. segment=" + path + ", position=" + position);
+                    }
+                    visitor.visit(expected, buffer.getLong(position + 8), buffer.getLong(position + 16), TYPES[buffer.get(position + 32)], buffer.getLong(position + 24));
+                    expected++;
+                }
+            }
+            if (expected > toSequence) return;
+        }
+        throw new IllegalStateException("저널 레코드가 없습니다. sequence=" + expected);
+    }
+
+    // 세그먼트 첫 레코드의 sequence, 비어 있으면 0
+    private static long firstSequenceOf(Path path) throws IOException {
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            return firstSequenceOf(channel);
+        }
+    }
+
+    private static long firstSequenceOf(FileChannel channel) throws IOException {
+        ByteBuffer first = ByteBuffer.allocate(Long.BYTES);
+        channel.read(first, 0);
+        return first.position() == Long.BYTES ? first.getLong(0) : 0;
+    }
+
+    private static boolean isValid(MappedByteBuffer buffer, ByteBuffer view, CRC32C crc, int position, long expectedSequence) {
+        return expectedSequence > 0
+                && buffer.getLong(position) == expectedSequence
+                && buffer.getInt(position + CRC_OFFSET) == checksum(crc, view, position)
+                && buffer.get(position + 32) >= 0 && buffer.get(position + 32) < TYPES.length;
+    }
+
+    private int capacityOf(FileChannel channel) throws IOException {
+        long size = Math.min(channel.size(), Integer.MAX_VALUE);
+        return (int) (size - size % RECORD_SIZE);
+    }
+
+    private List<Path> segments() throws IOException {
+        try (Stream<Path> files = Files.list(directory)) {
+            return files.filter(path -> path.getFileName().toString().matches("journal-\\d{8}\\.log")).sorted().toList();
+        }
+    }
+
+    private static int indexOf(Path segment) {
+        return Integer.parseInt(segment.getFileName().toString().substring(8, 16));
+    }
+
+    private Path segmentPath(int index) {
+        return directory.resolve(String.format("journal-%08d.log", index));
+    }
+
+    /**
+     * 저널 레코드를 하나씩 받는 콜백, 레코드마다 객체를 만들지 않도록 값을 그대로 전달
+     */
+    @FunctionalInterface
+    public interface JournalVisitor {
+        void visit(long sequence, long userId, long amount, TransactionType type, long updateMillis);
+    }
+
+    private record Tail(long lastSequence, int endPosition) {
+    }
+
+    private static final class Segment {
+        private final FileChannel channel;
+        private final MappedByteBuffer buffer;
+        private final ByteBuffer view; // CRC 계산용, position/limit을 바꿔도 buffer에 영향 없음
+        private int position;
+
+        private Segment(FileChannel channel, MappedByteBuffer buffer) {
+            this.channel = channel;
+            this.buffer = buffer;
+            this.view = buffer.duplicate();
+        }
+
+        // 파일이 없으면 만들고, segmentSize만큼 매핑(파일 크기도 함께 늘어나고 0으로 채워짐)
+        private static Segment map(Path path, long segmentSize) throws IOException {
+            FileChannel channel = FileChannel.open(path, StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE);
+            return new Segment(channel, channel.map(FileChannel.MapMode.READ_WRITE, 0, segmentSize));
+        }
+    }
+}
@@ -0,0 +1,73 @@
+package io.hhplus.tdd.database;
+
+import java.nio.file.Path;
+
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import io.hhplus.tdd.point.PointLedger;
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * point.history.journal.enabled=true 일 때 저널과 스냅샷을 등록하고, 시작할 때 저널로 복구
+ * - PointJournal: PointHistoryStoreConfig가 내역 저장소의 가장 바깥을 JournaledPointHistoryStore로 감쌀 때 사용
+ * - PointHistoryArchive(snapshot.enabled=true): 스냅샷에 반영한 구간의 내역을 보관, PointHistoryStoreConfig가 조회에 함께 사용
+ * - PointSnapshotter(snapshot.enabled=true): 잔액/집계 스냅샷과 내역 보관, 복구가 끝난 뒤 주기 스냅샷을 시작
+ * - PointRecovery: 빈을 만들 때 PointJournalReplayer로 내역/원장/잔액을 복구 -> 웹 서버가 요청을 받기 전에 복구가 끝남
+ *   스냅샷 사용 여부와 관계없이 저널을 켜면 항상 복구, 스냅샷을 쓰면 저널은 스냅샷 이후 구간만 다시 적용
+ * - 복구는 유저/내역마다 저장소를 호출하므로 호출마다 최대 300ms를 기다리는 table 엔진과 함께 쓸 수 없음
+ */
+@Configuration
+@ConditionalOnProperty(prefix = "point.history.journal", name = "enabled", havingValue = "true")
+public class PointJournalConfig {
+
+    @Bean
+    public PointJournal pointJournal(PointHistoryProperties pointHistoryProperties, MeterRegistry meterRegistry) {
+        PointHistoryProperties.Journal journal = pointHistoryProperties.journal();
+        return new PointJournal(Path.of(journal.directory()), journal.segmentSize().toBytes(), journal.fsync(), journal.fsyncInterval(), meterRegistry);
+    }
+
+    @Bean
+    @ConditionalOnProperty(prefix = "point.history.journal.snapshot", name = "enabled", havingValue = "true")
+    public PointHistoryArchive pointHistoryArchive(PointHistoryProperties pointHistoryProperties) {
+        return new PointHistoryArchive(Path.of(pointHistoryProperties.journal().directory()));
+    }
+
+    @Bean
+    @ConditionalOnProperty(prefix = "point.history.journal.snapshot", name = "enabled", havingValue = "true")
+    public PointSnapshotter pointSnapshotter(PointJournal pointJournal,
+                                             PointHistoryArchive pointHistoryArchive,
+                                             PointHistoryProperties pointHistoryProperties,
+                                             MeterRegistry meterRegistry) {
+        PointHistoryProperties.Journal journal = pointHistoryProperties.journal();
+        return new PointSnapshotter(pointJournal, pointHistoryArchive, Path.of(journal.directory()), journal.snapshot().retain(), meterRegistry);
+    }
+
+    @Bean
+    public PointRecovery pointRecovery(PointJournal pointJournal,
+                                       PointHistoryStore pointHistoryStore,
+                                       UserPointStore userPointStore,
+                                       PointLedger pointLedger,
+                                       PointHistoryProperties pointHistoryProperties,
+                                       UserPointProperties userPointProperties,
+                                       ObjectProvider<PointSnapshotter> pointSnapshotterProvider) {
+        if (userPointProperties.engine().equals("table")) {
+            throw new IllegalArgumentException("journal은 table 이외의 잔액 저장 엔진에서만 사용할 수 있습니다. user.engine=table");
+        }
+        if (pointHistoryProperties.engine().equals("table")) {
+            throw new IllegalArgumentException("journal은 table 이외의 내역 저장 엔진에서만 사용할 수 있습니다. history.engine=table");
+        }
+        // journal.enabled=true 이면 PointHistoryStoreConfig가 항상 가장 바깥을 JournaledPointHistoryStore로 감쌈
+        if (!(pointHistoryStore instanceof JournaledPointHistoryStore journaledPointHistoryStore)) {
+            throw new IllegalStateException("내역 저장소가 저널로 감싸져 있지 않습니다.");
+        }
+        PointSnapshotter pointSnapshotter = pointSnapshotterProvider.getIfAvailable();
+        PointRecovery pointRecovery = new PointJournalReplayer(pointJournal, journaledPointHistoryStore, pointLedger, userPointStore).replay(pointSnapshotter);
+        if (pointSnapshotter != null) {
+            pointSnapshotter.start(pointHistoryProperties.journal().snapshot().interval());
+        }
+        return pointRecovery;
+    }
+}
@@ -0,0 +1,90 @@
+package io.hhplus.tdd.database;
+
+import io.hhplus.tdd.point.PointLedger;
+import io.hhplus.tdd.point.PointSummary;
+import io.hhplus.tdd.point.UserPoint;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 시작할 때 스냅샷과 저널로 내역 저장소, 원장(PointLedger), 잔액 저장소를 복구
+ * - PointSnapshotter가 있으면 가장 최근 스냅샷에서 집계/잔액을 읽고, 저널은 스냅샷 이후 구간만 다시 적용
+ *   내역은 PointHistoryArchive에 보관되지 않은 구간만 저장소에 복구 (보관된 내역은 JournaledPointHistoryStore가 보관소에서 조회)
+ *   -> 시작 시간이 전체 내역 수가 아니라 유저 수와 마지막 스냅샷 이후 레코드 수를 따라감
+ * - 없으면 저널 전체를 한 번 순회하면서 내역, 집계, 잔액을 함께 복구
+ *   스냅샷을 쓰다가 끈 경우처럼 앞쪽 세그먼트가 지워져 있으면 IllegalStateException
+ * - 내역은 JournaledPointHistoryStore.restore()로 저널에 다시 기록하지 않고 BATCH_SIZE 건씩 묶어서 저장
+ * - 집계와 잔액은 PointBalances로 합산한 뒤 PointLedger.restore(), UserPointStore.insertOrUpdate()로 유저마다 한 번씩 저장
+ *   -> 재시작 후에도 내역 조회, 집계 조회가 동작하고 잔액 = 충전 합계 - 사용 합계
+ * - 저장소가 비어 있는 시작 시점에 한 번만 호출
+ */
+public class PointJournalReplayer {
+
+    private static final Logger log = LoggerFactory.getLogger(PointJournalReplayer.class);
+
+    private static final int BATCH_SIZE = 4096;
+
+    private final PointJournal pointJournal;
+    private final JournaledPointHistoryStore pointHistoryStore;
+    private final PointLedger pointLedger;
+    private final UserPointStore userPointStore;
+
+    public PointJournalReplayer(PointJournal pointJournal, JournaledPointHistoryStore pointHistoryStore, PointLedger pointLedger, UserPointStore userPointStore) {
+        this.pointJournal = pointJournal;
+        this.pointHistoryStore = pointHistoryStore;
+        this.pointLedger = pointLedger;
+        this.userPointStore = userPointStore;
+    }
+
+    /**
+     * 내역, 집계, 잔액을 복구해서 각 저장소에 저장
+     * - pointSnapshotter가 null이면 저널 전체로 복구
+     * - pointHistoryStore는 pointSnapshotter와 같은 PointHistoryArchive로 만든 저장소여야 함
+     */
+    public PointRecovery replay(PointSnapshotter pointSnapshotter) {
+        long start = System.nanoTime();
+        List<PendingPointHistory> batch = new ArrayList<>(BATCH_SIZE);
+        PointJournal.JournalVisitor restore = (sequence, userId, amount, type, updateMillis) -> {
+            batch.add(new PendingPointHistory(userId, amount, type, updateMillis));
+            if (batch.size() == BATCH_SIZE) {
+                pointHistoryStore.restore(List.copyOf(batch)); // 저장소가 묶음을 보관할 수 있으므로 복사해서 넘기고 재사용
+                batch.clear();
+            }
+        };
+
+        PointRecovery pointRecovery;
+        if (pointSnapshotter != null) {
+            pointRecovery = pointSnapshotter.recover(restore);
+        } else {
+            long firstSequence = pointJournal.firstSequence();
+            if (firstSequence > 1) {
+                throw new IllegalStateException("저널 앞부분이 스냅샷과 내역 보관소로 옮겨져 스냅샷 없이 복구할 수 없습니다. firstSequence="
+                        + firstSequence + ", snapshot.enabled=true 로 시작해야 합니다.");
+            }
+            PointBalances balances = new PointBalances();
+            long lastSequence = pointJournal.lastSequence();
+            pointJournal.replay(1L, lastSequence, (sequence, userId, amount, type, updateMillis) -> {
+                restore.visit(sequence, userId, amount, type, updateMillis);
+                balances.apply(userId, amount, type, updateMillis);
+            });
+            pointRecovery = new PointRecovery(0, lastSequence, balances.userPoints(), balances.summaries());
+        }
+        if (!batch.isEmpty()) pointHistoryStore.restore(List.copyOf(batch));
+
+        for (PointSummary summary : pointRecovery.summaries()) {
+            pointLedger.restore(summary);
+        }
+        for (UserPoint userPoint : pointRecovery.userPoints()) {
+            userPointStore.insertOrUpdate(userPoint.id(), userPoint.point());
+        }
+        long elapsedMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+        log.info("스냅샷과 저널로 내역과 잔액을 복구했습니다. snapshotSequence={}, replayed={}, users={}, {}ms",
+                pointRecovery.snapshotSequence(), pointRecovery.replayed(), pointRecovery.userPoints().size(), elapsedMillis);
+        return pointRecovery;
+    }
+}
@@ -0,0 +1,16 @@
+package io.hhplus.tdd.database;
+
+import io.hhplus.tdd.point.PointSummary;
+import io.hhplus.tdd.point.UserPoint;
+
+import java.util.List;
+
+/**
+ * 시작할 때 스냅샷과 저널로 복구한 결과
+ * - snapshotSequence: 사용한 스냅샷의 sequence, 스냅샷 없이 저널 전체를 적용했으면 0
+ * - replayed: 스냅샷 이후 다시 적용한 저널 레코드 수
+ * - userPoints: 복구한 유저별 잔액
+ * - summaries: 복구한 유저별 원장 집계
+ */
+public record PointRecovery(long snapshotSequence, long replayed, List<UserPoint> userPoints, List<PointSummary> summaries) {
+}
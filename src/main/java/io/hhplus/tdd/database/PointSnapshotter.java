@@ -0,0 +1,353 @@
+package io.hhplus.tdd.database;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.stream.Stream;
+import java.util.zip.CRC32C;
+
+/**
+ * 모든 유저의 잔액과 원장 집계를 주기적으로 바이너리 스냅샷 파일(snapshot-{sequence}.bin)에 저장하고, 시작할 때 복구
+ * - 잔액/집계는 저널 레코드를 순서대로 합산한 값 (PointBalances), 스냅샷은 어느 sequence까지 합산했는지를 함께 저장
+ *   -> 스냅샷 크기와 쓰는 시간은 유저 수를 따르고, 쌓인 내역 수와 관계없음
+ * - 내역은 스냅샷마다 아직 보관하지 않은 저널 구간을 PointHistoryArchive로 옮김
+ * - 스냅샷 전용 잔액/집계 사본을 유지하고, 스냅샷마다 직전 스냅샷 이후의 저널 레코드만 읽어 사본에 더함
+ *   -> UserPointTable이나 요청 경로의 락을 건드리지 않으므로 스냅샷을 만드는 동안에도 기록이 멈추지 않음
+ * - fsync가 끝난 레코드(PointJournal.durableSequence())까지만 반영
+ *   -> 장애 후 저널에서 사라질 수 있는 레코드가 스냅샷에 먼저 들어가지 않음
+ * - 임시 파일에 쓰고 fsync 한 뒤 이름을 바꿈(atomic move) -> 쓰는 도중 중단되어도 이전 스냅샷은 그대로 남음
+ * - 스냅샷을 저장하면 보관하는 스냅샷 중 가장 오래된 것과 내역 보관 위치 중 작은 sequence까지의 저널 세그먼트를 지움
+ *   -> 저널은 최근 스냅샷 주기 몇 개 분량만 남고, 이전 스냅샷으로 복구할 때 필요한 구간은 남아 있음
+ *
+ * 복구(recover)는 손상되지 않은 가장 최근 스냅샷을 읽고 그 다음 sequence부터 저널 끝까지만 다시 적용
+ * - 내역은 보관소에 없는 구간만 저널에서 읽어 전달 -> 시작할 때 읽는 양이 전체 내역이 아니라 마지막 보관 이후 레코드 수를 따름
+ * - 스냅샷이 손상되었거나(CRC 불일치, 잘린 파일, 이전 형식) 저널보다 앞선 sequence를 가지면 건너뛰고 이전 스냅샷을 사용
+ * - 쓸 수 있는 스냅샷이 없으면 보관한 내역과 그 이후의 저널로 잔액/집계를 다시 계산
+ *
+ * 파일 형식 (big endian)
+ * | magic 4 | sequence 8 | count 4 |
+ * | (userId 8 | point 8 | updateMillis 8 | totalCharged 8 | totalUsed 8 | transactionCount 8 | lastActivityMillis 8) x count |
+ * | crc32c 4 |
+ */
+public class PointSnapshotter implements AutoCloseable {
+
+    private static final Logger log = LoggerFactory.getLogger(PointSnapshotter.class);
+
+    private static final int MAGIC = 0x50534E33; // "PSN3", 이전 형식("PSNP", 내역을 함께 담던 "PSN2")은 건너뜀
+    private static final int HEADER_SIZE = 16;
+    private static final int ENTRY_SIZE = Long.BYTES * (1 + PointBalances.FIELDS);
+    private static final int BUFFER_SIZE = 64 * 1024;
+
+    private final PointJournal pointJournal;
+    private final PointHistoryArchive pointHistoryArchive;
+    private final Path directory;
+    private final int retain;
+    private final Timer snapshotTimer;
+
+    private final ReentrantLock snapshotLock = new ReentrantLock();
+    private final PointBalances balances = new PointBalances(); // snapshotLock 안에서만 사용
+    private long sequence; // balances에 반영한 마지막 저널 sequence
+    private long writtenSequence = -1; // 마지막으로 파일에 저장한 스냅샷의 sequence, 없으면 -1
+
+    private ScheduledExecutorService scheduler;
+
+    public PointSnapshotter(PointJournal pointJournal, PointHistoryArchive pointHistoryArchive, Path directory, int retain, MeterRegistry meterRegistry) {
+        if (retain < 1) throw new IllegalArgumentException("보관할 스냅샷 수는 1 이상이어야 합니다.");
+        this.pointJournal = pointJournal;
+        this.pointHistoryArchive = pointHistoryArchive;
+        this.directory = directory;
+        this.retain = retain;
+        this.snapshotTimer = Timer.builder("point.snapshot.duration")
+                .description("스냅샷 하나를 만드는 데 걸린 시간")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 가장 최근 스냅샷과 그 이후의 저널로 잔액과 집계를 복구 (내역은 읽지 않음)
+     */
+    public PointRecovery recover() {
+        return recover(null);
+    }
+
+    /**
+     * 가장 최근 스냅샷과 그 이후의 저널로 잔액과 집계를 복구하고, 보관소에 없는 내역(archivedSequence() 이후)은 sequence 순서로 historyVisitor에 전달
+     * - 보관소에 있는 내역은 PointHistoryArchive에서 바로 조회하므로 전달하지 않음
+     * - 이후 스냅샷은 복구한 값에서 이어서 만듦
+     */
+    public PointRecovery recover(PointJournal.JournalVisitor historyVisitor) {
+        long start = System.nanoTime();
+        snapshotLock.lock();
+        try {
+            balances.clear();
+            sequence = 0;
+            long journalSequence = pointJournal.lastSequence();
+            long archived = pointHistoryArchive.archivedSequence();
+            if (archived > journalSequence) {
+                throw new IllegalStateException("보관한 내역이 저널보다 앞서 있습니다. archivedSequence=" + archived + ", journalSequence=" + journalSequence);
+            }
+            for (Path path : snapshots()) {
+                if (load(path, journalSequence)) break;
+            }
+            long snapshotSequence = sequence;
+            writtenSequence = snapshotSequence == 0 ? -1 : snapshotSequence;
+            if (snapshotSequence == 0 && archived > 0) {
+                // 쓸 수 있는 스냅샷이 없으면 보관한 내역으로 다시 계산, 보관한 구간의 저널은 지워졌을 수 있음
+                pointHistoryArchive.forEach((recordSequence, userId, amount, type, updateMillis) -> balances.apply(userId, amount, type, updateMillis));
+                sequence = archived;
+            } else if (historyVisitor != null && snapshotSequence > archived) {
+                // 스냅샷에는 반영했지만 보관하기 전에 중단된 구간
+                pointJournal.replay(archived + 1, snapshotSequence, historyVisitor);
+            }
+            long replayed = catchUp(journalSequence, historyVisitor == null ? null : (recordSequence, userId, amount, type, updateMillis) -> {
+                if (recordSequence > archived) historyVisitor.visit(recordSequence, userId, amount, type, updateMillis);
+            });
+
+            long elapsedMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+            log.info("잔액을 복구했습니다. snapshotSequence={}, replayed={}, users={}, {}ms", snapshotSequence, replayed, balances.size(), elapsedMillis);
+            return new PointRecovery(snapshotSequence, replayed, balances.userPoints(), balances.summaries());
+        } finally {
+            snapshotLock.unlock();
+        }
+    }
+
+    /**
+     * 직전 스냅샷 이후 fsync가 끝난 저널 레코드를 반영해서 스냅샷 파일을 만들고, 스냅샷의 sequence를 반환
+     * - 같은 구간의 내역을 먼저 보관한 뒤 스냅샷을 저장하고, 둘 다 반영된 저널 세그먼트를 지움
+     * - 마지막 스냅샷 이후 반영할 레코드가 없으면 파일을 만들지 않음, 저널이 비어 있으면 0
+     */
+    public long snapshot() {
+        snapshotLock.lock();
+        try {
+            catchUp(pointJournal.durableSequence(), null);
+            if (sequence == 0) return 0;
+            long start = System.nanoTime();
+            pointHistoryArchive.append(pointJournal, sequence);
+            if (sequence != writtenSequence) {
+                write(sequence);
+                writtenSequence = sequence;
+                snapshotTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+                prune();
+            }
+            pointJournal.deleteThrough(Math.min(oldestSnapshotSequence(), pointHistoryArchive.archivedSequence()));
+            return sequence;
+        } catch (IOException e) {
+            throw new UncheckedIOException("스냅샷을 만들 수 없습니다. directory=" + directory, e);
+        } finally {
+            snapshotLock.unlock();
+        }
+    }
+
+    /**
+     * interval마다 스냅샷을 만드는 스레드를 시작
+     */
+    public void start(Duration interval) {
+        scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "point-snapshot");
+            thread.setDaemon(true);
+            return thread;
+        });
+        scheduler.scheduleWithFixedDelay(() -> {
+            try {
+                snapshot();
+            } catch (RuntimeException e) {
+                log.error("스냅샷을 만들지 못했습니다.", e); // 다음 주기에 다시 시도
+            }
+        }, interval.toMillis(), interval.toMillis(), TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * 주기 스냅샷을 멈추고 마지막 스냅샷을 만듦 -> 다음 시작 때 다시 적용할 저널이 줄어듦
+     */
+    @Override
+    public void close() {
+        if (scheduler != null) {
+            scheduler.shutdown();
+            try {
+                scheduler.awaitTermination(30, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+        snapshot();
+    }
+
+    // snapshotLock 안에서 호출, (sequence, toSequence] 레코드를 balances에 더하고 반영한 건수를 반환, historyVisitor가 있으면 레코드를 그대로 전달
+    private long catchUp(long toSequence, PointJournal.JournalVisitor historyVisitor) {
+        if (toSequence <= sequence) return 0;
+        long from = sequence + 1;
+        pointJournal.replay(from, toSequence, (recordSequence, userId, amount, type, updateMillis) -> {
+            balances.apply(userId, amount, type, updateMillis);
+            if (historyVisitor != null) historyVisitor.visit(recordSequence, userId, amount, type, updateMillis);
+            sequence = recordSequence;
+        });
+        return sequence - from + 1;
+    }
+
+    // 임시 파일에 쓰고 fsync 한 뒤 이름을 바꿈, 버퍼 하나를 재사용해서 유저 수와 관계없이 메모리 사용량이 일정
+    private void write(long snapshotSequence) throws IOException {
+        Path target = snapshotPath(snapshotSequence);
+        Path temporary = directory.resolve(target.getFileName() + ".tmp");
+        CRC32C crc = new CRC32C();
+        try (FileChannel channel = FileChannel.open(temporary, StandardOpenOption.CREATE, StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE)) {
+            ByteBuffer buffer = ByteBuffer.allocateDirect(BUFFER_SIZE);
+            buffer.putInt(MAGIC).putLong(snapshotSequence).putInt(balances.size());
+            for (Map.Entry<Long, long[]> entry : balances.entries().entrySet()) {
+                if (buffer.remaining() < ENTRY_SIZE) flush(channel, buffer, crc);
+                buffer.putLong(entry.getKey());
+                for (long value : entry.getValue()) buffer.putLong(value);
+            }
+            flush(channel, buffer, crc);
+            buffer.putInt((int) crc.getValue()).flip();
+            while (buffer.hasRemaining()) channel.write(buffer);
+            channel.force(true);
+        }
+        Files.move(temporary, target, StandardCopyOption.ATOMIC_MOVE);
+        syncDirectory();
+    }
+
+    private static void flush(FileChannel channel, ByteBuffer buffer, CRC32C crc) throws IOException {
+        buffer.flip();
+        crc.update(buffer.duplicate());
+        while (buffer.hasRemaining()) channel.write(buffer);
+        buffer.clear();
+    }
+
+    // 이름 변경이 디스크에 남도록 디렉터리도 fsync, 디렉터리를 열 수 없는 OS(Windows)에서는 건너뜀
+    private void syncDirectory() {
+        try (FileChannel channel = FileChannel.open(directory, StandardOpenOption.READ)) {
+            channel.force(true);
+        } catch (IOException e) {
+            log.debug("디렉터리를 fsync 할 수 없습니다. directory={}", directory, e);
+        }
+    }
+
+    // snapshotLock 안에서 호출, 온전한 스냅샷이면 balances와 sequence를 채운 뒤 true
+    // 파일 전체의 CRC를 먼저 확인하고(첫 번째 읽기) 그 다음에 값을 읽음(두 번째 읽기)
+    private boolean load(Path path, long journalSequence) {
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            long size = channel.size();
+            if (size < HEADER_SIZE + Integer.BYTES) return skip(path, "크기가 올바르지 않습니다.");
+            ByteBuffer buffer = ByteBuffer.allocateDirect(BUFFER_SIZE);
+            fill(channel, buffer.limit(HEADER_SIZE), 0);
+            buffer.flip();
+            int magic = buffer.getInt();
+            long snapshotSequence = buffer.getLong();
+            int count = buffer.getInt();
+            if (magic != MAGIC) return skip(path, "스냅샷 형식이 아닙니다.");
+            if (snapshotSequence > journalSequence) return skip(path, "저널보다 앞선 스냅샷입니다. journalSequence=" + journalSequence);
+            if (snapshotSequence < 0 || count < 0
+                    || size != HEADER_SIZE + (long) count * ENTRY_SIZE + Integer.BYTES) return skip(path, "잘린 파일입니다.");
+            if (!checksumMatches(channel, buffer, size)) return skip(path, "CRC가 일치하지 않습니다.");
+
+            long position = HEADER_SIZE;
+            buffer.clear().flip(); // 비어 있는 읽기 모드, ensure()가 필요할 때 채움
+            for (int i = 0; i < count; i++) {
+                position = ensure(channel, buffer, position, ENTRY_SIZE);
+                long userId = buffer.getLong();
+                long[] values = new long[PointBalances.FIELDS];
+                for (int field = 0; field < values.length; field++) values[field] = buffer.getLong();
+                balances.put(userId, values);
+            }
+            sequence = snapshotSequence;
+            return true;
+        } catch (IOException e) {
+            balances.clear(); // 일부만 읽은 값이 이전 스냅샷에 섞이지 않도록
+            return skip(path, e.getMessage());
+        }
+    }
+
+    // 마지막 4 byte를 뺀 파일 전체의 CRC32C가 마지막 4 byte와 같은지
+    private static boolean checksumMatches(FileChannel channel, ByteBuffer buffer, long size) throws IOException {
+        CRC32C crc = new CRC32C();
+        long end = size - Integer.BYTES;
+        long position = 0;
+        while (position < end) {
+            buffer.clear().limit((int) Math.min(buffer.capacity(), end - position));
+            position = fill(channel, buffer, position);
+            buffer.flip();
+            crc.update(buffer);
+        }
+        buffer.clear().limit(Integer.BYTES);
+        fill(channel, buffer, end);
+        return buffer.flip().getInt() == (int) crc.getValue();
+    }
+
+    // 읽기 모드의 buffer에 bytes 이상 남도록 position부터 이어서 읽고, 다음에 읽을 위치를 반환
+    private static long ensure(FileChannel channel, ByteBuffer buffer, long position, int bytes) throws IOException {
+        if (buffer.remaining() >= bytes) return position;
+        buffer.compact();
+        buffer.limit((int) Math.min(buffer.capacity(), buffer.position() + (channel.size() - position)));
+        long next = fill(channel, buffer, position);
+        buffer.flip();
+        if (buffer.remaining() < bytes) throw new IOException("잘린 파일입니다.");
+        return next;
+    }
+
+    // buffer의 limit까지 position부터 채우고, 다음에 읽을 위치를 반환
+    private static long fill(FileChannel channel, ByteBuffer buffer, long position) throws IOException {
+        while (buffer.hasRemaining()) {
+            int read = channel.read(buffer, position);
+            if (read < 0) throw new IOException("잘린 파일입니다.");
+            position += read;
+        }
+        return position;
+    }
+
+    private static boolean skip(Path path, String reason) {
+        log.warn("스냅샷을 건너뜁니다. path={}, reason={}", path, reason);
+        return false;
+    }
+
+    // 보관 개수를 넘는 오래된 스냅샷과 중단된 임시 파일을 지움
+    private void prune() throws IOException {
+        List<Path> snapshots = snapshots();
+        for (int i = retain; i < snapshots.size(); i++) {
+            Files.deleteIfExists(snapshots.get(i));
+        }
+        try (Stream<Path> files = Files.list(directory)) {
+            for (Path path : files.filter(path -> path.getFileName().toString().matches("snapshot-\\d{20}\\.bin\\.tmp")).toList()) {
+                Files.deleteIfExists(path);
+            }
+        }
+    }
+
+    // 보관 중인 가장 오래된 스냅샷의 sequence, 이 sequence 이후의 저널은 남겨 두어야 그 스냅샷으로도 복구할 수 있음
+    private long oldestSnapshotSequence() {
+        List<Path> snapshots = snapshots();
+        if (snapshots.isEmpty()) return 0;
+        return Long.parseLong(snapshots.get(snapshots.size() - 1).getFileName().toString().substring(9, 29));
+    }
+
+    private Path snapshotPath(long snapshotSequence) {
+        return directory.resolve(String.format("snapshot-%020d.bin", snapshotSequence));
+    }
+
+    // 최근 스냅샷이 앞에 오도록 정렬, 파일 이름의 sequence는 0으로 채운 고정 길이라 이름 순서 = sequence 순서
+    private List<Path> snapshots() {
+        try (Stream<Path> files = Files.list(directory)) {
+            return files.filter(path -> path.getFileName().toString().matches("snapshot-\\d{20}\\.bin"))
+                    .sorted((left, right) -> right.getFileName().toString().compareTo(left.getFileName().toString()))
+                    .toList();
+        } catch (IOException e) {
+            throw new UncheckedIOException("스냅샷 목록을 읽을 수 없습니다. directory=" + directory, e);
+        }
+    }
+}
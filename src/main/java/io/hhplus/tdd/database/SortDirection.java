@@ -0,0 +1,11 @@
+package io.hhplus.tdd.database;
+
+/**
+ * 내역 페이지 조회 방향
+ * - ASC: id 오름차순(오래된 내역부터), 커서보다 id가 큰 내역
+ * - DESC: id 내림차순(최신 내역부터), 커서보다 id가 작은 내역
+ */
+public enum SortDirection {
+    ASC,
+    DESC
+}
@@ -0,0 +1,26 @@
+package io.hhplus.tdd.database;
+
+import io.hhplus.tdd.point.UserPoint;
+
+/**
+ * UserPointTable에 그대로 위임하는 유저 포인트 저장소
+ * - UserPointTable은 변경하지 않고 공개된 API만 사용
+ */
+public class TableUserPointStore implements UserPointStore {
+
+    private final UserPointTable userPointTable;
+
+    public TableUserPointStore(UserPointTable userPointTable) {
+        this.userPointTable = userPointTable;
+    }
+
+    @Override
+    public UserPoint selectById(long id) {
+        return userPointTable.selectById(id);
+    }
+
+    @Override
+    public UserPoint insertOrUpdate(long id, long amount) {
+        return userPointTable.insertOrUpdate(id, amount);
+    }
+}
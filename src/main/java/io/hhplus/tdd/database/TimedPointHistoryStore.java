@@ -0,0 +1,73 @@
+package io.hhplus.tdd.database;
+
+import io.hhplus.tdd.point.PointHistory;
+import io.hhplus.tdd.point.TransactionType;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 내역 저장 엔진의 저장 시간을 point.store.latency 지표(store=history, engine, operation)로 기록하는 저장소
+ * - 그룹 커밋/write-behind/저널보다 안쪽에서 엔진(PointHistoryTable 등)을 바로 감싸서 엔진 호출만 잼
+ * - 저장(insert/insertAll)만 재고 조회는 그대로 위임
+ * - close()는 delegate(AutoCloseable이면)를 닫음
+ */
+public class TimedPointHistoryStore implements PointHistoryStore, AutoCloseable {
+
+    private final PointHistoryStore delegate;
+    private final Timer insertTimer;
+    private final Timer insertAllTimer;
+
+    public TimedPointHistoryStore(PointHistoryStore delegate, String engine, MeterRegistry meterRegistry) {
+        this.delegate = delegate;
+        this.insertTimer = TimedUserPointStore.storeTimer("history", engine, "insert", meterRegistry);
+        this.insertAllTimer = TimedUserPointStore.storeTimer("history", engine, "insert-all", meterRegistry);
+    }
+
+    @Override
+    public PointHistory insert(long userId, long amount, TransactionType type, long updateMillis) {
+        long start = System.nanoTime();
+        try {
+            return delegate.insert(userId, amount, type, updateMillis);
+        } finally {
+            insertTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    @Override
+    public List<PointHistory> insertAll(List<PendingPointHistory> rows) {
+        long start = System.nanoTime();
+        try {
+            return delegate.insertAll(rows);
+        } finally {
+            insertAllTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    @Override
+    public List<PointHistory> selectAllByUserId(long userId) {
+        return delegate.selectAllByUserId(userId);
+    }
+
+    @Override
+    public List<PointHistory> selectPageByUserId(long userId, long cursor, int size, SortDirection direction) {
+        return delegate.selectPageByUserId(userId, cursor, size, direction);
+    }
+
+    @Override
+    public List<PointHistory> selectByUserIdAndTimeRange(long userId, long fromMillis, long toMillis, TransactionType type) {
+        return delegate.selectByUserIdAndTimeRange(userId, fromMillis, toMillis, type);
+    }
+
+    @Override
+    public int countByUserId(long userId) {
+        return delegate.countByUserId(userId);
+    }
+
+    @Override
+    public void close() throws Exception {
+        if (delegate instanceof AutoCloseable closeable) closeable.close();
+    }
+}
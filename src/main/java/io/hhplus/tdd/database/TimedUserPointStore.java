@@ -0,0 +1,60 @@
+package io.hhplus.tdd.database;
+
+import java.util.concurrent.TimeUnit;
+
+import io.hhplus.tdd.point.UserPoint;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
+/**
+ * 잔액 저장 엔진의 호출 시간을 point.store.latency 지표(store=user, engine, operation)로 기록하는 저장소
+ * - 캐시 안쪽에서 엔진(UserPointTable 등)을 바로 감싸므로 캐시 적중은 포함하지 않고 엔진 호출만 잼
+ * - Timer는 생성자에서 미리 만들고 호출마다 record(long, TimeUnit)만 하므로 할당이 없음
+ * - close()는 delegate(AutoCloseable이면)를 닫음
+ */
+public class TimedUserPointStore implements UserPointStore, AutoCloseable {
+
+    private final UserPointStore delegate;
+    private final Timer selectTimer;
+    private final Timer insertOrUpdateTimer;
+
+    public TimedUserPointStore(UserPointStore delegate, String engine, MeterRegistry meterRegistry) {
+        this.delegate = delegate;
+        this.selectTimer = storeTimer("user", engine, "select-by-id", meterRegistry);
+        this.insertOrUpdateTimer = storeTimer("user", engine, "insert-or-update", meterRegistry);
+    }
+
+    @Override
+    public UserPoint selectById(long id) {
+        long start = System.nanoTime();
+        try {
+            return delegate.selectById(id);
+        } finally {
+            selectTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    @Override
+    public UserPoint insertOrUpdate(long id, long amount) {
+        long start = System.nanoTime();
+        try {
+            return delegate.insertOrUpdate(id, amount);
+        } finally {
+            insertOrUpdateTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    @Override
+    public void close() throws Exception {
+        if (delegate instanceof AutoCloseable closeable) closeable.close();
+    }
+
+    static Timer storeTimer(String store, String engine, String operation, MeterRegistry meterRegistry) {
+        return Timer.builder("point.store.latency")
+                .description("저장 엔진 호출 시간")
+                .tag("store", store)
+                .tag("engine", engine)
+                .tag("operation", operation)
+                .register(meterRegistry);
+    }
+}
@@ -0,0 +1,46 @@
+package io.hhplus.tdd.database;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * point.user 설정
+ * - engine: table(UserPointTable) | off-heap(direct memory의 고정 길이 slot에 저장) | concurrent(long[] slot, 락 없는 조회)
+ * - cache: 잔액 저장소 앞에 두는 캐시
+ * - off-heap: engine=off-heap 일 때 저장소 설정
+ * - concurrent: engine=concurrent 일 때 저장소 설정
+ */
+@ConfigurationProperties(prefix = "point.user")
+public record UserPointProperties(
+        @DefaultValue("table") String engine,
+        @DefaultValue Cache cache,
+        @DefaultValue OffHeap offHeap,
+        @DefaultValue Concurrent concurrent
+) {
+
+    /**
+     * - enabled: 캐시 사용 여부
+     * - maximum-size: 캐시에 보관하는 최대 유저 수, 넘치면 W-TinyLFU 정책으로 제거
+     */
+    public record Cache(
+            @DefaultValue("true") boolean enabled,
+            @DefaultValue("100000") long maximumSize
+    ) {
+    }
+
+    /**
+     * - expected-users: 처음에 slot을 잡아둘 유저 수, 넘으면 두 배씩 늘림
+     */
+    public record OffHeap(
+            @DefaultValue("1000000") long expectedUsers
+    ) {
+    }
+
+    /**
+     * - expected-users: 처음에 slot을 잡아둘 유저 수, 넘으면 두 배씩 늘림
+     */
+    public record Concurrent(
+            @DefaultValue("1000000") int expectedUsers
+    ) {
+    }
+}
@@ -0,0 +1,20 @@
+package io.hhplus.tdd.database;
+
+import io.hhplus.tdd.point.UserPoint;
+
+/**
+ * 유저 포인트 저장소
+ * - 서비스는 UserPointTable 대신 이 인터페이스를 통해 잔액을 조회/저장
+ * - 구현체마다 저장 방식(캐시 등)이 다를 수 있지만 UserPointTable과 같은 API를 제공
+ */
+public interface UserPointStore {
+
+    /**
+     * insertOrUpdate()로 저장된 적 없는 유저면 null, 모든 엔진이 같음 (UserPointTable은 UserPoint.empty(id) = null)
+     * - 서비스는 null을 받으면 USER_NOT_FOUND로 거절 -> 엔진을 바꿔도 없는 유저의 충전/사용/조회 결과가 같음
+     * - 유저는 서비스 밖에서 insertOrUpdate()로 등록, 저널을 켜면 재시작할 때 내역이 있는 유저를 다시 등록 (PointJournalReplayer)
+     */
+    UserPoint selectById(long id);
+
+    UserPoint insertOrUpdate(long id, long amount);
+}
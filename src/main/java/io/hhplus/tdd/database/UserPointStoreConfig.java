@@ -0,0 +1,35 @@
+package io.hhplus.tdd.database;
+
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * 설정에 따라 잔액 저장소를 고르고 캐시를 더해서 UserPointStore 빈 하나로 등록
+ * - engine: table(UserPointTable) | off-heap(OffHeapUserPointStore) | concurrent(ConcurrentUserPointStore)
+ * - 엔진은 TimedUserPointStore로 감싸서 호출 시간을 기록
+ * - cache.enabled=true 이면 CachingUserPointStore로 감쌈
+ */
+@Configuration
+public class UserPointStoreConfig {
+
+    @Bean
+    public UserPointStore userPointStore(UserPointTable userPointTable,
+                                         UserPointProperties userPointProperties,
+                                         MeterRegistry meterRegistry) {
+        UserPointStore userPointStore = switch (userPointProperties.engine()) {
+            case "table" -> new TableUserPointStore(userPointTable);
+            case "off-heap" -> new OffHeapUserPointStore(userPointProperties.offHeap().expectedUsers(), meterRegistry);
+            case "concurrent" -> new ConcurrentUserPointStore(userPointProperties.concurrent().expectedUsers());
+            default -> throw new IllegalArgumentException("지원하지 않는 잔액 저장 엔진입니다. engine=" + userPointProperties.engine());
+        };
+        userPointStore = new TimedUserPointStore(userPointStore, userPointProperties.engine(), meterRegistry); // 캐시 적중은 빼고 엔진 호출 시간만 기록
+
+        UserPointProperties.Cache cache = userPointProperties.cache();
+        if (cache.enabled()) {
+            userPointStore = new CachingUserPointStore(userPointStore, cache.maximumSize(), meterRegistry);
+        }
+        return userPointStore;
+    }
+}
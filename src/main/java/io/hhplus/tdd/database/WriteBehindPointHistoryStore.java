@@ -0,0 +1,249 @@
+package io.hhplus.tdd.database;
+
+import io.hhplus.tdd.point.PointHistory;
+import io.hhplus.tdd.point.TransactionType;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedDeque;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 내역 저장을 요청 경로에서 분리하는 write-behind 저장소
+ * - insert()는 내역을 크기가 정해진 대기열에 넣고 바로 반환, 반환된 내역의 id는 아직 발급 전이라 0
+ * - 대기열이 가득 차면 insert()는 자리가 날 때까지 대기(backpressure), 기다리는 중에 종료되면 예외
+ * - 종료가 시작된 뒤 대기열에 넣은 내역은 다시 꺼내고 예외 (GroupCommitPointHistoryStore와 같은 방식)
+ *   -> 쓰기 스레드가 빈 대기열을 보고 끝난 뒤에 넣은 내역이 저장되지 않은 채 성공으로 반환되지 않음
+ * - 쓰기 스레드 하나가 대기열 순서대로 꺼내 delegate.insertAll()로 저장 -> 유저별 저장 순서가 유지됨
+ * - 저장에 실패하면 같은 묶음을 다시 시도, 뒤의 내역이 먼저 저장되지 않음
+ *   (delegate.insertAll()이 묶음 일부만 저장하고 실패하면 다시 시도할 때 중복 저장될 수 있음)
+ * - close()는 대기열에 남은 내역을 모두 저장한 뒤 종료하고 delegate(AutoCloseable이면)를 닫음
+ *
+ * read-your-writes를 켜면 selectAllByUserId()가 아직 저장되지 않은 내역도 함께 반환
+ * - 유저별로 저장 대기 중인 내역과 순번(해당 유저의 몇 번째 내역인지)을 유지
+ * - 대기 목록을 먼저 복사하고 저장소를 조회한 뒤, 저장소에 있는 건수보다 순번이 큰 대기 내역만 덧붙임
+ *   -> 그 사이에 저장된 내역이 빠지거나 두 번 나오지 않음
+ * - delegate에는 이 저장소를 통해서만 내역이 저장된다고 가정
+ * - 페이지 조회(selectPageByUserId)는 저장된 내역만 반환, 대기 중인 내역은 id(커서)가 없어서 페이지에 넣을 수 없음
+ * - 기간 조회(selectByUserIdAndTimeRange)도 저장된 내역만 반환
+ */
+public class WriteBehindPointHistoryStore implements PointHistoryStore, AutoCloseable {
+
+    private static final Logger log = LoggerFactory.getLogger(WriteBehindPointHistoryStore.class);
+
+    private static final int MAX_BATCH_SIZE = 256;
+    private static final long RETRY_BACKOFF_MILLIS = 100L;
+    private static final long OFFER_TIMEOUT_MILLIS = 100L; // 대기열이 가득 찼을 때 종료 여부를 다시 확인하는 간격
+
+    private final PointHistoryStore delegate;
+    private final boolean readYourWrites;
+    private final BlockingQueue<Entry> queue;
+    private final Counter failures;
+
+    // userId -> 저장 대기 중인 내역, 대기 중인 내역이 없으면 맵에서 제거
+    // 참조 수는 compute() 안에서만 변경 (UserLockRegistry와 같은 방식)
+    private final ConcurrentHashMap<Long, Backlog> backlogs = new ConcurrentHashMap<>();
+
+    private final Thread writer;
+    private volatile boolean running = true;
+
+    public WriteBehindPointHistoryStore(PointHistoryStore delegate, int capacity, boolean readYourWrites, MeterRegistry meterRegistry) {
+        if (capacity < 1) throw new IllegalArgumentException("대기열 크기는 1 이상이어야 합니다.");
+        this.delegate = delegate;
+        this.readYourWrites = readYourWrites;
+        this.queue = new ArrayBlockingQueue<>(capacity);
+        this.failures = Counter.builder("point.history.write-behind.failures")
+                .description("write-behind 저장 실패 횟수")
+                .register(meterRegistry);
+        Gauge.builder("point.history.write-behind.queue-size", queue, BlockingQueue::size)
+                .description("저장 대기 중인 내역 수")
+                .register(meterRegistry);
+        this.writer = new Thread(this::run, "point-history-write-behind");
+        this.writer.setDaemon(true);
+        this.writer.start();
+    }
+
+    @Override
+    public PointHistory insert(long userId, long amount, TransactionType type, long updateMillis) {
+        if (!running) throw closed();
+        PendingPointHistory row = new PendingPointHistory(userId, amount, type, updateMillis);
+        try {
+            if (readYourWrites) {
+                enqueueWithBacklog(row);
+            } else {
+                enqueue(new Entry(row, null, 0L));
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("내역 저장 대기 중 인터럽트되었습니다.", e);
+        }
+        return toPointHistory(row);
+    }
+
+    @Override
+    public List<PointHistory> selectAllByUserId(long userId) {
+        Backlog backlog = readYourWrites ? backlogs.get(userId) : null;
+        if (backlog == null) return delegate.selectAllByUserId(userId);
+
+        List<Entry> pending = List.copyOf(backlog.pending); // 저장소 조회보다 먼저 복사해야 누락이 없음
+        List<PointHistory> stored = delegate.selectAllByUserId(userId);
+        List<PointHistory> result = new ArrayList<>(stored.size() + pending.size());
+        result.addAll(stored);
+        for (Entry entry : pending) {
+            if (entry.sequence > stored.size()) result.add(toPointHistory(entry.row));
+        }
+        return result;
+    }
+
+    @Override
+    public List<PointHistory> selectPageByUserId(long userId, long cursor, int size, SortDirection direction) {
+        return delegate.selectPageByUserId(userId, cursor, size, direction);
+    }
+
+    @Override
+    public List<PointHistory> selectByUserIdAndTimeRange(long userId, long fromMillis, long toMillis, TransactionType type) {
+        return delegate.selectByUserIdAndTimeRange(userId, fromMillis, toMillis, type);
+    }
+
+    @Override
+    public int countByUserId(long userId) {
+        if (readYourWrites && backlogs.containsKey(userId)) return selectAllByUserId(userId).size();
+        return delegate.countByUserId(userId);
+    }
+
+    /**
+     * 저장 대기 중인 내역 수
+     */
+    public int pendingCount() {
+        return queue.size();
+    }
+
+    /**
+     * 대기열에 남은 내역을 모두 저장한 뒤 쓰기 스레드를 종료하고 delegate를 닫음
+     * - delegate는 쓰기 스레드가 끝난 뒤에 닫아야 남은 내역을 저장할 수 있음 (예: GroupCommitPointHistoryStore의 커밋 스레드)
+     */
+    @Override
+    public void close() throws Exception {
+        running = false;
+        try {
+            writer.join(TimeUnit.SECONDS.toMillis(30));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        if (!queue.isEmpty()) log.error("저장하지 못한 내역이 남아 있습니다. count={}", queue.size());
+        if (delegate instanceof AutoCloseable closeable) closeable.close();
+    }
+
+    // 순번 발급, 대기 목록 추가, 대기열 추가를 유저 단위로 한 번에 처리해서 순번 순서 = 대기열 순서를 보장
+    private void enqueueWithBacklog(PendingPointHistory row) throws InterruptedException {
+        long userId = row.userId();
+        Backlog backlog = backlogs.compute(userId, (id, current) -> {
+            Backlog target = current == null ? new Backlog() : current;
+            target.references++;
+            return target;
+        });
+
+        boolean enqueued = false;
+        backlog.enqueueLock.lock();
+        try {
+            // 새로 만든 Backlog는 대기 중인 내역이 없으므로 저장소의 건수가 곧 마지막 순번
+            // compute() 안(synchronized)에서 저장소를 조회하면 가상 스레드가 고정되므로 enqueueLock 안에서 초기화
+            if (backlog.lastSequence < 0) backlog.lastSequence = delegate.countByUserId(userId);
+            Entry entry = new Entry(row, backlog, backlog.lastSequence + 1);
+            backlog.pending.addLast(entry);
+            try {
+                enqueue(entry); // 쓰기 스레드는 enqueueLock을 잡지 않으므로 여기서 대기해도 교착되지 않음
+                enqueued = true;
+                backlog.lastSequence = entry.sequence;
+            } finally {
+                if (!enqueued) backlog.pending.removeLast();
+            }
+        } finally {
+            backlog.enqueueLock.unlock();
+            if (!enqueued) release(userId);
+        }
+    }
+
+    // 꺼내서 예외를 던지면 enqueueWithBacklog()가 대기 목록과 참조 수를 되돌림
+    private void enqueue(Entry entry) throws InterruptedException {
+        while (!queue.offer(entry, OFFER_TIMEOUT_MILLIS, TimeUnit.MILLISECONDS)) {
+            if (!running) throw closed(); // 쓰기 스레드가 끝났으면 자리가 나지 않음
+        }
+        // 확인과 offer() 사이에 종료가 시작되어 쓰기 스레드가 이미 끝났을 수 있음
+        // 아직 대기열에 남아 있으면 꺼내서 실패 처리, 꺼내지 못했으면 쓰기 스레드가 저장함
+        if (!running && queue.remove(entry)) throw closed();
+    }
+
+    private void run() {
+        List<Entry> batch = new ArrayList<>(MAX_BATCH_SIZE);
+        while (running || !queue.isEmpty()) {
+            try {
+                Entry first = queue.poll(100, TimeUnit.MILLISECONDS);
+                if (first == null) continue;
+                batch.add(first);
+                queue.drainTo(batch, MAX_BATCH_SIZE - 1);
+                write(batch);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            } finally {
+                batch.clear();
+            }
+        }
+    }
+
+    // 성공할 때까지 같은 묶음을 다시 시도, 실패한 묶음을 건너뛰면 유저별 순서와 순번이 어긋남
+    private void write(List<Entry> batch) throws InterruptedException {
+        List<PendingPointHistory> rows = new ArrayList<>(batch.size());
+        for (Entry entry : batch) {
+            rows.add(entry.row);
+        }
+        while (true) {
+            try {
+                delegate.insertAll(rows);
+                break;
+            } catch (RuntimeException e) {
+                failures.increment();
+                log.error("내역 저장에 실패해서 다시 시도합니다. size={}", rows.size(), e);
+                TimeUnit.MILLISECONDS.sleep(RETRY_BACKOFF_MILLIS);
+            }
+        }
+        for (Entry entry : batch) {
+            if (entry.backlog == null) continue;
+            entry.backlog.pending.pollFirst(); // 유저별로 대기열 순서대로 저장되므로 항상 맨 앞이 방금 저장한 내역
+            release(entry.row.userId());
+        }
+    }
+
+    private void release(long userId) {
+        backlogs.computeIfPresent(userId, (id, current) -> --current.references == 0 ? null : current);
+    }
+
+    private static IllegalStateException closed() {
+        return new IllegalStateException("종료 중에는 내역을 저장할 수 없습니다.");
+    }
+
+    private static PointHistory toPointHistory(PendingPointHistory row) {
+        return new PointHistory(0L, row.userId(), row.amount(), row.type(), row.updateMillis());
+    }
+
+    private record Entry(PendingPointHistory row, Backlog backlog, long sequence) {
+    }
+
+    private static final class Backlog {
+        private final ReentrantLock enqueueLock = new ReentrantLock();
+        private final ConcurrentLinkedDeque<Entry> pending = new ConcurrentLinkedDeque<>();
+        private long lastSequence = -1; // enqueueLock 안에서만 변경, -1이면 아직 초기화 전
+        private int references; // 저장 대기 중인 내역 수 + 대기열에 넣는 중인 insert() 호출 수
+    }
+}
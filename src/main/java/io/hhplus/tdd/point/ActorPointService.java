@@ -0,0 +1,292 @@
+package io.hhplus.tdd.point;
+
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Service;
+
+import io.hhplus.tdd.database.PendingPointHistory;
+import io.hhplus.tdd.database.PointHistoryStore;
+import io.hhplus.tdd.database.SortDirection;
+import io.hhplus.tdd.database.UserPointStore;
+import io.hhplus.tdd.point.PointValidationException.Reason;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+
+/**
+ * 충전/사용을 명령으로 만들어 userId별 샤드에서 순서대로 처리하는 모드 (point.service.mode=actor)
+ * - userId로 샤드를 고르고, 샤드마다 대기열 하나와 전용 스레드(단일 writer) 하나를 둠
+ * - 같은 유저의 명령은 항상 같은 샤드에서 도착 순서(FIFO)대로 처리되므로 락이 필요 없음
+ * - 이체는 두 유저의 샤드를 번호 순서로 점유한 뒤 처리 (submitTransfer 참고)
+ * - 요청 스레드는 락을 두고 다른 스레드와 경쟁하지 않고, 명령의 CompletableFuture 완료만 기다림
+ * - 검증에 걸려 거절한 명령은 lock 모드와 같이 point.validation.rejected(reason 태그)로 집계
+ */
+@Service
+@ConditionalOnProperty(prefix = "point.service", name = "mode", havingValue = "actor")
+public class ActorPointService implements PointService {
+
+    private final PointHistoryStore pointHistoryStore;
+    private final UserPointStore userPointStore;
+    private final PointLedger pointLedger;
+    private final PointRejectionCounter rejections;
+    private final PointHistoryQuery historyQuery;
+    private final Shard[] shards;
+
+    @Autowired
+    public ActorPointService(PointHistoryStore pointHistoryStore, UserPointStore userPointStore, PointLedger pointLedger, ActorProperties actorProperties,
+                             MeterRegistry meterRegistry) {
+        this(pointHistoryStore, userPointStore, pointLedger, actorProperties.shards(), actorProperties.queueCapacity(), meterRegistry);
+    }
+
+    public ActorPointService(PointHistoryStore pointHistoryStore, UserPointStore userPointStore, PointLedger pointLedger, int shardCount, int queueCapacity,
+                             MeterRegistry meterRegistry) {
+        if (shardCount < 1) throw new IllegalArgumentException("샤드 개수는 1 이상이어야 합니다.");
+        this.pointHistoryStore = pointHistoryStore;
+        this.userPointStore = userPointStore;
+        this.pointLedger = pointLedger;
+        this.rejections = new PointRejectionCounter(meterRegistry);
+        this.historyQuery = new PointHistoryQuery(pointHistoryStore, rejections);
+        this.shards = new Shard[shardCount];
+        for (int i = 0; i < shardCount; i++) {
+            shards[i] = new Shard(i, queueCapacity);
+        }
+    }
+
+    @Override
+    public UserPoint chargeUserPoint(long userId, long amount) {
+        return await(submitCharge(userId, amount));
+    }
+
+    @Override
+    public UserPoint useUserPoint(long userId, long amount) {
+        return await(submitUse(userId, amount));
+    }
+
+    /**
+     * 충전 명령을 샤드 대기열에 넣고 완료 시점의 Future를 반환
+     */
+    public CompletableFuture<UserPoint> submitCharge(long userId, long amount) {
+        return submit(userId, () -> {
+            // 사용자 조회
+            UserPoint PSuserPoint = userPointStore.selectById(userId);
+            if (PSuserPoint == null) throw new PointValidationException(Reason.USER_NOT_FOUND);
+            // 조회된 사용자 포인트 증가
+            UserPoint updatedUserPoint = PSuserPoint.increaseUserPoints(amount);
+            // 충전내역 저장, 같은 유저의 명령은 한 스레드에서만 처리되므로 집계도 내역 순서대로 반영
+            long now = System.currentTimeMillis();
+            pointHistoryStore.insert(userId, amount, TransactionType.CHARGE, now);
+            pointLedger.record(userId, TransactionType.CHARGE, amount, now);
+            // 변경된 사용자 업데이트
+            userPointStore.insertOrUpdate(updatedUserPoint.id(), updatedUserPoint.point());
+            return updatedUserPoint;
+        });
+    }
+
+    /**
+     * 사용 명령을 샤드 대기열에 넣고 완료 시점의 Future를 반환
+     */
+    public CompletableFuture<UserPoint> submitUse(long userId, long amount) {
+        return submit(userId, () -> {
+            // 사용자 조회
+            UserPoint PSuserPoint = userPointStore.selectById(userId);
+            if (PSuserPoint == null) throw new PointValidationException(Reason.USER_NOT_FOUND);
+            // 조회된 사용자 포인트 감소
+            UserPoint updatedUserPoint = PSuserPoint.decreaseUserPoints(amount);
+            // 사용내역 저장, 같은 유저의 명령은 한 스레드에서만 처리되므로 집계도 내역 순서대로 반영
+            long now = System.currentTimeMillis();
+            pointHistoryStore.insert(userId, amount, TransactionType.USE, now);
+            pointLedger.record(userId, TransactionType.USE, amount, now);
+            // 변경된 사용자 업데이트
+            userPointStore.insertOrUpdate(updatedUserPoint.id(), updatedUserPoint.point());
+            return updatedUserPoint;
+        });
+    }
+
+    @Override
+    public PointTransferResult transferUserPoint(long fromUserId, long toUserId, long amount) {
+        return await(submitTransfer(fromUserId, toUserId, amount));
+    }
+
+    /**
+     * 이체 명령을 샤드 대기열에 넣고 완료 시점의 Future를 반환
+     * - 두 유저가 같은 샤드면 그 샤드에서 바로 처리
+     * - 다른 샤드면 번호가 작은 샤드에서 처리하고, 번호가 큰 샤드에는 대기 명령을 넣어 이체가 끝날 때까지 멈춰 둠
+     *   샤드는 자신보다 번호가 큰 샤드만 기다리므로 반대 방향 이체끼리 교착되지 않음
+     */
+    public CompletableFuture<PointTransferResult> submitTransfer(long fromUserId, long toUserId, long amount) {
+        if (fromUserId == toUserId) return CompletableFuture.failedFuture(rejections.rejected(new PointValidationException(Reason.SELF_TRANSFER)));
+        int fromShard = shardIndex(fromUserId);
+        int toShard = shardIndex(toUserId);
+        if (fromShard == toShard) return submitToShard(fromShard, () -> transfer(fromUserId, toUserId, amount));
+        Shard higher = shards[Math.max(fromShard, toShard)];
+        return submitToShard(Math.min(fromShard, toShard), () -> {
+            CompletableFuture<Void> parked = new CompletableFuture<>();
+            CompletableFuture<Void> released = new CompletableFuture<>();
+            higher.submit(() -> {
+                parked.complete(null);
+                released.join(); // 이체가 끝날 때까지 이 샤드의 다음 명령을 처리하지 않음
+            });
+            try {
+                parked.join(); // 번호가 큰 샤드가 앞선 명령을 모두 처리하고 멈출 때까지 대기
+                return transfer(fromUserId, toUserId, amount);
+            } finally {
+                released.complete(null);
+            }
+        });
+    }
+
+    @Override
+    public UserPoint findUserPoint(long userId) {
+        UserPoint PSuserPoint = userPointStore.selectById(userId);
+        if (PSuserPoint == null) throw rejections.rejected(new PointValidationException(Reason.USER_NOT_FOUND));
+        return PSuserPoint;
+    }
+
+    @Override
+    public List<PointHistory> findUserHistory(long userId) {
+        return historyQuery.findUserHistory(userId);
+    }
+
+    @Override
+    public List<PointHistory> findUserHistoryByTime(long userId, long fromMillis, long toMillis, TransactionType type) {
+        return historyQuery.findUserHistoryByTime(userId, fromMillis, toMillis, type);
+    }
+
+    @Override
+    public PointHistoryPage findUserHistoryPage(long userId, long cursor, int size, SortDirection direction) {
+        return historyQuery.findUserHistoryPage(userId, cursor, size, direction);
+    }
+
+    // 두 유저의 샤드를 모두 점유한 상태에서만 호출
+    private PointTransferResult transfer(long fromUserId, long toUserId, long amount) {
+        // 사용자 조회
+        UserPoint fromUserPoint = userPointStore.selectById(fromUserId);
+        if (fromUserPoint == null) throw new PointValidationException(Reason.USER_NOT_FOUND);
+        UserPoint toUserPoint = userPointStore.selectById(toUserId);
+        if (toUserPoint == null) throw new PointValidationException(Reason.USER_NOT_FOUND);
+        // 양쪽 검증을 모두 통과한 뒤에 저장, 한쪽만 반영되는 경우가 없음
+        UserPoint updatedFromUserPoint = fromUserPoint.decreaseUserPoints(amount);
+        UserPoint updatedToUserPoint = toUserPoint.increaseUserPoints(amount);
+        // 사용/충전 내역을 한 번에 저장
+        long now = System.currentTimeMillis();
+        pointHistoryStore.insertAll(List.of(
+                new PendingPointHistory(fromUserId, amount, TransactionType.USE, now),
+                new PendingPointHistory(toUserId, amount, TransactionType.CHARGE, now)
+        ));
+        pointLedger.record(fromUserId, TransactionType.USE, amount, now);
+        pointLedger.record(toUserId, TransactionType.CHARGE, amount, now);
+        // 변경된 사용자 업데이트
+        userPointStore.insertOrUpdate(updatedFromUserPoint.id(), updatedFromUserPoint.point());
+        userPointStore.insertOrUpdate(updatedToUserPoint.id(), updatedToUserPoint.point());
+        return new PointTransferResult(updatedFromUserPoint, updatedToUserPoint);
+    }
+
+    /**
+     * 대기열에 남은 명령을 모두 처리한 뒤 샤드 스레드를 종료
+     */
+    @PreDestroy
+    public void shutdown() {
+        for (Shard shard : shards) {
+            shard.stop();
+        }
+        for (Shard shard : shards) {
+            shard.awaitTermination();
+        }
+    }
+
+    private <T> CompletableFuture<T> submit(long userId, Supplier<T> command) {
+        return submitToShard(shardIndex(userId), command);
+    }
+
+    private <T> CompletableFuture<T> submitToShard(int shardIndex, Supplier<T> command) {
+        CompletableFuture<T> future = new CompletableFuture<>();
+        shards[shardIndex].submit(() -> {
+            try {
+                future.complete(command.get());
+            } catch (PointValidationException e) {
+                future.completeExceptionally(rejections.rejected(e)); // 검증 실패는 명령을 처리한 샤드에서 집계
+            } catch (Throwable e) {
+                future.completeExceptionally(e);
+            }
+        });
+        return future;
+    }
+
+    private int shardIndex(long userId) {
+        return Math.floorMod(userId, shards.length);
+    }
+
+    // 명령에서 발생한 예외(검증 실패 등)를 호출한 쪽에 그대로 전달
+    private <T> T await(CompletableFuture<T> future) {
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) throw cause;
+            throw e;
+        }
+    }
+
+    /**
+     * 대기열 하나와 그 대기열만 처리하는 전용 스레드 하나
+     */
+    private static final class Shard implements Runnable {
+
+        private final BlockingQueue<Runnable> queue;
+        private final Thread writer;
+        private volatile boolean running = true;
+
+        private Shard(int index, int queueCapacity) {
+            this.queue = new ArrayBlockingQueue<>(queueCapacity);
+            this.writer = new Thread(this, "point-actor-" + index);
+            this.writer.setDaemon(true);
+            this.writer.start();
+        }
+
+        private void submit(Runnable command) {
+            if (!running) throw new IllegalStateException("종료 중에는 요청을 처리할 수 없습니다.");
+            try {
+                queue.put(command); // 대기열이 가득 차면 빈 자리가 생길 때까지 대기 (backpressure)
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IllegalStateException("요청 대기 중 인터럽트가 발생했습니다.", e);
+            }
+            // 확인과 put() 사이에 stop()이 불려 writer가 이미 종료했을 수 있음
+            // 아직 대기열에 남아 있으면 꺼내서 실패 처리, 꺼내지 못했으면 writer가 가져가서 처리함
+            if (!running && queue.remove(command)) {
+                throw new IllegalStateException("종료 중에는 요청을 처리할 수 없습니다.");
+            }
+        }
+
+        @Override
+        public void run() {
+            while (running || !queue.isEmpty()) {
+                try {
+                    Runnable command = queue.poll(100, TimeUnit.MILLISECONDS);
+                    if (command != null) command.run();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    return;
+                }
+            }
+        }
+
+        private void stop() {
+            running = false;
+        }
+
+        private void awaitTermination() {
+            try {
+                writer.join(TimeUnit.SECONDS.toMillis(30));
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+}
@@ -0,0 +1,16 @@
+package io.hhplus.tdd.point;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * point.actor 설정 (point.service.mode=actor 일 때 사용)
+ * - shards: 명령을 처리하는 샤드(전용 스레드) 개수
+ * - queue-capacity: 샤드별 대기열 크기, 가득 차면 요청 스레드가 빈 자리가 생길 때까지 대기
+ */
+@ConfigurationProperties(prefix = "point.actor")
+public record ActorProperties(
+        @DefaultValue("64") int shards,
+        @DefaultValue("10000") int queueCapacity
+) {
+}
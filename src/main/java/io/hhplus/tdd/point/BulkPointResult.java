@@ -0,0 +1,23 @@
+package io.hhplus.tdd.point;
+
+/**
+ * 일괄 충전/사용 요청 한 건의 결과, 요청과 같은 순서로 반환
+ * - 성공하면 userPoint에 변경된 포인트, 실패하면 error에 사유
+ */
+public record BulkPointResult(
+        long userId,
+        long amount,
+        TransactionType type,
+        boolean success,
+        UserPoint userPoint,
+        String error
+) {
+
+    public static BulkPointResult success(BulkPointRequest request, UserPoint userPoint) {
+        return new BulkPointResult(request.userId(), request.amount(), request.type(), true, userPoint, null);
+    }
+
+    public static BulkPointResult failure(BulkPointRequest request, String error) {
+        return new BulkPointResult(request.userId(), request.amount(), request.type(), false, null, error);
+    }
+}
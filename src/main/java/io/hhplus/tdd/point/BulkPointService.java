@@ -0,0 +1,106 @@
+package io.hhplus.tdd.point;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+
+import jakarta.annotation.PreDestroy;
+
+/**
+ * 여러 유저의 충전/사용 요청을 한 번에 처리하는 서비스
+ * - 요청을 userId별로 묶고, 유저 하나를 작업 하나로 만들어 parallelism 개의 스레드에서 동시에 처리
+ * - 같은 유저의 요청은 한 작업 안에서 요청 순서대로 처리 -> 유저별 순서 유지
+ * - 요청 한 건이 실패(검증 실패 등)해도 해당 건의 결과에만 사유를 기록하고 다음 요청을 계속 처리
+ * - 실제 충전/사용은 PointService에 위임하므로 단건 API와 동시에 들어와도 같은 방식으로 동시성이 제어됨
+ */
+@Service
+public class BulkPointService {
+
+    private final PointService pointService;
+    private final ExecutorService executorService;
+    private final int maxItems;
+
+    @Autowired
+    public BulkPointService(PointService pointService, BulkProperties bulkProperties) {
+        this(pointService, bulkProperties.parallelism(), bulkProperties.maxItems());
+    }
+
+    public BulkPointService(PointService pointService, int parallelism, int maxItems) {
+        if (parallelism < 1) throw new IllegalArgumentException("동시 처리 수는 1 이상이어야 합니다.");
+        this.pointService = pointService;
+        this.executorService = Executors.newFixedThreadPool(parallelism, new BulkThreadFactory());
+        this.maxItems = maxItems;
+    }
+
+    /**
+     * 요청과 같은 순서로 건별 결과를 반환
+     */
+    public List<BulkPointResult> process(List<BulkPointRequest> requests) {
+        if (requests.size() > maxItems) throw new IllegalArgumentException("한 번에 요청할 수 있는 건수는 " + maxItems + "건 이하여야 합니다.");
+
+        // userId -> 요청 번호 목록 (요청 순서 유지)
+        Map<Long, List<Integer>> byUser = new LinkedHashMap<>();
+        for (int i = 0; i < requests.size(); i++) {
+            byUser.computeIfAbsent(requests.get(i).userId(), id -> new ArrayList<>()).add(i);
+        }
+
+        BulkPointResult[] results = new BulkPointResult[requests.size()];
+        List<CompletableFuture<Void>> futures = new ArrayList<>(byUser.size());
+        for (List<Integer> indexes : byUser.values()) {
+            futures.add(CompletableFuture.runAsync(() -> {
+                for (int index : indexes) {
+                    results[index] = processOne(requests.get(index));
+                }
+            }, executorService));
+        }
+        CompletableFuture.allOf(futures.toArray(CompletableFuture[]::new)).join(); // 유저 작업은 예외를 밖으로 던지지 않음
+        return Arrays.asList(results);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executorService.shutdown();
+        try {
+            executorService.awaitTermination(30, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private BulkPointResult processOne(BulkPointRequest request) {
+        try {
+            if (request.type() == null) throw new IllegalArgumentException("거래 유형은 필수입니다.");
+            UserPoint userPoint = switch (request.type()) {
+                case CHARGE -> pointService.chargeUserPoint(request.userId(), request.amount());
+                case USE -> pointService.useUserPoint(request.userId(), request.amount());
+            };
+            return BulkPointResult.success(request, userPoint);
+        } catch (IllegalArgumentException e) {
+            return BulkPointResult.failure(request, e.getMessage());
+        } catch (RuntimeException e) {
+            return BulkPointResult.failure(request, "처리 중 오류가 발생했습니다.");
+        }
+    }
+
+    private static final class BulkThreadFactory implements ThreadFactory {
+        private final AtomicInteger sequence = new AtomicInteger();
+
+        @Override
+        public Thread newThread(Runnable runnable) {
+            Thread thread = new Thread(runnable, "point-bulk-" + sequence.getAndIncrement());
+            thread.setDaemon(true);
+            return thread;
+        }
+    }
+}
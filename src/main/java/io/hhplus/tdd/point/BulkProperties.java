@@ -0,0 +1,16 @@
+package io.hhplus.tdd.point;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * point.bulk 설정
+ * - parallelism: 일괄 요청에서 동시에 처리하는 유저 수(스레드 수)
+ * - max-items: 한 번에 받을 수 있는 최대 요청 건수
+ */
+@ConfigurationProperties(prefix = "point.bulk")
+public record BulkProperties(
+        @DefaultValue("64") int parallelism,
+        @DefaultValue("100000") int maxItems
+) {
+}
@@ -0,0 +1,259 @@
+package io.hhplus.tdd.point;
+
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.UnaryOperator;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Service;
+
+import io.hhplus.tdd.database.PendingPointHistory;
+import io.hhplus.tdd.database.PointHistoryStore;
+import io.hhplus.tdd.database.SortDirection;
+import io.hhplus.tdd.database.UserPointStore;
+import io.hhplus.tdd.point.PointValidationException.Reason;
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * 락 없이 CAS(compare-and-set)로 잔액을 변경하는 낙관적 모드 (point.service.mode=optimistic)
+ * - 사용자별 잔액을 BalanceCell(AtomicReference<VersionedUserPoint>)에 보관하고, 처음 접근할 때 UserPointStore에서 읽어옴
+ * - 충전/사용은 셀의 현재 값으로 검증 후 다음 버전을 CAS, 다른 요청이 먼저 바꿨으면 다시 읽어서 재시도
+ * - CAS에 성공한 뒤에 내역 저장과 테이블 반영을 하므로 테이블 지연 동안 다른 요청이 대기하지 않음
+ * - CAS로 반영한 금액은 내역이 저장될 때까지 대기(pending)로 표시
+ *   내역 저장에 실패하면 그 금액만 되돌리고, 테이블에는 내역이 저장된 변경만 반영한 잔액(confirmedPoint)을 기록
+ *   -> 내역/원장/저널에 없는 잔액 변경이 테이블에 남지 않음
+ * - 이체는 두 셀에 각각 CAS 하고 두 내역을 insertAll()로 한 번에 저장, 내역 저장에 실패하면 양쪽 모두 되돌림
+ * - 셀은 UserLockRegistry처럼 사용 중인 요청 수를 세고, 0이 되면 맵에서 제거 (그때는 테이블 반영도 끝나 있음)
+ * - 검증에 걸려 거절한 요청은 lock 모드와 같이 point.validation.rejected(reason 태그)로 집계
+ *
+ * 주의
+ * - 이 모드에서는 셀이 잔액의 기준이므로 잔액 변경은 반드시 서비스를 거쳐야 함
+ * - 같은 유저의 내역은 CAS 성공 순서와 다르게 저장될 수 있음
+ * - 테이블 반영은 유저별로 한 스레드가 모아서 하므로, 응답 시점에 테이블이 아직 이전 값일 수 있음 (셀 기준 조회는 항상 최신)
+ */
+@Service
+@ConditionalOnProperty(prefix = "point.service", name = "mode", havingValue = "optimistic")
+public class OptimisticPointService implements PointService {
+
+    private final PointHistoryStore pointHistoryStore;
+    private final UserPointStore userPointStore;
+    private final PointLedger pointLedger;
+    private final PointRejectionCounter rejections;
+    private final PointHistoryQuery historyQuery;
+
+    private final ConcurrentHashMap<Long, BalanceCell> cells = new ConcurrentHashMap<>();
+    private final LongAdder conflicts = new LongAdder();
+
+    public OptimisticPointService(PointHistoryStore pointHistoryStore, UserPointStore userPointStore, PointLedger pointLedger,
+                                  MeterRegistry meterRegistry) {
+        this.pointHistoryStore = pointHistoryStore;
+        this.userPointStore = userPointStore;
+        this.pointLedger = pointLedger;
+        this.rejections = new PointRejectionCounter(meterRegistry);
+        this.historyQuery = new PointHistoryQuery(pointHistoryStore, rejections);
+    }
+
+    @Override
+    public UserPoint chargeUserPoint(long userId, long amount) {
+        try {
+            return update(userId, amount, TransactionType.CHARGE);
+        } catch (PointValidationException e) {
+            throw rejections.rejected(e);
+        }
+    }
+
+    @Override
+    public UserPoint useUserPoint(long userId, long amount) {
+        try {
+            return update(userId, amount, TransactionType.USE);
+        } catch (PointValidationException e) {
+            throw rejections.rejected(e);
+        }
+    }
+
+    /**
+     * 두 셀에 각각 CAS로 반영한 뒤 두 내역을 한 번에 저장
+     * - 받는 쪽 충전을 먼저 반영하고, 보내는 쪽 사용이 검증에 실패하면 충전을 되돌림 -> 한쪽만 반영되는 경우가 없음
+     * - 락을 잡지 않으므로 반대 방향 이체와 교착되지 않음
+     * - 받은 금액은 내역이 저장될 때까지 대기(pending)로 표시되어 그 사이에 사용할 수 없음
+     */
+    @Override
+    public PointTransferResult transferUserPoint(long fromUserId, long toUserId, long amount) {
+        if (fromUserId == toUserId) throw rejections.rejected(new PointValidationException(Reason.SELF_TRANSFER));
+        try {
+            return transfer(fromUserId, toUserId, amount);
+        } catch (PointValidationException e) {
+            throw rejections.rejected(e);
+        }
+    }
+
+    @Override
+    public UserPoint findUserPoint(long userId) {
+        // 처리 중인 요청이 있으면 셀이 최신, 없으면 테이블 반영까지 끝난 상태
+        BalanceCell cell = cells.get(userId);
+        VersionedUserPoint current = cell == null ? null : cell.value.get();
+        if (current != null) return current.userPoint();
+        UserPoint PSuserPoint = userPointStore.selectById(userId);
+        if (PSuserPoint == null) throw rejections.rejected(new PointValidationException(Reason.USER_NOT_FOUND));
+        return PSuserPoint;
+    }
+
+    @Override
+    public List<PointHistory> findUserHistory(long userId) {
+        return historyQuery.findUserHistory(userId);
+    }
+
+    @Override
+    public List<PointHistory> findUserHistoryByTime(long userId, long fromMillis, long toMillis, TransactionType type) {
+        return historyQuery.findUserHistoryByTime(userId, fromMillis, toMillis, type);
+    }
+
+    @Override
+    public PointHistoryPage findUserHistoryPage(long userId, long cursor, int size, SortDirection direction) {
+        return historyQuery.findUserHistoryPage(userId, cursor, size, direction);
+    }
+
+    /**
+     * CAS 충돌로 재시도한 횟수
+     */
+    public long conflictCount() {
+        return conflicts.sum();
+    }
+
+    /**
+     * 현재 보관 중인 셀 개수 (처리 중인 요청이 있는 유저 수)
+     */
+    public int cellCount() {
+        return cells.size();
+    }
+
+    private PointTransferResult transfer(long fromUserId, long toUserId, long amount) {
+        BalanceCell fromCell = acquireCell(fromUserId);
+        try {
+            BalanceCell toCell = acquireCell(toUserId);
+            try {
+                UserPoint updatedToUserPoint = change(toCell, current -> current.reserve(TransactionType.CHARGE, amount)).userPoint();
+                UserPoint updatedFromUserPoint;
+                try {
+                    updatedFromUserPoint = change(fromCell, current -> current.reserve(TransactionType.USE, amount)).userPoint();
+                } catch (RuntimeException e) {
+                    change(toCell, current -> current.rollback(TransactionType.CHARGE, amount));
+                    flush(toUserId, toCell);
+                    throw e;
+                }
+                long now = System.currentTimeMillis();
+                try {
+                    pointHistoryStore.insertAll(List.of(
+                            new PendingPointHistory(fromUserId, amount, TransactionType.USE, now),
+                            new PendingPointHistory(toUserId, amount, TransactionType.CHARGE, now)
+                    ));
+                } catch (RuntimeException e) {
+                    change(fromCell, current -> current.rollback(TransactionType.USE, amount));
+                    change(toCell, current -> current.rollback(TransactionType.CHARGE, amount));
+                    flush(fromUserId, fromCell);
+                    flush(toUserId, toCell);
+                    throw e;
+                }
+                change(fromCell, current -> current.confirm(TransactionType.USE, amount));
+                change(toCell, current -> current.confirm(TransactionType.CHARGE, amount));
+                pointLedger.record(fromUserId, TransactionType.USE, amount, now);
+                pointLedger.record(toUserId, TransactionType.CHARGE, amount, now);
+                flush(fromUserId, fromCell);
+                flush(toUserId, toCell);
+                return new PointTransferResult(updatedFromUserPoint, updatedToUserPoint);
+            } finally {
+                releaseCell(toUserId);
+            }
+        } finally {
+            releaseCell(fromUserId);
+        }
+    }
+
+    private UserPoint update(long userId, long amount, TransactionType type) {
+        BalanceCell cell = acquireCell(userId);
+        try {
+            // 검증은 UserPoint에 그대로 위임, 실패하면 예외가 발생하고 셀은 바뀌지 않음
+            UserPoint updatedUserPoint = change(cell, current -> current.reserve(type, amount)).userPoint();
+            try {
+                pointHistoryStore.insert(userId, amount, type, updatedUserPoint.updateMillis());
+            } catch (RuntimeException e) {
+                change(cell, current -> current.rollback(type, amount)); // 내역이 없는 변경은 되돌림
+                flush(userId, cell);
+                throw e;
+            }
+            change(cell, current -> current.confirm(type, amount));
+            pointLedger.record(userId, type, amount, updatedUserPoint.updateMillis());
+            flush(userId, cell);
+            return updatedUserPoint;
+        } finally {
+            releaseCell(userId);
+        }
+    }
+
+    // 다른 요청이 먼저 변경했으면 최신 값으로 다시 시도
+    private VersionedUserPoint change(BalanceCell cell, UnaryOperator<VersionedUserPoint> operator) {
+        while (true) {
+            VersionedUserPoint current = cell.value.get();
+            VersionedUserPoint next = operator.apply(current);
+            if (cell.value.compareAndSet(current, next)) return next;
+            conflicts.increment();
+        }
+    }
+
+    /**
+     * 셀의 최신 값을 테이블에 반영
+     * - 유저별로 한 스레드만 반영하고, 반영 중에 들어온 변경은 그 스레드가 이어서 반영
+     * - 반영 중인 스레드가 있으면 바로 반환하므로 쓰기가 몰려도 테이블 호출이 요청 수만큼 늘어나지 않음
+     * - 마지막으로 성공한 CAS의 값이 결국 테이블에 남음
+     */
+    private void flush(long userId, BalanceCell cell) {
+        while (cell.flushing.compareAndSet(false, true)) {
+            VersionedUserPoint written;
+            try {
+                do {
+                    written = cell.value.get();
+                    userPointStore.insertOrUpdate(userId, written.confirmedPoint());
+                } while (cell.value.get().version() != written.version());
+            } finally {
+                cell.flushing.set(false);
+            }
+            // 플래그를 내리기 직전에 CAS한 스레드는 반영을 맡기고 떠났을 수 있으므로 다시 확인
+            if (cell.value.get().version() == written.version()) return;
+        }
+    }
+
+    /**
+     * 셀을 가져오면서 사용 중인 요청 수를 증가, 반드시 releaseCell() 호출
+     * - 테이블 조회(최대 200ms)는 맵의 잠금 밖에서 수행, 동시에 읽은 경우 먼저 채운 값을 사용
+     */
+    private BalanceCell acquireCell(long userId) {
+        BalanceCell cell = cells.compute(userId, (id, current) -> {
+            BalanceCell target = current == null ? new BalanceCell() : current;
+            target.references++;
+            return target;
+        });
+        if (cell.value.get() == null) {
+            UserPoint PSuserPoint = userPointStore.selectById(userId);
+            if (PSuserPoint == null) {
+                releaseCell(userId);
+                throw new PointValidationException(Reason.USER_NOT_FOUND);
+            }
+            cell.value.compareAndSet(null, VersionedUserPoint.loaded(PSuserPoint));
+        }
+        return cell;
+    }
+
+    // 사용 중인 요청이 없으면 맵에서 제거, 마지막 요청의 flush()가 끝난 뒤라 테이블이 셀과 같음
+    private void releaseCell(long userId) {
+        cells.computeIfPresent(userId, (id, current) -> --current.references == 0 ? null : current);
+    }
+
+    private static final class BalanceCell {
+        private final AtomicReference<VersionedUserPoint> value = new AtomicReference<>(); // 테이블에서 읽기 전에는 null
+        private final AtomicBoolean flushing = new AtomicBoolean(); // 테이블 반영 중인 스레드가 있는지
+        private int references; // 셀을 사용 중인 요청 수, compute() 안에서만 변경
+    }
+}
@@ -2,8 +2,11 @@ package io.hhplus.tdd.point;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.http.MediaType;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import io.hhplus.tdd.database.SortDirection;
 import lombok.RequiredArgsConstructor;
 
 import java.util.List;
@@ -14,7 +17,10 @@ import java.util.List;
 public class PointController {
 
     private static final Logger log = LoggerFactory.getLogger(PointController.class);
-    private PointService pointService;
+    private final PointService pointService;
+    private final BulkPointService bulkPointService;
+    private final PointHistoryExporter pointHistoryExporter;
+    private final PointLedger pointLedger;
 
     /**
      * TODO - 특정 유저의 포인트를 조회하는 기능을 작성해주세요.
@@ -28,12 +34,55 @@ public class PointController {
 
     /**
      * TODO - 특정 유저의 포인트 충전/이용 내역을 조회하는 기능을 작성해주세요.
+     * - from/to(epoch millis, to는 포함하지 않음)나 type을 지정하면 해당 기간/유형의 내역만 시간 순서로 조회
+     *   예) 최근 24시간: ?from={now - 86400000}
      */
     @GetMapping("{id}/histories")
     public List<PointHistory> history(
+            @PathVariable long id,
+            @RequestParam(required = false) Long from,
+            @RequestParam(required = false) Long to,
+            @RequestParam(required = false) TransactionType type
+    ) {
+        if (from == null && to == null && type == null) return pointService.findUserHistory(id);
+        return pointService.findUserHistoryByTime(id, from == null ? 0L : from, to == null ? Long.MAX_VALUE : to, type);
+    }
+
+    /**
+     * 특정 유저의 포인트 충전/이용 내역을 커서 기반으로 한 페이지씩 조회
+     * - cursor: 직전 응답의 nextCursor, 첫 페이지는 생략(0)
+     * - direction: ASC(오래된 내역부터) | DESC(최신 내역부터)
+     */
+    @GetMapping("{id}/histories/page")
+    public PointHistoryPage historyPage(
+            @PathVariable long id,
+            @RequestParam(defaultValue = "0") long cursor,
+            @RequestParam(defaultValue = "20") int size,
+            @RequestParam(defaultValue = "ASC") SortDirection direction
+    ) {
+        return pointService.findUserHistoryPage(id, cursor, size, direction);
+    }
+
+    /**
+     * 특정 유저의 충전/사용 합계, 내역 건수, 마지막 거래 시각
+     * - 내역을 저장할 때마다 갱신한 집계를 반환하므로 내역을 조회하지 않음
+     */
+    @GetMapping("{id}/summary")
+    public PointSummary summary(
+            @PathVariable long id
+    ) {
+        return pointLedger.summary(id);
+    }
+
+    /**
+     * 특정 유저의 전체 내역을 NDJSON으로 스트리밍
+     * - 목록 전체를 만들지 않고 읽는 대로 한 줄씩 쓰므로 내역이 많아도 메모리 사용량이 일정함
+     */
+    @GetMapping(value = "{id}/histories/export", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public StreamingResponseBody exportHistory(
             @PathVariable long id
     ) {
-        return pointService.findUserHistory(id);
+        return outputStream -> pointHistoryExporter.export(id, outputStream);
     }
 
     /**
@@ -57,4 +106,28 @@ public class PointController {
     ) {
         return pointService.useUserPoint(id, amount);
     }
+
+    /**
+     * 특정 유저의 포인트를 다른 유저에게 이체
+     */
+    @PatchMapping("{id}/transfer/{targetId}")
+    public PointTransferResult transfer(
+            @PathVariable long id,
+            @PathVariable long targetId,
+            @RequestBody long amount
+    ) {
+        return pointService.transferUserPoint(id, targetId, amount);
+    }
+
+    /**
+     * 여러 유저의 포인트를 한 번에 충전/사용
+     * - 유저별로 요청 순서를 지키면서 서로 다른 유저는 동시에 처리
+     * - 한 건이 실패해도 나머지는 계속 처리하고, 요청과 같은 순서로 건별 결과를 반환
+     */
+    @PostMapping("bulk")
+    public List<BulkPointResult> bulk(
+            @RequestBody List<BulkPointRequest> requests
+    ) {
+        return bulkPointService.process(requests);
+    }
 }
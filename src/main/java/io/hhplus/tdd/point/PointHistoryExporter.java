@@ -0,0 +1,51 @@
+package io.hhplus.tdd.point;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.List;
+
+import org.springframework.stereotype.Component;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+
+import io.hhplus.tdd.database.PointHistoryStore;
+import io.hhplus.tdd.database.SortDirection;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 유저의 전체 내역을 NDJSON(한 줄에 JSON 하나)으로 내보내는 컴포넌트
+ * - 커서 기반 페이지(PAGE_SIZE 건)를 하나씩 조회해서 바로 쓰고 버림 -> 내역 수와 관계없이 메모리는 페이지 하나만큼만 사용
+ * - 페이지마다 flush 하므로 클라이언트는 전체 조회가 끝나기 전에 받기 시작함
+ * - 클라이언트가 연결을 끊으면 write/flush에서 IOException이 발생하고 다음 페이지를 조회하지 않음
+ * - write-behind 모드에서 아직 저장되지 않은 내역은 포함하지 않음 (페이지 조회와 같음)
+ */
+@Component
+@RequiredArgsConstructor
+public class PointHistoryExporter {
+
+    static final int PAGE_SIZE = 1_000;
+
+    private final PointHistoryStore pointHistoryStore;
+    private final ObjectMapper objectMapper;
+
+    /**
+     * 내역을 id 오름차순으로 outputStream에 쓰고 내보낸 건수를 반환, outputStream은 닫지 않음
+     */
+    public long export(long userId, OutputStream outputStream) throws IOException {
+        ObjectWriter writer = objectMapper.writerFor(PointHistory.class);
+        long cursor = 0L;
+        long count = 0L;
+        while (true) {
+            List<PointHistory> page = pointHistoryStore.selectPageByUserId(userId, cursor, PAGE_SIZE, SortDirection.ASC);
+            for (PointHistory pointHistory : page) {
+                outputStream.write(writer.writeValueAsBytes(pointHistory));
+                outputStream.write('\n');
+            }
+            outputStream.flush();
+            count += page.size();
+            if (page.size() < PAGE_SIZE) return count;
+            cursor = page.get(page.size() - 1).id();
+        }
+    }
+}
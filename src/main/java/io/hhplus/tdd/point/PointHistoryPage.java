@@ -0,0 +1,24 @@
+package io.hhplus.tdd.point;
+
+import java.util.List;
+
+/**
+ * 커서 기반 내역 페이지
+ * - nextCursor: 다음 페이지 요청에 넘길 커서(이 페이지의 마지막 id), 다음 페이지가 없으면 null
+ */
+public record PointHistoryPage(
+        List<PointHistory> histories,
+        Long nextCursor
+) {
+
+    public static final int MAX_SIZE = 1_000;
+
+    /**
+     * size + 1 건까지 조회한 결과로 페이지를 만듦, size 건을 넘으면 다음 페이지가 있음
+     */
+    public static PointHistoryPage of(List<PointHistory> rows, int size) {
+        if (rows.size() <= size) return new PointHistoryPage(rows, null);
+        List<PointHistory> histories = rows.subList(0, size);
+        return new PointHistoryPage(List.copyOf(histories), histories.get(size - 1).id());
+    }
+}
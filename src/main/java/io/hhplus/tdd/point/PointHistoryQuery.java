@@ -0,0 +1,50 @@
+package io.hhplus.tdd.point;
+
+import java.util.List;
+
+import io.hhplus.tdd.database.PointHistoryStore;
+import io.hhplus.tdd.database.SortDirection;
+import io.hhplus.tdd.point.PointValidationException.Reason;
+
+/**
+ * 내역 조회, 서비스 모드(lock / optimistic / actor)와 관계없이 PointHistoryStore를 그대로 읽으므로 각 서비스가 하나씩 가지고 위임
+ * - 요청 값 검증은 여기서만 하고, 거절은 서비스의 PointRejectionCounter로 집계
+ * - 내역이 하나도 없는 유저는 존재하지 않는 유저(USER_NOT_FOUND)
+ *   기간/페이지 조회는 결과가 비었을 때만 countByUserId()로 확인 -> 결과가 있으면 추가 조회 없음
+ */
+final class PointHistoryQuery {
+
+    private final PointHistoryStore pointHistoryStore;
+    private final PointRejectionCounter rejections;
+
+    PointHistoryQuery(PointHistoryStore pointHistoryStore, PointRejectionCounter rejections) {
+        this.pointHistoryStore = pointHistoryStore;
+        this.rejections = rejections;
+    }
+
+    List<PointHistory> findUserHistory(long userId) {
+        List<PointHistory> PSpointHistoryList = pointHistoryStore.selectAllByUserId(userId); // userId 인덱스로 조회, 전체 내역을 훑지 않음
+        if (PSpointHistoryList.isEmpty()) throw rejections.rejected(new PointValidationException(Reason.USER_NOT_FOUND));
+        return PSpointHistoryList;
+    }
+
+    List<PointHistory> findUserHistoryByTime(long userId, long fromMillis, long toMillis, TransactionType type) {
+        if (fromMillis > toMillis) throw rejections.rejected(new PointValidationException(Reason.INVALID_TIME_RANGE));
+        List<PointHistory> PSpointHistoryList = pointHistoryStore.selectByUserIdAndTimeRange(userId, fromMillis, toMillis, type);
+        if (PSpointHistoryList.isEmpty()) requireHistory(userId); // 기간 안에 내역이 없는 유저와 존재하지 않는 유저를 구분
+        return PSpointHistoryList;
+    }
+
+    PointHistoryPage findUserHistoryPage(long userId, long cursor, int size, SortDirection direction) {
+        if (cursor < 0) throw rejections.rejected(new PointValidationException(Reason.INVALID_CURSOR));
+        if (size < 1 || size > PointHistoryPage.MAX_SIZE) throw rejections.rejected(new PointValidationException(Reason.INVALID_PAGE_SIZE));
+        // 한 건 더 조회해서 다음 페이지가 있는지 확인
+        List<PointHistory> rows = pointHistoryStore.selectPageByUserId(userId, cursor, size + 1, direction);
+        if (rows.isEmpty()) requireHistory(userId); // 마지막 페이지를 넘긴 커서와 존재하지 않는 유저를 구분
+        return PointHistoryPage.of(rows, size);
+    }
+
+    private void requireHistory(long userId) {
+        if (pointHistoryStore.countByUserId(userId) == 0) throw rejections.rejected(new PointValidationException(Reason.USER_NOT_FOUND));
+    }
+}
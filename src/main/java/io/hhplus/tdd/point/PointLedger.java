@@ -0,0 +1,34 @@
+package io.hhplus.tdd.point;
+
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.springframework.stereotype.Component;
+
+/**
+ * 유저별 누적 집계(PointSummary)를 내역이 저장될 때마다 갱신하는 원장
+ * - 서비스가 내역을 저장한 직후 record()를 호출, 집계 갱신은 O(1)
+ * - 조회는 내역 저장소를 읽지 않고 집계만 반환
+ * - 집계는 불변 객체로 교체하므로 조회 시점의 네 값은 항상 같은 시점의 값
+ * - compute()는 맵의 버킷 단위로 잠그고 블로킹 호출이 없으므로 가상 스레드가 고정되지 않음
+ */
+@Component
+public class PointLedger {
+
+    private final ConcurrentHashMap<Long, PointSummary> summaries = new ConcurrentHashMap<>();
+
+    public void record(long userId, TransactionType type, long amount, long updateMillis) {
+        summaries.compute(userId, (id, current) -> (current == null ? PointSummary.empty(id) : current).plus(type, amount, updateMillis));
+    }
+
+    /**
+     * 복구한 집계로 교체 (시작할 때 복구용, PointJournalReplayer)
+     */
+    public void restore(PointSummary summary) {
+        summaries.put(summary.userId(), summary);
+    }
+
+    public PointSummary summary(long userId) {
+        PointSummary summary = summaries.get(userId);
+        return summary == null ? PointSummary.empty(userId) : summary;
+    }
+}
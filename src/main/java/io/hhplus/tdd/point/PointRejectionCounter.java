@@ -0,0 +1,34 @@
+package io.hhplus.tdd.point;
+
+import io.hhplus.tdd.point.PointValidationException.Reason;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * 검증에 걸려 거절한 요청 수를 사유별로 집계 (point.validation.rejected, reason 태그)
+ * - 서비스 모드(lock / optimistic / actor)와 관계없이 같은 지표를 남기도록 각 서비스가 하나씩 가짐
+ * - 사유별 Counter는 생성자에서 미리 만들어두고 increment()만 호출 -> 요청마다 할당이 없음
+ */
+class PointRejectionCounter {
+
+    private final Counter[] counters; // Reason.ordinal() 순서
+
+    PointRejectionCounter(MeterRegistry meterRegistry) {
+        Reason[] reasons = Reason.values();
+        this.counters = new Counter[reasons.length];
+        for (Reason reason : reasons) {
+            counters[reason.ordinal()] = Counter.builder("point.validation.rejected")
+                    .description("검증에 걸려 거절한 요청 수")
+                    .tag("reason", reason.tagValue())
+                    .register(meterRegistry);
+        }
+    }
+
+    /**
+     * 거절 수를 올리고 예외를 그대로 반환, throw rejected(e) 형태로 사용
+     */
+    PointValidationException rejected(PointValidationException e) {
+        counters[e.reason().ordinal()].increment();
+        return e;
+    }
+}
@@ -2,13 +2,32 @@ package io.hhplus.tdd.point;
 
 import java.util.List;
 
+import io.hhplus.tdd.database.SortDirection;
+
 public interface PointService {
 
     UserPoint chargeUserPoint(long id, long amount);
 
     UserPoint useUserPoint(long userId, long amount);
 
+    /**
+     * fromUserId의 포인트를 사용하고 같은 금액을 toUserId에 충전, 두 잔액과 두 내역을 한 번에 반영
+     */
+    PointTransferResult transferUserPoint(long fromUserId, long toUserId, long amount);
+
     UserPoint findUserPoint(long id);
 
     List<PointHistory> findUserHistory(long id);
+
+    /**
+     * updateMillis가 [fromMillis, toMillis) 인 내역을 시간 순서로 조회, type이 null이면 모든 거래 유형
+     * - fromMillis > toMillis 면 INVALID_TIME_RANGE, 내역이 하나도 없는 유저는 findUserHistory()와 같이 USER_NOT_FOUND
+     */
+    List<PointHistory> findUserHistoryByTime(long id, long fromMillis, long toMillis, TransactionType type);
+
+    /**
+     * 내역을 커서(id) 기준으로 한 페이지씩 조회, cursor가 0이면 첫 페이지
+     * - 커서가 음수면 INVALID_CURSOR, 크기가 1 ~ PointHistoryPage.MAX_SIZE 밖이면 INVALID_PAGE_SIZE, 내역이 하나도 없는 유저는 USER_NOT_FOUND
+     */
+    PointHistoryPage findUserHistoryPage(long id, long cursor, int size, SortDirection direction);
 }
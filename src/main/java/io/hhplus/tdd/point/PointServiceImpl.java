@@ -1,77 +1,197 @@
 package io.hhplus.tdd.point;
 
 import java.util.List;
-import java.util.concurrent.locks.ReentrantLock;
+import java.util.concurrent.TimeUnit;
 
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.stereotype.Service;
 
 import io.hhplus.tdd.LockRegistry;
-import io.hhplus.tdd.database.PointHistoryTable;
-import io.hhplus.tdd.database.UserPointTable;
-import lombok.RequiredArgsConstructor;
+import io.hhplus.tdd.database.PendingPointHistory;
+import io.hhplus.tdd.database.PointHistoryStore;
+import io.hhplus.tdd.database.SortDirection;
+import io.hhplus.tdd.database.UserPointStore;
+import io.hhplus.tdd.point.PointValidationException.Reason;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 
+/**
+ * 지표
+ * - point.lock.wait / point.lock.hold (operation=charge|use|transfer): 락을 얻을 때까지 기다린 시간 / 락을 잡고 있던 시간
+ * - point.validation.rejected (reason=PointValidationException.Reason): 검증에 걸려 거절한 요청 수
+ * - point.lock.registry.size: LockRegistry가 보관 중인 락 개수
+ * - 태그별 Timer/Counter는 생성자에서 미리 만들어두고 record(long, TimeUnit)/increment()만 호출 -> 요청마다 할당이 없음
+ */
 @Service
-@RequiredArgsConstructor
+@ConditionalOnProperty(prefix = "point.service", name = "mode", havingValue = "lock", matchIfMissing = true)
 public class PointServiceImpl implements PointService {
 
-    private final PointHistoryTable pointHistoryTable;
-    private final UserPointTable userPointTable;
+    private final PointHistoryStore pointHistoryStore;
+    private final UserPointStore userPointStore;
     private final LockRegistry lockRegistry;
-    
+    private final PointLedger pointLedger;
+
+    private final Timer chargeLockWait;
+    private final Timer chargeLockHold;
+    private final Timer useLockWait;
+    private final Timer useLockHold;
+    private final Timer transferLockWait;
+    private final Timer transferLockHold;
+    private final PointRejectionCounter rejections;
+    private final PointHistoryQuery historyQuery;
+
+    public PointServiceImpl(PointHistoryStore pointHistoryStore, UserPointStore userPointStore, LockRegistry lockRegistry, PointLedger pointLedger,
+                            MeterRegistry meterRegistry) {
+        this.pointHistoryStore = pointHistoryStore;
+        this.userPointStore = userPointStore;
+        this.lockRegistry = lockRegistry;
+        this.pointLedger = pointLedger;
+        this.chargeLockWait = lockTimer("point.lock.wait", "charge", meterRegistry);
+        this.chargeLockHold = lockTimer("point.lock.hold", "charge", meterRegistry);
+        this.useLockWait = lockTimer("point.lock.wait", "use", meterRegistry);
+        this.useLockHold = lockTimer("point.lock.hold", "use", meterRegistry);
+        this.transferLockWait = lockTimer("point.lock.wait", "transfer", meterRegistry);
+        this.transferLockHold = lockTimer("point.lock.hold", "transfer", meterRegistry);
+        this.rejections = new PointRejectionCounter(meterRegistry);
+        this.historyQuery = new PointHistoryQuery(pointHistoryStore, rejections);
+        Gauge.builder("point.lock.registry.size", lockRegistry, LockRegistry::size)
+                .description("LockRegistry가 보관 중인 락 개수")
+                .register(meterRegistry);
+    }
+
     @Override
     public UserPoint chargeUserPoint(long userId, long amount) {
-        ReentrantLock lock = lockRegistry.getLock(userId); // 각 사용자의 락
-        lock.lock(); // 락 획득, 동시성 제어의 핵심, 여러 스레드가 동일한 userId에 대해서 접근 불가능
+        long waitStart = System.nanoTime();
+        lockRegistry.acquire(userId); // 각 사용자의 락 획득, 동시성 제어의 핵심, 여러 스레드가 동일한 userId에 대해서 접근 불가능
+        long acquired = System.nanoTime();
+        chargeLockWait.record(acquired - waitStart, TimeUnit.NANOSECONDS);
 
         try {
             // 사용자 조회
-            UserPoint PSuserPoint = userPointTable.selectById(userId);
-            if (PSuserPoint == null) throw new IllegalArgumentException("존재하지 않는 유저입니다.");
+            UserPoint PSuserPoint = userPointStore.selectById(userId);
+            if (PSuserPoint == null) throw new PointValidationException(Reason.USER_NOT_FOUND);
             // 조회된 사용자 포인트 증가
             UserPoint updatedUserPoint = PSuserPoint.increaseUserPoints(amount);
-            // 충전내역 저장
-            pointHistoryTable.insert(userId, amount, TransactionType.CHARGE, System.currentTimeMillis());
+            // 충전내역 저장, 집계는 내역과 같은 락 안에서 함께 반영
+            long now = System.currentTimeMillis();
+            pointHistoryStore.insert(userId, amount, TransactionType.CHARGE, now);
+            pointLedger.record(userId, TransactionType.CHARGE, amount, now);
             // 변경된 사용자 업데이트
-            userPointTable.insertOrUpdate(updatedUserPoint.id(), updatedUserPoint.point());
+            userPointStore.insertOrUpdate(updatedUserPoint.id(), updatedUserPoint.point());
             return updatedUserPoint;
+        } catch (PointValidationException e) {
+            throw rejected(e);
         } finally {
-            lock.unlock(); // 락 해제(필수)
+            lockRegistry.release(userId); // 락 해제(필수), 대기 중인 스레드가 없으면 락도 함께 제거
+            chargeLockHold.record(System.nanoTime() - acquired, TimeUnit.NANOSECONDS);
         }
     }
 
     @Override
     public UserPoint useUserPoint(long userId, long amount) {
-        ReentrantLock lock = lockRegistry.getLock(userId);
-        lock.lock();
+        long waitStart = System.nanoTime();
+        lockRegistry.acquire(userId);
+        long acquired = System.nanoTime();
+        useLockWait.record(acquired - waitStart, TimeUnit.NANOSECONDS);
 
         try {
             // 사용자 조회
-            UserPoint PSuserPoint = userPointTable.selectById(userId);
-            if (PSuserPoint == null) throw new IllegalArgumentException("존재하지 않는 유저입니다.");
+            UserPoint PSuserPoint = userPointStore.selectById(userId);
+            if (PSuserPoint == null) throw new PointValidationException(Reason.USER_NOT_FOUND);
             // 조회된 사용자 포인트 감소
             UserPoint updatedUserPoint = PSuserPoint.decreaseUserPoints(amount);
-            // 사용내역 저장
-            pointHistoryTable.insert(userId, amount, TransactionType.USE, System.currentTimeMillis());
+            // 사용내역 저장, 집계는 내역과 같은 락 안에서 함께 반영
+            long now = System.currentTimeMillis();
+            pointHistoryStore.insert(userId, amount, TransactionType.USE, now);
+            pointLedger.record(userId, TransactionType.USE, amount, now);
             // 변경된 사용자 업데이트
-            userPointTable.insertOrUpdate(updatedUserPoint.id(), updatedUserPoint.point());
+            userPointStore.insertOrUpdate(updatedUserPoint.id(), updatedUserPoint.point());
             return updatedUserPoint;
+        } catch (PointValidationException e) {
+            throw rejected(e);
+        } finally {
+            lockRegistry.release(userId);
+            useLockHold.record(System.nanoTime() - acquired, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    @Override
+    public PointTransferResult transferUserPoint(long fromUserId, long toUserId, long amount) {
+        if (fromUserId == toUserId) throw rejected(new PointValidationException(Reason.SELF_TRANSFER));
+        long waitStart = System.nanoTime();
+        lockRegistry.acquireBoth(fromUserId, toUserId); // 두 유저의 락을 항상 같은 순서로 획득, 반대 방향 이체와 교착되지 않음
+        long acquired = System.nanoTime();
+        transferLockWait.record(acquired - waitStart, TimeUnit.NANOSECONDS);
+
+        // 두 락을 잡은 채로 저장소를 다섯 번(조회 2, 내역 1, 잔액 2) 호출, 모두 락 안에 있어야 하는 이유
+        // - 조회 2번: 잔액을 읽고 바꿔 쓰는 사이에 같은 유저의 충전/사용이 끼어들면 한쪽 갱신이 사라짐 (충전/사용과 같은 read-modify-write)
+        // - 잔액 저장 2번: 두 유저의 잔액이 함께 바뀌어야 하므로, 락을 놓은 뒤 저장하면 다른 요청이 한쪽만 바뀐 잔액을 읽음
+        // - 내역 저장 1번: 잔액 저장보다 먼저, 같은 락 안에서 해야 함
+        //   1) 저널(JournaledPointHistoryStore)은 잔액에 반영하기 전에 기록해야 재시작할 때 잔액을 복구할 수 있음
+        //   2) 내역 저장이 실패하면 잔액을 바꾸지 않고 끝나야 내역 합계 = 잔액이 유지됨 (집계 PointLedger도 같음)
+        //   3) 락 밖에서 저장하면 같은 유저의 충전/사용 내역과 순서가 잔액 반영 순서와 달라질 수 있음
+        //   -> 대신 두 내역을 insertAll() 한 번으로 묶어 저장소 호출을 줄이고, 저장 지연은 write-behind/group commit 엔진으로 줄임
+        try {
+            // 사용자 조회
+            UserPoint fromUserPoint = userPointStore.selectById(fromUserId);
+            if (fromUserPoint == null) throw new PointValidationException(Reason.USER_NOT_FOUND);
+            UserPoint toUserPoint = userPointStore.selectById(toUserId);
+            if (toUserPoint == null) throw new PointValidationException(Reason.USER_NOT_FOUND);
+            // 양쪽 검증을 모두 통과한 뒤에 저장, 한쪽만 반영되는 경우가 없음
+            UserPoint updatedFromUserPoint = fromUserPoint.decreaseUserPoints(amount);
+            UserPoint updatedToUserPoint = toUserPoint.increaseUserPoints(amount);
+            // 사용/충전 내역을 한 번에 저장 (insertAll, 묶음 저장을 지원하는 엔진은 한 번의 호출로 처리)
+            long now = System.currentTimeMillis();
+            pointHistoryStore.insertAll(List.of(
+                    new PendingPointHistory(fromUserId, amount, TransactionType.USE, now),
+                    new PendingPointHistory(toUserId, amount, TransactionType.CHARGE, now)
+            ));
+            pointLedger.record(fromUserId, TransactionType.USE, amount, now);
+            pointLedger.record(toUserId, TransactionType.CHARGE, amount, now);
+            // 변경된 사용자 업데이트
+            userPointStore.insertOrUpdate(updatedFromUserPoint.id(), updatedFromUserPoint.point());
+            userPointStore.insertOrUpdate(updatedToUserPoint.id(), updatedToUserPoint.point());
+            return new PointTransferResult(updatedFromUserPoint, updatedToUserPoint);
+        } catch (PointValidationException e) {
+            throw rejected(e);
         } finally {
-            lock.unlock();
+            lockRegistry.releaseBoth(fromUserId, toUserId);
+            transferLockHold.record(System.nanoTime() - acquired, TimeUnit.NANOSECONDS);
         }
     }
 
     @Override
     public UserPoint findUserPoint(long userId) {
-        UserPoint PSuserPoint = userPointTable.selectById(userId);
-        if (PSuserPoint == null) throw new IllegalArgumentException("존재하지 않는 유저입니다.");
+        UserPoint PSuserPoint = userPointStore.selectById(userId);
+        if (PSuserPoint == null) throw rejected(new PointValidationException(Reason.USER_NOT_FOUND));
         return PSuserPoint;
     }
 
     @Override
     public List<PointHistory> findUserHistory(long userId) {
-        List<PointHistory> PSpointHistoryList = pointHistoryTable.selectAllByUserId(userId);
-        if (PSpointHistoryList.size() == 0) throw new IllegalArgumentException("존재하지 않는 유저입니다.");
-        return PSpointHistoryList;
+        return historyQuery.findUserHistory(userId);
+    }
+
+    @Override
+    public List<PointHistory> findUserHistoryByTime(long userId, long fromMillis, long toMillis, TransactionType type) {
+        return historyQuery.findUserHistoryByTime(userId, fromMillis, toMillis, type);
+    }
+
+    @Override
+    public PointHistoryPage findUserHistoryPage(long userId, long cursor, int size, SortDirection direction) {
+        return historyQuery.findUserHistoryPage(userId, cursor, size, direction);
+    }
+
+    private PointValidationException rejected(PointValidationException e) {
+        return rejections.rejected(e);
     }
-    
+
+    private static Timer lockTimer(String name, String operation, MeterRegistry meterRegistry) {
+        return Timer.builder(name)
+                .description("유저 락 대기(wait)/점유(hold) 시간")
+                .tag("operation", operation)
+                .register(meterRegistry);
+    }
+
 }
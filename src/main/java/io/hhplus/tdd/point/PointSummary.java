@@ -0,0 +1,30 @@
+package io.hhplus.tdd.point;
+
+/**
+ * 유저별 누적 집계
+ * - totalCharged / totalUsed: 충전/사용 금액 합계
+ * - transactionCount: 내역 건수
+ * - lastActivityMillis: 마지막 내역의 updateMillis, 내역이 없으면 0
+ */
+public record PointSummary(
+        long userId,
+        long totalCharged,
+        long totalUsed,
+        long transactionCount,
+        long lastActivityMillis
+) {
+
+    public static PointSummary empty(long userId) {
+        return new PointSummary(userId, 0L, 0L, 0L, 0L);
+    }
+
+    public PointSummary plus(TransactionType type, long amount, long updateMillis) {
+        return new PointSummary(
+                userId,
+                type == TransactionType.CHARGE ? totalCharged + amount : totalCharged,
+                type == TransactionType.USE ? totalUsed + amount : totalUsed,
+                transactionCount + 1,
+                Math.max(lastActivityMillis, updateMillis)
+        );
+    }
+}
@@ -0,0 +1,10 @@
+package io.hhplus.tdd.point;
+
+/**
+ * 포인트 이체 결과, 보낸 유저와 받은 유저의 변경된 포인트
+ */
+public record PointTransferResult(
+        UserPoint from,
+        UserPoint to
+) {
+}
@@ -0,0 +1,48 @@
+package io.hhplus.tdd.point;
+
+/**
+ * 검증에 걸려 요청을 거절할 때 던지는 예외, 거절 사유(Reason)를 함께 가짐
+ * - IllegalArgumentException을 상속하므로 기존처럼 IllegalArgumentException으로 처리해도 됨
+ * - 메시지는 사유마다 고정, 사유별 거절 수는 point.validation.rejected 지표(reason 태그)로 집계
+ */
+public class PointValidationException extends IllegalArgumentException {
+
+    private final Reason reason;
+
+    public PointValidationException(Reason reason) {
+        super(reason.message());
+        this.reason = reason;
+    }
+
+    public Reason reason() {
+        return reason;
+    }
+
+    public enum Reason {
+        USER_NOT_FOUND("존재하지 않는 유저입니다."),
+        CHARGE_AMOUNT_OUT_OF_RANGE("포인트 충전 금액은 1_000 이상 100_000 이하여야 합니다."),
+        USE_AMOUNT_OUT_OF_RANGE("포인트 사용 금액은 1_000 이상 500_000 이하여야 합니다."),
+        INSUFFICIENT_BALANCE("현재 가지고 있는 포인트보다 많이 사용할 수 없습니다."),
+        SELF_TRANSFER("자기 자신에게는 포인트를 이체할 수 없습니다."),
+        INVALID_TIME_RANGE("조회 시작 시각은 종료 시각보다 늦을 수 없습니다."),
+        INVALID_CURSOR("커서는 0 이상이어야 합니다."),
+        INVALID_PAGE_SIZE("페이지 크기는 1 이상 1_000 이하여야 합니다.");
+
+        private final String message;
+
+        Reason(String message) {
+            this.message = message;
+        }
+
+        public String message() {
+            return message;
+        }
+
+        /**
+         * 지표 태그 값, 예) CHARGE_AMOUNT_OUT_OF_RANGE -> charge-amount-out-of-range
+         */
+        public String tagValue() {
+            return name().toLowerCase().replace('_', '-');
+        }
+    }
+}
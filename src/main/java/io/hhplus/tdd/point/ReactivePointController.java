@@ -0,0 +1,57 @@
+package io.hhplus.tdd.point;
+
+import java.util.List;
+
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PatchMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import lombok.RequiredArgsConstructor;
+import reactor.core.publisher.Mono;
+
+/**
+ * PointController와 같은 API를 Mono로 반환하는 논블로킹 컨트롤러
+ * - Spring MVC가 Mono를 비동기 요청으로 처리하므로, Tomcat 요청 스레드는 Mono를 반환하자마자 풀로 돌아감
+ * - 응답은 ReactivePointService의 스케줄러에서 Table 호출이 끝났을 때 작성
+ * - 예외는 ApiControllerAdvice에서 PointController와 동일하게 처리
+ */
+@RestController
+@RequestMapping("/reactive/point")
+@RequiredArgsConstructor
+public class ReactivePointController {
+
+    private final ReactivePointService reactivePointService;
+
+    @GetMapping("{id}")
+    public Mono<UserPoint> point(
+            @PathVariable long id
+    ) {
+        return reactivePointService.findUserPoint(id);
+    }
+
+    @GetMapping("{id}/histories")
+    public Mono<List<PointHistory>> history(
+            @PathVariable long id
+    ) {
+        return reactivePointService.findUserHistory(id);
+    }
+
+    @PatchMapping("{id}/charge")
+    public Mono<UserPoint> charge(
+            @PathVariable long id,
+            @RequestBody long amount
+    ) {
+        return reactivePointService.chargeUserPoint(id, amount);
+    }
+
+    @PatchMapping("{id}/use")
+    public Mono<UserPoint> use(
+            @PathVariable long id,
+            @RequestBody long amount
+    ) {
+        return reactivePointService.useUserPoint(id, amount);
+    }
+}
@@ -0,0 +1,96 @@
+package io.hhplus.tdd.point;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+
+import jakarta.annotation.PreDestroy;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Scheduler;
+import reactor.core.scheduler.Schedulers;
+
+/**
+ * PointService를 논블로킹으로 감싼 서비스 (ReactivePointController에서 사용)
+ * - Table 호출(블로킹)은 크기가 제한된 bounded elastic 스케줄러에서만 실행, 요청 스레드는 바로 반환됨
+ * - 같은 유저의 충전/사용은 유저별 tail(CompletableFuture)에 이어 붙여 구독 순서대로 하나씩 실행
+ *   - 앞 작업이 끝나기를 스레드가 기다리지 않고, 앞 작업이 끝나면 다음 작업이 스케줄러에 올라감
+ *   - 순서가 보장되므로 PointService 안의 유저 락은 경합 없이 바로 획득됨(스케줄러 스레드가 락 대기로 막히지 않음)
+ * - 작업이 끝나고 뒤에 이어진 작업이 없으면 tail을 맵에서 제거
+ */
+@Service
+public class ReactivePointService {
+
+    private final PointService pointService;
+    private final Scheduler scheduler;
+    private final ConcurrentHashMap<Long, CompletableFuture<Void>> tails = new ConcurrentHashMap<>();
+
+    @Autowired
+    public ReactivePointService(PointService pointService, ReactiveProperties reactiveProperties) {
+        this(pointService, Schedulers.newBoundedElastic(reactiveProperties.threadCap(), reactiveProperties.queuedTaskCap(), "point-blocking"));
+    }
+
+    public ReactivePointService(PointService pointService, Scheduler scheduler) {
+        this.pointService = pointService;
+        this.scheduler = scheduler;
+    }
+
+    public Mono<UserPoint> chargeUserPoint(long userId, long amount) {
+        return serialize(userId, () -> blocking(() -> pointService.chargeUserPoint(userId, amount)));
+    }
+
+    public Mono<UserPoint> useUserPoint(long userId, long amount) {
+        return serialize(userId, () -> blocking(() -> pointService.useUserPoint(userId, amount)));
+    }
+
+    public Mono<UserPoint> findUserPoint(long userId) {
+        return blocking(() -> pointService.findUserPoint(userId));
+    }
+
+    public Mono<List<PointHistory>> findUserHistory(long userId) {
+        return blocking(() -> pointService.findUserHistory(userId));
+    }
+
+    /**
+     * 처리 중이거나 대기 중인 작업이 있는 유저 수
+     */
+    public int activeUserCount() {
+        return tails.size();
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        scheduler.dispose();
+    }
+
+    private <T> Mono<T> blocking(Supplier<T> call) {
+        return Mono.fromCallable(call::get).subscribeOn(scheduler);
+    }
+
+    // 구독 시점에 유저의 tail을 자신의 완료 신호로 바꾸고, 이전 tail이 끝난 뒤에 작업을 실행
+    private <T> Mono<T> serialize(long userId, Supplier<Mono<T>> task) {
+        return Mono.defer(() -> {
+            CompletableFuture<Void> done = new CompletableFuture<>();
+            CompletableFuture<Void> previous = tails.put(userId, done);
+            Mono<Void> before = previous == null ? Mono.empty() : Mono.fromFuture(previous, true); // 취소되어도 앞 작업의 future는 취소하지 않음
+            // doFinally()는 구독자가 결과를 받은 뒤에 실행되므로, 결과/에러를 넘기기 전에 정리 (여러 번 불려도 같음)
+            // -> 결과를 받은 쪽에서는 이 작업이 이미 끝난 것으로 보임 (activeUserCount())
+            return before.then(Mono.defer(task))
+                    .doOnSuccess(value -> release(userId, previous, done))
+                    .doOnError(e -> release(userId, previous, done))
+                    .doOnCancel(() -> release(userId, previous, done));
+        });
+    }
+
+    // 앞 작업을 기다리던 중에 취소되었더라도 뒤 작업은 앞 작업이 끝난 뒤에 실행되어야 함
+    private void release(long userId, CompletableFuture<Void> previous, CompletableFuture<Void> done) {
+        CompletableFuture<Void> predecessor = previous == null ? CompletableFuture.completedFuture(null) : previous;
+        predecessor.whenComplete((ignored, e) -> {
+            done.complete(null);
+            tails.remove(userId, done);
+        });
+    }
+}
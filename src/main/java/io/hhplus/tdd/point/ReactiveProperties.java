@@ -0,0 +1,16 @@
+package io.hhplus.tdd.point;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * point.reactive 설정 (/reactive/point 엔드포인트에서 사용)
+ * - thread-cap: Table 호출(블로킹)을 실행하는 bounded elastic 스케줄러의 최대 스레드 수
+ * - queued-task-cap: 스레드가 모두 사용 중일 때 대기할 수 있는 작업 수, 넘치면 요청이 실패
+ */
+@ConfigurationProperties(prefix = "point.reactive")
+public record ReactiveProperties(
+        @DefaultValue("256") int threadCap,
+        @DefaultValue("100000") int queuedTaskCap
+) {
+}
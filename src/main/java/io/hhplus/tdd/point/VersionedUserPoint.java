@@ -0,0 +1,60 @@
+package io.hhplus.tdd.point;
+
+/**
+ * 낙관적 모드에서 CAS로 교체하는 잔액 셀의 값
+ * - version은 성공한 변경마다 1씩 증가
+ * - pendingCharge/pendingUse: CAS는 성공했지만 아직 내역이 저장되지 않은 충전/사용 금액
+ *   내역 저장에 성공하면 confirm(), 실패하면 rollback()으로 정리
+ */
+public record VersionedUserPoint(
+        UserPoint userPoint,
+        long version,
+        long pendingCharge,
+        long pendingUse
+) {
+
+    public static VersionedUserPoint loaded(UserPoint userPoint) {
+        return new VersionedUserPoint(userPoint, 0, 0, 0);
+    }
+
+    /**
+     * 검증 후 금액을 반영하고 내역 저장 대기로 표시, 검증에 실패하면 예외
+     * - 내역이 아직 저장되지 않은 충전 금액은 사용할 수 없음 -> 충전을 되돌려도 잔액이 음수가 되지 않음
+     */
+    public VersionedUserPoint reserve(TransactionType type, long amount) {
+        if (type == TransactionType.CHARGE) {
+            return new VersionedUserPoint(userPoint.increaseUserPoints(amount), version + 1, pendingCharge + amount, pendingUse);
+        }
+        UserPoint available = new UserPoint(userPoint.id(), userPoint.point() - pendingCharge, userPoint.updateMillis());
+        UserPoint decreased = available.decreaseUserPoints(amount);
+        return new VersionedUserPoint(
+                new UserPoint(userPoint.id(), userPoint.point() - amount, decreased.updateMillis()), version + 1, pendingCharge, pendingUse + amount);
+    }
+
+    /**
+     * 내역이 저장되어 대기 표시만 해제
+     */
+    public VersionedUserPoint confirm(TransactionType type, long amount) {
+        return type == TransactionType.CHARGE
+                ? new VersionedUserPoint(userPoint, version + 1, pendingCharge - amount, pendingUse)
+                : new VersionedUserPoint(userPoint, version + 1, pendingCharge, pendingUse - amount);
+    }
+
+    /**
+     * 내역 저장에 실패해서 반영한 금액을 되돌림
+     */
+    public VersionedUserPoint rollback(TransactionType type, long amount) {
+        long point = type == TransactionType.CHARGE ? userPoint.point() - amount : userPoint.point() + amount;
+        UserPoint restored = new UserPoint(userPoint.id(), point, userPoint.updateMillis());
+        return type == TransactionType.CHARGE
+                ? new VersionedUserPoint(restored, version + 1, pendingCharge - amount, pendingUse)
+                : new VersionedUserPoint(restored, version + 1, pendingCharge, pendingUse - amount);
+    }
+
+    /**
+     * 내역이 저장된 변경만 반영한 잔액, 테이블에는 이 값만 기록
+     */
+    public long confirmedPoint() {
+        return userPoint.point() - pendingCharge + pendingUse;
+    }
+}
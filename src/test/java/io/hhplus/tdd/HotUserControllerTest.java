@@ -0,0 +1,76 @@
+package io.hhplus.tdd;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+public class HotUserControllerTest {
+
+    @Test
+    @DisplayName(value = "HotUser [성공] 락을 기다리는 스레드가 많은 유저가 먼저 나오고, 락이 풀리면 대기 시간이 남는다.")
+    void 락을_기다리는_스레드가_많은_유저가_먼저_나온다() throws Exception {
+        // given
+        LockContentionSketch sketch = new LockContentionSketch(16, 1, Duration.ofHours(1));
+        UserLockRegistry lockRegistry = new UserLockRegistry(sketch);
+        HotUserController controller = new HotUserController(lockRegistry, sketch);
+        sketch.record(2L, 1_000_000_000L); // 예전에 오래 기다렸지만 지금은 대기열이 없는 유저
+
+        // when
+        lockRegistry.acquire(1L);
+        ExecutorService executorService = Executors.newFixedThreadPool(3);
+        List<Future<?>> futures = new ArrayList<>();
+        for (int i = 0; i < 3; i++) {
+            futures.add(executorService.submit(() -> {
+                lockRegistry.acquire(1L);
+                lockRegistry.release(1L);
+            }));
+        }
+        while (lockRegistry.queueLength(1L) < 3) {
+            Thread.sleep(1);
+        }
+        Thread.sleep(20);
+        List<HotUser> whileQueued = controller.hotUsers(10); // 스케치에는 아직 1번 유저가 없음
+        lockRegistry.release(1L);
+        for (Future<?> future : futures) {
+            future.get(10, TimeUnit.SECONDS);
+        }
+        executorService.shutdown();
+        List<HotUser> afterRelease = controller.hotUsers(10);
+
+        // then
+        assertEquals(List.of(new HotUser(2L, 0, 1_000.0, 0.0, 1L)), whileQueued);
+        assertEquals(2, afterRelease.size());
+        HotUser hottest = afterRelease.stream().filter(hotUser -> hotUser.userId() == 1L).findFirst().orElseThrow();
+        assertEquals(0, hottest.queueLength());
+        assertTrue(hottest.contentions() >= 1);
+        assertTrue(hottest.recentWaitMillis() >= 20.0);
+        assertEquals(0, lockRegistry.queueLength(1L));
+    }
+
+    @Test
+    @DisplayName(value = "HotUser [성공] 대기열이 같으면 최근 대기 시간이 긴 유저가 먼저 나오고, limit만큼만 반환한다.")
+    void 대기열이_같으면_대기_시간이_긴_유저가_먼저_나온다() throws Exception {
+        // given
+        LockContentionSketch sketch = new LockContentionSketch(16, 1, Duration.ofHours(1));
+        HotUserController controller = new HotUserController(new StripedLockRegistry(16, sketch), sketch);
+        for (long userId = 1; userId <= 5; userId++) {
+            sketch.record(userId, userId * 1_000_000L);
+        }
+
+        // when
+        List<HotUser> result = controller.hotUsers(3);
+
+        // then
+        assertEquals(List.of(5L, 4L, 3L), result.stream().map(HotUser::userId).toList());
+    }
+}
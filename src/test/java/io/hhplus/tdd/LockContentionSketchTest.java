@@ -0,0 +1,79 @@
+package io.hhplus.tdd;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.SplittableRandom;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import io.hhplus.tdd.LockContentionSketch.Contention;
+
+public class LockContentionSketchTest {
+
+    @Test
+    @DisplayName(value = "ContentionSketch [성공] 유저 수가 칸 수보다 많아도 대기 시간이 몰린 유저는 남고, 추정값은 실제 이상 실제 + error 이하다.")
+    void 대기_시간이_몰린_유저는_남는다() throws Exception {
+        // given
+        LockContentionSketch sketch = new LockContentionSketch(16, 1, Duration.ofHours(1));
+        SplittableRandom random = new SplittableRandom(42);
+        long[] hotUsers = {7L, 42L, 1_000L};
+        long[] hotWaits = new long[hotUsers.length];
+
+        // when
+        for (int i = 0; i < 100_000; i++) {
+            if (i % 10 == 0) {
+                int hot = i / 10 % hotUsers.length;
+                sketch.record(hotUsers[hot], 1_000L);
+                hotWaits[hot] += 1_000L;
+            } else {
+                sketch.record(10_000L + random.nextInt(5_000), 100L); // 자주 바뀌는 유저들
+            }
+        }
+        List<Contention> top = sketch.top(hotUsers.length);
+
+        // then
+        assertEquals(hotUsers.length, top.size());
+        for (int hot = 0; hot < hotUsers.length; hot++) {
+            long userId = hotUsers[hot];
+            Contention contention = top.stream().filter(c -> c.userId() == userId).findFirst().orElseThrow();
+            assertTrue(contention.waitNanos() >= hotWaits[hot]);
+            assertTrue(contention.waitNanos() - contention.errorNanos() <= hotWaits[hot]);
+        }
+        assertEquals(16, sketch.top(100).size());
+    }
+
+    @Test
+    @DisplayName(value = "ContentionSketch [성공] 감쇠 주기가 지나면 대기 시간이 절반씩 줄고, 0이 된 유저는 빠진다.")
+    void 감쇠_주기가_지나면_대기_시간이_줄어든다() throws Exception {
+        // given
+        LockContentionSketch sketch = new LockContentionSketch(4, 1, Duration.ofMillis(50));
+        sketch.record(1L, 1_000_000L);
+        sketch.record(2L, 1L);
+
+        // when
+        Thread.sleep(120);
+        List<Contention> top = sketch.top(10);
+
+        // then
+        assertEquals(1, top.size());
+        assertEquals(1L, top.get(0).userId());
+        assertTrue(top.get(0).waitNanos() <= 250_000L);
+    }
+
+    @Test
+    @DisplayName(value = "ContentionSketch [성공] 꺼진 스케치는 아무것도 기록하지 않는다.")
+    void 꺼진_스케치는_기록하지_않는다() throws Exception {
+        // given
+        LockContentionSketch sketch = LockContentionSketch.disabled();
+
+        // when
+        sketch.record(1L, 1_000L);
+
+        // then
+        assertTrue(sketch.top(10).isEmpty());
+    }
+}
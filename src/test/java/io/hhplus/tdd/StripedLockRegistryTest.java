@@ -0,0 +1,76 @@
+package io.hhplus.tdd;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.Set;
+import java.util.concurrent.locks.ReentrantLock;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+public class StripedLockRegistryTest {
+
+    @Test
+    @DisplayName(value = "Striped [성공] 같은 유저는 항상 같은 락을 사용한다.")
+    void 같은_유저는_항상_같은_락을_사용한다() throws Exception {
+        // given
+        StripedLockRegistry lockRegistry = new StripedLockRegistry(64);
+
+        // when
+        ReentrantLock first = lockRegistry.getLock(1L);
+        ReentrantLock second = lockRegistry.getLock(1L);
+
+        // then
+        assertSame(first, second);
+    }
+
+    @Test
+    @DisplayName(value = "Striped [성공] 사용자 수와 관계없이 락 개수는 설정값을 넘지 않는다.")
+    void 사용자_수와_관계없이_락_개수는_설정값을_넘지_않는다() throws Exception {
+        // given
+        StripedLockRegistry lockRegistry = new StripedLockRegistry(100); // 128로 올림
+        Set<ReentrantLock> locks = Collections.newSetFromMap(new IdentityHashMap<>());
+
+        // when
+        for (long userId = 0; userId < 1_000_000L; userId++) {
+            locks.add(lockRegistry.getLock(userId));
+        }
+
+        // then
+        assertEquals(128, lockRegistry.size());
+        assertEquals(128, locks.size()); // 연속된 userId도 모든 락에 고르게 분산
+    }
+
+    @Test
+    @DisplayName(value = "Striped [성공] 연속된 userId는 락에 고르게 분산된다.")
+    void 연속된_userId는_락에_고르게_분산된다() throws Exception {
+        // given
+        StripedLockRegistry lockRegistry = new StripedLockRegistry(16);
+        IdentityHashMap<ReentrantLock, Integer> counts = new IdentityHashMap<>();
+
+        // when
+        for (long userId = 0; userId < 16_000L; userId++) {
+            counts.merge(lockRegistry.getLock(userId), 1, Integer::sum);
+        }
+
+        // then
+        for (int count : counts.values()) {
+            assertTrue(count > 700 && count < 1_300, "락 하나에 사용자가 몰리면 안 됩니다. count=" + count);
+        }
+    }
+
+    @Test
+    @DisplayName(value = "Striped [실패] 락 개수가 1 미만이면 실패한다.")
+    void 락_개수가_1_미만이면_실패한다() throws Exception {
+        // when
+        Exception result = assertThrows(IllegalArgumentException.class, () -> new StripedLockRegistry(0));
+
+        // then
+        assertEquals("락 개수는 1 이상이어야 합니다.", result.getMessage());
+    }
+}
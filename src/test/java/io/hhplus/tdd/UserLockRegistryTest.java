@@ -0,0 +1,138 @@
+package io.hhplus.tdd;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+public class UserLockRegistryTest {
+
+    private UserLockRegistry lockRegistry;
+
+    @BeforeEach
+    void setUp() {
+        lockRegistry = new UserLockRegistry();
+    }
+
+    @Test
+    @DisplayName(value = "UserLock [성공] 락을 해제하면 맵에서 제거된다.")
+    void 락을_해제하면_맵에서_제거된다() throws Exception {
+        // given
+        long userId = 1L;
+
+        // when
+        lockRegistry.acquire(userId);
+        lockRegistry.acquire(userId); // 재진입
+        int whileHeld = lockRegistry.size();
+        lockRegistry.release(userId);
+        int afterFirstRelease = lockRegistry.size();
+        lockRegistry.release(userId);
+
+        // then
+        assertEquals(1, whileHeld);
+        assertEquals(1, afterFirstRelease);
+        assertEquals(0, lockRegistry.size());
+    }
+
+    @Test
+    @DisplayName(value = "UserLock [실패] 획득하지 않은 락을 해제하면 실패한다.")
+    void 획득하지_않은_락을_해제하면_실패한다() throws Exception {
+        // when
+        Exception result = assertThrows(IllegalMonitorStateException.class, () -> lockRegistry.release(1L));
+
+        // then
+        assertEquals("획득하지 않은 락은 해제할 수 없습니다.", result.getMessage());
+    }
+
+    @Test
+    @DisplayName(value = "[동시성테스트] 100만 명의 사용자가 몰린 뒤에도 맵 크기는 0으로 돌아온다.")
+    void 백만_명의_사용자가_몰린_뒤에도_맵_크기는_0으로_돌아온다() throws Exception {
+        // given
+        int threadCount = 8;
+        int userCount = 1_000_000;
+        AtomicInteger nextUserId = new AtomicInteger();
+
+        ExecutorService executorService = Executors.newFixedThreadPool(threadCount);
+        CountDownLatch latch = new CountDownLatch(threadCount);
+
+        // when
+        for (int t = 0; t < threadCount; t++) {
+            executorService.submit(() -> {
+                try {
+                    int userId;
+                    while ((userId = nextUserId.getAndIncrement()) < userCount) {
+                        lockRegistry.acquire(userId);
+                        try {
+                            lockRegistry.acquire(userId % 64); // 일부 사용자는 여러 스레드가 경합
+                            lockRegistry.release(userId % 64);
+                        } finally {
+                            lockRegistry.release(userId);
+                        }
+                    }
+                } finally {
+                    latch.countDown();
+                }
+            });
+        }
+
+        latch.await();
+        executorService.shutdown();
+
+        // then
+        assertEquals(0, lockRegistry.size());
+    }
+
+    @Test
+    @DisplayName(value = "[동시성테스트] 락이 제거되고 다시 생성되어도 같은 유저는 동시에 한 스레드만 진입한다.")
+    void 락이_제거되고_다시_생성되어도_같은_유저는_동시에_한_스레드만_진입한다() throws Exception {
+        // given
+        int threadCount = 16;
+        int loopCount = 20_000;
+        int userCount = 4;
+        long[] counters = new long[userCount]; // 락 안에서만 증가시키는 비원자적 카운터
+        AtomicInteger inside = new AtomicInteger();
+        AtomicInteger violations = new AtomicInteger();
+
+        ExecutorService executorService = Executors.newFixedThreadPool(threadCount);
+        CountDownLatch latch = new CountDownLatch(threadCount);
+
+        // when
+        for (int t = 0; t < threadCount; t++) {
+            int offset = t;
+            executorService.submit(() -> {
+                try {
+                    for (int i = 0; i < loopCount; i++) {
+                        int userId = (i + offset) % userCount;
+                        lockRegistry.acquire(userId);
+                        try {
+                            if (userId == 0 && inside.incrementAndGet() > 1) violations.incrementAndGet();
+                            counters[userId]++;
+                            if (userId == 0) inside.decrementAndGet();
+                        } finally {
+                            lockRegistry.release(userId);
+                        }
+                    }
+                } finally {
+                    latch.countDown();
+                }
+            });
+        }
+
+        latch.await();
+        executorService.shutdown();
+
+        // then
+        long total = 0;
+        for (long counter : counters) total += counter;
+        assertEquals(0, violations.get());
+        assertEquals((long) threadCount * loopCount, total);
+        assertEquals(0, lockRegistry.size());
+    }
+}
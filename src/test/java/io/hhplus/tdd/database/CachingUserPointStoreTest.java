@@ -0,0 +1,192 @@
+package io.hhplus.tdd.database;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+
+import io.hhplus.tdd.UserLockRegistry;
+import io.hhplus.tdd.point.PointLedger;
+import io.hhplus.tdd.point.PointServiceImpl;
+import io.hhplus.tdd.point.UserPoint;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+public class CachingUserPointStoreTest {
+
+    private static final Logger log = LoggerFactory.getLogger(CachingUserPointStoreTest.class);
+
+    private CountingUserPointStore delegate;
+    private CachingUserPointStore userPointStore;
+
+    @BeforeEach
+    void setUp() {
+        delegate = new CountingUserPointStore(0L);
+        userPointStore = new CachingUserPointStore(delegate, 1_000L, new SimpleMeterRegistry());
+    }
+
+    @Test
+    @DisplayName(value = "Cache [성공] 처음 조회는 저장소에서 읽고, 이후 조회는 캐시에서 읽는다.")
+    void 처음_조회는_저장소에서_읽고_이후_조회는_캐시에서_읽는다() throws Exception {
+        // given
+        long userId = 1L;
+        delegate.insertOrUpdate(userId, 1_000L);
+
+        // when
+        UserPoint first = userPointStore.selectById(userId);
+        UserPoint second = userPointStore.selectById(userId);
+
+        // then
+        assertEquals(first, second);
+        assertEquals(1, delegate.reads.get());
+        CacheStats stats = userPointStore.stats();
+        assertEquals(1L, stats.hitCount());
+        assertEquals(1L, stats.missCount());
+    }
+
+    @Test
+    @DisplayName(value = "Cache [성공] 저장하면 캐시도 함께 갱신되어 저장소를 다시 읽지 않고 최신 값을 반환한다.")
+    void 저장하면_캐시도_함께_갱신된다() throws Exception {
+        // given
+        long userId = 1L;
+        userPointStore.insertOrUpdate(userId, 1_000L);
+        userPointStore.selectById(userId);
+
+        // when
+        userPointStore.insertOrUpdate(userId, 3_000L);
+        UserPoint result = userPointStore.selectById(userId);
+
+        // then
+        assertEquals(3_000L, result.point());
+        assertEquals(0, delegate.reads.get());
+    }
+
+    @Test
+    @DisplayName(value = "Cache [성공] 존재하지 않는 유저는 캐시하지 않는다.")
+    void 존재하지_않는_유저는_캐시하지_않는다() throws Exception {
+        // given
+        long userId = 999L;
+
+        // when
+        UserPoint first = userPointStore.selectById(userId);
+        userPointStore.insertOrUpdate(userId, 1_000L);
+        UserPoint second = userPointStore.selectById(userId);
+
+        // then
+        assertNull(first);
+        assertEquals(1_000L, second.point());
+    }
+
+    @Test
+    @DisplayName(value = "Cache [성공] 최대 크기를 넘으면 캐시에서 제거한다.")
+    void 최대_크기를_넘으면_캐시에서_제거한다() throws Exception {
+        // given
+        CachingUserPointStore smallStore = new CachingUserPointStore(delegate, 100L, new SimpleMeterRegistry());
+
+        // when
+        for (long userId = 0; userId < 1_000; userId++) {
+            smallStore.insertOrUpdate(userId, userId);
+        }
+
+        // then
+        assertTrue(smallStore.stats().evictionCount() > 0);
+    }
+
+    @Test
+    @DisplayName(value = "[동시성테스트] 캐시를 둔 상태에서 동시에 충전해도 잔액이 맞다.")
+    void 캐시를_둔_상태에서_동시에_충전해도_잔액이_맞다() throws Exception {
+        // given
+        long userId = 1L;
+        int threadCount = 16;
+        int loopCount = 20;
+        PointServiceImpl pointService = new PointServiceImpl(new FakePointHistoryStore(), userPointStore, new UserLockRegistry(), new PointLedger(), new SimpleMeterRegistry());
+        userPointStore.insertOrUpdate(userId, 0L);
+        ExecutorService executorService = Executors.newFixedThreadPool(threadCount);
+        CountDownLatch latch = new CountDownLatch(threadCount);
+
+        // when
+        for (int t = 0; t < threadCount; t++) {
+            executorService.submit(() -> {
+                try {
+                    for (int i = 0; i < loopCount; i++) {
+                        pointService.chargeUserPoint(userId, 1_000L);
+                        pointService.findUserPoint(userId);
+                    }
+                } finally {
+                    latch.countDown();
+                }
+            });
+        }
+        latch.await();
+        executorService.shutdown();
+
+        // then
+        long expected = 1_000L * threadCount * loopCount;
+        assertEquals(expected, userPointStore.selectById(userId).point());
+        assertEquals(expected, delegate.selectById(userId).point());
+    }
+
+    @Test
+    @DisplayName(value = "[벤치마크] 읽기:쓰기 = 20:1 에서 캐시가 평균 조회 시간을 줄인다.")
+    void 캐시가_평균_조회_시간을_줄인다() throws Exception {
+        // given
+        int userCount = 100;
+        int operationCount = 2_100;
+        CountingUserPointStore slowStore = new CountingUserPointStore(1L);
+        CachingUserPointStore cachedStore = new CachingUserPointStore(slowStore, 1_000L, new SimpleMeterRegistry());
+        for (long userId = 0; userId < userCount; userId++) {
+            slowStore.insertOrUpdate(userId, 0L);
+        }
+
+        // when
+        long direct = run(slowStore, userCount, operationCount);
+        long cached = run(cachedStore, userCount, operationCount);
+
+        // then
+        log.info("ops={} direct={}ms cached={}ms hitRate={}", operationCount, direct, cached, cachedStore.stats().hitRate());
+        assertTrue(cached < direct);
+    }
+
+    private long run(UserPointStore store, int userCount, int operationCount) {
+        long start = System.nanoTime();
+        for (int i = 0; i < operationCount; i++) {
+            long userId = ThreadLocalRandom.current().nextInt(userCount);
+            if (i % 21 == 0) {
+                store.insertOrUpdate(userId, i);
+            } else {
+                store.selectById(userId);
+            }
+        }
+        return (System.nanoTime() - start) / 1_000_000;
+    }
+
+    /**
+     * 저장소 조회 횟수를 세는 FakeUserPointStore
+     */
+    private static class CountingUserPointStore extends FakeUserPointStore {
+
+        private final AtomicInteger reads = new AtomicInteger();
+
+        private CountingUserPointStore(long delayMillis) {
+            super(delayMillis);
+        }
+
+        @Override
+        public UserPoint selectById(long id) {
+            reads.incrementAndGet();
+            return super.selectById(id);
+        }
+    }
+}
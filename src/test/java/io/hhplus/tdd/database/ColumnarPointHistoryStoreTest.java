@@ -0,0 +1,229 @@
+package io.hhplus.tdd.database;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import io.hhplus.tdd.point.PointHistory;
+import io.hhplus.tdd.point.PointHistoryPage;
+import io.hhplus.tdd.point.TransactionType;
+
+public class ColumnarPointHistoryStoreTest {
+
+    private ColumnarPointHistoryStore pointHistoryStore;
+
+    @BeforeEach
+    void setUp() {
+        pointHistoryStore = new ColumnarPointHistoryStore();
+    }
+
+    @Test
+    @DisplayName(value = "Columnar [성공] 저장한 내역을 그대로 복원해서 조회한다.")
+    void 저장한_내역을_그대로_복원해서_조회한다() throws Exception {
+        // given
+        long userId = 1L;
+        long updateMillis = System.currentTimeMillis();
+
+        PointHistory inserted = pointHistoryStore.insert(userId, 5_000L, TransactionType.CHARGE, updateMillis);
+        pointHistoryStore.insert(2L, 3_000L, TransactionType.CHARGE, updateMillis);
+        pointHistoryStore.insert(userId, 1_000L, TransactionType.USE, updateMillis + 1);
+
+        // when
+        List<PointHistory> result = pointHistoryStore.selectAllByUserId(userId);
+
+        // then
+        assertEquals(new PointHistory(1L, userId, 5_000L, TransactionType.CHARGE, updateMillis), inserted);
+        assertEquals(2, result.size());
+        assertEquals(inserted, result.get(0));
+        assertEquals(new PointHistory(3L, userId, 1_000L, TransactionType.USE, updateMillis + 1), result.get(1));
+        assertEquals(0, pointHistoryStore.selectAllByUserId(999L).size());
+    }
+
+    @Test
+    @DisplayName(value = "Columnar [성공] 청크 경계를 넘어도 id와 값이 유지된다.")
+    void 청크_경계를_넘어도_id와_값이_유지된다() throws Exception {
+        // given
+        int rows = 300_000; // 청크(65,536행) 여러 개에 걸치도록
+
+        // when
+        for (int i = 0; i < rows; i++) {
+            pointHistoryStore.insert(i % 3, i, i % 2 == 0 ? TransactionType.CHARGE : TransactionType.USE, i);
+        }
+
+        // then
+        assertEquals(rows, pointHistoryStore.size());
+        List<PointHistory> result = pointHistoryStore.selectAllByUserId(1L);
+        assertEquals(rows / 3, result.size());
+        for (PointHistory pointHistory : result) {
+            assertEquals(pointHistory.id() - 1, pointHistory.amount());
+            assertEquals(pointHistory.amount(), pointHistory.updateMillis());
+            assertEquals(pointHistory.amount() % 2 == 0 ? TransactionType.CHARGE : TransactionType.USE, pointHistory.type());
+        }
+    }
+
+    @Test
+    @DisplayName(value = "Columnar [성공] 커서로 페이지를 이어 조회하면 모든 내역을 순서대로 한 번씩 조회한다.")
+    void 커서로_페이지를_이어_조회하면_모든_내역을_한_번씩_조회한다() throws Exception {
+        // given
+        long userId = 1L;
+        for (int i = 0; i < 1_000; i++) {
+            pointHistoryStore.insert(i % 4 == 0 ? userId : 2L, i, TransactionType.CHARGE, i);
+        }
+        List<PointHistory> all = pointHistoryStore.selectAllByUserId(userId);
+
+        // when
+        List<PointHistory> ascending = readAllPages(userId, SortDirection.ASC, 7);
+        List<PointHistory> descending = readAllPages(userId, SortDirection.DESC, 7);
+
+        // then
+        Collections.reverse(descending);
+        assertEquals(all, ascending);
+        assertEquals(all, descending);
+    }
+
+    @Test
+    @DisplayName(value = "Columnar [성공] 마지막 페이지도 첫 페이지와 같은 비용으로 조회한다.")
+    void 마지막_페이지도_첫_페이지와_같은_비용으로_조회한다() throws Exception {
+        // given
+        long userId = 1L;
+        int rows = 1_000_000;
+        for (int i = 0; i < rows; i++) {
+            pointHistoryStore.insert(userId, i, TransactionType.CHARGE, i);
+        }
+
+        // when
+        long first = medianPageNanos(userId, 0L);
+        long last = medianPageNanos(userId, rows - 20L);
+
+        // then
+        // 앞 페이지를 훑는다면 마지막 페이지는 100만 행을 지나야 하므로, 넉넉한 오차 범위로 비교
+        assertTrue(last < first * 10 + 50_000L, "페이지 조회 시간이 페이지 위치에 비례해서는 안 됩니다. first=" + first + "ns, last=" + last + "ns");
+        assertEquals(20, pointHistoryStore.selectPageByUserId(userId, rows - 20L, 20, SortDirection.ASC).size());
+    }
+
+    @Test
+    @DisplayName(value = "Columnar [성공] 기간과 거래 유형으로 조회하면 시간 순서로 정렬된 결과를 반환한다.")
+    void 기간과_거래_유형으로_조회한다() throws Exception {
+        // given
+        long userId = 1L;
+        pointHistoryStore.insert(userId, 1_000L, TransactionType.CHARGE, 100L); // id 1
+        pointHistoryStore.insert(userId, 2_000L, TransactionType.USE, 300L);    // id 2
+        pointHistoryStore.insert(2L, 3_000L, TransactionType.CHARGE, 200L);     // id 3, 다른 유저
+        pointHistoryStore.insert(userId, 4_000L, TransactionType.CHARGE, 200L); // id 4, 저장 순서와 시간 순서가 다름
+        pointHistoryStore.insert(userId, 5_000L, TransactionType.USE, 400L);    // id 5
+
+        // when
+        List<PointHistory> all = pointHistoryStore.selectByUserIdAndTimeRange(userId, 100L, 400L, null);
+        List<PointHistory> charges = pointHistoryStore.selectByUserIdAndTimeRange(userId, 0L, Long.MAX_VALUE, TransactionType.CHARGE);
+
+        // then
+        assertEquals(List.of(1L, 4L, 2L), all.stream().map(PointHistory::id).toList());
+        assertEquals(List.of(1L, 4L), charges.stream().map(PointHistory::id).toList());
+        assertEquals(0, pointHistoryStore.selectByUserIdAndTimeRange(userId, 500L, 600L, null).size());
+        assertEquals(0, pointHistoryStore.selectByUserIdAndTimeRange(999L, 0L, Long.MAX_VALUE, null).size());
+    }
+
+    @Test
+    @DisplayName(value = "Columnar [성공] 기간 조회 결과는 전체 내역을 거른 결과와 같다.")
+    void 기간_조회_결과는_전체_내역을_거른_결과와_같다() throws Exception {
+        // given
+        Random random = new Random(42);
+        for (int i = 0; i < 20_000; i++) {
+            pointHistoryStore.insert(random.nextInt(3), 1_000L, random.nextBoolean() ? TransactionType.CHARGE : TransactionType.USE, random.nextInt(10_000));
+        }
+        PointHistoryStore filtering = new PointHistoryStore() { // 기본 구현(전체 조회 후 거름)
+            @Override
+            public PointHistory insert(long userId, long amount, TransactionType type, long updateMillis) {
+                throw new UnsupportedOperationException();
+            }
+
+            @Override
+            public List<PointHistory> selectAllByUserId(long userId) {
+                return pointHistoryStore.selectAllByUserId(userId);
+            }
+        };
+
+        // when & then
+        for (int i = 0; i < 200; i++) {
+            long userId = random.nextInt(3);
+            long from = random.nextInt(10_000);
+            long to = from + random.nextInt(3_000);
+            TransactionType type = switch (random.nextInt(3)) {
+                case 0 -> TransactionType.CHARGE;
+                case 1 -> TransactionType.USE;
+                default -> null;
+            };
+            assertEquals(filtering.selectByUserIdAndTimeRange(userId, from, to, type), pointHistoryStore.selectByUserIdAndTimeRange(userId, from, to, type));
+        }
+    }
+
+    @Test
+    @DisplayName(value = "[동시성테스트] 여러 스레드가 동시에 저장해도 내역이 유실되지 않는다.")
+    void 여러_스레드가_동시에_저장해도_내역이_유실되지_않는다() throws Exception {
+        // given
+        int threadCount = 8;
+        int insertCount = 10_000;
+
+        ExecutorService executorService = Executors.newFixedThreadPool(threadCount);
+        CountDownLatch latch = new CountDownLatch(threadCount);
+
+        // when
+        for (int t = 0; t < threadCount; t++) {
+            long userId = t;
+            executorService.submit(() -> {
+                try {
+                    for (int i = 0; i < insertCount; i++) {
+                        pointHistoryStore.insert(userId, 1_000L, TransactionType.CHARGE, System.currentTimeMillis());
+                    }
+                } finally {
+                    latch.countDown();
+                }
+            });
+        }
+
+        latch.await();
+        executorService.shutdown();
+
+        // then
+        assertEquals(threadCount * insertCount, pointHistoryStore.size());
+        for (long userId = 0; userId < threadCount; userId++) {
+            assertEquals(insertCount, pointHistoryStore.selectAllByUserId(userId).size());
+        }
+    }
+
+    // nextCursor가 없을 때까지 페이지를 이어서 조회
+    private List<PointHistory> readAllPages(long userId, SortDirection direction, int size) {
+        List<PointHistory> result = new ArrayList<>();
+        long cursor = 0L;
+        while (true) {
+            PointHistoryPage page = PointHistoryPage.of(pointHistoryStore.selectPageByUserId(userId, cursor, size + 1, direction), size);
+            result.addAll(page.histories());
+            if (page.nextCursor() == null) return result;
+            cursor = page.nextCursor();
+        }
+    }
+
+    private long medianPageNanos(long userId, long cursor) {
+        int rounds = 2_001;
+        long[] elapsed = new long[rounds];
+        for (int i = 0; i < rounds; i++) {
+            long start = System.nanoTime();
+            pointHistoryStore.selectPageByUserId(userId, cursor, 20, SortDirection.ASC);
+            elapsed[i] = System.nanoTime() - start;
+        }
+        Arrays.sort(elapsed);
+        return elapsed[rounds / 2];
+    }
+}
@@ -0,0 +1,339 @@
+package io.hhplus.tdd.database;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.lang.management.ManagementFactory;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import io.hhplus.tdd.UserLockRegistry;
+import io.hhplus.tdd.point.PointLedger;
+import io.hhplus.tdd.point.PointService;
+import io.hhplus.tdd.point.PointServiceImpl;
+import io.hhplus.tdd.point.PointValidationException;
+import io.hhplus.tdd.point.PointValidationException.Reason;
+import io.hhplus.tdd.point.UserPoint;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+public class ConcurrentUserPointStoreTest {
+
+    private static final Logger log = LoggerFactory.getLogger(ConcurrentUserPointStoreTest.class);
+
+    @Test
+    @DisplayName(value = "Concurrent [성공] 저장한 잔액을 조회하고, 다시 저장하면 갱신되며, 없는 유저는 null이다.")
+    void 저장한_잔액을_조회하고_다시_저장하면_갱신된다() throws Exception {
+        // given
+        ConcurrentUserPointStore userPointStore = new ConcurrentUserPointStore(16);
+
+        // when
+        userPointStore.insertOrUpdate(0L, 1_000L);
+        userPointStore.put(-7L, 500L, 10L);
+        UserPoint updated = userPointStore.insertOrUpdate(0L, 3_000L);
+
+        // then
+        assertEquals(updated, userPointStore.selectById(0L));
+        assertEquals(new UserPoint(-7L, 500L, 10L), userPointStore.selectById(-7L));
+        assertNull(userPointStore.selectById(1L));
+        assertEquals(2L, userPointStore.size());
+        assertThrows(IllegalArgumentException.class, () -> userPointStore.put(Long.MIN_VALUE, 1_000L, 0L));
+    }
+
+    @Test
+    @DisplayName(value = "Concurrent [실패] 저장된 적 없는 유저는 다른 엔진과 같이 서비스에서 존재하지 않는 유저로 거절된다.")
+    void 저장된_적_없는_유저는_존재하지_않는_유저로_거절된다() throws Exception {
+        // given
+        ConcurrentUserPointStore userPointStore = new ConcurrentUserPointStore(16);
+        PointService pointService = new PointServiceImpl(new FakePointHistoryStore(), userPointStore, new UserLockRegistry(), new PointLedger(), new SimpleMeterRegistry());
+        userPointStore.insertOrUpdate(2L, 0L);
+
+        // when
+        PointValidationException charge = assertThrows(PointValidationException.class, () -> pointService.chargeUserPoint(1L, 5_000L));
+        PointValidationException find = assertThrows(PointValidationException.class, () -> pointService.findUserPoint(1L));
+        UserPoint charged = pointService.chargeUserPoint(2L, 5_000L);
+
+        // then
+        assertEquals(Reason.USER_NOT_FOUND, charge.reason());
+        assertEquals(Reason.USER_NOT_FOUND, find.reason());
+        assertEquals(5_000L, charged.point());
+        assertEquals(1L, userPointStore.size());
+    }
+
+    @Test
+    @DisplayName(value = "Concurrent [성공] 예상 유저 수를 넘어 테이블을 여러 번 늘려도 모든 잔액이 남아 있다.")
+    void 테이블을_여러_번_늘려도_모든_잔액이_남아_있다() throws Exception {
+        // given
+        ConcurrentUserPointStore userPointStore = new ConcurrentUserPointStore(16);
+        Map<Long, Long> expected = new HashMap<>();
+        SplittableRandom random = new SplittableRandom(42);
+
+        // when
+        for (int i = 0; i < 1_000_000; i++) {
+            long id = random.nextInt(3) == 0 ? random.nextLong() : random.nextInt(700_000);
+            long point = random.nextInt(1_000_000);
+            userPointStore.put(id, point, i);
+            expected.put(id, point);
+        }
+
+        // then
+        assertEquals(expected.size(), userPointStore.size());
+        expected.forEach((id, point) -> assertEquals((long) point, userPointStore.selectById(id).point()));
+    }
+
+    @Test
+    @DisplayName(value = "Concurrent [실패] 더 늘릴 수 없으면 새 유저는 slot을 차지하지 않고 예외가 발생하며, 이후 기록과 조회도 멈추지 않는다.")
+    void 더_늘릴_수_없으면_새_유저는_예외가_발생하고_이후_기록도_멈추지_않는다() throws Exception {
+        // given (slot 16개, 사용률 0.7 -> 11명까지)
+        ConcurrentUserPointStore userPointStore = new ConcurrentUserPointStore(1, 16);
+        for (long id = 0; id < 11; id++) {
+            userPointStore.put(id, id, 0L);
+        }
+
+        // when (가득 찬 테이블에서 탐색이 끝나지 않으면 시간 초과로 실패)
+        ExecutorService executorService = Executors.newSingleThreadExecutor();
+        Exception result_1 = executorService.submit(() -> assertThrows(IllegalStateException.class, () -> userPointStore.put(100L, 1_000L, 0L))).get(10, TimeUnit.SECONDS);
+        Exception result_2 = executorService.submit(() -> assertThrows(IllegalStateException.class, () -> userPointStore.put(101L, 1_000L, 0L))).get(10, TimeUnit.SECONDS);
+        executorService.submit(() -> userPointStore.put(3L, 3_000L, 1L)).get(10, TimeUnit.SECONDS); // 이미 있는 유저는 갱신됨
+        UserPoint missing = executorService.submit(() -> userPointStore.selectById(102L)).get(10, TimeUnit.SECONDS);
+        executorService.shutdown();
+
+        // then
+        assertEquals("저장할 수 있는 유저 수를 넘었습니다. size=11", result_1.getMessage());
+        assertEquals("저장할 수 있는 유저 수를 넘었습니다. size=11", result_2.getMessage());
+        assertNull(userPointStore.selectById(100L));
+        assertNull(missing);
+        assertEquals(11L, userPointStore.size());
+        assertEquals(3_000L, userPointStore.selectById(3L).point());
+    }
+
+    @Test
+    @DisplayName(value = "[동시성테스트] 작은 테이블에 여러 스레드가 동시에 새 유저를 넣어도 테이블이 가득 차지 않고 모두 저장된다.")
+    void 작은_테이블에_동시에_새_유저를_넣어도_모두_저장된다() throws Exception {
+        // given
+        int threadCount = 16;
+        int rounds = 200;
+        int usersPerThread = 8;
+
+        for (int round = 0; round < rounds; round++) {
+            ConcurrentUserPointStore userPointStore = new ConcurrentUserPointStore(1); // slot 16개에서 시작
+            ExecutorService executorService = Executors.newFixedThreadPool(threadCount);
+            CountDownLatch start = new CountDownLatch(1);
+            List<Future<?>> futures = new ArrayList<>();
+
+            // when
+            for (int t = 0; t < threadCount; t++) {
+                long first = (long) t * usersPerThread;
+                futures.add(executorService.submit(() -> {
+                    start.await();
+                    for (long id = first; id < first + usersPerThread; id++) {
+                        userPointStore.put(id, id, 0L);
+                    }
+                    return null;
+                }));
+            }
+            start.countDown();
+            for (Future<?> future : futures) {
+                future.get(10, TimeUnit.SECONDS); // 가득 찬 테이블에서 탐색이 끝나지 않으면 시간 초과로 실패
+            }
+            executorService.shutdown();
+
+            // then
+            assertEquals((long) threadCount * usersPerThread, userPointStore.size());
+            for (long id = 0; id < (long) threadCount * usersPerThread; id++) {
+                assertEquals(id, userPointStore.selectById(id).point());
+            }
+        }
+    }
+
+    @Test
+    @DisplayName(value = "[동시성테스트] 기록과 테이블 늘리기가 진행되는 동안 락 없이 조회해도 잘린 값(point와 updateMillis가 다른 기록의 값)을 읽지 않는다.")
+    void 락_없이_조회해도_잘린_값을_읽지_않는다() throws Exception {
+        // given
+        ConcurrentUserPointStore userPointStore = new ConcurrentUserPointStore(16);
+        int hotUsers = 64;
+        int writerCount = 4;
+        int readerCount = 4;
+        for (long id = 0; id < hotUsers; id++) {
+            userPointStore.put(id, 1L, -1L);
+        }
+        AtomicBoolean running = new AtomicBoolean(true);
+        CountDownLatch writersDone = new CountDownLatch(writerCount);
+
+        // when
+        ExecutorService executorService = Executors.newFixedThreadPool(writerCount + readerCount);
+        List<Future<?>> futures = new ArrayList<>();
+        for (int t = 0; t < writerCount; t++) {
+            int writer = t;
+            futures.add(executorService.submit(() -> {
+                try {
+                    for (int i = 1; i <= 200_000; i++) {
+                        long value = (long) i * writerCount + writer;
+                        userPointStore.put(i % hotUsers, value, -value); // 같은 유저를 여러 스레드가 번갈아 기록
+                        userPointStore.put(1_000_000L * (writer + 1) + i, value, -value); // 새 유저 -> 테이블이 계속 늘어남
+                    }
+                } finally {
+                    writersDone.countDown();
+                }
+            }));
+        }
+        for (int t = 0; t < readerCount; t++) {
+            futures.add(executorService.submit(() -> {
+                SplittableRandom random = new SplittableRandom();
+                while (running.get()) {
+                    UserPoint userPoint = userPointStore.selectById(random.nextInt(hotUsers));
+                    assertNotEquals(0L, userPoint.updateMillis()); // 미리 넣어둔 유저는 늘리는 도중에도 보임 (없는 유저로 읽으면 0)
+                    assertEquals(userPoint.point(), -userPoint.updateMillis());
+                }
+            }));
+        }
+        writersDone.await(60, TimeUnit.SECONDS);
+        running.set(false);
+        for (Future<?> future : futures) {
+            future.get(60, TimeUnit.SECONDS);
+        }
+        executorService.shutdown();
+
+        // then
+        assertEquals(hotUsers + writerCount * 200_000L, userPointStore.size());
+        for (int writer = 0; writer < writerCount; writer++) {
+            for (int i = 1; i <= 200_000; i++) {
+                assertEquals((long) i * writerCount + writer, userPointStore.selectById(1_000_000L * (writer + 1) + i).point());
+            }
+        }
+    }
+
+    /**
+     * 스레드별 할당 바이트(com.sun.management.ThreadMXBean, JFR 할당 이벤트와 같은 카운터)로 연산당 할당량을 재고,
+     * 조회 90% / 기록 10% 처리량을 비교
+     * - table: UserPointTable과 같은 HashMap<Long, UserPoint> (동시에 읽고 쓰려면 락이 필요)
+     * - chm: ConcurrentHashMap<Long, UserPoint>
+     * - concurrent: ConcurrentUserPointStore (기록은 put(), 조회는 selectById())
+     */
+    @Test
+    @Tag("load")
+    @DisplayName(value = "[성능테스트] 저장소별 연산당 할당량과 조회 90% / 기록 10% 처리량")
+    void 저장소별_할당량과_처리량() throws Exception {
+        int users = 1_000_000;
+        int operations = 5_000_000;
+        int threadCount = 4;
+
+        Map<Long, UserPoint> table = new HashMap<>();
+        ReentrantReadWriteLock tableLock = new ReentrantReadWriteLock();
+        benchmark("table", users, operations, threadCount, new Target() {
+            public void put(long id, long point) {
+                tableLock.writeLock().lock();
+                try {
+                    table.put(id, new UserPoint(id, point, System.currentTimeMillis()));
+                } finally {
+                    tableLock.writeLock().unlock();
+                }
+            }
+
+            public Object get(long id) {
+                tableLock.readLock().lock();
+                try {
+                    return table.get(id);
+                } finally {
+                    tableLock.readLock().unlock();
+                }
+            }
+        });
+
+        Map<Long, UserPoint> chm = new ConcurrentHashMap<>();
+        benchmark("chm", users, operations, threadCount, new Target() {
+            public void put(long id, long point) {
+                chm.put(id, new UserPoint(id, point, System.currentTimeMillis()));
+            }
+
+            public Object get(long id) {
+                return chm.get(id);
+            }
+        });
+
+        ConcurrentUserPointStore userPointStore = new ConcurrentUserPointStore(users);
+        benchmark("concurrent", users, operations, threadCount, new Target() {
+            public void put(long id, long point) {
+                userPointStore.put(id, point, System.currentTimeMillis());
+            }
+
+            public Object get(long id) {
+                return userPointStore.selectById(id);
+            }
+        });
+    }
+
+    private interface Target {
+        void put(long id, long point);
+
+        Object get(long id);
+    }
+
+    private static void benchmark(String name, int users, int operations, int threadCount, Target target) throws Exception {
+        for (long id = 0; id < users; id++) {
+            target.put(id, id);
+        }
+
+        // 연산당 할당량, 갱신(이미 있는 유저)과 조회를 따로 잼
+        SplittableRandom random = new SplittableRandom(1);
+        long before = allocatedBytes();
+        for (int i = 0; i < operations; i++) {
+            target.put(random.nextInt(users), i);
+        }
+        long putBytes = allocatedBytes() - before;
+        Object sink = null;
+        before = allocatedBytes();
+        for (int i = 0; i < operations; i++) {
+            sink = target.get(random.nextInt(users));
+        }
+        long getBytes = allocatedBytes() - before;
+        assertTrue(sink != null);
+
+        // 처리량
+        ExecutorService executorService = Executors.newFixedThreadPool(threadCount);
+        long start = System.nanoTime();
+        List<Future<?>> futures = new ArrayList<>();
+        for (int t = 0; t < threadCount; t++) {
+            long seed = t;
+            futures.add(executorService.submit(() -> {
+                SplittableRandom threadRandom = new SplittableRandom(seed);
+                for (int i = 0; i < operations / threadCount; i++) {
+                    long id = threadRandom.nextInt(users);
+                    if (i % 10 == 0) target.put(id, i);
+                    else target.get(id);
+                }
+            }));
+        }
+        for (Future<?> future : futures) {
+            future.get(120, TimeUnit.SECONDS);
+        }
+        long elapsedNanos = System.nanoTime() - start;
+        executorService.shutdown();
+
+        log.info("{} put {} byte/op, get {} byte/op, {} threads 90% get {} ops/s",
+                name, putBytes / operations, getBytes / operations, threadCount, operations * 1_000_000_000L / elapsedNanos);
+    }
+
+    private static long allocatedBytes() {
+        return ((com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean()).getCurrentThreadAllocatedBytes();
+    }
+}
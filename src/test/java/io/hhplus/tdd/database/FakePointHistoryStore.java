@@ -0,0 +1,49 @@
+package io.hhplus.tdd.database;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import io.hhplus.tdd.point.PointHistory;
+import io.hhplus.tdd.point.TransactionType;
+
+/**
+ * 테스트용 내역 저장소
+ * - ColumnarPointHistoryStore에 고정 지연 시간을 더해 PointHistoryTable의 저장 지연을 흉내냄
+ */
+public class FakePointHistoryStore extends ColumnarPointHistoryStore {
+
+    private final long delayMillis;
+
+    public FakePointHistoryStore() {
+        this(0);
+    }
+
+    public FakePointHistoryStore(long delayMillis) {
+        this.delayMillis = delayMillis;
+    }
+
+    @Override
+    public PointHistory insert(long userId, long amount, TransactionType type, long updateMillis) {
+        delay();
+        return super.insert(userId, amount, type, updateMillis);
+    }
+
+    /**
+     * 묶음 하나를 저장할 때도 지연은 한 번만
+     */
+    @Override
+    public List<PointHistory> insertAll(List<PendingPointHistory> rows) {
+        delay();
+        return super.insertAll(rows);
+    }
+
+    private void delay() {
+        if (delayMillis > 0) {
+            try {
+                TimeUnit.MILLISECONDS.sleep(delayMillis);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+}
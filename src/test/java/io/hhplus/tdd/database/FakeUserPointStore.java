@@ -0,0 +1,49 @@
+package io.hhplus.tdd.database;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+import io.hhplus.tdd.point.UserPoint;
+
+/**
+ * 테스트용 UserPointStore
+ * - UserPointTable은 호출마다 최대 200~300ms의 무작위 지연이 있어 대량/반복 테스트에 사용할 수 없으므로
+ *   지연 시간을 고정(또는 0)할 수 있는 ConcurrentHashMap 기반으로 대체
+ */
+public class FakeUserPointStore implements UserPointStore {
+
+    private final Map<Long, UserPoint> table = new ConcurrentHashMap<>();
+    private final long delayMillis;
+
+    public FakeUserPointStore() {
+        this(0);
+    }
+
+    public FakeUserPointStore(long delayMillis) {
+        this.delayMillis = delayMillis;
+    }
+
+    @Override
+    public UserPoint selectById(long id) {
+        delay();
+        return table.get(id);
+    }
+
+    @Override
+    public UserPoint insertOrUpdate(long id, long amount) {
+        delay();
+        UserPoint userPoint = new UserPoint(id, amount, System.currentTimeMillis());
+        table.put(id, userPoint);
+        return userPoint;
+    }
+
+    private void delay() {
+        if (delayMillis == 0) return;
+        try {
+            TimeUnit.MILLISECONDS.sleep(delayMillis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,235 @@
+package io.hhplus.tdd.database;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import io.hhplus.tdd.point.PointHistory;
+import io.hhplus.tdd.point.TransactionType;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+public class GroupCommitPointHistoryStoreTest {
+
+    private static final Logger log = LoggerFactory.getLogger(GroupCommitPointHistoryStoreTest.class);
+
+    private MeterRegistry meterRegistry;
+    private SerialCommitStore delegate;
+    private GroupCommitPointHistoryStore pointHistoryStore;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        delegate = new SerialCommitStore(1L);
+        pointHistoryStore = new GroupCommitPointHistoryStore(delegate, Duration.ofMillis(2), 32, meterRegistry);
+    }
+
+    @AfterEach
+    void tearDown() {
+        pointHistoryStore.close();
+    }
+
+    @Test
+    @DisplayName(value = "GroupCommit [성공] 저장이 끝난 내역을 반환하고 바로 조회된다.")
+    void 저장이_끝난_내역을_반환하고_바로_조회된다() throws Exception {
+        // given
+        long userId = 1L;
+
+        // when
+        PointHistory result = pointHistoryStore.insert(userId, 1_000L, TransactionType.CHARGE, 10L);
+
+        // then
+        assertEquals(new PointHistory(1L, userId, 1_000L, TransactionType.CHARGE, 10L), result);
+        assertEquals(List.of(result), pointHistoryStore.selectAllByUserId(userId));
+    }
+
+    @Test
+    @DisplayName(value = "GroupCommit [성공] 여러 건을 한 번에 저장하면 건마다 기다리지 않고 한 묶음으로 같은 순서로 저장한다.")
+    void 여러_건을_한_번에_저장하면_한_묶음으로_저장한다() throws Exception {
+        // given
+        List<PendingPointHistory> rows = new ArrayList<>();
+        for (long userId = 1; userId <= 100; userId++) {
+            rows.add(new PendingPointHistory(userId, 1_000L, TransactionType.CHARGE, userId));
+        }
+
+        // when
+        List<PointHistory> result = pointHistoryStore.insertAll(rows);
+
+        // then
+        assertEquals(100, result.size());
+        for (int i = 0; i < rows.size(); i++) {
+            assertEquals(rows.get(i).userId(), result.get(i).userId());
+            assertEquals(i + 1L, result.get(i).id());
+        }
+        DistributionSummary batchSize = meterRegistry.get("point.history.group-commit.batch-size").summary();
+        assertEquals(1L, batchSize.count()); // 묶음 크기(32)를 넘어도 나누지 않음
+        assertEquals(100L, (long) batchSize.totalAmount());
+    }
+
+    @Test
+    @DisplayName(value = "[동시성테스트] 여러 유저가 동시에 저장하면 묶어서 저장하고 묶음 크기는 최대값을 넘지 않는다.")
+    void 여러_유저가_동시에_저장하면_묶어서_저장한다() throws Exception {
+        // given
+        int threadCount = 64;
+        int loopCount = 20;
+
+        // when
+        run(pointHistoryStore, threadCount, loopCount);
+
+        // then
+        DistributionSummary batchSize = meterRegistry.get("point.history.group-commit.batch-size").summary();
+        assertEquals(threadCount * loopCount, (long) batchSize.totalAmount());
+        assertTrue(batchSize.count() < threadCount * loopCount, "동시에 들어온 요청은 묶어서 저장해야 합니다.");
+        assertTrue(batchSize.max() <= 32);
+        assertEquals(batchSize.count(), meterRegistry.get("point.history.group-commit.latency").timer().count());
+        for (long userId = 0; userId < threadCount; userId++) {
+            assertEquals(loopCount, pointHistoryStore.selectAllByUserId(userId).size());
+        }
+    }
+
+    @Test
+    @DisplayName(value = "GroupCommit [실패] 저장에 실패하면 묶음의 모든 호출자에게 예외가 전달된다.")
+    void 저장에_실패하면_호출자에게_예외가_전달된다() throws Exception {
+        // given
+        pointHistoryStore.close();
+        GroupCommitPointHistoryStore failingStore = new GroupCommitPointHistoryStore(new SerialCommitStore(0L) {
+            @Override
+            public List<PointHistory> insertAll(List<PendingPointHistory> rows) {
+                throw new IllegalStateException("저장 실패");
+            }
+        }, Duration.ofMillis(2), 32, meterRegistry);
+
+        // when
+        Exception result = assertThrows(IllegalStateException.class, () ->
+            failingStore.insert(1L, 1_000L, TransactionType.CHARGE, 10L));
+        failingStore.close();
+
+        // then
+        assertEquals("저장 실패", result.getMessage());
+        assertThrows(IllegalStateException.class, () -> failingStore.insert(1L, 1_000L, TransactionType.CHARGE, 10L));
+    }
+
+    @Test
+    @DisplayName(value = "[동시성테스트] 종료와 동시에 들어온 저장은 처리되거나 바로 실패하고, 호출자가 멈춘 채 남지 않는다.")
+    void 종료와_동시에_들어온_저장은_호출자를_멈추지_않는다() throws Exception {
+        pointHistoryStore.close();
+        for (int round = 0; round < 50; round++) {
+            // given
+            GroupCommitPointHistoryStore store = new GroupCommitPointHistoryStore(new SerialCommitStore(0L), Duration.ofMillis(1), 32, meterRegistry);
+            int threadCount = 4;
+            ExecutorService executorService = Executors.newFixedThreadPool(threadCount);
+            CountDownLatch started = new CountDownLatch(threadCount);
+
+            // when
+            for (int t = 0; t < threadCount; t++) {
+                long userId = t;
+                executorService.submit(() -> {
+                    started.countDown();
+                    while (true) {
+                        try {
+                            store.insert(userId, 1_000L, TransactionType.CHARGE, 10L);
+                        } catch (IllegalStateException e) {
+                            return; // 종료 중
+                        }
+                    }
+                });
+            }
+            started.await();
+            store.close();
+            executorService.shutdown();
+
+            // then
+            assertTrue(executorService.awaitTermination(10, TimeUnit.SECONDS), "종료 후에도 저장을 기다리는 호출자가 있습니다.");
+        }
+    }
+
+    @Test
+    @DisplayName(value = "[벤치마크] 커밋이 직렬화되는 저장소에서 그룹 커밋이 처리량을 높인다.")
+    void 커밋이_직렬화되는_저장소에서_그룹_커밋이_처리량을_높인다() throws Exception {
+        // given
+        int threadCount = 64;
+        int loopCount = 10;
+
+        // when
+        double direct = run(new SerialCommitStore(1L), threadCount, loopCount);
+        double grouped = run(pointHistoryStore, threadCount, loopCount);
+
+        // then
+        log.info("threads={} direct={} rows/s group-commit={} rows/s (평균 묶음 {}건)", threadCount,
+                Math.round(direct), Math.round(grouped), meterRegistry.get("point.history.group-commit.batch-size").summary().mean());
+        assertTrue(grouped > direct);
+    }
+
+    private double run(PointHistoryStore store, int threadCount, int loopCount) throws Exception {
+        ExecutorService executorService = Executors.newFixedThreadPool(threadCount);
+        CountDownLatch latch = new CountDownLatch(threadCount);
+
+        long start = System.nanoTime();
+        for (int t = 0; t < threadCount; t++) {
+            long userId = t;
+            executorService.submit(() -> {
+                try {
+                    for (int i = 0; i < loopCount; i++) {
+                        store.insert(userId, 1_000L, TransactionType.CHARGE, System.currentTimeMillis());
+                    }
+                } finally {
+                    latch.countDown();
+                }
+            });
+        }
+        latch.await();
+        long elapsed = System.nanoTime() - start;
+        executorService.shutdown();
+        return threadCount * loopCount / (elapsed / 1_000_000_000.0);
+    }
+
+    /**
+     * 커밋(insert 한 번 또는 insertAll 한 번)마다 고정 지연이 있고, 커밋끼리는 직렬화되는 저장소
+     * - 로그 파일에 fsync 하는 저장소처럼 동시에 한 커밋만 진행
+     */
+    private static class SerialCommitStore extends ColumnarPointHistoryStore {
+
+        private final ReentrantLock commitLock = new ReentrantLock();
+        private final long delayMillis;
+
+        private SerialCommitStore(long delayMillis) {
+            this.delayMillis = delayMillis;
+        }
+
+        @Override
+        public PointHistory insert(long userId, long amount, TransactionType type, long updateMillis) {
+            return insertAll(List.of(new PendingPointHistory(userId, amount, type, updateMillis))).get(0);
+        }
+
+        @Override
+        public List<PointHistory> insertAll(List<PendingPointHistory> rows) {
+            commitLock.lock();
+            try {
+                TimeUnit.MILLISECONDS.sleep(delayMillis);
+                return super.insertAll(rows);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IllegalStateException(e);
+            } finally {
+                commitLock.unlock();
+            }
+        }
+    }
+}
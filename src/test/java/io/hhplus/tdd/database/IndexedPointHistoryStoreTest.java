@@ -0,0 +1,168 @@
+package io.hhplus.tdd.database;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import io.hhplus.tdd.point.PointHistory;
+import io.hhplus.tdd.point.TransactionType;
+
+public class IndexedPointHistoryStoreTest {
+
+    private IndexedPointHistoryStore pointHistoryStore;
+
+    /**
+     * PointHistoryTable.insert()는 최대 300ms 지연이 있어 대량 데이터를 넣을 수 없으므로
+     * 지연 없이 id만 발급하는 테이블로 대체
+     */
+    @BeforeEach
+    void setUp() {
+        pointHistoryStore = new IndexedPointHistoryStore(new PointHistoryTable() {
+            private long cursor = 1;
+
+            @Override
+            public PointHistory insert(long userId, long amount, TransactionType type, long updateMillis) {
+                return new PointHistory(cursor++, userId, amount, type, updateMillis);
+            }
+        });
+    }
+
+    @Test
+    @DisplayName(value = "Index [성공] 유저별 내역을 저장 순서대로 조회한다.")
+    void 유저별_내역을_저장_순서대로_조회한다() throws Exception {
+        // given
+        long userId = 1L;
+        long otherUserId = 2L;
+
+        pointHistoryStore.insert(userId, 1_000L, TransactionType.CHARGE, System.currentTimeMillis());
+        pointHistoryStore.insert(otherUserId, 2_000L, TransactionType.CHARGE, System.currentTimeMillis());
+        pointHistoryStore.insert(userId, 3_000L, TransactionType.USE, System.currentTimeMillis());
+
+        // when
+        List<PointHistory> result = pointHistoryStore.selectAllByUserId(userId);
+
+        // then
+        assertEquals(2, result.size());
+        assertEquals(1L, result.get(0).id());
+        assertEquals(TransactionType.CHARGE, result.get(0).type());
+        assertEquals(3L, result.get(1).id());
+        assertEquals(TransactionType.USE, result.get(1).type());
+        assertEquals(0, pointHistoryStore.selectAllByUserId(999L).size());
+    }
+
+    @Test
+    @DisplayName(value = "Index [성공] 다른 유저의 내역이 늘어나도 조회 시간은 일정하다.")
+    void 다른_유저의_내역이_늘어나도_조회_시간은_일정하다() throws Exception {
+        // given
+        long userId = 1L;
+        for (int i = 0; i < 100; i++) {
+            pointHistoryStore.insert(userId, 1_000L, TransactionType.CHARGE, System.currentTimeMillis());
+        }
+        long before = medianLookupNanos(userId);
+
+        // when
+        for (int i = 0; i < 1_000_000; i++) {
+            pointHistoryStore.insert(2L + (i % 10_000), 1_000L, TransactionType.CHARGE, System.currentTimeMillis());
+        }
+        long after = medianLookupNanos(userId);
+
+        // then
+        // 전체 테이블을 훑는다면 내역이 10,000배 늘어난 만큼 느려지므로, 넉넉한 오차 범위로 비교
+        assertEquals(100, pointHistoryStore.selectAllByUserId(userId).size());
+        assertTrue(after < before * 10 + 50_000L, "조회 시간이 다른 유저의 내역 수에 비례해서는 안 됩니다. before=" + before + "ns, after=" + after + "ns");
+    }
+
+    @Test
+    @DisplayName(value = "Index [성공] 커서 다음 id부터 요청한 방향으로 한 페이지를 조회한다.")
+    void 커서_다음_id부터_한_페이지를_조회한다() throws Exception {
+        // given
+        long userId = 1L;
+        for (int i = 0; i < 10; i++) {
+            pointHistoryStore.insert(userId, 1_000L, TransactionType.CHARGE, System.currentTimeMillis()); // id 1, 3, 5, ..., 19
+            pointHistoryStore.insert(2L, 1_000L, TransactionType.CHARGE, System.currentTimeMillis());
+        }
+
+        // when
+        List<PointHistory> first = pointHistoryStore.selectPageByUserId(userId, 0L, 3, SortDirection.ASC);
+        List<PointHistory> next = pointHistoryStore.selectPageByUserId(userId, 5L, 3, SortDirection.ASC);
+        List<PointHistory> latest = pointHistoryStore.selectPageByUserId(userId, 0L, 3, SortDirection.DESC);
+        List<PointHistory> older = pointHistoryStore.selectPageByUserId(userId, 6L, 3, SortDirection.DESC); // 커서가 다른 유저의 id여도 위치는 같음
+
+        // then
+        assertEquals(List.of(1L, 3L, 5L), ids(first));
+        assertEquals(List.of(7L, 9L, 11L), ids(next));
+        assertEquals(List.of(19L, 17L, 15L), ids(latest));
+        assertEquals(List.of(5L, 3L, 1L), ids(older));
+        assertEquals(0, pointHistoryStore.selectPageByUserId(userId, 19L, 3, SortDirection.ASC).size());
+        assertEquals(0, pointHistoryStore.selectPageByUserId(999L, 0L, 3, SortDirection.ASC).size());
+    }
+
+    @Test
+    @DisplayName(value = "Index [성공] 내역이 늦게 추가되어도 id 순서로 정렬된다.")
+    void 내역이_늦게_추가되어도_id_순서로_정렬된다() throws Exception {
+        // given
+        long userId = 1L;
+        long[] ids = {2L, 1L, 4L, 3L}; // 같은 유저의 insert()가 동시에 호출되어 id 순서와 추가 순서가 다른 경우
+        IndexedPointHistoryStore store = new IndexedPointHistoryStore(new PointHistoryTable() {
+            private int next = 0;
+
+            @Override
+            public PointHistory insert(long userId, long amount, TransactionType type, long updateMillis) {
+                return new PointHistory(ids[next++], userId, amount, type, updateMillis);
+            }
+        });
+
+        // when
+        for (int i = 0; i < ids.length; i++) {
+            store.insert(userId, 1_000L, TransactionType.CHARGE, System.currentTimeMillis());
+        }
+
+        // then
+        assertEquals(List.of(1L, 2L, 3L, 4L), ids(store.selectAllByUserId(userId)));
+        assertEquals(List.of(3L, 4L), ids(store.selectPageByUserId(userId, 2L, 10, SortDirection.ASC)));
+    }
+
+    @Test
+    @DisplayName(value = "Index [성공] 기간과 거래 유형으로 조회하면 시간 순서로 정렬된 결과를 반환한다.")
+    void 기간과_거래_유형으로_조회한다() throws Exception {
+        // given
+        long userId = 1L;
+        pointHistoryStore.insert(userId, 1_000L, TransactionType.CHARGE, 100L); // id 1
+        pointHistoryStore.insert(userId, 2_000L, TransactionType.USE, 300L);    // id 2
+        pointHistoryStore.insert(2L, 3_000L, TransactionType.CHARGE, 200L);     // id 3, 다른 유저
+        pointHistoryStore.insert(userId, 4_000L, TransactionType.CHARGE, 200L); // id 4, 저장 순서와 시간 순서가 다름
+        pointHistoryStore.insert(userId, 5_000L, TransactionType.USE, 400L);    // id 5
+
+        // when
+        List<PointHistory> all = pointHistoryStore.selectByUserIdAndTimeRange(userId, 100L, 400L, null);
+        List<PointHistory> uses = pointHistoryStore.selectByUserIdAndTimeRange(userId, 0L, Long.MAX_VALUE, TransactionType.USE);
+
+        // then
+        assertEquals(List.of(1L, 4L, 2L), ids(all));
+        assertEquals(List.of(2L, 5L), ids(uses));
+        assertEquals(0, pointHistoryStore.selectByUserIdAndTimeRange(userId, 400L, 400L, null).size());
+        assertEquals(0, pointHistoryStore.selectByUserIdAndTimeRange(999L, 0L, Long.MAX_VALUE, null).size());
+    }
+
+    private List<Long> ids(List<PointHistory> pointHistories) {
+        return pointHistories.stream().map(PointHistory::id).toList();
+    }
+
+    private long medianLookupNanos(long userId) {
+        int rounds = 2_001;
+        long[] elapsed = new long[rounds];
+        for (int i = 0; i < rounds; i++) {
+            long start = System.nanoTime();
+            pointHistoryStore.selectAllByUserId(userId);
+            elapsed[i] = System.nanoTime() - start;
+        }
+        Arrays.sort(elapsed);
+        return elapsed[rounds / 2];
+    }
+}
@@ -0,0 +1,228 @@
+package io.hhplus.tdd.database;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.lang.management.GarbageCollectorMXBean;
+import java.lang.management.ManagementFactory;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.function.LongConsumer;
+
+import javax.management.NotificationEmitter;
+import javax.management.NotificationListener;
+import javax.management.openmbean.CompositeData;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.sun.management.GarbageCollectionNotificationInfo;
+
+import io.hhplus.tdd.UserLockRegistry;
+import io.hhplus.tdd.point.PointLedger;
+import io.hhplus.tdd.point.PointService;
+import io.hhplus.tdd.point.PointServiceImpl;
+import io.hhplus.tdd.point.PointValidationException;
+import io.hhplus.tdd.point.PointValidationException.Reason;
+import io.hhplus.tdd.point.UserPoint;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+public class OffHeapUserPointStoreTest {
+
+    private static final Logger log = LoggerFactory.getLogger(OffHeapUserPointStoreTest.class);
+
+    @Test
+    @DisplayName(value = "OffHeap [성공] 저장한 잔액을 조회하고, 다시 저장하면 갱신되며, 없는 유저는 null이다.")
+    void 저장한_잔액을_조회하고_다시_저장하면_갱신된다() throws Exception {
+        // given
+        OffHeapUserPointStore userPointStore = new OffHeapUserPointStore(16, new SimpleMeterRegistry());
+
+        // when
+        UserPoint inserted = userPointStore.insertOrUpdate(0L, 1_000L);
+        userPointStore.insertOrUpdate(-7L, 500L);
+        UserPoint updated = userPointStore.insertOrUpdate(0L, 3_000L);
+
+        // then
+        assertEquals(updated, userPointStore.selectById(0L));
+        assertEquals(3_000L, userPointStore.selectById(0L).point());
+        assertEquals(500L, userPointStore.selectById(-7L).point());
+        assertEquals(inserted.id(), updated.id());
+        assertNull(userPointStore.selectById(1L));
+        assertEquals(2L, userPointStore.size());
+        assertThrows(IllegalArgumentException.class, () -> userPointStore.insertOrUpdate(Long.MIN_VALUE, 1_000L));
+    }
+
+    @Test
+    @DisplayName(value = "OffHeap [실패] 저장된 적 없는 유저는 다른 엔진과 같이 서비스에서 존재하지 않는 유저로 거절된다.")
+    void 저장된_적_없는_유저는_존재하지_않는_유저로_거절된다() throws Exception {
+        // given
+        OffHeapUserPointStore userPointStore = new OffHeapUserPointStore(16, new SimpleMeterRegistry());
+        PointService pointService = new PointServiceImpl(new FakePointHistoryStore(), userPointStore, new UserLockRegistry(), new PointLedger(), new SimpleMeterRegistry());
+        userPointStore.insertOrUpdate(2L, 0L);
+
+        // when
+        PointValidationException charge = assertThrows(PointValidationException.class, () -> pointService.chargeUserPoint(1L, 5_000L));
+        PointValidationException find = assertThrows(PointValidationException.class, () -> pointService.findUserPoint(1L));
+        UserPoint charged = pointService.chargeUserPoint(2L, 5_000L);
+
+        // then
+        assertEquals(Reason.USER_NOT_FOUND, charge.reason());
+        assertEquals(Reason.USER_NOT_FOUND, find.reason());
+        assertEquals(5_000L, charged.point());
+        assertEquals(1L, userPointStore.size());
+        userPointStore.close();
+    }
+
+    @Test
+    @DisplayName(value = "OffHeap [성공] 예상 유저 수를 넘어 slot을 여러 번 늘려도 모든 잔액이 남아 있다.")
+    void slot을_여러_번_늘려도_모든_잔액이_남아_있다() throws Exception {
+        // given
+        OffHeapUserPointStore userPointStore = new OffHeapUserPointStore(16, new SimpleMeterRegistry());
+        Map<Long, Long> expected = new HashMap<>();
+        SplittableRandom random = new SplittableRandom(42);
+
+        // when
+        for (int i = 0; i < 2_000_000; i++) {
+            long id = random.nextInt(3) == 0 ? random.nextLong() : random.nextInt(1_500_000); // 큰 id와 연속된 id를 섞음
+            long amount = random.nextInt(1_000_000);
+            userPointStore.insertOrUpdate(id, amount);
+            expected.put(id, amount);
+        }
+
+        // then
+        assertEquals(expected.size(), userPointStore.size());
+        expected.forEach((id, amount) -> assertEquals((long) amount, userPointStore.selectById(id).point()));
+        assertEquals(userPointStore.allocatedBytes(), Long.highestOneBit(userPointStore.allocatedBytes() / OffHeapUserPointStore.SLOT_SIZE) * OffHeapUserPointStore.SLOT_SIZE);
+    }
+
+    @Test
+    @DisplayName(value = "[동시성테스트] 여러 스레드가 동시에 다른 유저를 저장해도 늘리는 도중의 조회/저장이 유실되지 않는다.")
+    void 동시에_저장해도_유실되지_않는다() throws Exception {
+        // given
+        OffHeapUserPointStore userPointStore = new OffHeapUserPointStore(16, new SimpleMeterRegistry());
+        int threadCount = 8;
+        int usersPerThread = 50_000;
+
+        // when
+        ExecutorService executorService = Executors.newFixedThreadPool(threadCount);
+        List<Future<?>> futures = new ArrayList<>();
+        for (int t = 0; t < threadCount; t++) {
+            long base = (long) t * usersPerThread;
+            futures.add(executorService.submit(() -> {
+                for (long id = base; id < base + usersPerThread; id++) {
+                    userPointStore.insertOrUpdate(id, id);
+                    assertEquals(id, userPointStore.selectById(id).point());
+                }
+            }));
+        }
+        for (Future<?> future : futures) {
+            future.get(60, TimeUnit.SECONDS);
+        }
+        executorService.shutdown();
+
+        // then
+        assertEquals((long) threadCount * usersPerThread, userPointStore.size());
+        for (long id = 0; id < (long) threadCount * usersPerThread; id++) {
+            assertEquals(id, userPointStore.selectById(id).point());
+        }
+    }
+
+    /**
+     * 유저 수는 ./gradlew loadTest -Ppoint.benchmark.users=... 로 지정 (기본 500만), 5천만 명은 -Xmx8g -XX:MaxDirectMemorySize=2g 이상에서 실행
+     * - table: UserPointTable과 같은 HashMap<Long, UserPoint> (UserPointTable은 호출마다 지연이 있어 대량 저장에 쓸 수 없음)
+     * - 유저 수만큼 저장하고 무작위 갱신/조회를 하는 동안의 GC 멈춤 시간을 수집, 끝난 뒤 Full GC를 실행해서 남은 힙 사용량을 잼
+     */
+    @Test
+    @Tag("load")
+    @DisplayName(value = "[성능테스트] 유저 수만큼 저장했을 때 HashMap(table)과 off-heap 저장소의 힙 사용량과 GC 멈춤 시간")
+    void 힙_사용량과_GC_멈춤_시간() throws Exception {
+        int users = Integer.getInteger("point.benchmark.users", 5_000_000);
+        int operations = 20_000_000;
+
+        measureTable(users, operations);
+
+        OffHeapUserPointStore userPointStore = new OffHeapUserPointStore(users, new SimpleMeterRegistry());
+        measure("off-heap", users, operations,
+                id -> userPointStore.insertOrUpdate(id, id),
+                userPointStore::selectById);
+        log.info("off-heap direct memory={}MB", userPointStore.allocatedBytes() >> 20);
+        userPointStore.close();
+    }
+
+    // 측정이 끝나면 맵 전체가 참조되지 않도록 메서드로 분리
+    private static void measureTable(int users, int operations) throws Exception {
+        Map<Long, UserPoint> table = new HashMap<>();
+        measure("table", users, operations,
+                id -> table.put(id, new UserPoint(id, id, System.currentTimeMillis())),
+                table::get);
+    }
+
+    private static void measure(String name, int users, int operations, LongConsumer insert, LongConsumer select) throws Exception {
+        usedHeapAfterGc();
+        List<Long> pauses = Collections.synchronizedList(new ArrayList<>());
+        List<Runnable> unsubscribe = recordGcPauses(pauses);
+        long start = System.nanoTime();
+        for (long id = 0; id < users; id++) {
+            insert.accept(id);
+        }
+        long loadMillis = (System.nanoTime() - start) / 1_000_000;
+
+        SplittableRandom random = new SplittableRandom(7);
+        start = System.nanoTime();
+        for (int i = 0; i < operations; i++) {
+            long id = random.nextInt(users);
+            if ((i & 3) == 0) insert.accept(id);
+            else select.accept(id);
+        }
+        long elapsedMillis = (System.nanoTime() - start) / 1_000_000;
+        unsubscribe.forEach(Runnable::run);
+        long heap = usedHeapAfterGc();
+
+        List<Long> sorted = new ArrayList<>(pauses);
+        Collections.sort(sorted);
+        long p99 = sorted.isEmpty() ? 0 : sorted.get((int) Math.ceil(sorted.size() * 0.99) - 1);
+        long max = sorted.isEmpty() ? 0 : sorted.get(sorted.size() - 1);
+        log.info("{} users={} heap={}MB ({} byte/user), load {}ms, {} ops {}ms, gc pauses={} p99={}ms max={}ms",
+                name, users, heap >> 20, heap / users, loadMillis, operations, elapsedMillis, sorted.size(), p99, max);
+    }
+
+    private static long usedHeapAfterGc() {
+        System.gc();
+        Runtime runtime = Runtime.getRuntime();
+        return runtime.totalMemory() - runtime.freeMemory();
+    }
+
+    // 동시(concurrent) 단계는 애플리케이션을 멈추지 않으므로 제외하고 멈춤(pause)만 수집
+    private static List<Runnable> recordGcPauses(List<Long> pauses) {
+        List<Runnable> unsubscribe = new ArrayList<>();
+        for (GarbageCollectorMXBean bean : ManagementFactory.getGarbageCollectorMXBeans()) {
+            if (!(bean instanceof NotificationEmitter emitter)) continue;
+            NotificationListener listener = (notification, handback) -> {
+                if (!notification.getType().equals(GarbageCollectionNotificationInfo.GARBAGE_COLLECTION_NOTIFICATION)) return;
+                GarbageCollectionNotificationInfo info = GarbageCollectionNotificationInfo.from((CompositeData) notification.getUserData());
+                if (info.getGcName().contains("Concurrent")) return;
+                pauses.add(info.getGcInfo().getDuration());
+            };
+            emitter.addNotificationListener(listener, null, null);
+            unsubscribe.add(() -> {
+                try {
+                    emitter.removeNotificationListener(listener);
+                } catch (Exception ignored) {
+                }
+            });
+        }
+        return unsubscribe;
+    }
+}
@@ -0,0 +1,232 @@
+package io.hhplus.tdd.database;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.RandomAccessFile;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import io.hhplus.tdd.point.PointHistory;
+import io.hhplus.tdd.point.TransactionType;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+public class PointHistoryArchiveTest {
+
+    private static final int USER_COUNT = 30;
+
+    @TempDir
+    Path directory;
+
+    @Test
+    @DisplayName(value = "Archive [성공] 보관한 저널 구간을 다시 열어도 유저별로 sequence 순서대로 조회하고, id는 저널 sequence다.")
+    void 보관한_내역을_다시_열어도_유저별로_조회한다() throws Exception {
+        // given
+        try (PointJournal pointJournal = journal()) {
+            appendRandom(pointJournal, 1_000);
+            PointHistoryArchive pointHistoryArchive = new PointHistoryArchive(directory);
+            pointHistoryArchive.append(pointJournal, 300L);
+            pointHistoryArchive.append(pointJournal, 700L);
+            pointHistoryArchive.append(pointJournal, 1_000L);
+        }
+
+        // when
+        try (PointJournal pointJournal = journal()) {
+            PointHistoryArchive pointHistoryArchive = new PointHistoryArchive(directory);
+
+            // then
+            assertEquals(1_000L, pointHistoryArchive.baseSequence());
+            Map<Long, List<PointHistory>> expected = byUser(pointJournal);
+            for (long userId = 0; userId < USER_COUNT; userId++) {
+                assertEquals(expected.get(userId), pointHistoryArchive.selectAllByUserId(userId));
+                assertEquals(expected.get(userId).size(), pointHistoryArchive.countByUserId(userId));
+            }
+            assertEquals(List.of(), pointHistoryArchive.selectAllByUserId(USER_COUNT));
+        }
+    }
+
+    @Test
+    @DisplayName(value = "Archive [성공] 커서 페이지와 기간 조회가 chunk 경계를 넘어 이어진다.")
+    void 커서_페이지와_기간_조회가_chunk_경계를_넘어_이어진다() throws Exception {
+        // given
+        PointHistoryArchive pointHistoryArchive;
+        List<PointHistory> all;
+        try (PointJournal pointJournal = journal()) {
+            for (int i = 1; i <= 900; i++) {
+                pointJournal.append(i % 3, i, i % 4 == 0 ? TransactionType.USE : TransactionType.CHARGE, 1_000L + i);
+            }
+            PointHistoryArchive writer = new PointHistoryArchive(directory);
+            writer.append(pointJournal, 500L);
+            writer.append(pointJournal, 900L); // 앞 chunk(500건)가 더 커서 합치지 않음 -> chunk 2개
+            pointHistoryArchive = new PointHistoryArchive(directory);
+            all = byUser(pointJournal).get(1L);
+        }
+        assertEquals(2, chunkFiles().size());
+
+        // when
+        List<PointHistory> ascending = new ArrayList<>();
+        long cursor = 0;
+        for (List<PointHistory> page; !(page = pointHistoryArchive.selectPageByUserId(1L, cursor, 7, SortDirection.ASC)).isEmpty(); ) {
+            ascending.addAll(page);
+            cursor = page.get(page.size() - 1).id();
+        }
+        List<PointHistory> descending = new ArrayList<>();
+        cursor = 0;
+        for (List<PointHistory> page; !(page = pointHistoryArchive.selectPageByUserId(1L, cursor, 7, SortDirection.DESC)).isEmpty(); ) {
+            descending.addAll(page);
+            cursor = page.get(page.size() - 1).id();
+        }
+
+        // then
+        assertEquals(all, ascending);
+        assertEquals(all, descending.reversed());
+        assertEquals(all.stream().filter(history -> history.updateMillis() >= 1_350L && history.updateMillis() < 1_450L && history.type() == TransactionType.USE).toList(),
+                pointHistoryArchive.selectByUserIdAndTimeRange(1L, 1_350L, 1_450L, TransactionType.USE));
+    }
+
+    @Test
+    @DisplayName(value = "Archive [성공] 비슷한 크기의 chunk는 합쳐서 chunk 수가 보관 횟수의 로그 수준으로 유지된다.")
+    void 비슷한_크기의_chunk는_합친다() throws Exception {
+        // given
+        try (PointJournal pointJournal = journal()) {
+            appendRandom(pointJournal, 1_600);
+            PointHistoryArchive pointHistoryArchive = new PointHistoryArchive(directory);
+
+            // when
+            for (int i = 1; i <= 16; i++) {
+                pointHistoryArchive.append(pointJournal, 100L * i);
+            }
+
+            // then
+            assertEquals(1, chunkFiles().size()); // 16번 보관 -> 1, 2, 4, 8, 16 순서로 합쳐짐
+            assertEquals(1_600L, pointHistoryArchive.archivedSequence());
+            Map<Long, List<PointHistory>> expected = byUser(pointJournal);
+            PointHistoryArchive reopened = new PointHistoryArchive(directory);
+            for (long userId = 0; userId < USER_COUNT; userId++) {
+                assertEquals(expected.get(userId), reopened.selectAllByUserId(userId));
+            }
+        }
+    }
+
+    @Test
+    @DisplayName(value = "Archive [성공] 열 때의 보관 구간까지만 조회하고, 이후에 보관한 내역은 다음에 열 때부터 조회한다.")
+    void 열_때의_보관_구간까지만_조회한다() throws Exception {
+        // given
+        try (PointJournal pointJournal = journal()) {
+            appendRandom(pointJournal, 1_000);
+            new PointHistoryArchive(directory).append(pointJournal, 400L);
+            PointHistoryArchive pointHistoryArchive = new PointHistoryArchive(directory);
+
+            // when
+            pointHistoryArchive.append(pointJournal, 1_000L); // 앞 chunk(400건)가 더 작아 하나로 합쳐짐
+
+            // then
+            assertEquals(400L, pointHistoryArchive.baseSequence());
+            assertEquals(1_000L, pointHistoryArchive.archivedSequence());
+            int count = 0;
+            for (long userId = 0; userId < USER_COUNT; userId++) {
+                List<PointHistory> histories = pointHistoryArchive.selectAllByUserId(userId);
+                assertTrue(histories.stream().allMatch(history -> history.id() <= 400L));
+                assertEquals(histories, pointHistoryArchive.selectPageByUserId(userId, 0, 1_000, SortDirection.ASC));
+                count += pointHistoryArchive.countByUserId(userId);
+            }
+            assertEquals(400, count);
+        }
+    }
+
+    @Test
+    @DisplayName(value = "Archive [성공] 합친 뒤 지우지 못한 chunk와 쓰는 도중 중단된 임시 파일은 다시 열 때 지운다.")
+    void 합친_뒤_남은_chunk와_임시_파일은_다시_열_때_지운다() throws Exception {
+        // given
+        try (PointJournal pointJournal = journal()) {
+            appendRandom(pointJournal, 400);
+            PointHistoryArchive pointHistoryArchive = new PointHistoryArchive(directory);
+            pointHistoryArchive.append(pointJournal, 200L);
+            Path first = chunkFiles().get(0);
+            byte[] leftover = Files.readAllBytes(first);
+            pointHistoryArchive.append(pointJournal, 400L); // 합치면서 first를 지움
+            Files.write(first, leftover); // 지우기 전에 중단된 것처럼 되돌림
+            Files.write(directory.resolve(String.format("history-%020d-%020d.bin.tmp", 401, 500)), new byte[]{1, 2, 3});
+            Map<Long, List<PointHistory>> expected = byUser(pointJournal);
+
+            // when
+            PointHistoryArchive reopened = new PointHistoryArchive(directory);
+
+            // then
+            assertEquals(400L, reopened.archivedSequence());
+            assertEquals(List.of(String.format("history-%020d-%020d.bin", 1, 400)),
+                    chunkFiles().stream().map(path -> path.getFileName().toString()).toList());
+            try (var files = Files.list(directory)) {
+                assertTrue(files.noneMatch(path -> path.getFileName().toString().endsWith(".tmp")));
+            }
+            for (long userId = 0; userId < USER_COUNT; userId++) {
+                assertEquals(expected.get(userId), reopened.selectAllByUserId(userId));
+            }
+        }
+    }
+
+    @Test
+    @DisplayName(value = "Archive [실패] 보관한 유저 구간이 손상되었으면 그 유저를 조회할 때 예외가 발생한다.")
+    void 손상된_유저_구간을_조회하면_예외가_발생한다() throws Exception {
+        // given
+        try (PointJournal pointJournal = journal()) {
+            appendRandom(pointJournal, 500);
+            new PointHistoryArchive(directory).append(pointJournal, 500L);
+        }
+        long lastUser = -1;
+        try (PointJournal pointJournal = journal()) {
+            lastUser = byUser(pointJournal).keySet().stream().mapToLong(Long::longValue).max().orElseThrow();
+        }
+        Path chunk = chunkFiles().get(0);
+        try (RandomAccessFile file = new RandomAccessFile(chunk.toFile(), "rw")) {
+            file.seek(file.length() - 10); // 마지막 행 = userId가 가장 큰 유저의 마지막 내역
+            file.writeByte(file.readByte() ^ 0xFF);
+        }
+
+        // when
+        PointHistoryArchive pointHistoryArchive = new PointHistoryArchive(directory);
+        long corruptedUser = lastUser;
+
+        // then
+        assertEquals(500L, pointHistoryArchive.archivedSequence()); // 헤더와 색인은 온전함
+        assertThrows(IllegalStateException.class, () -> pointHistoryArchive.selectAllByUserId(corruptedUser));
+        assertEquals(pointHistoryArchive.selectAllByUserId(0L).size(), pointHistoryArchive.countByUserId(0L));
+    }
+
+    private PointJournal journal() {
+        return new PointJournal(directory, PointJournal.RECORD_SIZE * 1_000L, FsyncPolicy.EVERY_WRITE, Duration.ofMillis(10), new SimpleMeterRegistry());
+    }
+
+    private static void appendRandom(PointJournal pointJournal, int count) {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        for (int i = 0; i < count; i++) {
+            TransactionType type = random.nextInt(3) == 0 ? TransactionType.USE : TransactionType.CHARGE;
+            pointJournal.append(i % USER_COUNT, 100L * (1 + random.nextInt(100)), type, System.currentTimeMillis());
+        }
+    }
+
+    // 저널을 유저별로 나눈 내역, id는 sequence
+    private static Map<Long, List<PointHistory>> byUser(PointJournal pointJournal) {
+        Map<Long, List<PointHistory>> histories = new HashMap<>();
+        pointJournal.replay((sequence, userId, amount, type, updateMillis) ->
+                histories.computeIfAbsent(userId, id -> new ArrayList<>()).add(new PointHistory(sequence, userId, amount, type, updateMillis)));
+        return histories;
+    }
+
+    private List<Path> chunkFiles() throws Exception {
+        try (var files = Files.list(directory)) {
+            return files.filter(path -> path.getFileName().toString().matches("history-\\d{20}-\\d{20}\\.bin")).sorted().toList();
+        }
+    }
+}
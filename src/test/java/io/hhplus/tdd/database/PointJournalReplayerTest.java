@@ -0,0 +1,195 @@
+package io.hhplus.tdd.database;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import io.hhplus.tdd.point.PointHistory;
+import io.hhplus.tdd.point.PointLedger;
+import io.hhplus.tdd.point.PointSummary;
+import io.hhplus.tdd.point.TransactionType;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+public class PointJournalReplayerTest {
+
+    private static final int USER_COUNT = 50;
+    private static final long SEGMENT_SIZE = 8L << 20;
+
+    @TempDir
+    Path directory;
+
+    @Test
+    @DisplayName(value = "Replay [성공] 스냅샷 없이 저널 전체로 내역, 집계, 잔액을 복구하고 저널에 다시 기록하지 않는다.")
+    void 스냅샷_없이_저널_전체로_내역_집계_잔액을_복구한다() throws Exception {
+        // given
+        try (PointJournal pointJournal = journal()) {
+            insertRandom(new JournaledPointHistoryStore(new ColumnarPointHistoryStore(), pointJournal), 1_000);
+        }
+
+        // when
+        try (PointJournal pointJournal = journal()) {
+            JournaledPointHistoryStore restored = new JournaledPointHistoryStore(new ColumnarPointHistoryStore(), pointJournal);
+            PointLedger pointLedger = new PointLedger();
+            FakeUserPointStore userPointStore = new FakeUserPointStore();
+            PointRecovery pointRecovery = new PointJournalReplayer(pointJournal, restored, pointLedger, userPointStore)
+                    .replay(null);
+
+            // then
+            assertEquals(0L, pointRecovery.snapshotSequence());
+            assertEquals(1_000L, pointRecovery.replayed());
+            assertEquals(1_000L, pointJournal.lastSequence());
+            assertRestored(restored, pointLedger, userPointStore, 1_000);
+        }
+    }
+
+    @Test
+    @DisplayName(value = "Replay [실패] 보관이 끝난 저널 세그먼트를 지웠으면 스냅샷 없이 복구할 수 없다.")
+    void 저널_앞부분을_지웠으면_스냅샷_없이_복구할_수_없다() throws Exception {
+        // given (세그먼트 하나에 1,000건)
+        long segmentSize = PointJournal.RECORD_SIZE * 1_000L;
+        try (PointJournal pointJournal = journal(segmentSize)) {
+            insertRandom(new JournaledPointHistoryStore(new ColumnarPointHistoryStore(), pointJournal), 3_000);
+            snapshotter(pointJournal, new PointHistoryArchive(directory)).snapshot();
+            insertRandom(new JournaledPointHistoryStore(new ColumnarPointHistoryStore(), pointJournal), 300);
+        }
+
+        // when
+        try (PointJournal pointJournal = journal(segmentSize)) {
+            PointJournalReplayer pointJournalReplayer = new PointJournalReplayer(pointJournal,
+                    new JournaledPointHistoryStore(new ColumnarPointHistoryStore(), pointJournal), new PointLedger(), new FakeUserPointStore());
+
+            // then
+            assertThrows(IllegalStateException.class, () -> pointJournalReplayer.replay(null));
+        }
+    }
+
+    @Test
+    @DisplayName(value = "Replay [성공] 스냅샷이 있어도 스냅샷 이전 내역과 집계까지 복구해서 잔액과 일치한다.")
+    void 스냅샷이_있어도_스냅샷_이전_내역과_집계까지_복구한다() throws Exception {
+        // given
+        try (PointJournal pointJournal = journal(); PointSnapshotter pointSnapshotter = snapshotter(pointJournal, new PointHistoryArchive(directory))) {
+            JournaledPointHistoryStore pointHistoryStore = new JournaledPointHistoryStore(new ColumnarPointHistoryStore(), pointJournal);
+            insertRandom(pointHistoryStore, 5_000);
+            pointSnapshotter.snapshot();
+            insertRandom(pointHistoryStore, 300);
+        }
+
+        // when
+        try (PointJournal pointJournal = journal()) {
+            PointHistoryArchive pointHistoryArchive = new PointHistoryArchive(directory);
+            JournaledPointHistoryStore restored = new JournaledPointHistoryStore(new ColumnarPointHistoryStore(), pointJournal, pointHistoryArchive);
+            PointLedger pointLedger = new PointLedger();
+            FakeUserPointStore userPointStore = new FakeUserPointStore();
+            PointRecovery pointRecovery = new PointJournalReplayer(pointJournal, restored, pointLedger, userPointStore)
+                    .replay(snapshotter(pointJournal, pointHistoryArchive));
+
+            // then
+            assertEquals(5_300L, pointRecovery.snapshotSequence()); // close()가 마지막 스냅샷을 만듦
+            assertEquals(5_300L, pointJournal.lastSequence());
+            assertRestored(restored, pointLedger, userPointStore, 5_300);
+        }
+    }
+
+    @Test
+    @DisplayName(value = "Replay [성공] 스냅샷 이전 구간은 내역 보관소에서 조회하고, 저널은 남은 스냅샷 이후 구간만 읽어 복구한다.")
+    void 스냅샷_이전_내역은_보관소에서_조회하고_저널은_이후_구간만_읽는다() throws Exception {
+        // given (세그먼트 하나에 1,000건)
+        long segmentSize = PointJournal.RECORD_SIZE * 1_000L;
+        Map<Long, List<Long>> amounts = new HashMap<>();
+        try (PointJournal pointJournal = journal(segmentSize)) {
+            PointSnapshotter pointSnapshotter = snapshotter(pointJournal, new PointHistoryArchive(directory)); // close()하지 않아 종료 스냅샷이 없음
+            JournaledPointHistoryStore pointHistoryStore = new JournaledPointHistoryStore(new ColumnarPointHistoryStore(), pointJournal);
+            insertRandom(pointHistoryStore, 5_000, amounts);
+            assertEquals(5_000L, pointSnapshotter.snapshot());
+            insertRandom(pointHistoryStore, 300, amounts);
+        }
+        assertFalse(Files.exists(directory.resolve("journal-00000000.log"))); // 보관이 끝난 세그먼트는 지워짐
+
+        // when
+        try (PointJournal pointJournal = journal(segmentSize)) {
+            PointHistoryArchive pointHistoryArchive = new PointHistoryArchive(directory);
+            JournaledPointHistoryStore restored = new JournaledPointHistoryStore(new ColumnarPointHistoryStore(), pointJournal, pointHistoryArchive);
+            PointLedger pointLedger = new PointLedger();
+            FakeUserPointStore userPointStore = new FakeUserPointStore();
+            PointRecovery pointRecovery = new PointJournalReplayer(pointJournal, restored, pointLedger, userPointStore)
+                    .replay(snapshotter(pointJournal, pointHistoryArchive));
+
+            // then
+            assertEquals(5_000L, pointRecovery.snapshotSequence());
+            assertEquals(300L, pointRecovery.replayed());
+            assertRestored(restored, pointLedger, userPointStore, 5_300);
+            for (long userId = 0; userId < USER_COUNT; userId++) {
+                List<PointHistory> histories = restored.selectAllByUserId(userId);
+                assertEquals(amounts.get(userId), histories.stream().map(PointHistory::amount).toList()); // 보관소 + 저널 이후 구간이 기록한 순서대로
+                assertEquals(histories, pages(restored, userId, SortDirection.ASC));
+                assertEquals(histories, pages(restored, userId, SortDirection.DESC).reversed());
+            }
+            assertThrows(IllegalStateException.class, () -> pointJournal.replay((sequence, userId, amount, type, updateMillis) -> {
+            }));
+        }
+    }
+
+    // 커서로 끝까지 넘긴 페이지를 이어 붙임, 페이지 크기는 보관소와 저장소 경계가 페이지 중간에 오도록 7
+    private static List<PointHistory> pages(PointHistoryStore pointHistoryStore, long userId, SortDirection direction) {
+        List<PointHistory> histories = new ArrayList<>();
+        long cursor = 0;
+        for (List<PointHistory> page; !(page = pointHistoryStore.selectPageByUserId(userId, cursor, 7, direction)).isEmpty(); ) {
+            histories.addAll(page);
+            cursor = page.get(page.size() - 1).id();
+        }
+        return histories;
+    }
+
+    // 모든 내역이 복구되고, 유저마다 잔액 = 충전 합계 - 사용 합계
+    private static void assertRestored(PointHistoryStore restored, PointLedger pointLedger, FakeUserPointStore userPointStore, int count) {
+        int histories = 0;
+        for (long userId = 0; userId < USER_COUNT; userId++) {
+            PointSummary summary = pointLedger.summary(userId);
+            histories += restored.countByUserId(userId);
+            assertEquals(summary.transactionCount(), restored.countByUserId(userId));
+            assertEquals(summary.totalCharged() - summary.totalUsed(), userPointStore.selectById(userId).point());
+        }
+        assertEquals(count, histories);
+    }
+
+    private static void insertRandom(PointHistoryStore pointHistoryStore, int count) {
+        insertRandom(pointHistoryStore, count, new HashMap<>());
+    }
+
+    // 유저마다 저장한 금액을 저장한 순서대로 amounts에 추가
+    private static void insertRandom(PointHistoryStore pointHistoryStore, int count, Map<Long, List<Long>> amounts) {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        for (int i = 0; i < count; i++) {
+            long userId = i % USER_COUNT; // 모든 유저에게 내역이 하나 이상 있음
+            TransactionType type = random.nextInt(3) == 0 ? TransactionType.USE : TransactionType.CHARGE;
+            long amount = 100L * (1 + random.nextInt(100));
+            pointHistoryStore.insert(userId, amount, type, System.currentTimeMillis());
+            amounts.computeIfAbsent(userId, id -> new ArrayList<>()).add(amount);
+        }
+    }
+
+    private PointJournal journal() {
+        return journal(SEGMENT_SIZE);
+    }
+
+    private PointJournal journal(long segmentSize) {
+        return new PointJournal(directory, segmentSize, FsyncPolicy.EVERY_WRITE, Duration.ofMillis(10), new SimpleMeterRegistry());
+    }
+
+    private PointSnapshotter snapshotter(PointJournal pointJournal, PointHistoryArchive pointHistoryArchive) {
+        return new PointSnapshotter(pointJournal, pointHistoryArchive, directory, 2, new SimpleMeterRegistry());
+    }
+}
@@ -0,0 +1,286 @@
+package io.hhplus.tdd.database;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.RandomAccessFile;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import io.hhplus.tdd.point.PointHistory;
+import io.hhplus.tdd.point.TransactionType;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+public class PointJournalTest {
+
+    private static final Logger log = LoggerFactory.getLogger(PointJournalTest.class);
+    private static final long SEGMENT_SIZE = PointJournal.RECORD_SIZE * 100L;
+
+    @TempDir
+    Path directory;
+
+    @Test
+    @DisplayName(value = "Journal [성공] 다시 열면 기록한 순서대로 읽히고 이어서 기록한다.")
+    void 다시_열면_기록한_순서대로_읽히고_이어서_기록한다() throws Exception {
+        // given
+        try (PointJournal pointJournal = journal(FsyncPolicy.GROUP)) {
+            pointJournal.append(1L, 1_000L, TransactionType.CHARGE, 10L);
+            pointJournal.appendAll(List.of(
+                    new PendingPointHistory(1L, 500L, TransactionType.USE, 11L),
+                    new PendingPointHistory(2L, 300L, TransactionType.CHARGE, 12L)));
+        }
+
+        // when
+        try (PointJournal pointJournal = journal(FsyncPolicy.GROUP)) {
+            long sequence = pointJournal.append(3L, 700L, TransactionType.CHARGE, 13L);
+
+            // then
+            assertEquals(4L, sequence);
+            assertEquals(List.of(
+                    new PointHistory(1L, 1L, 1_000L, TransactionType.CHARGE, 10L),
+                    new PointHistory(2L, 1L, 500L, TransactionType.USE, 11L),
+                    new PointHistory(3L, 2L, 300L, TransactionType.CHARGE, 12L),
+                    new PointHistory(4L, 3L, 700L, TransactionType.CHARGE, 13L)), replay(pointJournal));
+        }
+    }
+
+    @Test
+    @DisplayName(value = "Journal [성공] 세그먼트가 가득 차면 다음 파일에 이어서 기록하고 모두 읽힌다.")
+    void 세그먼트가_가득_차면_다음_파일에_이어서_기록한다() throws Exception {
+        // given
+        int count = 250;
+
+        // when
+        try (PointJournal pointJournal = journal(FsyncPolicy.EVERY_WRITE)) {
+            for (int i = 0; i < count; i++) {
+                pointJournal.append(i, i, TransactionType.CHARGE, i);
+            }
+        }
+
+        // then
+        try (PointJournal pointJournal = journal(FsyncPolicy.EVERY_WRITE)) {
+            List<PointHistory> rows = replay(pointJournal);
+            assertEquals(count, rows.size());
+            assertEquals(count - 1, rows.get(count - 1).userId());
+            assertEquals(count, pointJournal.lastSequence());
+        }
+        assertEquals(3, segmentFiles().size());
+    }
+
+    @Test
+    @DisplayName(value = "Journal [성공] 마지막 레코드가 기록 도중 중단되었으면 버리고 그 자리부터 이어서 기록한다.")
+    void 기록_도중_중단된_마지막_레코드는_버린다() throws Exception {
+        // given
+        try (PointJournal pointJournal = journal(FsyncPolicy.EVERY_WRITE)) {
+            pointJournal.append(1L, 1_000L, TransactionType.CHARGE, 10L);
+            pointJournal.append(2L, 2_000L, TransactionType.CHARGE, 20L);
+        }
+        corrupt(segmentFiles().get(0), PointJournal.RECORD_SIZE + 16); // 두 번째 레코드의 amount
+
+        // when
+        try (PointJournal pointJournal = journal(FsyncPolicy.EVERY_WRITE)) {
+            pointJournal.append(3L, 3_000L, TransactionType.USE, 30L);
+
+            // then
+            assertEquals(List.of(
+                    new PointHistory(1L, 1L, 1_000L, TransactionType.CHARGE, 10L),
+                    new PointHistory(2L, 3L, 3_000L, TransactionType.USE, 30L)), replay(pointJournal));
+        }
+    }
+
+    @Test
+    @DisplayName(value = "Journal [실패] 이미 기록이 끝난 범위의 레코드가 손상되었으면 다시 읽을 수 없다.")
+    void 기록이_끝난_범위의_레코드가_손상되었으면_다시_읽을_수_없다() throws Exception {
+        // given
+        try (PointJournal pointJournal = journal(FsyncPolicy.EVERY_WRITE)) {
+            for (int i = 0; i < 150; i++) {
+                pointJournal.append(i, i, TransactionType.CHARGE, i);
+            }
+        }
+        corrupt(segmentFiles().get(0), 16);
+
+        // when & then
+        try (PointJournal pointJournal = journal(FsyncPolicy.EVERY_WRITE)) {
+            assertEquals(150L, pointJournal.lastSequence()); // 마지막 세그먼트만 읽어서 이어서 기록할 위치를 찾음
+            assertThrows(IllegalStateException.class, () -> replay(pointJournal));
+        }
+    }
+
+    @Test
+    @DisplayName(value = "Journal [성공] 시작 sequence를 지정하면 그 레코드부터 읽는다.")
+    void 시작_sequence를_지정하면_그_레코드부터_읽는다() throws Exception {
+        // given
+        try (PointJournal pointJournal = journal(FsyncPolicy.EVERY_WRITE)) {
+            for (int i = 1; i <= 250; i++) {
+                pointJournal.append(i, i, TransactionType.CHARGE, i);
+            }
+            corrupt(segmentFiles().get(0), 16); // 건너뛰는 앞 세그먼트는 읽지 않음
+            List<Long> sequences = new ArrayList<>();
+
+            // when
+            pointJournal.replay(150L, 201L, (sequence, userId, amount, type, updateMillis) -> {
+                assertEquals(sequence, userId);
+                sequences.add(sequence);
+            });
+
+            // then
+            assertEquals(52, sequences.size());
+            assertEquals(150L, (long) sequences.get(0));
+            assertEquals(201L, (long) sequences.get(51));
+        }
+    }
+
+    @Test
+    @DisplayName(value = "Journal [성공] 지정한 sequence 이하만 남은 세그먼트를 지우고, 다시 열면 다음 세그먼트 번호로 이어서 기록한다.")
+    void 지정한_sequence_이하의_세그먼트를_지우고_이어서_기록한다() throws Exception {
+        // given (세그먼트 하나에 100건)
+        try (PointJournal pointJournal = journal(FsyncPolicy.EVERY_WRITE)) {
+            for (int i = 1; i <= 450; i++) {
+                pointJournal.append(i, i, TransactionType.CHARGE, i);
+            }
+
+            // when
+            pointJournal.deleteThrough(250L); // 201~300 세그먼트에는 250 이후 레코드가 있어 남음
+            pointJournal.deleteThrough(10_000L); // 기록 중인 마지막 세그먼트는 지우지 않음
+
+            // then
+            assertEquals(401L, pointJournal.firstSequence());
+            assertEquals(1, segmentFiles().size());
+        }
+        try (PointJournal pointJournal = journal(FsyncPolicy.EVERY_WRITE)) {
+            for (int i = 451; i <= 650; i++) {
+                pointJournal.append(i, i, TransactionType.CHARGE, i);
+            }
+            List<PointHistory> rows = new ArrayList<>();
+            pointJournal.replay(401L, (sequence, userId, amount, type, updateMillis) -> rows.add(new PointHistory(sequence, userId, amount, type, updateMillis)));
+            assertEquals(250, rows.size());
+            assertEquals(650L, rows.get(249).userId());
+            assertEquals(List.of("journal-00000004.log", "journal-00000005.log", "journal-00000006.log"),
+                    segmentFiles().stream().map(path -> path.getFileName().toString()).toList());
+            assertThrows(IllegalStateException.class, () -> replay(pointJournal));
+        }
+    }
+
+    @Test
+    @DisplayName(value = "Journaled [성공] 저장소에 저장한 뒤 저널에 기록하고, 저널로 저장소를 다시 채울 수 있다.")
+    void 저장소에_저장한_뒤_저널에_기록한다() throws Exception {
+        // given
+        FakePointHistoryStore delegate = new FakePointHistoryStore();
+        try (PointJournal pointJournal = journal(FsyncPolicy.GROUP)) {
+            JournaledPointHistoryStore pointHistoryStore = new JournaledPointHistoryStore(delegate, pointJournal);
+
+            // when
+            pointHistoryStore.insert(1L, 1_000L, TransactionType.CHARGE, 10L);
+            pointHistoryStore.insertAll(List.of(new PendingPointHistory(1L, 400L, TransactionType.USE, 11L)));
+        }
+
+        // then
+        FakePointHistoryStore recovered = new FakePointHistoryStore();
+        try (PointJournal pointJournal = journal(FsyncPolicy.GROUP)) {
+            pointJournal.replay((sequence, userId, amount, type, updateMillis) -> recovered.insert(userId, amount, type, updateMillis));
+        }
+        assertEquals(delegate.selectAllByUserId(1L), recovered.selectAllByUserId(1L));
+    }
+
+    @Test
+    @DisplayName(value = "Journaled [실패] 저장소가 내역을 거절하면 저널에 기록하지 않는다.")
+    void 저장소가_거절하면_저널에_기록하지_않는다() throws Exception {
+        // given
+        WriteBehindPointHistoryStore delegate = new WriteBehindPointHistoryStore(new FakePointHistoryStore(), 16, true, new SimpleMeterRegistry());
+        delegate.close(); // 닫힌 뒤에는 IllegalStateException
+        try (PointJournal pointJournal = journal(FsyncPolicy.GROUP)) {
+            JournaledPointHistoryStore pointHistoryStore = new JournaledPointHistoryStore(delegate, pointJournal);
+
+            // when
+            assertThrows(IllegalStateException.class, () -> pointHistoryStore.insert(1L, 1_000L, TransactionType.CHARGE, 10L));
+            assertThrows(IllegalStateException.class,
+                    () -> pointHistoryStore.insertAll(List.of(new PendingPointHistory(1L, 400L, TransactionType.USE, 11L))));
+
+            // then
+            assertEquals(0L, pointJournal.lastSequence());
+        }
+    }
+
+    @Test
+    @Tag("load")
+    @DisplayName(value = "[성능테스트] fsync 정책별 처리량, group은 동시에 들어온 기록을 fsync 한 번으로 반영한다.")
+    void fsync_정책별_처리량() throws Exception {
+        // given
+        int threadCount = 32;
+        int appendsPerThread = 200;
+
+        for (FsyncPolicy fsyncPolicy : FsyncPolicy.values()) {
+            Path policyDirectory = Files.createDirectory(directory.resolve(fsyncPolicy.name()));
+            long elapsedNanos;
+            long syncCount;
+
+            // when
+            try (PointJournal pointJournal = new PointJournal(policyDirectory, 1L << 20, fsyncPolicy, Duration.ofMillis(10), new SimpleMeterRegistry())) {
+                ExecutorService executorService = Executors.newFixedThreadPool(threadCount);
+                long start = System.nanoTime();
+                List<Future<?>> futures = new ArrayList<>();
+                for (int t = 0; t < threadCount; t++) {
+                    long userId = t;
+                    futures.add(executorService.submit(() -> {
+                        for (int i = 0; i < appendsPerThread; i++) {
+                            pointJournal.append(userId, 1_000L, TransactionType.CHARGE, i);
+                        }
+                    }));
+                }
+                for (Future<?> future : futures) {
+                    future.get(60, TimeUnit.SECONDS);
+                }
+                elapsedNanos = System.nanoTime() - start;
+                executorService.shutdown();
+                syncCount = pointJournal.syncCount();
+
+                // then
+                assertEquals((long) threadCount * appendsPerThread, pointJournal.lastSequence());
+            }
+            long total = (long) threadCount * appendsPerThread;
+            log.info("{} appends={} fsync={} {}ms {} ops/s", fsyncPolicy, total, syncCount,
+                    elapsedNanos / 1_000_000, total * 1_000_000_000L / Math.max(1, elapsedNanos));
+            if (fsyncPolicy == FsyncPolicy.EVERY_WRITE) assertEquals(total, syncCount);
+            else assertTrue(syncCount < total, "동시에 들어온 기록은 fsync 한 번으로 반영해야 합니다.");
+        }
+    }
+
+    private PointJournal journal(FsyncPolicy fsyncPolicy) {
+        return new PointJournal(directory, SEGMENT_SIZE, fsyncPolicy, Duration.ofMillis(10), new SimpleMeterRegistry());
+    }
+
+    // 비교하기 쉽도록 sequence를 id로 담아서 반환
+    private static List<PointHistory> replay(PointJournal pointJournal) {
+        List<PointHistory> rows = new ArrayList<>();
+        pointJournal.replay((sequence, userId, amount, type, updateMillis) -> rows.add(new PointHistory(sequence, userId, amount, type, updateMillis)));
+        return rows;
+    }
+
+    private List<Path> segmentFiles() throws Exception {
+        try (var files = Files.list(directory)) {
+            return files.sorted().toList();
+        }
+    }
+
+    private static void corrupt(Path segment, long position) throws Exception {
+        try (RandomAccessFile file = new RandomAccessFile(segment.toFile(), "rw")) {
+            file.seek(position);
+            file.writeByte(file.readByte() ^ 0xFF);
+        }
+    }
+}
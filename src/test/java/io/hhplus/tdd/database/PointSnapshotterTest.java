@@ -0,0 +1,311 @@
+package io.hhplus.tdd.database;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.BufferedReader;
+import java.io.InputStreamReader;
+import java.io.RandomAccessFile;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import io.hhplus.tdd.point.PointLedger;
+import io.hhplus.tdd.point.TransactionType;
+import io.hhplus.tdd.point.UserPoint;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+public class PointSnapshotterTest {
+
+    private static final Logger log = LoggerFactory.getLogger(PointSnapshotterTest.class);
+    private static final long SEGMENT_SIZE = 8L << 20;
+
+    @TempDir
+    Path directory;
+
+    @Test
+    @DisplayName(value = "Snapshot [성공] 가장 최근 스냅샷 이후의 저널만 다시 적용해서 잔액을 복구한다.")
+    void 스냅샷_이후의_저널만_다시_적용해서_복구한다() throws Exception {
+        // given
+        try (PointJournal pointJournal = journal(); PointSnapshotter pointSnapshotter = snapshotter(pointJournal)) {
+            appendRandom(pointJournal, 1_000, 10_000);
+            assertEquals(10_000L, pointSnapshotter.snapshot());
+            appendRandom(pointJournal, 1_000, 500);
+        } // close()가 마지막 스냅샷을 만듦
+        try (PointJournal pointJournal = journal()) {
+            appendRandom(pointJournal, 1_000, 300); // 종료 스냅샷 이후의 기록
+        }
+
+        // when
+        try (PointJournal pointJournal = journal()) {
+            PointRecovery pointRecovery = snapshotter(pointJournal).recover();
+
+            // then
+            assertEquals(10_500L, pointRecovery.snapshotSequence());
+            assertEquals(300L, pointRecovery.replayed());
+            assertEquals(replayAll(pointJournal, directory), toMap(pointRecovery.userPoints()));
+        }
+    }
+
+    @Test
+    @DisplayName(value = "Snapshot [성공] 가장 최근 스냅샷이 손상되었으면 이전 스냅샷과 그 이후의 저널로 복구한다.")
+    void 가장_최근_스냅샷이_손상되었으면_이전_스냅샷으로_복구한다() throws Exception {
+        // given
+        try (PointJournal pointJournal = journal()) {
+            PointSnapshotter pointSnapshotter = snapshotter(pointJournal);
+            appendRandom(pointJournal, 100, 1_000);
+            pointSnapshotter.snapshot();
+            appendRandom(pointJournal, 100, 1_000);
+            pointSnapshotter.snapshot();
+        }
+        Path latest = snapshotPath(2_000L);
+        try (RandomAccessFile file = new RandomAccessFile(latest.toFile(), "rw")) {
+            file.setLength(file.length() - 10); // 쓰는 도중 중단된 것처럼 자름
+        }
+        Files.write(directory.resolve(String.format("snapshot-%020d.bin.tmp", 3_000)), new byte[]{1, 2, 3}); // 이름을 바꾸기 전에 중단된 임시 파일
+
+        // when
+        try (PointJournal pointJournal = journal()) {
+            PointRecovery pointRecovery = snapshotter(pointJournal).recover();
+
+            // then
+            assertEquals(1_000L, pointRecovery.snapshotSequence());
+            assertEquals(1_000L, pointRecovery.replayed());
+            assertEquals(replayAll(pointJournal, directory), toMap(pointRecovery.userPoints()));
+        }
+    }
+
+    @Test
+    @DisplayName(value = "Snapshot [성공] 스냅샷은 fsync가 끝난 저널 레코드까지만 반영한다.")
+    void 스냅샷은_fsync가_끝난_레코드까지만_반영한다() throws Exception {
+        // given
+        try (PointJournal pointJournal = new PointJournal(directory, SEGMENT_SIZE, FsyncPolicy.INTERVAL, Duration.ofHours(1), new SimpleMeterRegistry())) {
+            PointSnapshotter pointSnapshotter = snapshotter(pointJournal);
+            appendRandom(pointJournal, 10, 100);
+
+            // when
+            long sequence = pointSnapshotter.snapshot();
+
+            // then
+            assertEquals(pointJournal.durableSequence(), sequence);
+            assertTrue(sequence < pointJournal.lastSequence());
+        }
+    }
+
+    @Test
+    @DisplayName(value = "Snapshot [성공] 스냅샷 크기는 유저 수만 따르고, 내역은 보관소로 옮긴 뒤 보관이 끝난 저널 세그먼트를 지운다.")
+    void 스냅샷_크기는_유저_수만_따르고_보관이_끝난_저널을_지운다() throws Exception {
+        // given (세그먼트 하나에 1,000건)
+        long segmentSize = PointJournal.RECORD_SIZE * 1_000L;
+        try (PointJournal pointJournal = new PointJournal(directory, segmentSize, FsyncPolicy.EVERY_WRITE, Duration.ofMillis(10), new SimpleMeterRegistry())) {
+            PointSnapshotter pointSnapshotter = snapshotter(pointJournal);
+            appendRandom(pointJournal, 100, 5_000);
+            long firstSize = Files.size(snapshotPath(pointSnapshotter.snapshot()));
+
+            // when
+            appendRandom(pointJournal, 100, 20_000);
+            long secondSize = Files.size(snapshotPath(pointSnapshotter.snapshot()));
+
+            // then
+            assertEquals(firstSize, secondSize); // 내역이 5배 늘어도 유저 수(100)가 같으면 크기가 같음
+            assertEquals(5_001L, pointJournal.firstSequence()); // 보관 중인 가장 오래된 스냅샷(5,000) 이후만 남음
+            assertEquals(25_000L, new PointHistoryArchive(directory).archivedSequence());
+        }
+        try (PointJournal pointJournal = new PointJournal(directory, segmentSize, FsyncPolicy.EVERY_WRITE, Duration.ofMillis(10), new SimpleMeterRegistry())) {
+            PointRecovery pointRecovery = snapshotter(pointJournal).recover();
+            assertEquals(25_000L, pointRecovery.snapshotSequence());
+            assertEquals(0L, pointRecovery.replayed());
+            assertEquals(replayAll(pointJournal, directory), toMap(pointRecovery.userPoints()));
+        }
+    }
+
+    @Test
+    @DisplayName(value = "Snapshot [성공] 쓸 수 있는 스냅샷이 없으면 보관한 내역과 그 이후의 저널로 잔액을 다시 계산한다.")
+    void 스냅샷이_없으면_보관한_내역으로_잔액을_다시_계산한다() throws Exception {
+        // given (세그먼트 하나에 1,000건)
+        long segmentSize = PointJournal.RECORD_SIZE * 1_000L;
+        try (PointJournal pointJournal = new PointJournal(directory, segmentSize, FsyncPolicy.EVERY_WRITE, Duration.ofMillis(10), new SimpleMeterRegistry())) {
+            PointSnapshotter pointSnapshotter = snapshotter(pointJournal);
+            appendRandom(pointJournal, 100, 5_000);
+            pointSnapshotter.snapshot();
+            appendRandom(pointJournal, 100, 300);
+        }
+        Files.delete(snapshotPath(5_000L));
+
+        // when
+        try (PointJournal pointJournal = new PointJournal(directory, segmentSize, FsyncPolicy.EVERY_WRITE, Duration.ofMillis(10), new SimpleMeterRegistry())) {
+            PointRecovery pointRecovery = snapshotter(pointJournal).recover();
+
+            // then
+            assertTrue(pointJournal.firstSequence() > 1); // 보관이 끝난 앞쪽 세그먼트는 지워짐
+            assertEquals(0L, pointRecovery.snapshotSequence());
+            assertEquals(300L, pointRecovery.replayed());
+            assertEquals(replayAll(pointJournal, directory), toMap(pointRecovery.userPoints()));
+        }
+    }
+
+    @Test
+    @DisplayName(value = "[장애테스트] 기록과 스냅샷을 반복하는 프로세스를 강제 종료해도 저널 전체를 다시 적용한 잔액과 같게 복구된다.")
+    void 프로세스를_강제_종료해도_같은_잔액으로_복구된다() throws Exception {
+        for (int round = 0; round < 5; round++) {
+            // given
+            Path roundDirectory = Files.createDirectory(directory.resolve("round-" + round));
+            Process process = new ProcessBuilder(Path.of(System.getProperty("java.home"), "bin", "java").toString(),
+                    "-cp", System.getProperty("java.class.path"), PointSnapshotterTest.class.getName(), roundDirectory.toString())
+                    .redirectErrorStream(true)
+                    .start();
+            BufferedReader reader = new BufferedReader(new InputStreamReader(process.getInputStream(), StandardCharsets.UTF_8));
+            String line;
+            while ((line = reader.readLine()) != null && !line.equals("READY")) {
+                // 첫 스냅샷을 만들 때까지 대기
+            }
+
+            // when
+            TimeUnit.MILLISECONDS.sleep(ThreadLocalRandom.current().nextInt(50, 500));
+            process.destroyForcibly(); // SIGKILL, close()/종료 훅이 실행되지 않음
+            assertTrue(process.waitFor(10, TimeUnit.SECONDS));
+
+            // then
+            boolean interrupted;
+            try (var files = Files.list(roundDirectory)) {
+                interrupted = files.anyMatch(path -> path.getFileName().toString().endsWith(".tmp"));
+            }
+            try (PointJournal pointJournal = new PointJournal(roundDirectory, SEGMENT_SIZE, FsyncPolicy.EVERY_WRITE, Duration.ofMillis(10), new SimpleMeterRegistry())) {
+                PointRecovery pointRecovery = snapshotter(pointJournal, roundDirectory).recover();
+                log.info("round={} journal={} snapshotSequence={} replayed={} killedMidSnapshot={}",
+                        round, pointJournal.lastSequence(), pointRecovery.snapshotSequence(), pointRecovery.replayed(), interrupted);
+                assertTrue(pointRecovery.snapshotSequence() > 0);
+                assertEquals(replayAll(pointJournal, roundDirectory), toMap(pointRecovery.userPoints()));
+            }
+        }
+    }
+
+    @Test
+    @Tag("load")
+    @DisplayName(value = "[성능테스트] 스냅샷 이후 구간(tail)이 같을 때 쌓인 내역 수별 스냅샷 크기, 스냅샷 시간, 시작 복구 시간")
+    void 쌓인_내역_수별_스냅샷_크기와_복구_시간() throws Exception {
+        int userCount = 100_000;
+        int tail = 100_000;
+        for (int size : new int[]{1_000_000, 2_000_000, 4_000_000}) {
+            // given (주기마다 tail 만큼 쌓이고 스냅샷)
+            Path sizeDirectory = Files.createDirectory(directory.resolve("size-" + size));
+            long snapshotMillis = 0;
+            try (PointJournal pointJournal = new PointJournal(sizeDirectory, 64L << 20, FsyncPolicy.INTERVAL, Duration.ofMillis(10), new SimpleMeterRegistry())) {
+                PointSnapshotter pointSnapshotter = snapshotter(pointJournal, sizeDirectory);
+                for (int written = 0; written < size - tail; written += tail) {
+                    appendRandom(pointJournal, userCount, tail);
+                    while (pointJournal.durableSequence() < written + tail) TimeUnit.MILLISECONDS.sleep(5);
+                    long start = System.nanoTime();
+                    pointSnapshotter.snapshot();
+                    snapshotMillis = (System.nanoTime() - start) / 1_000_000; // 마지막 스냅샷 시간
+                }
+                appendRandom(pointJournal, userCount, tail);
+            }
+
+            // when
+            long recoverMillis = recoverMillis(sizeDirectory, tail);
+
+            // then
+            long snapshotBytes;
+            try (var files = Files.list(sizeDirectory)) {
+                snapshotBytes = files.filter(path -> path.getFileName().toString().startsWith("snapshot-")).mapToLong(path -> path.toFile().length()).max().orElseThrow();
+            }
+            log.info("history={} users={} tail={} snapshot {}KB {}ms, recover {}ms", size, userCount, tail, snapshotBytes / 1024, snapshotMillis, recoverMillis);
+        }
+    }
+
+    /**
+     * 강제 종료 테스트에서 실행하는 프로세스, 기록 스레드 4개와 스냅샷 루프를 종료될 때까지 반복
+     */
+    public static void main(String[] args) throws Exception {
+        Path directory = Path.of(args[0]);
+        PointJournal pointJournal = new PointJournal(directory, SEGMENT_SIZE, FsyncPolicy.INTERVAL, Duration.ofMillis(1), new SimpleMeterRegistry());
+        PointSnapshotter pointSnapshotter = snapshotter(pointJournal, directory);
+        for (int t = 0; t < 4; t++) {
+            Thread writer = new Thread(() -> {
+                while (true) appendRandom(pointJournal, 200_000, 100);
+            });
+            writer.setDaemon(true);
+            writer.start();
+        }
+        while (pointSnapshotter.snapshot() == 0) {
+            TimeUnit.MILLISECONDS.sleep(10); // fsync가 끝난 레코드가 생겨 첫 스냅샷을 만들 때까지 대기
+        }
+        System.out.println("READY");
+        System.out.flush();
+        while (true) pointSnapshotter.snapshot();
+    }
+
+    // PointJournalReplayer로 시작할 때와 같은 복구(내역, 집계, 잔액)를 수행한 시간, 다시 적용한 저널 레코드 수를 함께 검증
+    private long recoverMillis(Path target, long expectedReplayed) {
+        try (PointJournal pointJournal = new PointJournal(target, 64L << 20, FsyncPolicy.EVERY_WRITE, Duration.ofMillis(10), new SimpleMeterRegistry())) {
+            long start = System.nanoTime();
+            PointHistoryArchive pointHistoryArchive = new PointHistoryArchive(target);
+            ColumnarPointHistoryStore restored = new ColumnarPointHistoryStore();
+            FakeUserPointStore userPointStore = new FakeUserPointStore();
+            PointJournalReplayer pointJournalReplayer = new PointJournalReplayer(pointJournal, new JournaledPointHistoryStore(restored, pointJournal, pointHistoryArchive), new PointLedger(), userPointStore);
+            PointRecovery pointRecovery = pointJournalReplayer.replay(new PointSnapshotter(pointJournal, pointHistoryArchive, target, 2, new SimpleMeterRegistry()));
+            long elapsedMillis = (System.nanoTime() - start) / 1_000_000;
+            assertEquals(expectedReplayed, pointRecovery.replayed());
+            assertEquals(expectedReplayed, restored.size()); // 보관한 내역은 저장소에 다시 넣지 않음
+            replayAll(pointJournal, target).forEach((userId, point) -> assertEquals(point, userPointStore.selectById(userId).point()));
+            return elapsedMillis;
+        }
+    }
+
+    private PointJournal journal() {
+        return new PointJournal(directory, SEGMENT_SIZE, FsyncPolicy.EVERY_WRITE, Duration.ofMillis(10), new SimpleMeterRegistry());
+    }
+
+    private PointSnapshotter snapshotter(PointJournal pointJournal) {
+        return snapshotter(pointJournal, directory);
+    }
+
+    private static PointSnapshotter snapshotter(PointJournal pointJournal, Path target) {
+        return new PointSnapshotter(pointJournal, new PointHistoryArchive(target), target, 2, new SimpleMeterRegistry());
+    }
+
+    private Path snapshotPath(long sequence) {
+        return directory.resolve(String.format("snapshot-%020d.bin", sequence));
+    }
+
+    private static void appendRandom(PointJournal pointJournal, int userCount, int count) {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        for (int i = 0; i < count; i++) {
+            TransactionType type = random.nextInt(3) == 0 ? TransactionType.USE : TransactionType.CHARGE;
+            pointJournal.append(random.nextInt(userCount), 100L * (1 + random.nextInt(100)), type, System.currentTimeMillis());
+        }
+    }
+
+    // 보관한 내역과 그 이후의 저널을 모두 다시 적용한 잔액 (보관한 구간의 저널 세그먼트는 지워졌을 수 있음)
+    private static Map<Long, Long> replayAll(PointJournal pointJournal, Path target) {
+        Map<Long, Long> balances = new HashMap<>();
+        PointJournal.JournalVisitor apply = (sequence, userId, amount, type, updateMillis) ->
+                balances.merge(userId, type == TransactionType.CHARGE ? amount : -amount, Long::sum);
+        PointHistoryArchive pointHistoryArchive = new PointHistoryArchive(target);
+        pointHistoryArchive.forEach(apply);
+        pointJournal.replay(pointHistoryArchive.archivedSequence() + 1, apply);
+        return balances;
+    }
+
+    private static Map<Long, Long> toMap(List<UserPoint> userPoints) {
+        Map<Long, Long> balances = new HashMap<>();
+        for (UserPoint userPoint : userPoints) {
+            balances.put(userPoint.id(), userPoint.point());
+        }
+        return balances;
+    }
+}
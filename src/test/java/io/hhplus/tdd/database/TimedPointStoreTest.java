@@ -0,0 +1,56 @@
+package io.hhplus.tdd.database;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import io.hhplus.tdd.point.TransactionType;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+public class TimedPointStoreTest {
+
+    @Test
+    @DisplayName(value = "Timed [성공] 잔액 저장 엔진의 조회/저장 시간이 엔진과 연산별로 기록된다.")
+    void 잔액_저장_엔진의_조회_저장_시간이_기록된다() throws Exception {
+        // given
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        TimedUserPointStore userPointStore = new TimedUserPointStore(new FakeUserPointStore(10L), "table", meterRegistry);
+
+        // when
+        userPointStore.insertOrUpdate(0L, 1_000L);
+        userPointStore.selectById(0L);
+        userPointStore.selectById(1L);
+
+        // then
+        assertEquals(1_000L, userPointStore.selectById(0L).point());
+        assertEquals(3L, meterRegistry.get("point.store.latency").tag("store", "user").tag("engine", "table").tag("operation", "select-by-id").timer().count());
+        assertEquals(1L, meterRegistry.get("point.store.latency").tag("store", "user").tag("operation", "insert-or-update").timer().count());
+        assertTrue(meterRegistry.get("point.store.latency").tag("store", "user").tag("operation", "insert-or-update").timer().totalTime(TimeUnit.MILLISECONDS) >= 10);
+    }
+
+    @Test
+    @DisplayName(value = "Timed [성공] 내역 저장 엔진의 저장 시간이 기록되고, 조회는 그대로 위임된다.")
+    void 내역_저장_엔진의_저장_시간이_기록된다() throws Exception {
+        // given
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        TimedPointHistoryStore pointHistoryStore = new TimedPointHistoryStore(new FakePointHistoryStore(10L), "columnar", meterRegistry);
+
+        // when
+        pointHistoryStore.insert(0L, 1_000L, TransactionType.CHARGE, 1L);
+        pointHistoryStore.insertAll(List.of(
+                new PendingPointHistory(0L, 500L, TransactionType.USE, 2L),
+                new PendingPointHistory(1L, 500L, TransactionType.CHARGE, 2L)));
+
+        // then
+        assertEquals(2, pointHistoryStore.countByUserId(0L));
+        assertEquals(1, pointHistoryStore.selectAllByUserId(1L).size());
+        assertEquals(1L, meterRegistry.get("point.store.latency").tag("store", "history").tag("engine", "columnar").tag("operation", "insert").timer().count());
+        assertEquals(1L, meterRegistry.get("point.store.latency").tag("store", "history").tag("operation", "insert-all").timer().count());
+        assertTrue(meterRegistry.get("point.store.latency").tag("store", "history").tag("operation", "insert").timer().max(TimeUnit.MILLISECONDS) >= 10);
+    }
+}
@@ -0,0 +1,247 @@
+package io.hhplus.tdd.database;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import io.hhplus.tdd.point.PointHistory;
+import io.hhplus.tdd.point.TransactionType;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+public class WriteBehindPointHistoryStoreTest {
+
+    private final MeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    @Test
+    @DisplayName(value = "WriteBehind [성공] 저장을 기다리지 않고 바로 반환하고, 종료하면 남은 내역을 모두 저장한다.")
+    void 저장을_기다리지_않고_바로_반환한다() throws Exception {
+        // given
+        FakePointHistoryStore delegate = new FakePointHistoryStore(50L);
+        WriteBehindPointHistoryStore pointHistoryStore = new WriteBehindPointHistoryStore(delegate, 100, true, meterRegistry);
+
+        // when
+        long start = System.nanoTime();
+        for (int i = 1; i <= 10; i++) {
+            pointHistoryStore.insert(1L, i, TransactionType.CHARGE, i);
+        }
+        long elapsedMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+        pointHistoryStore.close();
+
+        // then
+        assertTrue(elapsedMillis < 50L, "insert()는 저장 지연을 기다리지 않아야 합니다. elapsed=" + elapsedMillis + "ms");
+        assertEquals(10, delegate.size());
+        assertEquals(0, pointHistoryStore.pendingCount());
+    }
+
+    @Test
+    @DisplayName(value = "WriteBehind [성공] 종료하면 남은 내역을 저장한 뒤 delegate도 닫는다.")
+    void 종료하면_남은_내역을_저장한_뒤_delegate도_닫는다() throws Exception {
+        // given
+        FakePointHistoryStore stored = new FakePointHistoryStore();
+        GroupCommitPointHistoryStore delegate = new GroupCommitPointHistoryStore(stored, Duration.ofMillis(1), 64, meterRegistry);
+        WriteBehindPointHistoryStore pointHistoryStore = new WriteBehindPointHistoryStore(delegate, 100, false, meterRegistry);
+        for (int i = 1; i <= 10; i++) {
+            pointHistoryStore.insert(1L, i, TransactionType.CHARGE, i);
+        }
+
+        // when
+        pointHistoryStore.close();
+
+        // then
+        assertEquals(10, stored.size());
+        assertThrows(IllegalStateException.class, () -> delegate.insert(1L, 1_000L, TransactionType.CHARGE, 11L)); // 커밋 스레드가 종료됨
+    }
+
+    @Test
+    @DisplayName(value = "[동시성테스트] 여러 유저가 동시에 저장해도 유저별 저장 순서가 유지된다.")
+    void 여러_유저가_동시에_저장해도_유저별_저장_순서가_유지된다() throws Exception {
+        // given
+        FakePointHistoryStore delegate = new FakePointHistoryStore(1L);
+        WriteBehindPointHistoryStore pointHistoryStore = new WriteBehindPointHistoryStore(delegate, 64, false, meterRegistry);
+        int threadCount = 16;
+        int loopCount = 100;
+        ExecutorService executorService = Executors.newFixedThreadPool(threadCount);
+        CountDownLatch latch = new CountDownLatch(threadCount);
+
+        // when
+        for (int t = 0; t < threadCount; t++) {
+            long userId = t;
+            executorService.submit(() -> {
+                try {
+                    for (int i = 1; i <= loopCount; i++) {
+                        pointHistoryStore.insert(userId, i, TransactionType.CHARGE, i);
+                    }
+                } finally {
+                    latch.countDown();
+                }
+            });
+        }
+        latch.await();
+        executorService.shutdown();
+        pointHistoryStore.close();
+
+        // then
+        for (long userId = 0; userId < threadCount; userId++) {
+            List<PointHistory> result = delegate.selectAllByUserId(userId);
+            assertEquals(loopCount, result.size());
+            for (int i = 0; i < loopCount; i++) {
+                assertEquals(i + 1L, result.get(i).amount());
+            }
+        }
+    }
+
+    @Test
+    @DisplayName(value = "[동시성테스트] read-your-writes 조회는 저장 중인 내역도 빠짐없이, 중복 없이 반환한다.")
+    void read_your_writes_조회는_저장_중인_내역도_빠짐없이_중복_없이_반환한다() throws Exception {
+        // given
+        FakePointHistoryStore delegate = new FakePointHistoryStore(1L);
+        WriteBehindPointHistoryStore pointHistoryStore = new WriteBehindPointHistoryStore(delegate, 1_000, true, meterRegistry);
+        long userId = 1L;
+        int loopCount = 500;
+        AtomicInteger inserted = new AtomicInteger();
+        AtomicBoolean done = new AtomicBoolean();
+        ExecutorService executorService = Executors.newSingleThreadExecutor();
+
+        // when
+        Future<?> reader = executorService.submit(() -> {
+            while (!done.get()) {
+                int before = inserted.get();
+                List<PointHistory> result = pointHistoryStore.selectAllByUserId(userId);
+                // 조회를 시작하기 전에 반환된 내역은 모두 보여야 하고, 금액(1, 2, 3, ...)이 순서대로 한 번씩만 있어야 함
+                assertTrue(result.size() >= before, "저장 중인 내역이 누락되었습니다.");
+                for (int i = 0; i < result.size(); i++) {
+                    assertEquals(i + 1L, result.get(i).amount());
+                }
+            }
+        });
+        for (int i = 1; i <= loopCount; i++) {
+            pointHistoryStore.insert(userId, i, TransactionType.CHARGE, i);
+            inserted.incrementAndGet();
+        }
+        done.set(true);
+        reader.get();
+        executorService.shutdown();
+        pointHistoryStore.close();
+
+        // then
+        List<PointHistory> result = pointHistoryStore.selectAllByUserId(userId);
+        assertEquals(loopCount, result.size());
+        assertTrue(result.stream().allMatch(pointHistory -> pointHistory.id() > 0), "종료 후에는 모두 저장된 내역이어야 합니다.");
+    }
+
+    @Test
+    @DisplayName(value = "[동시성테스트] 종료와 동시에 들어온 저장은 저장되거나 예외가 발생하고, 성공으로 반환된 내역은 모두 저장된다.")
+    void 종료와_동시에_들어온_저장은_저장되거나_예외가_발생한다() throws Exception {
+        for (int round = 0; round < 100; round++) {
+            // given (read-your-writes를 번갈아 켜서 대기 목록을 되돌리는 경로도 확인)
+            boolean readYourWrites = round % 2 == 0;
+            ColumnarPointHistoryStore delegate = new ColumnarPointHistoryStore();
+            WriteBehindPointHistoryStore pointHistoryStore = new WriteBehindPointHistoryStore(delegate, 8, readYourWrites, meterRegistry);
+            int threadCount = 4;
+            AtomicInteger[] succeeded = new AtomicInteger[threadCount];
+            ExecutorService executorService = Executors.newFixedThreadPool(threadCount);
+            CountDownLatch started = new CountDownLatch(threadCount);
+
+            // when
+            for (int t = 0; t < threadCount; t++) {
+                long userId = t;
+                AtomicInteger count = succeeded[t] = new AtomicInteger();
+                executorService.submit(() -> {
+                    started.countDown();
+                    while (true) {
+                        try {
+                            pointHistoryStore.insert(userId, 1_000L, TransactionType.CHARGE, 10L);
+                            count.incrementAndGet();
+                        } catch (IllegalStateException e) {
+                            return; // 종료 중
+                        }
+                    }
+                });
+            }
+            started.await();
+            pointHistoryStore.close();
+            executorService.shutdown();
+
+            // then
+            assertTrue(executorService.awaitTermination(10, TimeUnit.SECONDS), "종료 후에도 저장을 기다리는 호출자가 있습니다.");
+            assertEquals(0, pointHistoryStore.pendingCount());
+            for (int t = 0; t < threadCount; t++) {
+                assertEquals(succeeded[t].get(), delegate.countByUserId(t), "성공으로 반환된 내역이 저장되지 않았거나, 실패한 내역이 저장되었습니다.");
+                assertEquals(succeeded[t].get(), pointHistoryStore.selectAllByUserId(t).size(), "꺼낸 내역이 대기 목록에 남아 있습니다.");
+            }
+        }
+    }
+
+    @Test
+    @DisplayName(value = "WriteBehind [성공] 대기열이 가득 차면 자리가 날 때까지 insert()가 대기한다.")
+    void 대기열이_가득_차면_insert가_대기한다() throws Exception {
+        // given
+        CountDownLatch release = new CountDownLatch(1);
+        WriteBehindPointHistoryStore pointHistoryStore = new WriteBehindPointHistoryStore(new ColumnarPointHistoryStore() {
+            @Override
+            public List<PointHistory> insertAll(List<PendingPointHistory> rows) {
+                try {
+                    release.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                return super.insertAll(rows);
+            }
+        }, 1, true, meterRegistry);
+        ExecutorService executorService = Executors.newSingleThreadExecutor();
+
+        // when
+        pointHistoryStore.insert(1L, 1L, TransactionType.CHARGE, 1L); // 쓰기 스레드가 꺼내서 저장 중(대기)
+        TimeUnit.MILLISECONDS.sleep(200);
+        pointHistoryStore.insert(1L, 2L, TransactionType.CHARGE, 2L); // 대기열 한 칸을 채움
+        Future<?> blocked = executorService.submit(() -> pointHistoryStore.insert(1L, 3L, TransactionType.CHARGE, 3L));
+        TimeUnit.MILLISECONDS.sleep(200);
+        boolean doneBeforeRelease = blocked.isDone();
+        release.countDown();
+        blocked.get(5, TimeUnit.SECONDS);
+        executorService.shutdown();
+        pointHistoryStore.close();
+
+        // then
+        assertFalse(doneBeforeRelease, "대기열이 가득 차면 insert()는 대기해야 합니다.");
+        assertEquals(3, pointHistoryStore.selectAllByUserId(1L).size());
+    }
+
+    @Test
+    @DisplayName(value = "WriteBehind [성공] 저장에 실패하면 같은 내역을 다시 저장한다.")
+    void 저장에_실패하면_같은_내역을_다시_저장한다() throws Exception {
+        // given
+        AtomicInteger attempts = new AtomicInteger();
+        ColumnarPointHistoryStore delegate = new ColumnarPointHistoryStore() {
+            @Override
+            public List<PointHistory> insertAll(List<PendingPointHistory> rows) {
+                if (attempts.incrementAndGet() == 1) throw new IllegalStateException("저장 실패");
+                return super.insertAll(rows);
+            }
+        };
+        WriteBehindPointHistoryStore pointHistoryStore = new WriteBehindPointHistoryStore(delegate, 100, true, meterRegistry);
+
+        // when
+        pointHistoryStore.insert(1L, 1_000L, TransactionType.CHARGE, 1L);
+        pointHistoryStore.close();
+
+        // then
+        assertEquals(1, delegate.size());
+        assertEquals(1.0, meterRegistry.get("point.history.write-behind.failures").counter().count());
+    }
+}
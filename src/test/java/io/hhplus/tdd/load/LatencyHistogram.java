@@ -0,0 +1,68 @@
+package io.hhplus.tdd.load;
+
+/**
+ * 지연 시간(ns) 분포, 2의 거듭제곱 구간마다 128칸으로 나눠 세므로 백분위 값의 오차는 1% 이하
+ * - 기록은 배열 한 칸을 올리는 것뿐이라 할당이 없음
+ * - 스레드 안전하지 않음, 스레드마다 하나씩 쓰고 끝난 뒤 merge()로 합침
+ */
+public class LatencyHistogram {
+
+    private static final int SUB_BUCKET_BITS = 7;
+    private static final int SUB_BUCKETS = 1 << SUB_BUCKET_BITS;
+
+    private final long[] counts = new long[(64 - SUB_BUCKET_BITS + 1) * SUB_BUCKETS];
+    private long count;
+    private long max;
+
+    public void record(long nanos) {
+        long value = Math.max(nanos, 0);
+        counts[index(value)]++;
+        count++;
+        if (value > max) max = value;
+    }
+
+    public void merge(LatencyHistogram other) {
+        for (int i = 0; i < counts.length; i++) {
+            counts[i] += other.counts[i];
+        }
+        count += other.count;
+        max = Math.max(max, other.max);
+    }
+
+    public long count() {
+        return count;
+    }
+
+    public long max() {
+        return max;
+    }
+
+    /**
+     * quantile(0.0 ~ 1.0) 위치의 지연 시간(ns), 기록이 없으면 0
+     */
+    public long percentile(double quantile) {
+        if (count == 0) return 0;
+        long rank = Math.max(1, (long) Math.ceil(count * quantile));
+        long seen = 0;
+        for (int i = 0; i < counts.length; i++) {
+            seen += counts[i];
+            if (seen >= rank) return Math.min(valueOf(i), max);
+        }
+        return max;
+    }
+
+    // 128 미만은 값 그대로, 그 이상은 (최상위 비트 위치, 그 아래 7비트)로 칸을 정함
+    static int index(long value) {
+        if (value < SUB_BUCKETS) return (int) value;
+        int shift = 63 - Long.numberOfLeadingZeros(value) - SUB_BUCKET_BITS;
+        return ((shift + 1) << SUB_BUCKET_BITS) + (int) ((value >>> shift) & (SUB_BUCKETS - 1));
+    }
+
+    // 칸에 들어가는 가장 큰 값
+    static long valueOf(int index) {
+        if (index < SUB_BUCKETS) return index;
+        int shift = (index >>> SUB_BUCKET_BITS) - 1;
+        long lowest = (long) (SUB_BUCKETS + (index & (SUB_BUCKETS - 1))) << shift;
+        return lowest + (1L << shift) - 1;
+    }
+}
@@ -0,0 +1,48 @@
+package io.hhplus.tdd.load;
+
+import java.time.Duration;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * point.load 설정 (부하 테스트, ./gradlew loadTest -Ppoint.load.users=100000 처럼 지정)
+ * - users: 부하를 받을 유저 수, 시작할 때 모두 initial-point로 저장
+ * - threads: 요청을 보내는 스레드 수, virtual-threads=true 이면 가상 스레드로 실행
+ * - mix: 조회/충전/사용 비율
+ * - skew: 유저 선택의 Zipf 지수, 0이면 균등, 0.99 이면 상위 1% 유저가 요청의 절반 가까이를 받음
+ * - warmup: 측정에서 빼는 시작 구간, duration: 측정 구간
+ * - target: http(in-process 서버에 HTTP 요청) | service(PointService 직접 호출)
+ */
+@ConfigurationProperties(prefix = "point.load")
+public record LoadProperties(
+        @DefaultValue("10000") int users,
+        @DefaultValue("64") int threads,
+        @DefaultValue("false") boolean virtualThreads,
+        @DefaultValue Mix mix,
+        @DefaultValue("0.99") double skew,
+        @DefaultValue("5s") Duration warmup,
+        @DefaultValue("30s") Duration duration,
+        @DefaultValue("http") String target,
+        @DefaultValue("1000000000000") long initialPoint
+) {
+
+    public LoadProperties {
+        if (users < 1) throw new IllegalArgumentException("유저 수는 1 이상이어야 합니다.");
+        if (threads < 1) throw new IllegalArgumentException("스레드 수는 1 이상이어야 합니다.");
+        if (skew < 0) throw new IllegalArgumentException("skew는 0 이상이어야 합니다.");
+    }
+
+    public record Mix(
+            @DefaultValue("80") int read,
+            @DefaultValue("10") int charge,
+            @DefaultValue("10") int use
+    ) {
+
+        public Mix {
+            if (read < 0 || charge < 0 || use < 0 || read + charge + use == 0) {
+                throw new IllegalArgumentException("조회/충전/사용 비율은 0 이상이고 합이 0보다 커야 합니다.");
+            }
+        }
+    }
+}
@@ -0,0 +1,54 @@
+package io.hhplus.tdd.load;
+
+import java.time.Duration;
+
+/**
+ * 측정 구간(워밍업 제외)의 결과
+ * - 지연 시간은 요청을 보내고 응답을 받을 때까지 (ns, 출력은 μs)
+ * - lockWait: 락을 얻을 때까지 기다린 시간의 합계/평균/최대, 락 기록기를 주지 않았으면 0
+ */
+public record LoadReport(
+        Duration elapsed,
+        long operations,
+        long errors,
+        Operation read,
+        Operation charge,
+        Operation use,
+        long lockAcquisitions,
+        Duration lockWaitTotal,
+        long lockWaitMeanNanos,
+        long lockWaitMaxNanos
+) {
+
+    public double opsPerSecond() {
+        return operations * 1_000_000_000.0 / Math.max(elapsed.toNanos(), 1);
+    }
+
+    public record Operation(
+            long count,
+            long rejected,
+            long p50Nanos,
+            long p99Nanos,
+            long p999Nanos,
+            long maxNanos
+    ) {
+
+        static Operation of(LatencyHistogram histogram, long rejected) {
+            return new Operation(histogram.count(), rejected,
+                    histogram.percentile(0.5), histogram.percentile(0.99), histogram.percentile(0.999), histogram.max());
+        }
+
+        @Override
+        public String toString() {
+            return String.format("count=%d rejected=%d p50=%.1fus p99=%.1fus p999=%.1fus max=%.1fus",
+                    count, rejected, p50Nanos / 1e3, p99Nanos / 1e3, p999Nanos / 1e3, maxNanos / 1e3);
+        }
+    }
+
+    @Override
+    public String toString() {
+        return String.format("%d ops in %dms (%.0f ops/s, errors=%d)%n  read   %s%n  charge %s%n  use    %s%n  lock wait total=%dms mean=%.1fus max=%.1fus (acquisitions=%d)",
+                operations, elapsed.toMillis(), opsPerSecond(), errors, read, charge, use,
+                lockWaitTotal.toMillis(), lockWaitMeanNanos / 1e3, lockWaitMaxNanos / 1e3, lockAcquisitions);
+    }
+}
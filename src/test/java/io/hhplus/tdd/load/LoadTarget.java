@@ -0,0 +1,88 @@
+package io.hhplus.tdd.load;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+
+import io.hhplus.tdd.point.PointService;
+
+/**
+ * 부하를 받는 대상
+ * - 반환값: 요청이 반영되었으면 true, 검증에 걸려 거절되었으면 false (잔액/내역 검증에서 반영된 요청만 셈)
+ * - 요청을 보내지 못한 경우(연결 오류 등)는 예외
+ */
+public interface LoadTarget {
+
+    boolean read(long userId) throws Exception;
+
+    boolean charge(long userId, long amount) throws Exception;
+
+    boolean use(long userId, long amount) throws Exception;
+
+    /**
+     * PointService를 직접 호출, HTTP/직렬화 비용 없이 서비스 계층만 측정
+     */
+    static LoadTarget service(PointService pointService) {
+        return new LoadTarget() {
+            @Override
+            public boolean read(long userId) {
+                return pointService.findUserPoint(userId) != null;
+            }
+
+            @Override
+            public boolean charge(long userId, long amount) {
+                try {
+                    pointService.chargeUserPoint(userId, amount);
+                    return true;
+                } catch (IllegalArgumentException e) {
+                    return false;
+                }
+            }
+
+            @Override
+            public boolean use(long userId, long amount) {
+                try {
+                    pointService.useUserPoint(userId, amount);
+                    return true;
+                } catch (IllegalArgumentException e) {
+                    return false;
+                }
+            }
+        };
+    }
+
+    /**
+     * PointController에 HTTP 요청, 검증 실패는 ApiControllerAdvice가 500으로 응답하므로 200이 아니면 거절로 셈
+     */
+    static LoadTarget http(String baseUrl) {
+        HttpClient httpClient = HttpClient.newBuilder().version(HttpClient.Version.HTTP_1_1).build();
+        return new LoadTarget() {
+            @Override
+            public boolean read(long userId) throws IOException, InterruptedException {
+                return send(HttpRequest.newBuilder(URI.create(baseUrl + "/point/" + userId)).GET());
+            }
+
+            @Override
+            public boolean charge(long userId, long amount) throws IOException, InterruptedException {
+                return send(patch(baseUrl + "/point/" + userId + "/charge", amount));
+            }
+
+            @Override
+            public boolean use(long userId, long amount) throws IOException, InterruptedException {
+                return send(patch(baseUrl + "/point/" + userId + "/use", amount));
+            }
+
+            private HttpRequest.Builder patch(String url, long amount) {
+                return HttpRequest.newBuilder(URI.create(url))
+                        .header("Content-Type", "application/json")
+                        .method("PATCH", HttpRequest.BodyPublishers.ofString(Long.toString(amount)));
+            }
+
+            private boolean send(HttpRequest.Builder request) throws IOException, InterruptedException {
+                return httpClient.send(request.build(), HttpResponse.BodyHandlers.discarding()).statusCode() == 200;
+            }
+        };
+    }
+}
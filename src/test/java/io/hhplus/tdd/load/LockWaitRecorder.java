@@ -0,0 +1,84 @@
+package io.hhplus.tdd.load;
+
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+import io.hhplus.tdd.LockRegistry;
+
+/**
+ * LockRegistry를 감싸서 락을 얻을 때까지 기다린 시간을 모음
+ * - acquire()/acquireBoth()가 반환될 때까지 걸린 시간 = 다른 스레드가 락을 놓기를 기다린 시간 + 락 관리 비용
+ * - LongAdder로 더하므로 여러 스레드가 기록해도 한 칸을 두고 경합하지 않음
+ */
+public class LockWaitRecorder implements LockRegistry {
+
+    private final LockRegistry delegate;
+    private final LongAdder acquisitions = new LongAdder();
+    private final LongAdder waitNanos = new LongAdder();
+    private final LongAccumulator maxWaitNanos = new LongAccumulator(Math::max, 0);
+
+    public LockWaitRecorder(LockRegistry delegate) {
+        this.delegate = delegate;
+    }
+
+    @Override
+    public void acquire(long userId) {
+        long start = System.nanoTime();
+        delegate.acquire(userId);
+        record(System.nanoTime() - start);
+    }
+
+    @Override
+    public void release(long userId) {
+        delegate.release(userId);
+    }
+
+    @Override
+    public void acquireBoth(long userId, long otherUserId) {
+        long start = System.nanoTime();
+        delegate.acquireBoth(userId, otherUserId);
+        record(System.nanoTime() - start);
+    }
+
+    @Override
+    public void releaseBoth(long userId, long otherUserId) {
+        delegate.releaseBoth(userId, otherUserId);
+    }
+
+    @Override
+    public int size() {
+        return delegate.size();
+    }
+
+    @Override
+    public int queueLength(long userId) {
+        return delegate.queueLength(userId);
+    }
+
+    /**
+     * 측정 구간을 시작할 때 워밍업 동안 모은 값을 버림
+     */
+    public void reset() {
+        acquisitions.reset();
+        waitNanos.reset();
+        maxWaitNanos.reset();
+    }
+
+    public long acquisitions() {
+        return acquisitions.sum();
+    }
+
+    public long waitNanos() {
+        return waitNanos.sum();
+    }
+
+    public long maxWaitNanos() {
+        return maxWaitNanos.get();
+    }
+
+    private void record(long nanos) {
+        acquisitions.increment();
+        waitNanos.add(nanos);
+        maxWaitNanos.accumulate(nanos);
+    }
+}
@@ -0,0 +1,209 @@
+package io.hhplus.tdd.load;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+import io.hhplus.tdd.point.PointHistory;
+import io.hhplus.tdd.point.PointService;
+import io.hhplus.tdd.point.PointValidationException;
+import io.hhplus.tdd.point.TransactionType;
+import io.hhplus.tdd.point.UserPoint;
+
+/**
+ * 설정한 스레드 수만큼 조회/충전/사용 요청을 정해진 시간 동안 보내고 처리량과 지연 시간을 잼
+ * - 유저는 ZipfianGenerator로 골라서 일부 유저에 요청이 몰리게 함
+ * - 지연 시간은 스레드마다 LatencyHistogram에 기록하고 끝난 뒤 합침 -> 측정 중에 스레드끼리 경합하지 않음
+ * - 반영된 충전/사용 금액과 건수를 유저별로 모아두고, verify()에서 잔액과 내역이 이와 같은지 확인
+ *   (요청이 한 번도 반영되지 않은 유저는 내역 0건, 잔액 initialPoint)
+ * - 유저(0 ~ users-1)는 호출하는 쪽에서 미리 initialPoint로 저장해야 함
+ */
+public class PointLoadRunner {
+
+    private static final int READ = 0;
+    private static final int CHARGE = 1;
+    private static final int USE = 2;
+    private static final long MIN_AMOUNT = 1_000L;
+    private static final long MAX_AMOUNT = 100_000L;
+
+    private final LoadProperties loadProperties;
+    private final LoadTarget loadTarget;
+    private final LockWaitRecorder lockWaitRecorder;
+    private final ZipfianGenerator keys;
+
+    // 유저별로 반영된 충전/사용 금액과 건수
+    private final AtomicLongArray charged;
+    private final AtomicLongArray used;
+    private final AtomicLongArray chargeCounts;
+    private final AtomicLongArray useCounts;
+
+    /**
+     * lockWaitRecorder: 대상 서비스가 쓰는 LockRegistry를 감싼 기록기, 없으면 null
+     */
+    public PointLoadRunner(LoadProperties loadProperties, LoadTarget loadTarget, LockWaitRecorder lockWaitRecorder) {
+        this.loadProperties = loadProperties;
+        this.loadTarget = loadTarget;
+        this.lockWaitRecorder = lockWaitRecorder;
+        this.keys = new ZipfianGenerator(loadProperties.users(), loadProperties.skew());
+        this.charged = new AtomicLongArray(loadProperties.users());
+        this.used = new AtomicLongArray(loadProperties.users());
+        this.chargeCounts = new AtomicLongArray(loadProperties.users());
+        this.useCounts = new AtomicLongArray(loadProperties.users());
+    }
+
+    public LoadReport run() throws Exception {
+        long start = System.nanoTime();
+        long measureFrom = start + loadProperties.warmup().toNanos();
+        long deadline = measureFrom + loadProperties.duration().toNanos();
+
+        List<Worker> workers = new ArrayList<>();
+        List<Future<?>> futures = new ArrayList<>();
+        try (ExecutorService executorService = loadProperties.virtualThreads()
+                ? Executors.newVirtualThreadPerTaskExecutor()
+                : Executors.newFixedThreadPool(loadProperties.threads())) {
+            for (int i = 0; i < loadProperties.threads(); i++) {
+                Worker worker = new Worker(new SplittableRandom(i), measureFrom, deadline);
+                workers.add(worker);
+                futures.add(executorService.submit(worker));
+            }
+            // 워밍업이 끝나면 그동안 쌓인 락 대기 시간을 버림
+            long untilMeasure = measureFrom - System.nanoTime();
+            if (untilMeasure > 0) TimeUnit.NANOSECONDS.sleep(untilMeasure);
+            if (lockWaitRecorder != null) lockWaitRecorder.reset();
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        }
+        long elapsedNanos = Math.max(System.nanoTime(), deadline) - measureFrom;
+
+        LatencyHistogram[] histograms = {new LatencyHistogram(), new LatencyHistogram(), new LatencyHistogram()};
+        long[] rejected = new long[3];
+        long errors = 0;
+        for (Worker worker : workers) {
+            for (int type = 0; type < 3; type++) {
+                histograms[type].merge(worker.histograms[type]);
+                rejected[type] += worker.rejected[type];
+            }
+            errors += worker.errors;
+        }
+        long acquisitions = lockWaitRecorder == null ? 0 : lockWaitRecorder.acquisitions();
+        long waitNanos = lockWaitRecorder == null ? 0 : lockWaitRecorder.waitNanos();
+        long maxWaitNanos = lockWaitRecorder == null ? 0 : lockWaitRecorder.maxWaitNanos();
+        return new LoadReport(
+                Duration.ofNanos(elapsedNanos),
+                histograms[READ].count() + histograms[CHARGE].count() + histograms[USE].count(),
+                errors,
+                LoadReport.Operation.of(histograms[READ], rejected[READ]),
+                LoadReport.Operation.of(histograms[CHARGE], rejected[CHARGE]),
+                LoadReport.Operation.of(histograms[USE], rejected[USE]),
+                acquisitions,
+                Duration.ofNanos(waitNanos),
+                acquisitions == 0 ? 0 : waitNanos / acquisitions,
+                maxWaitNanos);
+    }
+
+    /**
+     * 유저마다 잔액 = initialPoint + 반영된 충전 합계 - 반영된 사용 합계 이고,
+     * 내역의 충전/사용 건수와 금액 합계가 반영된 요청과 같은지 확인 (워밍업 중의 요청도 포함)
+     * - 어긋난 유저의 설명 목록, 비어 있으면 정합성 유지
+     */
+    public List<String> verify(PointService pointService) {
+        List<String> violations = new ArrayList<>();
+        for (int userId = 0; userId < loadProperties.users(); userId++) {
+            long expectedPoint = loadProperties.initialPoint() + charged.get(userId) - used.get(userId);
+            UserPoint userPoint = pointService.findUserPoint(userId);
+            if (userPoint == null || userPoint.point() != expectedPoint) {
+                violations.add("userId=" + userId + " 잔액 expected=" + expectedPoint + " actual=" + (userPoint == null ? null : userPoint.point()));
+            }
+
+            long chargeCount = 0, chargeSum = 0, useCount = 0, useSum = 0;
+            for (PointHistory pointHistory : historyOf(pointService, userId)) {
+                if (pointHistory.type() == TransactionType.CHARGE) {
+                    chargeCount++;
+                    chargeSum += pointHistory.amount();
+                } else {
+                    useCount++;
+                    useSum += pointHistory.amount();
+                }
+            }
+            if (chargeCount != chargeCounts.get(userId) || chargeSum != charged.get(userId)
+                    || useCount != useCounts.get(userId) || useSum != used.get(userId)) {
+                violations.add("userId=" + userId + " 내역 expected charge " + chargeCounts.get(userId) + "건/" + charged.get(userId)
+                        + " use " + useCounts.get(userId) + "건/" + used.get(userId)
+                        + " actual charge " + chargeCount + "건/" + chargeSum + " use " + useCount + "건/" + useSum);
+            }
+        }
+        return violations;
+    }
+
+    // 반영된 요청이 없는 유저는 내역이 없어 findUserHistory()가 USER_NOT_FOUND로 거절함 -> 빈 내역으로 보고 0건과 비교
+    private static List<PointHistory> historyOf(PointService pointService, long userId) {
+        try {
+            return pointService.findUserHistory(userId);
+        } catch (PointValidationException e) {
+            if (e.reason() != PointValidationException.Reason.USER_NOT_FOUND) throw e;
+            return List.of();
+        }
+    }
+
+    private class Worker implements Runnable {
+
+        private final SplittableRandom random;
+        private final long measureFrom;
+        private final long deadline;
+        private final LatencyHistogram[] histograms = {new LatencyHistogram(), new LatencyHistogram(), new LatencyHistogram()};
+        private final long[] rejected = new long[3];
+        private long errors;
+
+        Worker(SplittableRandom random, long measureFrom, long deadline) {
+            this.random = random;
+            this.measureFrom = measureFrom;
+            this.deadline = deadline;
+        }
+
+        @Override
+        public void run() {
+            LoadProperties.Mix mix = loadProperties.mix();
+            int total = mix.read() + mix.charge() + mix.use();
+            long start;
+            while ((start = System.nanoTime()) < deadline) {
+                int userId = (int) keys.next(random);
+                int dice = random.nextInt(total);
+                int type = dice < mix.read() ? READ : dice < mix.read() + mix.charge() ? CHARGE : USE;
+                long amount = random.nextLong(MIN_AMOUNT, MAX_AMOUNT + 1);
+                boolean applied;
+                try {
+                    applied = switch (type) {
+                        case READ -> loadTarget.read(userId);
+                        case CHARGE -> loadTarget.charge(userId, amount);
+                        default -> loadTarget.use(userId, amount);
+                    };
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    return;
+                } catch (Exception e) {
+                    if (start >= measureFrom) errors++;
+                    continue;
+                }
+                long elapsed = System.nanoTime() - start;
+
+                if (applied && type == CHARGE) {
+                    charged.addAndGet(userId, amount);
+                    chargeCounts.incrementAndGet(userId);
+                } else if (applied && type == USE) {
+                    used.addAndGet(userId, amount);
+                    useCounts.incrementAndGet(userId);
+                }
+                if (start < measureFrom) continue;
+                histograms[type].record(elapsed);
+                if (!applied) rejected[type]++;
+            }
+        }
+    }
+}
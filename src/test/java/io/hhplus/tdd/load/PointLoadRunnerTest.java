@@ -0,0 +1,126 @@
+package io.hhplus.tdd.load;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.SplittableRandom;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import io.hhplus.tdd.StripedLockRegistry;
+import io.hhplus.tdd.database.FakePointHistoryStore;
+import io.hhplus.tdd.database.FakeUserPointStore;
+import io.hhplus.tdd.point.PointLedger;
+import io.hhplus.tdd.point.PointService;
+import io.hhplus.tdd.point.PointServiceImpl;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+public class PointLoadRunnerTest {
+
+    @Test
+    @DisplayName(value = "[성공] 여러 스레드로 부하를 준 뒤 잔액과 내역이 반영된 요청과 일치하고, 락 대기 시간과 지연 시간이 기록된다.")
+    void 부하를_준_뒤_잔액과_내역이_반영된_요청과_일치한다() throws Exception {
+        // given
+        LoadProperties loadProperties = new LoadProperties(200, 8, false, new LoadProperties.Mix(50, 25, 25), 1.2,
+                Duration.ofMillis(100), Duration.ofMillis(500), "service", 0L);
+        LockWaitRecorder lockWaitRecorder = new LockWaitRecorder(new StripedLockRegistry(16));
+        FakeUserPointStore userPointStore = new FakeUserPointStore();
+        PointService pointService = new PointServiceImpl(new FakePointHistoryStore(), userPointStore, lockWaitRecorder, new PointLedger(), new SimpleMeterRegistry());
+        for (long userId = 0; userId < loadProperties.users(); userId++) {
+            userPointStore.insertOrUpdate(userId, loadProperties.initialPoint());
+        }
+        PointLoadRunner pointLoadRunner = new PointLoadRunner(loadProperties, LoadTarget.service(pointService), lockWaitRecorder);
+
+        // when
+        LoadReport loadReport = pointLoadRunner.run();
+
+        // then
+        assertEquals(0, pointLoadRunner.verify(pointService).size());
+        assertEquals(0L, loadReport.errors());
+        assertTrue(loadReport.read().count() > 0 && loadReport.charge().count() > 0 && loadReport.use().count() > 0);
+        assertTrue(loadReport.use().rejected() > 0, "잔액보다 많이 쓰려는 요청은 거절되어야 합니다.");
+        assertTrue(loadReport.charge().p50Nanos() <= loadReport.charge().p99Nanos());
+        assertTrue(loadReport.lockAcquisitions() > 0);
+        assertTrue(loadReport.elapsed().compareTo(Duration.ofMillis(500)) >= 0);
+    }
+
+    @Test
+    @DisplayName(value = "[성공] 요청이 한 번도 반영되지 않은 유저는 내역 0건, 잔액 initialPoint로 검증한다.")
+    void 요청이_반영되지_않은_유저는_내역_0건으로_검증한다() throws Exception {
+        // given
+        LoadProperties loadProperties = new LoadProperties(10, 1, false, new LoadProperties.Mix(50, 25, 25), 1.2,
+                Duration.ZERO, Duration.ZERO, "service", 5_000L);
+        FakeUserPointStore userPointStore = new FakeUserPointStore();
+        PointService pointService = new PointServiceImpl(new FakePointHistoryStore(), userPointStore, new StripedLockRegistry(16), new PointLedger(), new SimpleMeterRegistry());
+        for (long userId = 0; userId < loadProperties.users(); userId++) {
+            userPointStore.insertOrUpdate(userId, loadProperties.initialPoint());
+        }
+        PointLoadRunner pointLoadRunner = new PointLoadRunner(loadProperties, LoadTarget.service(pointService), null);
+
+        // when
+        List<String> violations = pointLoadRunner.verify(pointService);
+
+        // then
+        assertEquals(List.of(), violations);
+    }
+
+    @Test
+    @DisplayName(value = "[성공] Zipf 분포는 id가 작은 유저를 자주 고르고, skew가 0이면 고르게 고른다.")
+    void Zipf_분포는_작은_id를_자주_고르고_skew가_0이면_고르게_고른다() throws Exception {
+        // given
+        int users = 1_000;
+        int samples = 1_000_000;
+        ZipfianGenerator skewed = new ZipfianGenerator(users, 0.99);
+        ZipfianGenerator uniform = new ZipfianGenerator(users, 0);
+        SplittableRandom random = new SplittableRandom(1);
+
+        // when
+        long[] skewedCounts = new long[users];
+        long[] uniformCounts = new long[users];
+        for (int i = 0; i < samples; i++) {
+            skewedCounts[(int) skewed.next(random)]++;
+            uniformCounts[(int) uniform.next(random)]++;
+        }
+
+        // then
+        // 1 / H(1000, 0.99) ≈ 0.13, 상위 1%(10명)는 약 0.39
+        long top10 = 0;
+        for (int k = 0; k < 10; k++) top10 += skewedCounts[k];
+        assertTrue(skewedCounts[0] > samples * 0.12 && skewedCounts[0] < samples * 0.14);
+        assertTrue(top10 > samples * 0.35 && top10 < samples * 0.43);
+        assertTrue(skewedCounts[0] > skewedCounts[1] && skewedCounts[1] > skewedCounts[10]);
+        for (long count : uniformCounts) {
+            assertTrue(count > samples / users * 0.8 && count < samples / users * 1.2);
+        }
+    }
+
+    @Test
+    @DisplayName(value = "[성공] 지연 시간 분포의 백분위 값은 1% 오차 안에 있다.")
+    void 지연_시간_분포의_백분위_값은_1퍼센트_오차_안에_있다() throws Exception {
+        // given
+        LatencyHistogram first = new LatencyHistogram();
+        LatencyHistogram second = new LatencyHistogram();
+
+        // when
+        // 1 ~ 1_000_000 ns 를 두 분포에 나눠 기록한 뒤 합침
+        for (long nanos = 1; nanos <= 1_000_000; nanos++) {
+            (nanos % 2 == 0 ? first : second).record(nanos);
+        }
+        first.merge(second);
+
+        // then
+        assertEquals(1_000_000L, first.count());
+        assertEquals(1_000_000L, first.max());
+        assertEquals(500_000, first.percentile(0.5), 5_000);
+        assertEquals(990_000, first.percentile(0.99), 9_900);
+        assertEquals(999_000, first.percentile(0.999), 9_990);
+        assertEquals(1L, first.percentile(0.0000001));
+        for (long value : new long[]{0, 1, 127, 128, 255, 256, 1_000_003, Long.MAX_VALUE / 3}) {
+            long upper = LatencyHistogram.valueOf(LatencyHistogram.index(value));
+            assertTrue(upper >= value && upper - value <= Math.max(value / 100, 0), "value=" + value + " upper=" + upper);
+        }
+    }
+}
@@ -0,0 +1,87 @@
+package io.hhplus.tdd.load;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.List;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
+
+import io.hhplus.tdd.LockRegistry;
+import io.hhplus.tdd.database.UserPointStore;
+import io.hhplus.tdd.point.PointService;
+
+/**
+ * in-process 서버(랜덤 포트)에 부하를 주는 테스트, ./gradlew loadTest 로 실행 (일반 test 태스크에서는 제외)
+ * - 설정은 LoadProperties(point.load.*), 저장 엔진 등 애플리케이션 설정도 -Ppoint.user.engine=table 처럼 바꿀 수 있음
+ * - 서비스가 쓰는 LockRegistry 빈을 LockWaitRecorder로 감싸서 락 대기 시간을 함께 잼
+ */
+@Tag("load")
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+@Import(PointLoadTest.LockWaitConfig.class)
+public class PointLoadTest {
+
+    private static final Logger log = LoggerFactory.getLogger(PointLoadTest.class);
+
+    @LocalServerPort private int port;
+    @Autowired private LoadProperties loadProperties;
+    @Autowired private PointService pointService;
+    @Autowired private UserPointStore userPointStore;
+    @Autowired private LockRegistry lockRegistry;
+
+    @TestConfiguration
+    static class LockWaitConfig {
+
+        @Bean
+        static BeanPostProcessor lockWaitRecorderPostProcessor() {
+            return new BeanPostProcessor() {
+                @Override
+                public Object postProcessAfterInitialization(Object bean, String beanName) {
+                    if (bean instanceof LockRegistry lockRegistry && !(bean instanceof LockWaitRecorder)) {
+                        return new LockWaitRecorder(lockRegistry);
+                    }
+                    return bean;
+                }
+            };
+        }
+    }
+
+    @Test
+    @DisplayName(value = "[부하테스트] 설정한 부하를 주는 동안의 처리량과 지연 시간을 재고, 끝난 뒤 잔액과 내역이 반영된 요청과 일치한다.")
+    void 부하를_주고_처리량과_지연_시간을_재고_정합성을_확인한다() throws Exception {
+        // given
+        // UserPointTable은 스레드 안전하지 않으므로 순서대로 저장
+        for (long userId = 0; userId < loadProperties.users(); userId++) {
+            userPointStore.insertOrUpdate(userId, loadProperties.initialPoint());
+        }
+        LoadTarget loadTarget = switch (loadProperties.target()) {
+            case "http" -> LoadTarget.http("http://localhost:" + port);
+            case "service" -> LoadTarget.service(pointService);
+            default -> throw new IllegalArgumentException("지원하지 않는 부하 대상입니다. target=" + loadProperties.target());
+        };
+        PointLoadRunner pointLoadRunner = new PointLoadRunner(loadProperties, loadTarget, (LockWaitRecorder) lockRegistry);
+
+        // when
+        LoadReport loadReport = pointLoadRunner.run();
+
+        // then
+        log.info("{}", loadProperties);
+        log.info("{}", loadReport);
+        List<String> violations = pointLoadRunner.verify(pointService);
+        violations.stream().limit(20).forEach(violation -> log.error("{}", violation));
+        assertEquals(0, violations.size(), "잔액과 내역이 반영된 요청과 일치해야 합니다.");
+        assertEquals(0L, loadReport.errors());
+        assertTrue(loadReport.operations() > 0);
+    }
+}
@@ -0,0 +1,42 @@
+package io.hhplus.tdd.load;
+
+import java.util.Arrays;
+import java.util.SplittableRandom;
+
+/**
+ * 0 ~ n-1 사이의 유저 id를 Zipf 분포로 고름, id가 작을수록 자주 뽑힘 (0번이 가장 뜨거운 유저)
+ * - P(k) ∝ 1 / (k + 1)^skew, skew = 0 이면 균등 분포
+ * - 누적 확률(CDF)을 한 번 계산해두고 이분 탐색으로 뽑음 -> O(log n), 유저 100만 명이면 8MB
+ * - 상태가 없으므로 여러 스레드가 공유하고, 난수는 스레드마다 따로 넘김
+ */
+public class ZipfianGenerator {
+
+    private final int n;
+    private final double[] cdf;
+
+    public ZipfianGenerator(int n, double skew) {
+        if (n < 1) throw new IllegalArgumentException("유저 수는 1 이상이어야 합니다.");
+        this.n = n;
+        if (skew == 0) {
+            this.cdf = null;
+            return;
+        }
+        double[] weights = new double[n];
+        double sum = 0;
+        for (int k = 0; k < n; k++) {
+            sum += 1.0 / Math.pow(k + 1, skew);
+            weights[k] = sum;
+        }
+        for (int k = 0; k < n; k++) {
+            weights[k] /= sum;
+        }
+        this.cdf = weights;
+    }
+
+    public long next(SplittableRandom random) {
+        if (cdf == null) return random.nextInt(n);
+        int index = Arrays.binarySearch(cdf, random.nextDouble());
+        int rank = index >= 0 ? index : -index - 1;
+        return Math.min(rank, n - 1); // 반올림 오차로 마지막 값이 1보다 조금 작을 수 있음
+    }
+}
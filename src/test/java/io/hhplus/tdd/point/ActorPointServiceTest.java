@@ -0,0 +1,264 @@
+package io.hhplus.tdd.point;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import io.hhplus.tdd.database.FakePointHistoryStore;
+import io.hhplus.tdd.database.FakeUserPointStore;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+public class ActorPointServiceTest {
+
+    private FakeUserPointStore userPointStore;
+    private FakePointHistoryStore pointHistoryStore;
+    private ActorPointService pointService;
+
+    @BeforeEach
+    void setUp() {
+        userPointStore = new FakeUserPointStore();
+        pointHistoryStore = new FakePointHistoryStore();
+        pointService = new ActorPointService(pointHistoryStore, userPointStore, new PointLedger(), 4, 1_000, new SimpleMeterRegistry());
+    }
+
+    @AfterEach
+    void tearDown() {
+        pointService.shutdown();
+    }
+
+    @Test
+    @DisplayName(value = "Actor [성공] 같은 유저의 명령은 요청한 순서대로 처리된다.")
+    void 같은_유저의_명령은_요청한_순서대로_처리된다() throws Exception {
+        // given
+        long userId = 1L;
+        userPointStore.insertOrUpdate(userId, 0L);
+
+        // when
+        List<CompletableFuture<UserPoint>> futures = new ArrayList<>();
+        for (int i = 1; i <= 100; i++) {
+            futures.add(pointService.submitCharge(userId, 1_000L));
+        }
+
+        // then
+        for (int i = 0; i < futures.size(); i++) {
+            assertEquals(1_000L * (i + 1), futures.get(i).join().point());
+        }
+        List<PointHistory> histories = pointService.findUserHistory(userId);
+        assertEquals(100, histories.size());
+    }
+
+    @Test
+    @DisplayName(value = "Actor [실패] 명령에서 발생한 검증 예외가 그대로 전달된다.")
+    void 명령에서_발생한_검증_예외가_그대로_전달된다() throws Exception {
+        // given
+        long userId = 1L;
+        userPointStore.insertOrUpdate(userId, 5_000L);
+
+        // when
+        Exception result_1 = assertThrows(IllegalArgumentException.class, () ->
+            pointService.useUserPoint(userId, 5_001L));
+        Exception result_2 = assertThrows(IllegalArgumentException.class, () ->
+            pointService.chargeUserPoint(999L, 1_000L));
+
+        // then
+        assertEquals("현재 가지고 있는 포인트보다 많이 사용할 수 없습니다.", result_1.getMessage());
+        assertEquals("존재하지 않는 유저입니다.", result_2.getMessage());
+        assertEquals(5_000L, pointService.findUserPoint(userId).point());
+    }
+
+    @Test
+    @DisplayName(value = "[동시성테스트] 여러 스레드가 여러 유저에게 동시에 충전해도 데이터 정합성을 유지한다.")
+    void 여러_스레드가_여러_유저에게_동시에_충전해도_데이터_정합성을_유지한다() throws Exception {
+        // given
+        int threadCount = 32;
+        int loopCount = 100;
+        int userCount = 10;
+        for (long userId = 0; userId < userCount; userId++) {
+            userPointStore.insertOrUpdate(userId, 0L);
+        }
+
+        ExecutorService executorService = Executors.newFixedThreadPool(threadCount);
+        CountDownLatch latch = new CountDownLatch(threadCount);
+
+        // when
+        for (int t = 0; t < threadCount; t++) {
+            executorService.submit(() -> {
+                try {
+                    for (int i = 0; i < loopCount; i++) {
+                        pointService.chargeUserPoint(i % userCount, 1_000L);
+                    }
+                } finally {
+                    latch.countDown();
+                }
+            });
+        }
+
+        latch.await();
+        executorService.shutdown();
+
+        // then
+        for (long userId = 0; userId < userCount; userId++) {
+            assertEquals(1_000L * threadCount * loopCount / userCount, pointService.findUserPoint(userId).point());
+        }
+    }
+
+    @Test
+    @DisplayName(value = "Actor [성공] 같은 샤드와 다른 샤드의 유저에게 이체하면 두 잔액과 두 내역이 모두 반영된다.")
+    void 이체하면_두_잔액과_두_내역이_모두_반영된다() throws Exception {
+        // given (샤드 4개: 1과 5는 같은 샤드, 1과 2는 다른 샤드)
+        userPointStore.insertOrUpdate(1L, 10_000L);
+        userPointStore.insertOrUpdate(2L, 0L);
+        userPointStore.insertOrUpdate(5L, 0L);
+
+        // when
+        PointTransferResult sameShard = pointService.transferUserPoint(1L, 5L, 3_000L);
+        PointTransferResult otherShard = pointService.transferUserPoint(1L, 2L, 4_000L);
+
+        // then
+        assertEquals(7_000L, sameShard.from().point());
+        assertEquals(3_000L, sameShard.to().point());
+        assertEquals(3_000L, otherShard.from().point());
+        assertEquals(4_000L, otherShard.to().point());
+        assertEquals(2, pointService.findUserHistory(1L).size());
+        assertEquals(TransactionType.CHARGE, pointService.findUserHistory(2L).get(0).type());
+        assertEquals(TransactionType.CHARGE, pointService.findUserHistory(5L).get(0).type());
+    }
+
+    @Test
+    @DisplayName(value = "Actor [실패] 이체 검증에 실패하면 두 유저 모두 변경되지 않는다.")
+    void 이체_검증에_실패하면_두_유저_모두_변경되지_않는다() throws Exception {
+        // given
+        userPointStore.insertOrUpdate(1L, 3_000L);
+        userPointStore.insertOrUpdate(2L, 0L);
+
+        // when
+        Exception result_1 = assertThrows(IllegalArgumentException.class, () -> pointService.transferUserPoint(1L, 2L, 5_000L));
+        Exception result_2 = assertThrows(IllegalArgumentException.class, () -> pointService.transferUserPoint(1L, 3L, 1_000L));
+        Exception result_3 = assertThrows(IllegalArgumentException.class, () -> pointService.transferUserPoint(1L, 1L, 1_000L));
+
+        // then
+        assertEquals("현재 가지고 있는 포인트보다 많이 사용할 수 없습니다.", result_1.getMessage());
+        assertEquals("존재하지 않는 유저입니다.", result_2.getMessage());
+        assertEquals("자기 자신에게는 포인트를 이체할 수 없습니다.", result_3.getMessage());
+        assertEquals(3_000L, pointService.findUserPoint(1L).point());
+        assertEquals(0L, pointService.findUserPoint(2L).point());
+        assertEquals(0, pointHistoryStore.countByUserId(1L) + pointHistoryStore.countByUserId(2L));
+    }
+
+    @Test
+    @DisplayName(value = "[동시성테스트] 여러 샤드에 걸쳐 반대 방향으로 동시에 이체해도 교착 없이 끝나고 전체 잔액이 유지된다.")
+    void 여러_샤드에_걸쳐_동시에_이체해도_전체_잔액이_유지된다() throws Exception {
+        // given
+        int userCount = 8;
+        int threadCount = 16;
+        int loopCount = 200;
+        for (long userId = 0; userId < userCount; userId++) {
+            userPointStore.insertOrUpdate(userId, 50_000L);
+        }
+        ExecutorService executorService = Executors.newFixedThreadPool(threadCount);
+        List<CompletableFuture<Void>> futures = new ArrayList<>();
+
+        // when
+        for (int t = 0; t < threadCount; t++) {
+            long from = t % userCount;
+            long to = (userCount - 1) - from; // 0<->7, 1<->6 ... 반대 방향 이체가 같은 두 샤드를 잡음
+            futures.add(CompletableFuture.runAsync(() -> {
+                for (int i = 0; i < loopCount; i++) {
+                    try {
+                        pointService.transferUserPoint(from, to, 1_000L * (1 + i % 5));
+                    } catch (IllegalArgumentException e) {
+                        // 잔액 부족
+                    }
+                }
+            }, executorService));
+        }
+        CompletableFuture.allOf(futures.toArray(CompletableFuture[]::new)).get(30, TimeUnit.SECONDS); // 교착되면 시간 초과로 실패
+        executorService.shutdown();
+
+        // then
+        long total = 0;
+        for (long userId = 0; userId < userCount; userId++) {
+            long point = pointService.findUserPoint(userId).point();
+            assertTrue(point >= 0);
+            total += point;
+        }
+        assertEquals(50_000L * userCount, total);
+    }
+
+    @Test
+    @DisplayName(value = "Actor [성공] 종료할 때 대기열에 남은 명령을 모두 처리한다.")
+    void 종료할_때_대기열에_남은_명령을_모두_처리한다() throws Exception {
+        // given
+        long userId = 1L;
+        userPointStore.insertOrUpdate(userId, 0L);
+        List<CompletableFuture<UserPoint>> futures = new ArrayList<>();
+        for (int i = 0; i < 500; i++) {
+            futures.add(pointService.submitCharge(userId, 1_000L));
+        }
+
+        // when
+        pointService.shutdown();
+
+        // then
+        for (CompletableFuture<UserPoint> future : futures) {
+            assertTrue(future.isDone());
+        }
+        assertEquals(500_000L, userPointStore.selectById(userId).point());
+        assertThrows(IllegalStateException.class, () -> pointService.chargeUserPoint(userId, 1_000L));
+    }
+
+    @Test
+    @DisplayName(value = "[동시성테스트] 종료와 동시에 들어온 명령은 처리되거나 바로 실패하고, 완료되지 않은 채 남지 않는다.")
+    void 종료와_동시에_들어온_명령은_남지_않는다() throws Exception {
+        for (int round = 0; round < 50; round++) {
+            // given
+            ActorPointService service = new ActorPointService(pointHistoryStore, userPointStore, new PointLedger(), 4, 1_000, new SimpleMeterRegistry());
+            userPointStore.insertOrUpdate(round, 0L);
+            long userId = round;
+            int threadCount = 4;
+            ExecutorService executorService = Executors.newFixedThreadPool(threadCount);
+            List<CompletableFuture<UserPoint>> futures = new ArrayList<>();
+            CountDownLatch started = new CountDownLatch(threadCount);
+
+            // when
+            for (int t = 0; t < threadCount; t++) {
+                executorService.submit(() -> {
+                    started.countDown();
+                    while (true) {
+                        try {
+                            CompletableFuture<UserPoint> future = service.submitCharge(userId, 1_000L);
+                            synchronized (futures) {
+                                futures.add(future);
+                            }
+                        } catch (IllegalStateException e) {
+                            return; // 종료 중
+                        }
+                    }
+                });
+            }
+            started.await();
+            service.shutdown();
+            executorService.shutdown();
+
+            // then
+            assertTrue(executorService.awaitTermination(10, TimeUnit.SECONDS));
+            for (CompletableFuture<UserPoint> future : futures) {
+                future.get(10, TimeUnit.SECONDS);
+            }
+            assertEquals(1_000L * futures.size(), userPointStore.selectById(userId).point());
+        }
+    }
+}
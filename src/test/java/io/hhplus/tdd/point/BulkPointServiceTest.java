@@ -0,0 +1,159 @@
+package io.hhplus.tdd.point;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import io.hhplus.tdd.UserLockRegistry;
+import io.hhplus.tdd.database.FakePointHistoryStore;
+import io.hhplus.tdd.database.FakeUserPointStore;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+public class BulkPointServiceTest {
+
+    private static final Logger log = LoggerFactory.getLogger(BulkPointServiceTest.class);
+
+    private static final int USER_COUNT = 200;
+
+    private final List<BulkPointService> services = new ArrayList<>();
+
+    @AfterEach
+    void tearDown() {
+        services.forEach(BulkPointService::shutdown);
+    }
+
+    @Test
+    @DisplayName(value = "Bulk [성공] 같은 유저의 요청은 요청 순서대로 처리되고 결과는 요청 순서로 반환된다.")
+    void 같은_유저의_요청은_요청_순서대로_처리된다() {
+        // given
+        PointService pointService = pointService(0L);
+        BulkPointService bulkPointService = bulkPointService(pointService, 8);
+        List<BulkPointRequest> requests = new ArrayList<>();
+        for (int i = 0; i < 10; i++) {
+            for (long userId = 1; userId <= 5; userId++) {
+                requests.add(new BulkPointRequest(userId, 1_000L, TransactionType.CHARGE));
+            }
+        }
+
+        // when
+        List<BulkPointResult> results = bulkPointService.process(requests);
+
+        // then
+        assertEquals(requests.size(), results.size());
+        for (int i = 0; i < requests.size(); i++) {
+            BulkPointResult result = results.get(i);
+            assertEquals(requests.get(i).userId(), result.userId());
+            assertTrue(result.success());
+            assertEquals(1_000L * (i / 5 + 1), result.userPoint().point()); // 같은 유저의 n번째 충전이면 잔액은 n * 1,000
+        }
+    }
+
+    @Test
+    @DisplayName(value = "Bulk [성공] 한 건이 실패해도 같은 유저의 다음 요청과 다른 유저의 요청은 계속 처리된다.")
+    void 한_건이_실패해도_나머지_요청은_계속_처리된다() {
+        // given
+        PointService pointService = pointService(0L);
+        BulkPointService bulkPointService = bulkPointService(pointService, 4);
+        List<BulkPointRequest> requests = List.of(
+                new BulkPointRequest(1L, 5_000L, TransactionType.CHARGE),
+                new BulkPointRequest(2L, 3_000L, TransactionType.CHARGE),
+                new BulkPointRequest(1L, 10_000L, TransactionType.USE), // 잔액 부족
+                new BulkPointRequest(2L, 1_000L, null), // 거래 유형 누락
+                new BulkPointRequest(1L, 2_000L, TransactionType.USE)
+        );
+
+        // when
+        List<BulkPointResult> results = bulkPointService.process(requests);
+
+        // then
+        assertTrue(results.get(0).success());
+        assertTrue(results.get(1).success());
+        assertFalse(results.get(2).success());
+        assertNull(results.get(2).userPoint());
+        assertFalse(results.get(3).success());
+        assertEquals("거래 유형은 필수입니다.", results.get(3).error());
+        assertTrue(results.get(4).success());
+        assertEquals(3_000L, results.get(4).userPoint().point());
+        assertEquals(3_000L, pointService.findUserPoint(2L).point());
+    }
+
+    @Test
+    @DisplayName(value = "Bulk [실패] 최대 건수를 넘는 요청은 처리하지 않는다.")
+    void 최대_건수를_넘는_요청은_처리하지_않는다() {
+        // given
+        PointService pointService = pointService(0L);
+        BulkPointService bulkPointService = new BulkPointService(pointService, 4, 2);
+        services.add(bulkPointService);
+        List<BulkPointRequest> requests = List.of(
+                new BulkPointRequest(1L, 1_000L, TransactionType.CHARGE),
+                new BulkPointRequest(2L, 1_000L, TransactionType.CHARGE),
+                new BulkPointRequest(3L, 1_000L, TransactionType.CHARGE)
+        );
+
+        // when & then
+        assertThrows(IllegalArgumentException.class, () -> bulkPointService.process(requests));
+        assertEquals(0L, pointService.findUserPoint(1L).point());
+    }
+
+    @Test
+    @DisplayName(value = "[부하테스트] 일괄 요청은 단건 요청을 순서대로 호출할 때보다 처리량이 높다.")
+    void 일괄_요청은_단건_요청보다_처리량이_높다() {
+        // given
+        long delayMillis = 1L;
+        int userCount = USER_COUNT;
+        int itemsPerUser = 5;
+        List<BulkPointRequest> requests = new ArrayList<>();
+        for (int i = 0; i < itemsPerUser; i++) {
+            for (long userId = 0; userId < userCount; userId++) {
+                requests.add(new BulkPointRequest(userId, 1_000L, TransactionType.CHARGE));
+            }
+        }
+
+        // when
+        PointService individual = pointService(delayMillis);
+        long start = System.nanoTime();
+        for (BulkPointRequest request : requests) {
+            individual.chargeUserPoint(request.userId(), request.amount());
+        }
+        long individualMillis = (System.nanoTime() - start) / 1_000_000;
+
+        BulkPointService bulkPointService = bulkPointService(pointService(delayMillis), 64);
+        start = System.nanoTime();
+        List<BulkPointResult> results = bulkPointService.process(requests);
+        long bulkMillis = (System.nanoTime() - start) / 1_000_000;
+
+        // then
+        log.info("items={} users={} individual {}ms {} items/s / bulk {}ms {} items/s",
+                requests.size(), userCount,
+                individualMillis, requests.size() * 1_000L / Math.max(individualMillis, 1),
+                bulkMillis, requests.size() * 1_000L / Math.max(bulkMillis, 1));
+        assertTrue(results.stream().allMatch(BulkPointResult::success));
+        assertTrue(bulkMillis * 5 < individualMillis, "일괄 요청은 유저별로 동시에 처리되어야 합니다.");
+    }
+
+    // 0 ~ USER_COUNT-1 유저를 잔액 0으로 미리 등록
+    private PointService pointService(long delayMillis) {
+        FakeUserPointStore userPointStore = new FakeUserPointStore(delayMillis);
+        for (long userId = 0; userId < USER_COUNT; userId++) {
+            userPointStore.insertOrUpdate(userId, 0L);
+        }
+        return new PointServiceImpl(new FakePointHistoryStore(delayMillis), userPointStore, new UserLockRegistry(), new PointLedger(), new SimpleMeterRegistry());
+    }
+
+    private BulkPointService bulkPointService(PointService pointService, int parallelism) {
+        BulkPointService bulkPointService = new BulkPointService(pointService, parallelism, 100_000);
+        services.add(bulkPointService);
+        return bulkPointService;
+    }
+}
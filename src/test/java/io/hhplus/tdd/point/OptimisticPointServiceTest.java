@@ -0,0 +1,315 @@
+package io.hhplus.tdd.point;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import io.hhplus.tdd.database.FakePointHistoryStore;
+import io.hhplus.tdd.database.FakeUserPointStore;
+import io.hhplus.tdd.database.PendingPointHistory;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+public class OptimisticPointServiceTest {
+
+    private FakeUserPointStore userPointStore;
+    private FakePointHistoryStore pointHistoryStore;
+    private OptimisticPointService pointService;
+
+    @BeforeEach
+    void setUp() {
+        userPointStore = new FakeUserPointStore();
+        pointHistoryStore = new FakePointHistoryStore();
+        pointService = new OptimisticPointService(pointHistoryStore, userPointStore, new PointLedger(), new SimpleMeterRegistry());
+    }
+
+    @Test
+    @DisplayName(value = "Optimistic [성공] 포인트 충전과 사용 결과가 테이블과 내역에 반영된다.")
+    void 포인트_충전과_사용_결과가_테이블과_내역에_반영된다() throws Exception {
+        // given
+        long userId = 1L;
+        userPointStore.insertOrUpdate(userId, 1_000L);
+
+        // when
+        pointService.chargeUserPoint(userId, 5_000L);
+        UserPoint result = pointService.useUserPoint(userId, 2_000L);
+
+        // then
+        assertEquals(4_000L, result.point());
+        assertEquals(4_000L, pointService.findUserPoint(userId).point());
+        assertEquals(4_000L, userPointStore.selectById(userId).point());
+        assertEquals(2, pointService.findUserHistory(userId).size());
+        assertEquals(0, pointService.cellCount()); // 처리 중인 요청이 없으면 셀을 보관하지 않음
+    }
+
+    @Test
+    @DisplayName(value = "Optimistic [실패] 검증에 실패하면 잔액과 내역이 바뀌지 않는다.")
+    void 검증에_실패하면_잔액과_내역이_바뀌지_않는다() throws Exception {
+        // given
+        long userId = 1L;
+        userPointStore.insertOrUpdate(userId, 5_000L);
+
+        // when
+        Exception result_1 = assertThrows(IllegalArgumentException.class, () ->
+            pointService.chargeUserPoint(userId, 999L));
+        Exception result_2 = assertThrows(IllegalArgumentException.class, () ->
+            pointService.useUserPoint(userId, 5_001L));
+        Exception result_3 = assertThrows(IllegalArgumentException.class, () ->
+            pointService.chargeUserPoint(999L, 1_000L));
+
+        // then
+        assertEquals("포인트 충전 금액은 1_000 이상 100_000 이하여야 합니다.", result_1.getMessage());
+        assertEquals("현재 가지고 있는 포인트보다 많이 사용할 수 없습니다.", result_2.getMessage());
+        assertEquals("존재하지 않는 유저입니다.", result_3.getMessage());
+        assertEquals(5_000L, pointService.findUserPoint(userId).point());
+        assertEquals(0, pointHistoryStore.selectAllByUserId(userId).size());
+    }
+
+    @Test
+    @DisplayName(value = "Optimistic [실패] 내역 저장에 실패하면 반영한 금액을 되돌리고 테이블과 원장에도 남기지 않는다.")
+    void 내역_저장에_실패하면_반영한_금액을_되돌린다() throws Exception {
+        // given
+        long userId = 1L;
+        userPointStore.insertOrUpdate(userId, 5_000L);
+        AtomicBoolean failing = new AtomicBoolean(true);
+        PointLedger pointLedger = new PointLedger();
+        OptimisticPointService failingService = new OptimisticPointService(new FakePointHistoryStore() {
+            @Override
+            public PointHistory insert(long userId, long amount, TransactionType type, long updateMillis) {
+                if (failing.get()) throw new IllegalStateException("내역 저장 실패");
+                return super.insert(userId, amount, type, updateMillis);
+            }
+        }, userPointStore, pointLedger, new SimpleMeterRegistry());
+
+        // when
+        Exception result_1 = assertThrows(IllegalStateException.class, () -> failingService.chargeUserPoint(userId, 3_000L));
+        Exception result_2 = assertThrows(IllegalStateException.class, () -> failingService.useUserPoint(userId, 2_000L));
+        failing.set(false);
+        UserPoint charged = failingService.chargeUserPoint(userId, 1_000L);
+
+        // then
+        assertEquals("내역 저장 실패", result_1.getMessage());
+        assertEquals("내역 저장 실패", result_2.getMessage());
+        assertEquals(6_000L, charged.point());
+        assertEquals(6_000L, userPointStore.selectById(userId).point());
+        assertEquals(1_000L, pointLedger.summary(userId).totalCharged());
+        assertEquals(0L, pointLedger.summary(userId).totalUsed());
+    }
+
+    @Test
+    @DisplayName(value = "Optimistic [실패] 내역이 아직 저장되지 않은 충전 금액은 사용할 수 없고, 테이블에도 반영되지 않는다.")
+    void 내역이_저장되지_않은_충전_금액은_사용할_수_없다() throws Exception {
+        // given
+        long userId = 1L;
+        userPointStore.insertOrUpdate(userId, 1_000L);
+        CountDownLatch inserting = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        OptimisticPointService slowService = new OptimisticPointService(new FakePointHistoryStore() {
+            @Override
+            public PointHistory insert(long userId, long amount, TransactionType type, long updateMillis) {
+                if (type == TransactionType.CHARGE) {
+                    inserting.countDown();
+                    try {
+                        release.await();
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                    }
+                }
+                return super.insert(userId, amount, type, updateMillis);
+            }
+        }, userPointStore, new PointLedger(), new SimpleMeterRegistry());
+        ExecutorService executorService = Executors.newSingleThreadExecutor();
+
+        // when
+        Future<UserPoint> charge = executorService.submit(() -> slowService.chargeUserPoint(userId, 5_000L));
+        inserting.await(10, TimeUnit.SECONDS);
+        Exception result = assertThrows(IllegalArgumentException.class, () -> slowService.useUserPoint(userId, 2_000L));
+        long whilePending = userPointStore.selectById(userId).point();
+        release.countDown();
+        charge.get(10, TimeUnit.SECONDS);
+        executorService.shutdown();
+
+        // then
+        assertEquals("현재 가지고 있는 포인트보다 많이 사용할 수 없습니다.", result.getMessage());
+        assertEquals(1_000L, whilePending);
+        assertEquals(6_000L, userPointStore.selectById(userId).point());
+    }
+
+    @Test
+    @DisplayName(value = "Optimistic [성공] 이체하면 두 잔액과 두 내역이 모두 반영된다.")
+    void 이체하면_두_잔액과_두_내역이_모두_반영된다() throws Exception {
+        // given
+        userPointStore.insertOrUpdate(1L, 10_000L);
+        userPointStore.insertOrUpdate(2L, 1_000L);
+
+        // when
+        PointTransferResult result = pointService.transferUserPoint(1L, 2L, 4_000L);
+
+        // then
+        assertEquals(6_000L, result.from().point());
+        assertEquals(5_000L, result.to().point());
+        assertEquals(6_000L, userPointStore.selectById(1L).point());
+        assertEquals(5_000L, userPointStore.selectById(2L).point());
+        assertEquals(TransactionType.USE, pointService.findUserHistory(1L).get(0).type());
+        assertEquals(TransactionType.CHARGE, pointService.findUserHistory(2L).get(0).type());
+        assertEquals(0, pointService.cellCount());
+    }
+
+    @Test
+    @DisplayName(value = "Optimistic [실패] 잔액이 부족하거나 받는 유저가 없으면 두 유저 모두 변경되지 않는다.")
+    void 이체_검증에_실패하면_두_유저_모두_변경되지_않는다() throws Exception {
+        // given
+        userPointStore.insertOrUpdate(1L, 3_000L);
+        userPointStore.insertOrUpdate(2L, 1_000L);
+
+        // when
+        Exception result_1 = assertThrows(IllegalArgumentException.class, () -> pointService.transferUserPoint(1L, 2L, 5_000L));
+        Exception result_2 = assertThrows(IllegalArgumentException.class, () -> pointService.transferUserPoint(1L, 3L, 1_000L));
+        Exception result_3 = assertThrows(IllegalArgumentException.class, () -> pointService.transferUserPoint(1L, 1L, 1_000L));
+
+        // then
+        assertEquals("현재 가지고 있는 포인트보다 많이 사용할 수 없습니다.", result_1.getMessage());
+        assertEquals("존재하지 않는 유저입니다.", result_2.getMessage());
+        assertEquals("자기 자신에게는 포인트를 이체할 수 없습니다.", result_3.getMessage());
+        assertEquals(3_000L, pointService.findUserPoint(1L).point());
+        assertEquals(1_000L, pointService.findUserPoint(2L).point());
+        assertEquals(1_000L, userPointStore.selectById(2L).point());
+        assertEquals(0, pointHistoryStore.countByUserId(1L) + pointHistoryStore.countByUserId(2L));
+        assertEquals(0, pointService.cellCount());
+    }
+
+    @Test
+    @DisplayName(value = "Optimistic [실패] 이체 내역 저장에 실패하면 두 유저의 잔액을 모두 되돌린다.")
+    void 이체_내역_저장에_실패하면_두_유저의_잔액을_모두_되돌린다() throws Exception {
+        // given
+        userPointStore.insertOrUpdate(1L, 10_000L);
+        userPointStore.insertOrUpdate(2L, 1_000L);
+        PointLedger pointLedger = new PointLedger();
+        OptimisticPointService failingService = new OptimisticPointService(new FakePointHistoryStore() {
+            @Override
+            public List<PointHistory> insertAll(List<PendingPointHistory> rows) {
+                throw new IllegalStateException("내역 저장 실패");
+            }
+        }, userPointStore, pointLedger, new SimpleMeterRegistry());
+
+        // when
+        Exception result = assertThrows(IllegalStateException.class, () -> failingService.transferUserPoint(1L, 2L, 4_000L));
+
+        // then
+        assertEquals("내역 저장 실패", result.getMessage());
+        assertEquals(10_000L, failingService.findUserPoint(1L).point());
+        assertEquals(1_000L, failingService.findUserPoint(2L).point());
+        assertEquals(10_000L, userPointStore.selectById(1L).point());
+        assertEquals(1_000L, userPointStore.selectById(2L).point());
+        assertEquals(0L, pointLedger.summary(1L).totalUsed());
+        assertEquals(0L, pointLedger.summary(2L).totalCharged());
+    }
+
+    @Test
+    @DisplayName(value = "[동시성테스트] 여러 유저끼리 반대 방향으로 동시에 이체해도 교착 없이 끝나고 전체 잔액이 유지된다.")
+    void 여러_유저끼리_동시에_이체해도_전체_잔액이_유지된다() throws Exception {
+        // given
+        int userCount = 4;
+        int threadCount = 16;
+        int loopCount = 300;
+        for (long userId = 0; userId < userCount; userId++) {
+            userPointStore.insertOrUpdate(userId, 50_000L);
+        }
+        ExecutorService executorService = Executors.newFixedThreadPool(threadCount);
+        List<Future<?>> futures = new ArrayList<>();
+
+        // when
+        for (int t = 0; t < threadCount; t++) {
+            long from = t % userCount;
+            long to = (t + 1 + t / userCount % (userCount - 1)) % userCount; // from과 다른 유저, 양방향 모두 포함
+            futures.add(executorService.submit(() -> {
+                for (int i = 0; i < loopCount; i++) {
+                    try {
+                        pointService.transferUserPoint(from, to, 1_000L * (1 + i % 5));
+                    } catch (IllegalArgumentException e) {
+                        // 잔액 부족
+                    }
+                }
+            }));
+        }
+        for (Future<?> future : futures) {
+            future.get(30, TimeUnit.SECONDS);
+        }
+        executorService.shutdown();
+
+        // then
+        long total = 0;
+        long tableTotal = 0;
+        for (long userId = 0; userId < userCount; userId++) {
+            long point = pointService.findUserPoint(userId).point();
+            assertTrue(point >= 0);
+            total += point;
+            tableTotal += userPointStore.selectById(userId).point();
+        }
+        assertEquals(50_000L * userCount, total);
+        assertEquals(50_000L * userCount, tableTotal);
+        assertEquals(0, pointService.cellCount());
+    }
+
+    @Test
+    @DisplayName(value = "[동시성테스트] 여러 스레드가 동시에 충전 및 사용 요청을 하면 충돌 시 재시도해서 정합성을 유지한다.")
+    void 여러_스레드가_동시에_충전_및_사용_요청을_하면_충돌_시_재시도해서_정합성을_유지한다() throws Exception {
+        // given
+        long userId = 1L;
+        long initialAmount = 50_000L;
+        int threadCount = 64;
+        int loopCount = 200;
+        userPointStore.insertOrUpdate(userId, initialAmount);
+        AtomicInteger successfulUses = new AtomicInteger();
+
+        ExecutorService executorService = Executors.newFixedThreadPool(threadCount);
+        CountDownLatch latch = new CountDownLatch(threadCount);
+
+        // when
+        for (int t = 0; t < threadCount; t++) {
+            boolean charge = t % 2 == 0;
+            executorService.submit(() -> {
+                try {
+                    for (int i = 0; i < loopCount; i++) {
+                        if (charge) {
+                            pointService.chargeUserPoint(userId, 1_000L);
+                        } else {
+                            try {
+                                pointService.useUserPoint(userId, 1_500L);
+                                successfulUses.incrementAndGet();
+                            } catch (IllegalArgumentException e) {
+                                // 잔액 부족
+                            }
+                        }
+                    }
+                } finally {
+                    latch.countDown();
+                }
+            });
+        }
+
+        latch.await();
+        executorService.shutdown();
+
+        // then
+        long charged = 1_000L * loopCount * (threadCount / 2);
+        long expected = initialAmount + charged - 1_500L * successfulUses.get();
+        assertEquals(expected, pointService.findUserPoint(userId).point());
+        assertEquals(expected, userPointStore.selectById(userId).point()); // 저장소도 마지막 버전으로 수렴
+        assertEquals(loopCount * (threadCount / 2) + successfulUses.get(), pointService.findUserHistory(userId).size());
+        assertEquals(0, pointService.cellCount());
+    }
+}
@@ -0,0 +1,111 @@
+package io.hhplus.tdd.point;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import io.hhplus.tdd.UserLockRegistry;
+import io.hhplus.tdd.database.FakePointHistoryStore;
+import io.hhplus.tdd.database.FakeUserPointStore;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import reactor.core.scheduler.Schedulers;
+
+/**
+ * PointController(서블릿, 요청마다 스레드 하나)와 ReactivePointController 비교
+ * - 서블릿: Tomcat 기본 최대 스레드 수(200)의 풀에서 컨트롤러를 호출
+ * - 리액티브: 요청 스레드 하나가 모든 요청을 받고, Table 호출은 같은 크기(200)의 bounded elastic 스케줄러에서 실행
+ * - Table 호출마다 고정 지연, 요청마다 다른 유저
+ * - 처리량과 수락 시간 비교는 실행 환경에 따라 달라지므로 기본 test에서 제외, ./gradlew loadTest 로 실행
+ */
+@Tag("load")
+public class PointControllerReactiveBenchmarkTest {
+
+    private static final Logger log = LoggerFactory.getLogger(PointControllerReactiveBenchmarkTest.class);
+    private static final int THREADS = 200;
+    private static final int REQUEST_COUNT = 4_000;
+    private static final long DELAY_MILLIS = 20L;
+
+    @Test
+    @DisplayName(value = "[벤치마크] 리액티브 컨트롤러는 요청 스레드를 붙잡지 않고 모든 요청을 바로 받는다.")
+    void 리액티브_컨트롤러는_요청_스레드를_붙잡지_않고_모든_요청을_바로_받는다() throws Exception {
+        // given
+        FakeUserPointStore servletStore = seed(new FakeUserPointStore(DELAY_MILLIS));
+        PointLedger pointLedger = new PointLedger();
+        FakePointHistoryStore servletHistoryStore = new FakePointHistoryStore(DELAY_MILLIS);
+        PointService servletPointService = new PointServiceImpl(servletHistoryStore, servletStore, new UserLockRegistry(), pointLedger, new SimpleMeterRegistry());
+        BulkPointService bulkPointService = new BulkPointService(servletPointService, 1, 1); // 일괄 처리/내보내기는 이 테스트에서 호출하지 않음
+        PointController pointController = new PointController(servletPointService, bulkPointService,
+                new PointHistoryExporter(servletHistoryStore, new ObjectMapper()), pointLedger);
+        FakeUserPointStore reactiveStore = seed(new FakeUserPointStore(DELAY_MILLIS));
+        ReactivePointService reactivePointService = new ReactivePointService(
+                new PointServiceImpl(new FakePointHistoryStore(DELAY_MILLIS), reactiveStore, new UserLockRegistry(), new PointLedger(), new SimpleMeterRegistry()),
+                Schedulers.newBoundedElastic(THREADS, REQUEST_COUNT, "benchmark-blocking"));
+        ReactivePointController reactivePointController = new ReactivePointController(reactivePointService);
+
+        // when
+        // 서블릿: 요청 하나가 끝날 때까지 풀의 스레드 하나를 점유
+        ExecutorService tomcat = Executors.newFixedThreadPool(THREADS);
+        long start = System.nanoTime();
+        List<Future<UserPoint>> servletResponses = new ArrayList<>(REQUEST_COUNT);
+        for (long userId = 0; userId < REQUEST_COUNT; userId++) {
+            long id = userId;
+            servletResponses.add(tomcat.submit(() -> pointController.charge(id, 1_000L)));
+        }
+        for (Future<UserPoint> response : servletResponses) {
+            response.get();
+        }
+        long servletMillis = (System.nanoTime() - start) / 1_000_000;
+        tomcat.shutdown();
+        bulkPointService.shutdown();
+
+        // 리액티브: 요청 스레드(현재 스레드)는 Mono를 받자마자 다음 요청을 받음
+        start = System.nanoTime();
+        List<CompletableFuture<UserPoint>> reactiveResponses = new ArrayList<>(REQUEST_COUNT);
+        for (long userId = 0; userId < REQUEST_COUNT; userId++) {
+            reactiveResponses.add(reactivePointController.charge(userId, 1_000L).toFuture());
+        }
+        long acceptMillis = (System.nanoTime() - start) / 1_000_000;
+        CompletableFuture.allOf(reactiveResponses.toArray(CompletableFuture[]::new)).join();
+        long reactiveMillis = (System.nanoTime() - start) / 1_000_000;
+        reactivePointService.shutdown();
+
+        // then
+        log.info("requests={} servlet(요청 스레드 {}개) {}ms {} req/s / reactive(요청 스레드 1개 + 블로킹 스레드 {}개) {}ms {} req/s, 모든 요청 수락까지 {}ms",
+                REQUEST_COUNT,
+                THREADS, servletMillis, REQUEST_COUNT * 1_000L / Math.max(servletMillis, 1),
+                THREADS, reactiveMillis, REQUEST_COUNT * 1_000L / Math.max(reactiveMillis, 1), acceptMillis);
+        for (int i = 0; i < REQUEST_COUNT; i++) {
+            assertEquals(1_000L, servletResponses.get(i).get().point());
+            assertEquals(1_000L, reactiveResponses.get(i).get().point());
+        }
+        assertTrue(acceptMillis < servletMillis, "리액티브 컨트롤러는 Table 호출을 기다리지 않고 요청을 받아야 합니다.");
+    }
+
+    private FakeUserPointStore seed(FakeUserPointStore userPointStore) throws Exception {
+        ExecutorService executorService = Executors.newFixedThreadPool(THREADS);
+        List<Future<?>> futures = new ArrayList<>(REQUEST_COUNT);
+        for (long userId = 0; userId < REQUEST_COUNT; userId++) {
+            long id = userId;
+            futures.add(executorService.submit(() -> userPointStore.insertOrUpdate(id, 0L)));
+        }
+        for (Future<?> future : futures) {
+            future.get();
+        }
+        executorService.shutdown();
+        return userPointStore;
+    }
+}
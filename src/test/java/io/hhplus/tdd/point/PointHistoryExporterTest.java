@@ -0,0 +1,165 @@
+package io.hhplus.tdd.point;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryPoolMXBean;
+import java.lang.management.MemoryType;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import io.hhplus.tdd.database.ColumnarPointHistoryStore;
+import io.hhplus.tdd.database.SortDirection;
+
+public class PointHistoryExporterTest {
+
+    private static final Logger log = LoggerFactory.getLogger(PointHistoryExporterTest.class);
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    @Test
+    @DisplayName(value = "Export [성공] 유저의 모든 내역을 한 줄에 하나씩 id 순서로 내보낸다.")
+    void 유저의_모든_내역을_한_줄에_하나씩_내보낸다() throws Exception {
+        // given
+        long userId = 1L;
+        CountingPointHistoryStore pointHistoryStore = new CountingPointHistoryStore();
+        int rows = PointHistoryExporter.PAGE_SIZE * 2 + 1; // 페이지 경계를 넘도록
+        for (int i = 0; i < rows; i++) {
+            pointHistoryStore.insert(userId, 1_000L + i, TransactionType.CHARGE, i);
+            pointHistoryStore.insert(2L, 1_000L, TransactionType.USE, i);
+        }
+        PointHistoryExporter exporter = new PointHistoryExporter(pointHistoryStore, objectMapper);
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+
+        // when
+        long exported = exporter.export(userId, outputStream);
+
+        // then
+        String[] lines = outputStream.toString(StandardCharsets.UTF_8).split("\n");
+        List<PointHistory> expected = pointHistoryStore.selectAllByUserId(userId);
+        assertEquals(rows, exported);
+        assertEquals(rows, lines.length);
+        for (int i = 0; i < rows; i++) {
+            assertEquals(expected.get(i), objectMapper.readValue(lines[i], PointHistory.class));
+        }
+        assertEquals(3, pointHistoryStore.pages.get());
+    }
+
+    @Test
+    @DisplayName(value = "Export [실패] 클라이언트가 연결을 끊으면 다음 페이지를 조회하지 않고 멈춘다.")
+    void 클라이언트가_연결을_끊으면_멈춘다() throws Exception {
+        // given
+        long userId = 1L;
+        CountingPointHistoryStore pointHistoryStore = new CountingPointHistoryStore();
+        for (int i = 0; i < PointHistoryExporter.PAGE_SIZE * 100; i++) {
+            pointHistoryStore.insert(userId, 1_000L, TransactionType.CHARGE, i);
+        }
+        PointHistoryExporter exporter = new PointHistoryExporter(pointHistoryStore, objectMapper);
+        OutputStream disconnected = new OutputStream() {
+            private int flushes = 0;
+
+            @Override
+            public void write(int b) {
+            }
+
+            @Override
+            public void flush() throws IOException {
+                if (++flushes == 2) throw new IOException("Broken pipe"); // 두 번째 페이지를 보내는 중에 연결이 끊김
+            }
+        };
+
+        // when & then
+        assertThrows(IOException.class, () -> exporter.export(userId, disconnected));
+        assertEquals(2, pointHistoryStore.pages.get());
+    }
+
+    @Test
+    @DisplayName(value = "[메모리] 100만 건을 내보낼 때 스트리밍은 목록 전체를 직렬화할 때보다 최대 힙 사용량이 적다.")
+    void 스트리밍은_목록_전체를_직렬화할_때보다_최대_힙_사용량이_적다() throws Exception {
+        // given
+        long userId = 1L;
+        int rows = 1_000_000;
+        ColumnarPointHistoryStore pointHistoryStore = new ColumnarPointHistoryStore();
+        for (int i = 0; i < rows; i++) {
+            pointHistoryStore.insert(userId, 1_000L, TransactionType.CHARGE, System.currentTimeMillis());
+        }
+        PointHistoryExporter exporter = new PointHistoryExporter(pointHistoryStore, objectMapper);
+        CountingOutputStream streamed = new CountingOutputStream();
+        CountingOutputStream buffered = new CountingOutputStream();
+
+        // when
+        long streamingPeak = peakHeapDuring(() -> exporter.export(userId, streamed));
+        long listPeak = peakHeapDuring(() -> buffered.write(objectMapper.writeValueAsBytes(pointHistoryStore.selectAllByUserId(userId))));
+
+        // then
+        log.info("rows={} streaming peak={}MB ({}MB written) / list peak={}MB ({}MB written)",
+                rows, streamingPeak >> 20, streamed.bytes >> 20, listPeak >> 20, buffered.bytes >> 20);
+        assertTrue(streamingPeak < listPeak, "스트리밍은 목록 전체를 메모리에 올리지 않아야 합니다.");
+    }
+
+    // 실행 중 늘어난 힙 사용량의 최대값(풀별 최대값의 합 - 시작 시점 사용량)
+    private long peakHeapDuring(IoTask task) throws Exception {
+        List<MemoryPoolMXBean> pools = ManagementFactory.getMemoryPoolMXBeans().stream()
+                .filter(pool -> pool.getType() == MemoryType.HEAP)
+                .toList();
+        System.gc();
+        long before = 0;
+        for (MemoryPoolMXBean pool : pools) {
+            pool.resetPeakUsage();
+            before += pool.getUsage().getUsed();
+        }
+        task.run();
+        long peak = 0;
+        for (MemoryPoolMXBean pool : pools) {
+            peak += pool.getPeakUsage().getUsed();
+        }
+        return Math.max(peak - before, 0);
+    }
+
+    private interface IoTask {
+        void run() throws IOException;
+    }
+
+    /**
+     * 페이지 조회 횟수를 기록하는 저장소
+     */
+    private static class CountingPointHistoryStore extends ColumnarPointHistoryStore {
+        private final AtomicInteger pages = new AtomicInteger();
+
+        @Override
+        public List<PointHistory> selectPageByUserId(long userId, long cursor, int size, SortDirection direction) {
+            pages.incrementAndGet();
+            return super.selectPageByUserId(userId, cursor, size, direction);
+        }
+    }
+
+    /**
+     * 받은 바이트 수만 세고 버리는 출력 스트림
+     */
+    private static class CountingOutputStream extends OutputStream {
+        private long bytes;
+
+        @Override
+        public void write(int b) {
+            bytes++;
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) {
+            bytes += len;
+        }
+    }
+}
@@ -0,0 +1,90 @@
+package io.hhplus.tdd.point;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import io.hhplus.tdd.database.FakePointHistoryStore;
+import io.hhplus.tdd.database.SortDirection;
+import io.hhplus.tdd.point.PointValidationException.Reason;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+public class PointHistoryQueryTest {
+
+    private SimpleMeterRegistry meterRegistry;
+    private FakePointHistoryStore pointHistoryStore;
+    private PointHistoryQuery historyQuery;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        pointHistoryStore = new FakePointHistoryStore();
+        historyQuery = new PointHistoryQuery(pointHistoryStore, new PointRejectionCounter(meterRegistry));
+        pointHistoryStore.insert(1L, 1_000L, TransactionType.CHARGE, 100L);
+        pointHistoryStore.insert(1L, 2_000L, TransactionType.USE, 200L);
+    }
+
+    @Test
+    @DisplayName(value = "HistoryQuery [성공] 기간 안에 내역이 없는 유저는 빈 목록, 내역이 하나도 없는 유저는 존재하지 않는 유저로 거절한다.")
+    void 기간_조회는_내역이_없는_유저를_존재하지_않는_유저로_거절한다() throws Exception {
+        // when
+        List<PointHistory> inRange = historyQuery.findUserHistoryByTime(1L, 100L, 200L, null);
+        List<PointHistory> outOfRange = historyQuery.findUserHistoryByTime(1L, 300L, 400L, null);
+        PointValidationException unknown = assertThrows(PointValidationException.class, () -> historyQuery.findUserHistoryByTime(2L, 0L, Long.MAX_VALUE, null));
+
+        // then
+        assertEquals(List.of(1_000L), inRange.stream().map(PointHistory::amount).toList());
+        assertEquals(List.of(), outOfRange);
+        assertEquals(Reason.USER_NOT_FOUND, unknown.reason());
+        assertEquals("존재하지 않는 유저입니다.", unknown.getMessage());
+    }
+
+    @Test
+    @DisplayName(value = "HistoryQuery [실패] 조회 시작 시각이 종료 시각보다 늦으면 거절하고 사유별로 집계한다.")
+    void 조회_시작_시각이_종료_시각보다_늦으면_거절한다() throws Exception {
+        // when
+        PointValidationException result = assertThrows(PointValidationException.class, () -> historyQuery.findUserHistoryByTime(1L, 200L, 100L, null));
+
+        // then
+        assertEquals(Reason.INVALID_TIME_RANGE, result.reason());
+        assertEquals(1.0, meterRegistry.get("point.validation.rejected").tag("reason", "invalid-time-range").counter().count());
+    }
+
+    @Test
+    @DisplayName(value = "HistoryQuery [성공] 마지막 페이지를 넘긴 커서는 빈 페이지, 내역이 하나도 없는 유저는 존재하지 않는 유저로 거절한다.")
+    void 페이지_조회는_내역이_없는_유저를_존재하지_않는_유저로_거절한다() throws Exception {
+        // when
+        PointHistoryPage first = historyQuery.findUserHistoryPage(1L, 0L, 1, SortDirection.ASC);
+        PointHistoryPage last = historyQuery.findUserHistoryPage(1L, first.nextCursor(), 1, SortDirection.ASC);
+        PointHistoryPage beyond = historyQuery.findUserHistoryPage(1L, last.histories().get(0).id(), 1, SortDirection.ASC);
+        PointValidationException unknown = assertThrows(PointValidationException.class, () -> historyQuery.findUserHistoryPage(2L, 0L, 20, SortDirection.ASC));
+
+        // then
+        assertEquals(1, first.histories().size());
+        assertNull(last.nextCursor());
+        assertEquals(List.of(), beyond.histories());
+        assertEquals(Reason.USER_NOT_FOUND, unknown.reason());
+    }
+
+    @Test
+    @DisplayName(value = "HistoryQuery [실패] 음수 커서와 범위 밖의 페이지 크기는 거절하고 사유별로 집계한다.")
+    void 음수_커서와_범위_밖의_페이지_크기는_거절한다() throws Exception {
+        // when
+        PointValidationException cursor = assertThrows(PointValidationException.class, () -> historyQuery.findUserHistoryPage(1L, -1L, 20, SortDirection.ASC));
+        PointValidationException tooSmall = assertThrows(PointValidationException.class, () -> historyQuery.findUserHistoryPage(1L, 0L, 0, SortDirection.ASC));
+        PointValidationException tooLarge = assertThrows(PointValidationException.class,
+                () -> historyQuery.findUserHistoryPage(1L, 0L, PointHistoryPage.MAX_SIZE + 1, SortDirection.DESC));
+
+        // then
+        assertEquals(Reason.INVALID_CURSOR, cursor.reason());
+        assertEquals(Reason.INVALID_PAGE_SIZE, tooSmall.reason());
+        assertEquals(Reason.INVALID_PAGE_SIZE, tooLarge.reason());
+        assertEquals(2.0, meterRegistry.get("point.validation.rejected").tag("reason", "invalid-page-size").counter().count());
+    }
+}
@@ -0,0 +1,128 @@
+package io.hhplus.tdd.point;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import io.hhplus.tdd.UserLockRegistry;
+import io.hhplus.tdd.database.FakePointHistoryStore;
+import io.hhplus.tdd.database.FakeUserPointStore;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+public class PointLedgerTest {
+
+    private static final int USER_COUNT = 10;
+
+    private FakePointHistoryStore pointHistoryStore;
+    private PointLedger pointLedger;
+    private PointService pointService;
+
+    @BeforeEach
+    void setUp() {
+        pointHistoryStore = new FakePointHistoryStore();
+        pointLedger = new PointLedger();
+        FakeUserPointStore userPointStore = new FakeUserPointStore();
+        for (long userId = 0; userId < USER_COUNT; userId++) {
+            userPointStore.insertOrUpdate(userId, 0L);
+        }
+        pointService = new PointServiceImpl(pointHistoryStore, userPointStore, new UserLockRegistry(), pointLedger, new SimpleMeterRegistry());
+    }
+
+    @Test
+    @DisplayName(value = "Ledger [성공] 충전/사용/이체가 성공할 때마다 합계와 건수가 갱신된다.")
+    void 충전_사용_이체가_성공할_때마다_집계가_갱신된다() throws Exception {
+        // given
+        long userId = 1L;
+
+        // when
+        pointService.chargeUserPoint(userId, 50_000L);
+        pointService.useUserPoint(userId, 20_000L);
+        pointService.transferUserPoint(userId, 2L, 10_000L);
+
+        // then
+        PointSummary summary = pointLedger.summary(userId);
+        assertEquals(50_000L, summary.totalCharged());
+        assertEquals(30_000L, summary.totalUsed());
+        assertEquals(3L, summary.transactionCount());
+        assertEquals(pointHistoryStore.selectAllByUserId(userId).get(2).updateMillis(), summary.lastActivityMillis());
+        assertEquals(new PointSummary(2L, 10_000L, 0L, 1L, summary.lastActivityMillis()), pointLedger.summary(2L));
+    }
+
+    @Test
+    @DisplayName(value = "Ledger [실패] 검증에 실패한 요청은 집계에 반영되지 않는다.")
+    void 검증에_실패한_요청은_집계에_반영되지_않는다() throws Exception {
+        // given
+        long userId = 1L;
+        pointService.chargeUserPoint(userId, 5_000L);
+
+        // when
+        try {
+            pointService.useUserPoint(userId, 10_000L);
+        } catch (IllegalArgumentException ignored) {
+        }
+
+        // then
+        assertEquals(1L, pointLedger.summary(userId).transactionCount());
+        assertEquals(0L, pointLedger.summary(userId).totalUsed());
+        assertEquals(PointSummary.empty(999L), pointLedger.summary(999L));
+    }
+
+    @Test
+    @DisplayName(value = "[동시성테스트] 동시에 충전/사용/이체해도 집계는 저장된 내역을 합산한 값과 같다.")
+    void 동시에_요청해도_집계는_내역을_합산한_값과_같다() throws Exception {
+        // given
+        int threadCount = 16;
+        int requestsPerThread = 2_000;
+
+        // when
+        ExecutorService executorService = Executors.newFixedThreadPool(threadCount);
+        List<Future<?>> futures = new ArrayList<>();
+        for (int t = 0; t < threadCount; t++) {
+            futures.add(executorService.submit(() -> {
+                ThreadLocalRandom random = ThreadLocalRandom.current();
+                for (int i = 0; i < requestsPerThread; i++) {
+                    long userId = random.nextInt(USER_COUNT);
+                    long amount = 1_000L * (1 + random.nextInt(10));
+                    try {
+                        switch (random.nextInt(3)) {
+                            case 0 -> pointService.chargeUserPoint(userId, amount);
+                            case 1 -> pointService.useUserPoint(userId, amount);
+                            default -> pointService.transferUserPoint(userId, (userId + 1) % USER_COUNT, amount);
+                        }
+                    } catch (IllegalArgumentException ignored) {
+                        // 잔액 부족
+                    }
+                }
+            }));
+        }
+        for (Future<?> future : futures) {
+            future.get(30, TimeUnit.SECONDS);
+        }
+        executorService.shutdown();
+
+        // then
+        for (long userId = 0; userId < USER_COUNT; userId++) {
+            long charged = 0;
+            long used = 0;
+            long lastActivity = 0;
+            List<PointHistory> histories = pointHistoryStore.selectAllByUserId(userId);
+            for (PointHistory pointHistory : histories) {
+                if (pointHistory.type() == TransactionType.CHARGE) charged += pointHistory.amount();
+                else used += pointHistory.amount();
+                lastActivity = Math.max(lastActivity, pointHistory.updateMillis());
+            }
+            assertEquals(new PointSummary(userId, charged, used, histories.size(), lastActivity), pointLedger.summary(userId));
+            assertEquals(charged - used, pointService.findUserPoint(userId).point());
+        }
+    }
+}
@@ -11,13 +11,13 @@ import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
 
-import io.hhplus.tdd.database.UserPointTable;
+import io.hhplus.tdd.database.UserPointStore;
 
 @SpringBootTest
 public class PointServiceConcurrcyTest {
     
     @Autowired private PointService pointService;
-    @Autowired private UserPointTable userPointTable;
+    @Autowired private UserPointStore userPointStore;
 
     @Test
     @DisplayName(value = "[동시성테스트] 여러 스레드가 동시에 포인트 충전을 요청하면 데이터 정합성을 유지한다.")
@@ -29,7 +29,7 @@ public class PointServiceConcurrcyTest {
         long chargeAmount = 1_000L;
         int threadCount = 20;
 
-        userPointTable.insertOrUpdate(userId, amount);
+        userPointStore.insertOrUpdate(userId, amount);
 
         ExecutorService executorService = Executors.newFixedThreadPool(threadCount); // 스레드 풀 생성, 스레드 풀은 50개의 스레드를 동시에 생성
         CountDownLatch latch = new CountDownLatch(threadCount); // 스레드 동기화 도구
@@ -62,7 +62,7 @@ public class PointServiceConcurrcyTest {
         long useAmount = 3_000L;
         int threadCount = 20;
     
-        userPointTable.insertOrUpdate(userId, amount);
+        userPointStore.insertOrUpdate(userId, amount);
     
         ExecutorService executorService = Executors.newFixedThreadPool(threadCount);
         CountDownLatch latch = new CountDownLatch(threadCount);
@@ -99,7 +99,7 @@ public class PointServiceConcurrcyTest {
         int chargeThreadCount = threadCount / 2; // 절반은 충전 요청
         int useThreadCount = threadCount / 2;    // 나머지 절반은 사용 요청
     
-        userPointTable.insertOrUpdate(userId, initialAmount); // 초기 사용자 잔고 설정
+        userPointStore.insertOrUpdate(userId, initialAmount); // 초기 사용자 잔고 설정
     
         ExecutorService executorService = Executors.newFixedThreadPool(threadCount);
         CountDownLatch latch = new CountDownLatch(threadCount);
@@ -0,0 +1,106 @@
+package io.hhplus.tdd.point;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import io.hhplus.tdd.UserLockRegistry;
+import io.hhplus.tdd.database.FakePointHistoryStore;
+import io.hhplus.tdd.database.FakeUserPointStore;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+/**
+ * 실행 모드별 처리량 비교
+ * - 테이블 호출마다 1ms 고정 지연 (실제 테이블의 무작위 지연 대신)
+ * - 스레드 수와 관계없이 전체 요청 수는 같음
+ * - 처리량은 실행 환경에 따라 달라지므로 기본 test에서 제외, ./gradlew loadTest 로 실행
+ */
+@Tag("load")
+public class PointServiceContentionBenchmarkTest {
+
+    private static final Logger log = LoggerFactory.getLogger(PointServiceContentionBenchmarkTest.class);
+    private static final long DELAY_MILLIS = 1L;
+    private static final int TOTAL_REQUESTS = 640;
+
+    @Test
+    @DisplayName(value = "[벤치마크] 단일 유저 경합에서 락 모드와 낙관적 모드, 액터 모드를 1, 8, 64 스레드로 비교한다.")
+    void 단일_유저_경합에서_실행_모드별_처리량을_비교한다() throws Exception {
+        for (int threadCount : new int[] {1, 8, 64}) {
+            FakeUserPointStore lockStore = new FakeUserPointStore(DELAY_MILLIS);
+            PointService lockService = new PointServiceImpl(new FakePointHistoryStore(DELAY_MILLIS), lockStore, new UserLockRegistry(), new PointLedger(), new SimpleMeterRegistry());
+            double lockOps = run(lockService, lockStore, threadCount, 1);
+
+            FakeUserPointStore optimisticStore = new FakeUserPointStore(DELAY_MILLIS);
+            OptimisticPointService optimisticService = new OptimisticPointService(new FakePointHistoryStore(DELAY_MILLIS), optimisticStore, new PointLedger(), new SimpleMeterRegistry());
+            double optimisticOps = run(optimisticService, optimisticStore, threadCount, 1);
+
+            FakeUserPointStore actorStore = new FakeUserPointStore(DELAY_MILLIS);
+            ActorPointService actorService = new ActorPointService(new FakePointHistoryStore(DELAY_MILLIS), actorStore, new PointLedger(), 64, 10_000, new SimpleMeterRegistry());
+            double actorOps = run(actorService, actorStore, threadCount, 1);
+            actorService.shutdown();
+
+            log.info("single user threads={} lock={} ops/s optimistic={} ops/s (CAS 재시도 {}회) actor={} ops/s",
+                    threadCount, Math.round(lockOps), Math.round(optimisticOps), optimisticService.conflictCount(), Math.round(actorOps));
+        }
+    }
+
+    @Test
+    @DisplayName(value = "[벤치마크] 여러 유저에게 요청이 분산될 때 락 모드와 액터 모드를 비교한다.")
+    void 여러_유저에게_요청이_분산될_때_락_모드와_액터_모드를_비교한다() throws Exception {
+        int userCount = 256;
+        for (int threadCount : new int[] {8, 64}) {
+            FakeUserPointStore lockStore = new FakeUserPointStore(DELAY_MILLIS);
+            PointService lockService = new PointServiceImpl(new FakePointHistoryStore(DELAY_MILLIS), lockStore, new UserLockRegistry(), new PointLedger(), new SimpleMeterRegistry());
+            double lockOps = run(lockService, lockStore, threadCount, userCount);
+
+            FakeUserPointStore actorStore = new FakeUserPointStore(DELAY_MILLIS);
+            ActorPointService actorService = new ActorPointService(new FakePointHistoryStore(DELAY_MILLIS), actorStore, new PointLedger(), 64, 10_000, new SimpleMeterRegistry());
+            double actorOps = run(actorService, actorStore, threadCount, userCount);
+            actorService.shutdown();
+
+            log.info("{} users threads={} lock={} ops/s actor={} ops/s", userCount, threadCount, Math.round(lockOps), Math.round(actorOps));
+        }
+    }
+
+    private double run(PointService pointService, FakeUserPointStore userPointStore, int threadCount, int userCount) throws Exception {
+        int loopCount = TOTAL_REQUESTS / threadCount;
+        for (long userId = 0; userId < userCount; userId++) {
+            userPointStore.insertOrUpdate(userId, 0L);
+        }
+
+        ExecutorService executorService = Executors.newFixedThreadPool(threadCount);
+        CountDownLatch latch = new CountDownLatch(threadCount);
+
+        long start = System.nanoTime();
+        for (int t = 0; t < threadCount; t++) {
+            int offset = t * loopCount;
+            executorService.submit(() -> {
+                try {
+                    for (int i = 0; i < loopCount; i++) {
+                        pointService.chargeUserPoint((offset + i) % userCount, 1_000L);
+                    }
+                } finally {
+                    latch.countDown();
+                }
+            });
+        }
+        latch.await();
+        long elapsed = System.nanoTime() - start;
+        executorService.shutdown();
+
+        long total = 0;
+        for (long userId = 0; userId < userCount; userId++) {
+            total += pointService.findUserPoint(userId).point();
+        }
+        assertEquals(1_000L * TOTAL_REQUESTS, total);
+        return TOTAL_REQUESTS / (elapsed / 1_000_000_000.0);
+    }
+}
@@ -14,25 +14,33 @@ import static org.mockito.Mockito.when;
 import java.util.Collections;
 import java.util.List;
 
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
-import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
 import io.hhplus.tdd.LockRegistry;
-import io.hhplus.tdd.database.PointHistoryTable;
-import io.hhplus.tdd.database.UserPointTable;
+import io.hhplus.tdd.database.PointHistoryStore;
+import io.hhplus.tdd.database.UserPointStore;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 
 @ExtendWith(MockitoExtension.class) // Mockito 확장을 통해 Mockito가 테스트에서 사용할 목업 객체를 주입할 수 있도록 설정
 public class PointServiceImplTest {
     
-    @Mock private PointHistoryTable pointHistoryTable;
-    @Mock private UserPointTable userPointTable;
+    @Mock private PointHistoryStore pointHistoryStore;
+    @Mock private UserPointStore userPointStore;
     @Mock private LockRegistry lockRegistry;
+    @Mock private PointLedger pointLedger;
 
-    @InjectMocks private PointServiceImpl pointServiceImpl; // 목 객체를 주입 받을 구현체, 실제 테스트 대상
+    private PointServiceImpl pointServiceImpl; // 목 객체를 주입 받을 구현체, 실제 테스트 대상
+
+    // 생성자가 둘(지표 없음 / MeterRegistry)이라 @InjectMocks는 가장 큰 생성자에 null을 넘기므로 직접 생성
+    @BeforeEach
+    void setUp() {
+        pointServiceImpl = new PointServiceImpl(pointHistoryStore, userPointStore, lockRegistry, pointLedger, new SimpleMeterRegistry());
+    }
 
     @Test
     @DisplayName(value = "Impl [성공] 포인트 충전에 성공한다.")
@@ -46,9 +54,9 @@ public class PointServiceImplTest {
         UserPoint updatedPoint = new UserPoint(userId, currentAmount + chargeAmount, System.currentTimeMillis());
 
         // when
-        when(userPointTable.selectById(eq(userId)))
+        when(userPointStore.selectById(eq(userId)))
             .thenReturn(userPoint);
-        when(userPointTable.insertOrUpdate(eq(userId), eq(currentAmount + chargeAmount)))
+        when(userPointStore.insertOrUpdate(eq(userId), eq(currentAmount + chargeAmount)))
             .thenReturn(updatedPoint);
         UserPoint result = pointServiceImpl.chargeUserPoint(userId, chargeAmount);
 
@@ -56,9 +64,9 @@ public class PointServiceImplTest {
         assertNotNull(result);
         assertEquals(currentAmount + chargeAmount, result.point());
 
-        verify(userPointTable, times(1)).selectById(eq(userId));
-        verify(userPointTable).insertOrUpdate(eq(userId), eq(currentAmount + chargeAmount));
-        verify(pointHistoryTable).insert(eq(userId), eq(chargeAmount), eq(TransactionType.CHARGE), anyLong());
+        verify(userPointStore, times(1)).selectById(eq(userId));
+        verify(userPointStore).insertOrUpdate(eq(userId), eq(currentAmount + chargeAmount));
+        verify(pointHistoryStore).insert(eq(userId), eq(chargeAmount), eq(TransactionType.CHARGE), anyLong());
     }
 
     @Test
@@ -69,17 +77,17 @@ public class PointServiceImplTest {
         long amount = 1_000L;
 
         // when
-        when(userPointTable.selectById(userId))
+        when(userPointStore.selectById(userId))
             .thenReturn(null);
         Exception result = assertThrows(IllegalArgumentException.class, () -> 
             pointServiceImpl.chargeUserPoint(userId, amount));
 
         // then
         assertEquals("존재하지 않는 유저입니다.", result.getMessage());
-        assertEquals(IllegalArgumentException.class, result.getClass());
+        assertEquals(PointValidationException.class, result.getClass());
 
-        verify(userPointTable, never()).insertOrUpdate(anyLong(), anyLong());
-        verify(pointHistoryTable, never()).insert(anyLong(), anyLong(), any(), anyLong());
+        verify(userPointStore, never()).insertOrUpdate(anyLong(), anyLong());
+        verify(pointHistoryStore, never()).insert(anyLong(), anyLong(), any(), anyLong());
     }
 
     @Test
@@ -98,11 +106,11 @@ public class PointServiceImplTest {
         UserPoint userPoint_3 = new UserPoint(userId_3, amount_3, System.currentTimeMillis());
 
         // when
-        when(userPointTable.selectById(eq(userId_1)))
+        when(userPointStore.selectById(eq(userId_1)))
             .thenReturn(userPoint_1);
-        when(userPointTable.selectById(eq(userId_2)))
+        when(userPointStore.selectById(eq(userId_2)))
             .thenReturn(userPoint_2);
-        when(userPointTable.selectById(eq(userId_3)))
+        when(userPointStore.selectById(eq(userId_3)))
             .thenReturn(userPoint_3);
 
         Exception result_1 = assertThrows(IllegalArgumentException.class, () -> 
@@ -114,14 +122,14 @@ public class PointServiceImplTest {
 
         // then
         assertEquals("포인트 충전 금액은 1_000 이상 100_000 이하여야 합니다.", result_1.getMessage());
-        assertEquals(IllegalArgumentException.class, result_1.getClass());
+        assertEquals(PointValidationException.class, result_1.getClass());
         assertEquals("포인트 충전 금액은 1_000 이상 100_000 이하여야 합니다.", result_2.getMessage());
-        assertEquals(IllegalArgumentException.class, result_2.getClass());
+        assertEquals(PointValidationException.class, result_2.getClass());
         assertEquals("포인트 충전 금액은 1_000 이상 100_000 이하여야 합니다.", result_3.getMessage());
-        assertEquals(IllegalArgumentException.class, result_3.getClass());
+        assertEquals(PointValidationException.class, result_3.getClass());
 
-        verify(userPointTable, never()).insertOrUpdate(anyLong(), anyLong());
-        verify(pointHistoryTable, never()).insert(anyLong(), anyLong(), any(), anyLong());
+        verify(userPointStore, never()).insertOrUpdate(anyLong(), anyLong());
+        verify(pointHistoryStore, never()).insert(anyLong(), anyLong(), any(), anyLong());
     }
 
     @Test
@@ -137,9 +145,9 @@ public class PointServiceImplTest {
         UserPoint userPoint_2 = new UserPoint(userId_2, amount_2, System.currentTimeMillis());
 
         // when
-        when(userPointTable.selectById(eq(userId_1)))
+        when(userPointStore.selectById(eq(userId_1)))
             .thenReturn(userPoint_1);
-        when(userPointTable.selectById(eq(userId_2)))
+        when(userPointStore.selectById(eq(userId_2)))
             .thenReturn(userPoint_2);
 
         Exception result_1 = assertThrows(IllegalArgumentException.class, () -> 
@@ -149,12 +157,12 @@ public class PointServiceImplTest {
 
         // then
         assertEquals("포인트 충전 금액은 1_000 이상 100_000 이하여야 합니다.", result_1.getMessage());
-        assertEquals(IllegalArgumentException.class, result_1.getClass());
+        assertEquals(PointValidationException.class, result_1.getClass());
         assertEquals("포인트 충전 금액은 1_000 이상 100_000 이하여야 합니다.", result_2.getMessage());
-        assertEquals(IllegalArgumentException.class, result_2.getClass());
+        assertEquals(PointValidationException.class, result_2.getClass());
 
-        verify(userPointTable, never()).insertOrUpdate(anyLong(), anyLong());
-        verify(pointHistoryTable, never()).insert(anyLong(), anyLong(), any(), anyLong());
+        verify(userPointStore, never()).insertOrUpdate(anyLong(), anyLong());
+        verify(pointHistoryStore, never()).insert(anyLong(), anyLong(), any(), anyLong());
     }
 
     @Test
@@ -167,14 +175,14 @@ public class PointServiceImplTest {
         UserPoint userPoint = new UserPoint(userId, amount, System.currentTimeMillis());
 
         // when
-        when(userPointTable.selectById(userId))
+        when(userPointStore.selectById(userId))
             .thenReturn(userPoint);
         UserPoint result = pointServiceImpl.findUserPoint(userId);
 
         // then
         assertEquals(1L, result.id());
         assertEquals(1_000L, result.point());
-        verify(userPointTable, times(1)).selectById(userId);
+        verify(userPointStore, times(1)).selectById(userId);
     }
 
     @Test
@@ -184,16 +192,16 @@ public class PointServiceImplTest {
         long userId = 999L;
 
         // when
-        when(userPointTable.selectById(userId))
+        when(userPointStore.selectById(userId))
             .thenReturn(null);
         Exception result = assertThrows(IllegalArgumentException.class, () ->
             pointServiceImpl.findUserPoint(userId));
 
         // then
         assertEquals("존재하지 않는 유저입니다.", result.getMessage());
-        assertEquals(IllegalArgumentException.class, result.getClass());
+        assertEquals(PointValidationException.class, result.getClass());
 
-        verify(userPointTable, times(1)).selectById(userId);
+        verify(userPointStore, times(1)).selectById(userId);
     }
 
     @Test
@@ -210,7 +218,7 @@ public class PointServiceImplTest {
         );
     
         // when
-        when(pointHistoryTable.selectAllByUserId(userId))
+        when(pointHistoryStore.selectAllByUserId(userId))
             .thenReturn(pointHistoryList);
         List<PointHistory> result = pointServiceImpl.findUserHistory(userId);
         
@@ -220,7 +228,7 @@ public class PointServiceImplTest {
         assertEquals(5_000L, result.get(4).amount());
         assertEquals(TransactionType.CHARGE, result.get(2).type());
 
-        verify(pointHistoryTable, times(1)).selectAllByUserId(userId);
+        verify(pointHistoryStore, times(1)).selectAllByUserId(userId);
     }
 
     @Test
@@ -230,16 +238,16 @@ public class PointServiceImplTest {
         long userId = 999L;
     
         // when
-        when(pointHistoryTable.selectAllByUserId(userId))
+        when(pointHistoryStore.selectAllByUserId(userId))
             .thenReturn(Collections.emptyList());
         Exception result = assertThrows(IllegalArgumentException.class, () ->
             pointServiceImpl.findUserHistory(userId));
         
         // then
         assertEquals("존재하지 않는 유저입니다.", result.getMessage());
-        assertEquals(IllegalArgumentException.class, result.getClass());
+        assertEquals(PointValidationException.class, result.getClass());
 
-        verify(pointHistoryTable, times(1)).selectAllByUserId(userId);
+        verify(pointHistoryStore, times(1)).selectAllByUserId(userId);
     }
 
     @Test
@@ -253,7 +261,7 @@ public class PointServiceImplTest {
         UserPoint userPoint_1 = new UserPoint(userId, amount_1, System.currentTimeMillis());
     
         // when
-        when(userPointTable.selectById(userId))
+        when(userPointStore.selectById(userId))
             .thenReturn(userPoint_1);
         UserPoint result = pointServiceImpl.useUserPoint(userId, useAmount_1);
     
@@ -261,7 +269,7 @@ public class PointServiceImplTest {
         assertNotNull(result);
         assertEquals(1_000L, result.point());
 
-        verify(userPointTable, times(1)).selectById(userId);
+        verify(userPointStore, times(1)).selectById(userId);
     }
 
     @Test
@@ -272,16 +280,16 @@ public class PointServiceImplTest {
         long amount = 1_000L;
     
         // when
-        when(userPointTable.selectById(userId))
+        when(userPointStore.selectById(userId))
             .thenReturn(null);
         Exception result = assertThrows(IllegalArgumentException.class, () ->
             pointServiceImpl.useUserPoint(userId, amount));
         
         // then
         assertEquals("존재하지 않는 유저입니다.", result.getMessage());
-        assertEquals(IllegalArgumentException.class, result.getClass());
+        assertEquals(PointValidationException.class, result.getClass());
         
-        verify(userPointTable, times(1)).selectById(userId);
+        verify(userPointStore, times(1)).selectById(userId);
     }
 
     @Test
@@ -304,9 +312,9 @@ public class PointServiceImplTest {
         UserPoint userPoint_3 = new UserPoint(userId_3, amount_3, System.currentTimeMillis());
     
         // when
-        when(userPointTable.selectById(userId_1)).thenReturn(userPoint_1);
-        when(userPointTable.selectById(userId_2)).thenReturn(userPoint_2);
-        when(userPointTable.selectById(userId_3)).thenReturn(userPoint_3);
+        when(userPointStore.selectById(userId_1)).thenReturn(userPoint_1);
+        when(userPointStore.selectById(userId_2)).thenReturn(userPoint_2);
+        when(userPointStore.selectById(userId_3)).thenReturn(userPoint_3);
 
         Exception result_1 = assertThrows(IllegalArgumentException.class, () ->
             pointServiceImpl.useUserPoint(userId_1, useAmount_1));
@@ -320,14 +328,14 @@ public class PointServiceImplTest {
         assertNotNull(result_2);
         assertNotNull(result_3);
         assertEquals("포인트 사용 금액은 1_000 이상 500_000 이하여야 합니다.", result_1.getMessage());
-        assertEquals(IllegalArgumentException.class, result_1.getClass());
+        assertEquals(PointValidationException.class, result_1.getClass());
         assertEquals("포인트 사용 금액은 1_000 이상 500_000 이하여야 합니다.", result_2.getMessage());
-        assertEquals(IllegalArgumentException.class, result_2.getClass());
+        assertEquals(PointValidationException.class, result_2.getClass());
         assertEquals("포인트 사용 금액은 1_000 이상 500_000 이하여야 합니다.", result_3.getMessage());
-        assertEquals(IllegalArgumentException.class, result_3.getClass());
+        assertEquals(PointValidationException.class, result_3.getClass());
 
-        verify(userPointTable, times(3)).selectById(anyLong());
-        verify(pointHistoryTable, never()).selectAllByUserId(anyLong());
+        verify(userPointStore, times(3)).selectById(anyLong());
+        verify(pointHistoryStore, never()).selectAllByUserId(anyLong());
     }
 
     @Test
@@ -346,8 +354,8 @@ public class PointServiceImplTest {
         UserPoint userPoint_2 = new UserPoint(userId_2, amount_2, System.currentTimeMillis());
     
         // when
-        when(userPointTable.selectById(userId_1)).thenReturn(userPoint_1);
-        when(userPointTable.selectById(userId_2)).thenReturn(userPoint_2);
+        when(userPointStore.selectById(userId_1)).thenReturn(userPoint_1);
+        when(userPointStore.selectById(userId_2)).thenReturn(userPoint_2);
 
         Exception result_1 = assertThrows(IllegalArgumentException.class, () ->
             pointServiceImpl.useUserPoint(userId_1, useAmount_1));
@@ -358,12 +366,12 @@ public class PointServiceImplTest {
         assertNotNull(result_1);
         assertNotNull(result_2);
         assertEquals("포인트 사용 금액은 1_000 이상 500_000 이하여야 합니다.", result_1.getMessage());
-        assertEquals(IllegalArgumentException.class, result_1.getClass());
+        assertEquals(PointValidationException.class, result_1.getClass());
         assertEquals("포인트 사용 금액은 1_000 이상 500_000 이하여야 합니다.", result_2.getMessage());
-        assertEquals(IllegalArgumentException.class, result_2.getClass());
+        assertEquals(PointValidationException.class, result_2.getClass());
 
-        verify(userPointTable, times(2)).selectById(anyLong());
-        verify(pointHistoryTable, never()).selectAllByUserId(anyLong());
+        verify(userPointStore, times(2)).selectById(anyLong());
+        verify(pointHistoryStore, never()).selectAllByUserId(anyLong());
     }
 
     @Test
@@ -382,8 +390,8 @@ public class PointServiceImplTest {
         UserPoint userPoint_2 = new UserPoint(userId_2, amount_2, System.currentTimeMillis());
     
         // when
-        when(userPointTable.selectById(userId_1)).thenReturn(userPoint_1);
-        when(userPointTable.selectById(userId_2)).thenReturn(userPoint_2);
+        when(userPointStore.selectById(userId_1)).thenReturn(userPoint_1);
+        when(userPointStore.selectById(userId_2)).thenReturn(userPoint_2);
 
         Exception result_1 = assertThrows(IllegalArgumentException.class, () -> 
             pointServiceImpl.useUserPoint(userId_1, useAmount_1));
@@ -392,11 +400,11 @@ public class PointServiceImplTest {
     
         // then
         assertEquals("현재 가지고 있는 포인트보다 많이 사용할 수 없습니다.", result_1.getMessage());
-        assertEquals(IllegalArgumentException.class, result_1.getClass());
+        assertEquals(PointValidationException.class, result_1.getClass());
         assertEquals("현재 가지고 있는 포인트보다 많이 사용할 수 없습니다.", result_2.getMessage());
-        assertEquals(IllegalArgumentException.class, result_2.getClass());
+        assertEquals(PointValidationException.class, result_2.getClass());
 
-        verify(userPointTable, times(2)).selectById(anyLong());
-        verify(pointHistoryTable, never()).insert(anyLong(), anyLong(), any(), anyLong());
+        verify(userPointStore, times(2)).selectById(anyLong());
+        verify(pointHistoryStore, never()).insert(anyLong(), anyLong(), any(), anyLong());
     }
 }
@@ -15,8 +15,14 @@ import org.springframework.test.context.junit.jupiter.SpringExtension;
 
 import io.hhplus.tdd.LockRegistry;
 import io.hhplus.tdd.TddApplication;
+import io.hhplus.tdd.UserLockRegistry;
+import io.hhplus.tdd.database.IndexedPointHistoryStore;
+import io.hhplus.tdd.database.PointHistoryStore;
 import io.hhplus.tdd.database.PointHistoryTable;
+import io.hhplus.tdd.database.TableUserPointStore;
+import io.hhplus.tdd.database.UserPointStore;
 import io.hhplus.tdd.database.UserPointTable;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 
 @ExtendWith(SpringExtension.class) // Mockito 확장을 통해 Mockito가 테스트에서 사용할 목업 객체를 주입할 수 있도록 설정
 @SpringBootTest(classes = TddApplication.class) // Spring 컨텍스트를 로드해서 통합 테스트 수행
@@ -24,7 +30,9 @@ public class PointServiceIntegrationTest {
     
     private PointService pointService;
     private UserPointTable userPointTable;
+    private UserPointStore userPointStore;
     private PointHistoryTable pointHistoryTable;
+    private PointHistoryStore pointHistoryStore;
     private LockRegistry lockRegistry;
 
     /**
@@ -41,9 +49,11 @@ public class PointServiceIntegrationTest {
     void setUp() {
         // @AutoWired -> 생성자 주입
         userPointTable = new UserPointTable();
+        userPointStore = new TableUserPointStore(userPointTable);
         pointHistoryTable = new PointHistoryTable();
-        lockRegistry = new LockRegistry();
-        pointService = new PointServiceImpl(pointHistoryTable, userPointTable, lockRegistry);
+        pointHistoryStore = new IndexedPointHistoryStore(pointHistoryTable);
+        lockRegistry = new UserLockRegistry();
+        pointService = new PointServiceImpl(pointHistoryStore, userPointStore, lockRegistry, new PointLedger(), new SimpleMeterRegistry());
     }
 
     @Test
@@ -88,7 +98,7 @@ public class PointServiceIntegrationTest {
     
         // then
         assertEquals("존재하지 않는 유저입니다.", result.getMessage());
-        assertEquals(IllegalArgumentException.class, result.getClass());
+        assertEquals(PointValidationException.class, result.getClass());
     }
 
     @Test
@@ -107,7 +117,7 @@ public class PointServiceIntegrationTest {
     
         // then
         assertEquals("포인트 충전 금액은 1_000 이상 100_000 이하여야 합니다.", result.getMessage());
-        assertEquals(IllegalArgumentException.class, result.getClass());
+        assertEquals(PointValidationException.class, result.getClass());
     }
 
     @Test
@@ -126,7 +136,7 @@ public class PointServiceIntegrationTest {
     
         // then
         assertEquals("포인트 충전 금액은 1_000 이상 100_000 이하여야 합니다.", result.getMessage());
-        assertEquals(IllegalArgumentException.class, result.getClass());
+        assertEquals(PointValidationException.class, result.getClass());
     }
     
     @Test
@@ -162,7 +172,7 @@ public class PointServiceIntegrationTest {
     
         // then
         assertEquals("존재하지 않는 유저입니다.", result.getMessage());
-        assertEquals(IllegalArgumentException.class, result.getClass());
+        assertEquals(PointValidationException.class, result.getClass());
     }
 
     @Test
@@ -171,11 +181,11 @@ public class PointServiceIntegrationTest {
         // given
         long userId = 1L;
 
-        pointHistoryTable.insert(userId, 1_000L, TransactionType.CHARGE, System.currentTimeMillis());
-        pointHistoryTable.insert(userId, 1_000L, TransactionType.USE, System.currentTimeMillis());
-        pointHistoryTable.insert(userId, 5_000L, TransactionType.CHARGE, System.currentTimeMillis());
-        pointHistoryTable.insert(userId, 3_000L, TransactionType.CHARGE, System.currentTimeMillis());
-        pointHistoryTable.insert(userId, 8_000L, TransactionType.USE, System.currentTimeMillis());
+        pointHistoryStore.insert(userId, 1_000L, TransactionType.CHARGE, System.currentTimeMillis());
+        pointHistoryStore.insert(userId, 1_000L, TransactionType.USE, System.currentTimeMillis());
+        pointHistoryStore.insert(userId, 5_000L, TransactionType.CHARGE, System.currentTimeMillis());
+        pointHistoryStore.insert(userId, 3_000L, TransactionType.CHARGE, System.currentTimeMillis());
+        pointHistoryStore.insert(userId, 8_000L, TransactionType.USE, System.currentTimeMillis());
     
         // when
         List<PointHistory> result = pointService.findUserHistory(userId);
@@ -207,7 +217,7 @@ public class PointServiceIntegrationTest {
     
         // then
         assertEquals("존재하지 않는 유저입니다.", result.getMessage());
-        assertEquals(IllegalArgumentException.class, result.getClass());
+        assertEquals(PointValidationException.class, result.getClass());
     }
 
     @Test
@@ -252,7 +262,7 @@ public class PointServiceIntegrationTest {
     
         // then
         assertEquals("존재하지 않는 유저입니다.", result.getMessage());
-        assertEquals(IllegalArgumentException.class, result.getClass());
+        assertEquals(PointValidationException.class, result.getClass());
     }
 
     @Test
@@ -274,9 +284,9 @@ public class PointServiceIntegrationTest {
     
         // then
         assertEquals("포인트 사용 금액은 1_000 이상 500_000 이하여야 합니다.", result_1.getMessage());
-        assertEquals(IllegalArgumentException.class, result_1.getClass());
+        assertEquals(PointValidationException.class, result_1.getClass());
         assertEquals("포인트 사용 금액은 1_000 이상 500_000 이하여야 합니다.", result_2.getMessage());
-        assertEquals(IllegalArgumentException.class, result_2.getClass());
+        assertEquals(PointValidationException.class, result_2.getClass());
     }
 
     @Test
@@ -295,7 +305,7 @@ public class PointServiceIntegrationTest {
     
         // then
         assertEquals("포인트 사용 금액은 1_000 이상 500_000 이하여야 합니다.", result.getMessage());
-        assertEquals(IllegalArgumentException.class, result.getClass());
+        assertEquals(PointValidationException.class, result.getClass());
     }
 
     @Test
@@ -314,7 +324,7 @@ public class PointServiceIntegrationTest {
     
         // then
         assertEquals("현재 가지고 있는 포인트보다 많이 사용할 수 없습니다.", result.getMessage());
-        assertEquals(IllegalArgumentException.class, result.getClass());
+        assertEquals(PointValidationException.class, result.getClass());
         
         UserPoint PSuserPoint = userPointTable.selectById(userId);
         assertEquals(currentAmount, PSuserPoint.point());
@@ -0,0 +1,124 @@
+package io.hhplus.tdd.point;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import io.hhplus.tdd.UserLockRegistry;
+import io.hhplus.tdd.database.FakePointHistoryStore;
+import io.hhplus.tdd.database.FakeUserPointStore;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+public class PointServiceMetricsTest {
+
+    @Test
+    @DisplayName(value = "Metrics [성공] 충전/사용/이체마다 락 대기 시간과 점유 시간이 기록되고, 락 개수가 게이지로 보인다.")
+    void 락_대기_시간과_점유_시간이_기록된다() throws Exception {
+        // given
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        FakeUserPointStore userPointStore = new FakeUserPointStore(20L);
+        userPointStore.insertOrUpdate(0L, 100_000L);
+        userPointStore.insertOrUpdate(1L, 100_000L);
+        UserLockRegistry lockRegistry = new UserLockRegistry();
+        PointService pointService = new PointServiceImpl(new FakePointHistoryStore(), userPointStore, lockRegistry, new PointLedger(), meterRegistry);
+
+        // when
+        // 두 스레드가 같은 유저에 충전 -> 나중 스레드는 앞 스레드가 락을 놓을 때까지 (저장소 지연 2번 = 40ms 이상) 대기
+        ExecutorService executorService = Executors.newFixedThreadPool(2);
+        CountDownLatch start = new CountDownLatch(1);
+        Future<?> first = executorService.submit(() -> {
+            start.await();
+            return pointService.chargeUserPoint(0L, 1_000L);
+        });
+        Future<?> second = executorService.submit(() -> {
+            start.await();
+            return pointService.chargeUserPoint(0L, 1_000L);
+        });
+        start.countDown();
+        first.get(10, TimeUnit.SECONDS);
+        second.get(10, TimeUnit.SECONDS);
+        executorService.shutdown();
+        pointService.useUserPoint(0L, 1_000L);
+        pointService.transferUserPoint(0L, 1L, 1_000L);
+
+        // then
+        assertEquals(2L, meterRegistry.get("point.lock.wait").tag("operation", "charge").timer().count());
+        assertEquals(2L, meterRegistry.get("point.lock.hold").tag("operation", "charge").timer().count());
+        assertTrue(meterRegistry.get("point.lock.wait").tag("operation", "charge").timer().max(TimeUnit.MILLISECONDS) >= 30);
+        assertTrue(meterRegistry.get("point.lock.hold").tag("operation", "charge").timer().max(TimeUnit.MILLISECONDS) >= 40);
+        assertEquals(1L, meterRegistry.get("point.lock.wait").tag("operation", "use").timer().count());
+        assertEquals(1L, meterRegistry.get("point.lock.hold").tag("operation", "transfer").timer().count());
+        assertEquals(0.0, meterRegistry.get("point.lock.registry.size").gauge().value()); // 모두 해제되어 락이 남지 않음
+    }
+
+    @Test
+    @DisplayName(value = "Metrics [성공] 검증에 걸려 거절된 요청은 사유별로 집계되고, 예외 메시지는 그대로다.")
+    void 거절된_요청은_사유별로_집계된다() throws Exception {
+        // given
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        FakeUserPointStore userPointStore = new FakeUserPointStore();
+        userPointStore.insertOrUpdate(0L, 5_000L);
+        PointService pointService = new PointServiceImpl(new FakePointHistoryStore(), userPointStore, new UserLockRegistry(), new PointLedger(), meterRegistry);
+
+        // when
+        IllegalArgumentException outOfRange = assertThrows(IllegalArgumentException.class, () -> pointService.chargeUserPoint(0L, 999L));
+        assertThrows(IllegalArgumentException.class, () -> pointService.chargeUserPoint(0L, 100_001L));
+        IllegalArgumentException insufficient = assertThrows(IllegalArgumentException.class, () -> pointService.useUserPoint(0L, 10_000L));
+        assertThrows(IllegalArgumentException.class, () -> pointService.useUserPoint(99L, 1_000L));
+        assertThrows(IllegalArgumentException.class, () -> pointService.transferUserPoint(0L, 0L, 1_000L));
+
+        // then
+        assertEquals("포인트 충전 금액은 1_000 이상 100_000 이하여야 합니다.", outOfRange.getMessage());
+        assertEquals("현재 가지고 있는 포인트보다 많이 사용할 수 없습니다.", insufficient.getMessage());
+        assertEquals(2.0, meterRegistry.get("point.validation.rejected").tag("reason", "charge-amount-out-of-range").counter().count());
+        assertEquals(1.0, meterRegistry.get("point.validation.rejected").tag("reason", "insufficient-balance").counter().count());
+        assertEquals(1.0, meterRegistry.get("point.validation.rejected").tag("reason", "user-not-found").counter().count());
+        assertEquals(1.0, meterRegistry.get("point.validation.rejected").tag("reason", "self-transfer").counter().count());
+        assertEquals(0.0, meterRegistry.get("point.validation.rejected").tag("reason", "use-amount-out-of-range").counter().count());
+        assertEquals(5_000L, pointService.findUserPoint(0L).point());
+    }
+
+    @Test
+    @DisplayName(value = "Metrics [성공] optimistic/actor 모드도 거절된 요청을 사유별로 집계하고, 없는 유저는 PointValidationException으로 거절한다.")
+    void 모든_모드에서_거절된_요청이_사유별로_집계된다() throws Exception {
+        // given
+        SimpleMeterRegistry optimisticRegistry = new SimpleMeterRegistry();
+        SimpleMeterRegistry actorRegistry = new SimpleMeterRegistry();
+        FakeUserPointStore optimisticStore = new FakeUserPointStore();
+        FakeUserPointStore actorStore = new FakeUserPointStore();
+        optimisticStore.insertOrUpdate(0L, 5_000L);
+        actorStore.insertOrUpdate(0L, 5_000L);
+        PointService optimistic = new OptimisticPointService(new FakePointHistoryStore(), optimisticStore, new PointLedger(), optimisticRegistry);
+        ActorPointService actor = new ActorPointService(new FakePointHistoryStore(), actorStore, new PointLedger(), 4, 1_000, actorRegistry);
+
+        for (PointService pointService : new PointService[] { optimistic, actor }) {
+            // when
+            assertThrows(IllegalArgumentException.class, () -> pointService.chargeUserPoint(0L, 999L));
+            assertThrows(IllegalArgumentException.class, () -> pointService.useUserPoint(0L, 10_000L));
+            PointValidationException notFound = assertThrows(PointValidationException.class, () -> pointService.useUserPoint(99L, 1_000L));
+            assertThrows(PointValidationException.class, () -> pointService.transferUserPoint(0L, 99L, 1_000L));
+            assertThrows(PointValidationException.class, () -> pointService.findUserPoint(99L));
+            assertThrows(IllegalArgumentException.class, () -> pointService.transferUserPoint(0L, 0L, 1_000L));
+
+            // then
+            assertEquals("존재하지 않는 유저입니다.", notFound.getMessage());
+            assertEquals(5_000L, pointService.findUserPoint(0L).point());
+        }
+        actor.shutdown();
+        for (SimpleMeterRegistry meterRegistry : new SimpleMeterRegistry[] { optimisticRegistry, actorRegistry }) {
+            assertEquals(1.0, meterRegistry.get("point.validation.rejected").tag("reason", "charge-amount-out-of-range").counter().count());
+            assertEquals(1.0, meterRegistry.get("point.validation.rejected").tag("reason", "insufficient-balance").counter().count());
+            assertEquals(3.0, meterRegistry.get("point.validation.rejected").tag("reason", "user-not-found").counter().count());
+            assertEquals(1.0, meterRegistry.get("point.validation.rejected").tag("reason", "self-transfer").counter().count());
+        }
+    }
+}
@@ -0,0 +1,141 @@
+package io.hhplus.tdd.point;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import io.hhplus.tdd.LockRegistry;
+import io.hhplus.tdd.StripedLockRegistry;
+import io.hhplus.tdd.UserLockRegistry;
+import io.hhplus.tdd.database.FakePointHistoryStore;
+import io.hhplus.tdd.database.FakeUserPointStore;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+public class PointServiceTransferTest {
+
+    private static final Logger log = LoggerFactory.getLogger(PointServiceTransferTest.class);
+    private static final long INITIAL_POINT = 100_000L;
+
+    @Test
+    @DisplayName(value = "Transfer [성공] 보낸 유저의 포인트가 줄고 받은 유저의 포인트가 늘며 두 내역이 모두 저장된다.")
+    void 보낸_유저의_포인트가_줄고_받은_유저의_포인트가_는다() throws Exception {
+        // given
+        FakePointHistoryStore pointHistoryStore = new FakePointHistoryStore();
+        PointService pointService = pointService(pointHistoryStore, new UserLockRegistry(), 2);
+
+        // when
+        PointTransferResult result = pointService.transferUserPoint(0L, 1L, 30_000L);
+
+        // then
+        assertEquals(70_000L, result.from().point());
+        assertEquals(130_000L, result.to().point());
+        assertEquals(70_000L, pointService.findUserPoint(0L).point());
+        assertEquals(130_000L, pointService.findUserPoint(1L).point());
+        assertEquals(TransactionType.USE, pointHistoryStore.selectAllByUserId(0L).get(0).type());
+        assertEquals(TransactionType.CHARGE, pointHistoryStore.selectAllByUserId(1L).get(0).type());
+    }
+
+    @Test
+    @DisplayName(value = "Transfer [실패] 잔액이 부족하면 두 유저 모두 변경되지 않는다.")
+    void 잔액이_부족하면_두_유저_모두_변경되지_않는다() throws Exception {
+        // given
+        FakePointHistoryStore pointHistoryStore = new FakePointHistoryStore();
+        PointService pointService = pointService(pointHistoryStore, new UserLockRegistry(), 2);
+        pointService.useUserPoint(0L, 95_000L);
+
+        // when & then
+        assertThrows(IllegalArgumentException.class, () -> pointService.transferUserPoint(0L, 1L, 10_000L));
+        assertEquals(5_000L, pointService.findUserPoint(0L).point());
+        assertEquals(INITIAL_POINT, pointService.findUserPoint(1L).point());
+        assertEquals(0, pointHistoryStore.countByUserId(1L));
+    }
+
+    @Test
+    @DisplayName(value = "Transfer [실패] 자기 자신에게는 이체할 수 없다.")
+    void 자기_자신에게는_이체할_수_없다() throws Exception {
+        // given
+        PointService pointService = pointService(new FakePointHistoryStore(), new UserLockRegistry(), 2);
+
+        // when & then
+        assertThrows(IllegalArgumentException.class, () -> pointService.transferUserPoint(1L, 1L, 1_000L));
+    }
+
+    @Test
+    @DisplayName(value = "[동시성테스트] 적은 수의 유저끼리 무작위로 이체해도 교착 없이 모두 끝나고 전체 잔액이 유지된다.")
+    void 무작위_이체가_교착_없이_끝나고_전체_잔액이_유지된다() throws Exception {
+        stress(new UserLockRegistry());
+    }
+
+    @Test
+    @DisplayName(value = "[동시성테스트] striped 락에서 여러 유저가 같은 락을 공유해도 교착 없이 모두 끝나고 전체 잔액이 유지된다.")
+    void striped_락에서도_무작위_이체가_교착_없이_끝난다() throws Exception {
+        stress(new StripedLockRegistry(4)); // 8명이 락 4개를 공유, userId 순서와 락 번호 순서가 다름
+    }
+
+    private void stress(LockRegistry lockRegistry) throws Exception {
+        // given
+        int userCount = 8;
+        int threadCount = 32;
+        int transfersPerThread = 500;
+        PointService pointService = pointService(new FakePointHistoryStore(), lockRegistry, userCount);
+        AtomicInteger succeeded = new AtomicInteger();
+        AtomicInteger rejected = new AtomicInteger();
+
+        // when
+        ExecutorService executorService = Executors.newFixedThreadPool(threadCount);
+        long start = System.nanoTime();
+        List<Future<?>> futures = new ArrayList<>();
+        for (int t = 0; t < threadCount; t++) {
+            futures.add(executorService.submit(() -> {
+                ThreadLocalRandom random = ThreadLocalRandom.current();
+                for (int i = 0; i < transfersPerThread; i++) {
+                    long from = random.nextInt(userCount);
+                    long to = (from + 1 + random.nextInt(userCount - 1)) % userCount; // from과 다른 유저
+                    try {
+                        pointService.transferUserPoint(from, to, 1_000L * (1 + random.nextInt(20)));
+                        succeeded.incrementAndGet();
+                    } catch (IllegalArgumentException e) {
+                        rejected.incrementAndGet(); // 잔액 부족
+                    }
+                }
+            }));
+        }
+        for (Future<?> future : futures) {
+            future.get(30, TimeUnit.SECONDS); // 교착되면 시간 초과로 실패
+        }
+        executorService.shutdown();
+        long elapsedMillis = (System.nanoTime() - start) / 1_000_000;
+
+        // then
+        long total = 0;
+        for (long userId = 0; userId < userCount; userId++) {
+            total += pointService.findUserPoint(userId).point();
+        }
+        log.info("{} transfers={} succeeded={} rejected={} {}ms",
+                lockRegistry.getClass().getSimpleName(), threadCount * transfersPerThread, succeeded.get(), rejected.get(), elapsedMillis);
+        assertEquals(threadCount * transfersPerThread, succeeded.get() + rejected.get());
+        assertEquals(INITIAL_POINT * userCount, total);
+    }
+
+    // 0 ~ userCount-1 유저를 INITIAL_POINT 잔액으로 등록
+    private PointService pointService(FakePointHistoryStore pointHistoryStore, LockRegistry lockRegistry, int userCount) {
+        FakeUserPointStore userPointStore = new FakeUserPointStore();
+        for (long userId = 0; userId < userCount; userId++) {
+            userPointStore.insertOrUpdate(userId, INITIAL_POINT);
+        }
+        return new PointServiceImpl(pointHistoryStore, userPointStore, lockRegistry, new PointLedger(), new SimpleMeterRegistry());
+    }
+}
@@ -0,0 +1,141 @@
+package io.hhplus.tdd.point;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledForJreRange;
+import org.junit.jupiter.api.condition.JRE;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import io.hhplus.tdd.UserLockRegistry;
+import io.hhplus.tdd.database.CachingUserPointStore;
+import io.hhplus.tdd.database.FakePointHistoryStore;
+import io.hhplus.tdd.database.FakeUserPointStore;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jdk.jfr.consumer.RecordingStream;
+
+/**
+ * 플랫폼 스레드 풀과 가상 스레드에서 동시에 처리 중인 요청 수 비교
+ * - 플랫폼 스레드 풀 크기는 Tomcat 기본 최대 스레드 수(server.tomcat.threads.max=200)
+ * - 테이블 호출마다 고정 지연, 요청마다 다른 유저라 락 경합 없이 지연만 쌓임
+ * - 처리량 비교와 JFR 고정(pinning) 이벤트는 실행 환경에 따라 달라지므로 기본 test에서 제외, ./gradlew loadTest 로 JDK 21 이상에서 실행
+ */
+@Tag("load")
+@EnabledForJreRange(min = JRE.JAVA_21)
+public class PointServiceVirtualThreadLoadTest {
+
+    private static final Logger log = LoggerFactory.getLogger(PointServiceVirtualThreadLoadTest.class);
+    private static final int PLATFORM_POOL_SIZE = 200;
+
+    @Test
+    @DisplayName(value = "[부하테스트] 가상 스레드는 플랫폼 스레드 풀 크기보다 많은 요청을 동시에 처리한다.")
+    void 가상_스레드는_플랫폼_스레드_풀_크기보다_많은_요청을_동시에_처리한다() throws Exception {
+        // given
+        int requestCount = 5_000;
+        long delayMillis = 50L;
+
+        // when
+        Result platform;
+        try (ExecutorService executorService = Executors.newFixedThreadPool(PLATFORM_POOL_SIZE)) {
+            platform = run(executorService, requestCount, requestCount, delayMillis);
+        }
+        Result virtual;
+        try (ExecutorService executorService = Executors.newVirtualThreadPerTaskExecutor()) {
+            virtual = run(executorService, requestCount, requestCount, delayMillis);
+        }
+
+        // then
+        log.info("requests={} platform(pool={}) in-flight={} {}ms {} req/s / virtual in-flight={} {}ms {} req/s",
+                requestCount, PLATFORM_POOL_SIZE,
+                platform.peakInFlight(), platform.elapsedMillis(), Math.round(platform.throughput()),
+                virtual.peakInFlight(), virtual.elapsedMillis(), Math.round(virtual.throughput()));
+        assertTrue(platform.peakInFlight() <= PLATFORM_POOL_SIZE);
+        assertTrue(virtual.peakInFlight() > PLATFORM_POOL_SIZE * 5, "가상 스레드는 풀 크기 제한 없이 요청을 받아야 합니다.");
+        assertTrue(virtual.throughput() > platform.throughput());
+    }
+
+    @Test
+    @DisplayName(value = "[부하테스트] 유저 락을 기다리거나 잡은 채 테이블을 호출해도 가상 스레드가 캐리어 스레드에 고정되지 않는다.")
+    void 유저_락_구간에서_가상_스레드가_캐리어_스레드에_고정되지_않는다() throws Exception {
+        // given
+        int requestCount = 500;
+        int userCount = 10; // 같은 유저에게 요청이 몰려 ReentrantLock 대기가 생김
+        AtomicInteger pinned = new AtomicInteger();
+
+        // when
+        try (RecordingStream recordingStream = new RecordingStream()) {
+            recordingStream.enable("jdk.VirtualThreadPinned").withThreshold(Duration.ZERO).withStackTrace();
+            recordingStream.onEvent("jdk.VirtualThreadPinned", event -> {
+                pinned.incrementAndGet();
+                log.info("pinned {}", event.getStackTrace());
+            });
+            recordingStream.startAsync();
+            try (ExecutorService executorService = Executors.newVirtualThreadPerTaskExecutor()) {
+                run(executorService, requestCount, userCount, 1L);
+            }
+            recordingStream.stop(); // 기록된 이벤트를 모두 전달한 뒤 멈춤
+        }
+
+        // then
+        assertEquals(0, pinned.get());
+    }
+
+    private Result run(ExecutorService executorService, int requestCount, int userCount, long delayMillis) throws Exception {
+        CachingUserPointStore userPointStore = new CachingUserPointStore(new FakeUserPointStore(delayMillis), userCount, new SimpleMeterRegistry());
+        PointService pointService = new PointServiceImpl(new FakePointHistoryStore(delayMillis), userPointStore, new UserLockRegistry(), new PointLedger(), new SimpleMeterRegistry());
+        await(submitAll(executorService, userCount, userId -> userPointStore.insertOrUpdate(userId, 0L)));
+
+        AtomicInteger inFlight = new AtomicInteger();
+        AtomicInteger peakInFlight = new AtomicInteger();
+        long start = System.nanoTime();
+        await(submitAll(executorService, requestCount, i -> {
+            peakInFlight.accumulateAndGet(inFlight.incrementAndGet(), Math::max);
+            try {
+                pointService.chargeUserPoint(i % userCount, 1_000L);
+            } finally {
+                inFlight.decrementAndGet();
+            }
+        }));
+        long elapsedMillis = (System.nanoTime() - start) / 1_000_000;
+
+        for (long userId = 0; userId < userCount; userId++) {
+            long expected = 1_000L * (requestCount / userCount + (userId < requestCount % userCount ? 1 : 0));
+            assertEquals(expected, userPointStore.selectById(userId).point()); // write-through라 캐시 값이 곧 저장된 값
+        }
+        return new Result(peakInFlight.get(), elapsedMillis, requestCount * 1_000.0 / Math.max(elapsedMillis, 1));
+    }
+
+    private List<Future<?>> submitAll(ExecutorService executorService, int count, LongTask task) {
+        List<Future<?>> futures = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            long index = i;
+            futures.add(executorService.submit(() -> task.run(index)));
+        }
+        return futures;
+    }
+
+    private void await(List<Future<?>> futures) throws Exception {
+        for (Future<?> future : futures) {
+            future.get();
+        }
+    }
+
+    private interface LongTask {
+        void run(long index);
+    }
+
+    private record Result(int peakInFlight, long elapsedMillis, double throughput) {
+    }
+}
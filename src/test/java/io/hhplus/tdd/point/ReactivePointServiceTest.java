@@ -0,0 +1,156 @@
+package io.hhplus.tdd.point;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import io.hhplus.tdd.database.SortDirection;
+import reactor.core.scheduler.Schedulers;
+
+public class ReactivePointServiceTest {
+
+    private RecordingPointService pointService;
+    private ReactivePointService reactivePointService;
+
+    @BeforeEach
+    void setUp() {
+        pointService = new RecordingPointService(5L);
+        reactivePointService = new ReactivePointService(pointService, Schedulers.newBoundedElastic(32, 10_000, "test-blocking"));
+    }
+
+    @AfterEach
+    void tearDown() {
+        reactivePointService.shutdown();
+    }
+
+    @Test
+    @DisplayName(value = "Reactive [성공] 같은 유저의 충전/사용은 구독 순서대로 하나씩 실행된다.")
+    void 같은_유저의_충전_사용은_구독_순서대로_하나씩_실행된다() throws Exception {
+        // given
+        long userId = 1L;
+        int requestCount = 50;
+
+        // when
+        List<CompletableFuture<UserPoint>> futures = new ArrayList<>();
+        for (int i = 1; i <= requestCount; i++) {
+            futures.add(reactivePointService.chargeUserPoint(userId, i).toFuture());
+        }
+        CompletableFuture.allOf(futures.toArray(CompletableFuture[]::new)).get(10, TimeUnit.SECONDS);
+
+        // then
+        assertEquals(1, pointService.maxConcurrency.get());
+        List<Long> amounts = pointService.amounts.get(userId);
+        for (int i = 0; i < requestCount; i++) {
+            assertEquals(i + 1L, amounts.get(i).longValue());
+        }
+        assertEquals(0, reactivePointService.activeUserCount());
+    }
+
+    @Test
+    @DisplayName(value = "Reactive [성공] 다른 유저의 요청은 동시에 실행된다.")
+    void 다른_유저의_요청은_동시에_실행된다() throws Exception {
+        // given
+        int userCount = 16;
+
+        // when
+        List<CompletableFuture<UserPoint>> futures = new ArrayList<>();
+        for (long userId = 0; userId < userCount; userId++) {
+            futures.add(reactivePointService.chargeUserPoint(userId, 1_000L).toFuture());
+        }
+        CompletableFuture.allOf(futures.toArray(CompletableFuture[]::new)).get(10, TimeUnit.SECONDS);
+
+        // then
+        assertTrue(pointService.maxConcurrency.get() > 1, "다른 유저의 요청은 직렬화되지 않아야 합니다.");
+    }
+
+    @Test
+    @DisplayName(value = "Reactive [실패] 앞 요청이 실패해도 같은 유저의 다음 요청은 실행된다.")
+    void 앞_요청이_실패해도_같은_유저의_다음_요청은_실행된다() throws Exception {
+        // given
+        long userId = 1L;
+
+        // when
+        CompletableFuture<UserPoint> failed = reactivePointService.useUserPoint(userId, -1L).toFuture();
+        CompletableFuture<UserPoint> next = reactivePointService.chargeUserPoint(userId, 1_000L).toFuture();
+
+        // then
+        assertThrows(Exception.class, failed::join);
+        assertEquals(1_000L, next.get(5, TimeUnit.SECONDS).point());
+    }
+
+    /**
+     * 호출 순서와 유저별 동시 실행 수를 기록하는 PointService
+     */
+    private static class RecordingPointService implements PointService {
+
+        private final long delayMillis;
+        private final ConcurrentHashMap<Long, AtomicInteger> running = new ConcurrentHashMap<>();
+        private final ConcurrentHashMap<Long, List<Long>> amounts = new ConcurrentHashMap<>();
+        private final AtomicInteger maxConcurrency = new AtomicInteger();
+        private final AtomicInteger totalRunning = new AtomicInteger();
+
+        private RecordingPointService(long delayMillis) {
+            this.delayMillis = delayMillis;
+        }
+
+        @Override
+        public UserPoint chargeUserPoint(long userId, long amount) {
+            AtomicInteger userRunning = running.computeIfAbsent(userId, id -> new AtomicInteger());
+            if (userRunning.incrementAndGet() > 1) throw new IllegalStateException("같은 유저의 요청이 동시에 실행되었습니다.");
+            maxConcurrency.accumulateAndGet(totalRunning.incrementAndGet(), Math::max);
+            try {
+                TimeUnit.MILLISECONDS.sleep(delayMillis);
+                amounts.computeIfAbsent(userId, id -> new ArrayList<>()).add(amount);
+                return new UserPoint(userId, amount, System.currentTimeMillis());
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IllegalStateException(e);
+            } finally {
+                totalRunning.decrementAndGet();
+                userRunning.decrementAndGet();
+            }
+        }
+
+        @Override
+        public UserPoint useUserPoint(long userId, long amount) {
+            throw new IllegalArgumentException("포인트 사용 금액은 1_000 이상 500_000 이하여야 합니다.");
+        }
+
+        @Override
+        public List<PointHistory> findUserHistoryByTime(long userId, long fromMillis, long toMillis, TransactionType type) {
+            return List.of();
+        }
+
+        @Override
+        public PointHistoryPage findUserHistoryPage(long userId, long cursor, int size, SortDirection direction) {
+            return new PointHistoryPage(List.of(), null);
+        }
+
+        @Override
+        public PointTransferResult transferUserPoint(long fromUserId, long toUserId, long amount) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public UserPoint findUserPoint(long userId) {
+            return new UserPoint(userId, 0L, System.currentTimeMillis());
+        }
+
+        @Override
+        public List<PointHistory> findUserHistory(long userId) {
+            return List.of();
+        }
+    }
+}